@@ -0,0 +1,3 @@
+-- Compressed storage for large extracted resume text (written by cv-parser)
+ALTER TABLE "candidates" ADD COLUMN "resume_text_compressed" BYTEA,
+ADD COLUMN "resume_text_encoding" TEXT;
@@ -0,0 +1,6 @@
+-- Structured CV data and per-application scores (written by cv-parser)
+ALTER TABLE "candidates" ADD COLUMN "parsed_data" JSONB;
+
+ALTER TABLE "applications" ADD COLUMN "ai_score" INTEGER,
+ADD COLUMN "scoring_reasoning" TEXT,
+ADD COLUMN "scored_at" TIMESTAMP(3);
@@ -0,0 +1,24 @@
+-- Bulk import runs (written by cv-parser)
+CREATE TABLE "bulk_imports" (
+    "id" TEXT NOT NULL,
+    "bucket" TEXT NOT NULL,
+    "prefix" TEXT NOT NULL,
+    "state" TEXT NOT NULL,
+    "checkpoint_key" TEXT,
+    "listed" INTEGER NOT NULL DEFAULT 0,
+    "processed" INTEGER NOT NULL DEFAULT 0,
+    "failed" INTEGER NOT NULL DEFAULT 0,
+    "skipped" INTEGER NOT NULL DEFAULT 0,
+    "last_error" TEXT,
+    "owner" TEXT,
+    "heartbeat_at" TIMESTAMP(3),
+    "started_at" TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    "finished_at" TIMESTAMP(3),
+    "updated_at" TIMESTAMP(3) NOT NULL,
+
+    CONSTRAINT "bulk_imports_pkey" PRIMARY KEY ("id")
+);
+
+CREATE INDEX "bulk_imports_state_idx" ON "bulk_imports"("state");
+
+CREATE INDEX "applications_cv_file_key_idx" ON "applications"("cv_file_key");
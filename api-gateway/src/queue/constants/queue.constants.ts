@@ -11,6 +11,8 @@ export const NOTIFICATION_EVENTS_DLQ = 'notification.events.dlq';
 
 // Routing keys - CV events
 export const ROUTING_KEY_CV_UPLOADED = 'cv.uploaded';
+// Early result before scoring; superseded by cv.parsed (higher version)
+export const ROUTING_KEY_CV_EXTRACTED = 'cv.extracted';
 export const ROUTING_KEY_CV_PARSED = 'cv.parsed';
 export const ROUTING_KEY_CV_FAILED = 'cv.failed';
 
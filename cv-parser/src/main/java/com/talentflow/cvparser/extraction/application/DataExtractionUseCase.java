@@ -0,0 +1,124 @@
+package com.talentflow.cvparser.extraction.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentflow.cvparser.extraction.domain.model.RoutingContext;
+import com.talentflow.cvparser.extraction.infrastructure.ExtractionPromptTemplate;
+import com.talentflow.cvparser.extraction.infrastructure.GeminiLlmClient;
+import com.talentflow.cvparser.extraction.infrastructure.IncrementalCvJsonParser;
+import com.talentflow.cvparser.scoring.adapter.out.DatabaseAdapter;
+import com.talentflow.cvparser.shared.config.GeminiConfig;
+import com.talentflow.cvparser.shared.dto.ParsedCvData;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Extraction stage: turns resume text into {@link ParsedCvData} with a Gemini call.
+ *
+ * With llm.streaming.enabled the response is streamed and parsed incrementally, and the
+ * contact fields are stored as soon as the model has emitted them, so recruiters see who
+ * applied even if the rest of the generation fails. Otherwise a single generateContent
+ * call is made and its output goes through the same parser.
+ */
+@Service
+@RequiredArgsConstructor
+public class DataExtractionUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(DataExtractionUseCase.class);
+
+    private final GeminiLlmClient llmClient;
+    private final ExtractionPromptTemplate promptTemplate;
+    private final GeminiConfig geminiConfig;
+    private final DatabaseAdapter databaseAdapter;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param candidateId Candidate whose contact fields are stored early when streaming
+     * @param resumeText  Extracted plain text (untrusted)
+     * @param context     Model routing input (null for the default model)
+     * @return Structured data; errors are {@link com.talentflow.cvparser.shared.exception.ExtractionException},
+     *         or CallNotPermittedException while the geminiApi breaker is open
+     */
+    public Mono<ParsedCvData> extract(String candidateId, String resumeText, RoutingContext context) {
+        return Mono.fromSupplier(() -> promptTemplate.userPrompt(resumeText))
+                .flatMap(userPrompt -> geminiConfig.isStreamingEnabled()
+                        ? streamExtract(candidateId, userPrompt, context)
+                        : llmClient.generate(promptTemplate.systemPrompt(), userPrompt, context).map(this::parse));
+    }
+
+    /**
+     * The result (or error) is emitted only after the early contact write has finished, so
+     * it can never land after, and overwrite, the caller's write of the full data.
+     */
+    private Mono<ParsedCvData> streamExtract(String candidateId, String userPrompt, RoutingContext context) {
+        return Mono.defer(() -> {
+            ContactCapture contacts = new ContactCapture(candidateId);
+            return llmClient.streamExtract(promptTemplate.systemPrompt(), userPrompt, contacts, context)
+                    .flatMap(data -> contacts.flush().thenReturn(data))
+                    .onErrorResume(e -> contacts.flush().then(Mono.error(e)));
+        });
+    }
+
+    private ParsedCvData parse(String response) {
+        IncrementalCvJsonParser parser = new IncrementalCvJsonParser(objectMapper, null);
+        parser.feed(response);
+        return parser.finish();
+    }
+
+    /**
+     * Collects contact fields from the stream and stores them once: when all of them have
+     * arrived, when the model moves on to another field, or when the stream ends early.
+     * The write runs off the HTTP event loop.
+     */
+    private class ContactCapture implements IncrementalCvJsonParser.FieldListener {
+
+        private final String candidateId;
+        private final Map<String, String> fields = new HashMap<>();
+        private Mono<Void> saved;
+
+        ContactCapture(String candidateId) {
+            this.candidateId = candidateId;
+        }
+
+        @Override
+        public synchronized void onField(String field, Object value) {
+            if (saved != null) {
+                return;
+            }
+            if (IncrementalCvJsonParser.CONTACT_FIELDS.contains(field)) {
+                fields.put(field, (String) value);
+            }
+            if (fields.size() == IncrementalCvJsonParser.CONTACT_FIELDS.size()
+                    || !IncrementalCvJsonParser.CONTACT_FIELDS.contains(field)) {
+                flush().subscribe();
+            }
+        }
+
+        synchronized Mono<Void> flush() {
+            if (saved == null) {
+                Map<String, String> snapshot = new HashMap<>(fields);
+                saved = snapshot.isEmpty() ? Mono.empty() : Mono.fromRunnable(() -> save(snapshot))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .then()
+                        .cache();
+            }
+            return saved;
+        }
+
+        private void save(Map<String, String> snapshot) {
+            try {
+                databaseAdapter.saveContactFields(candidateId, snapshot);
+                log.debug("Stored contact fields {} for candidate {}", snapshot.keySet(), candidateId);
+            } catch (RuntimeException e) {
+                // Best effort: a head start on the full result, not a replacement for it
+                log.warn("Failed to store contact fields early for candidate {}: {}", candidateId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.talentflow.cvparser.extraction.application;
+
+import com.talentflow.cvparser.extraction.infrastructure.NearDuplicateIndex;
+import com.talentflow.cvparser.scoring.adapter.out.DatabaseAdapter;
+import com.talentflow.cvparser.shared.config.DedupProperties;
+import com.talentflow.cvparser.shared.dto.ParsedCvData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reuses the previous extraction when a candidate uploads a near-duplicate of their last CV.
+ *
+ * Re-uploads are mostly the same document re-exported or lightly edited (a new phone number,
+ * an updated email). When the new text's MinHash similarity to the candidate's indexed CV
+ * reaches dedup.threshold, the stored parsed data is taken instead of calling Gemini, provided it
+ * is still what that CV produced (fingerprint check; a recruiter edit makes it stale). Only the
+ * difference that commonly changes is re-extracted by rule: email, phone and LinkedIn URL are
+ * kept when the new text still contains them, otherwise replaced by the first one found in it.
+ *
+ * Only the same candidate's CV is reused. The same CV under another candidate is counted
+ * (dedup.cross_candidate) but never reused: its contact details belong to someone else.
+ *
+ * Metrics: dedup.lookups{outcome=reused|miss|stale|short}, dedup.similarity (best match per
+ * lookup), dedup.latency_saved (smoothed extraction time per reuse), dedup.cross_candidate and
+ * dedup.index.size.
+ */
+@Slf4j
+@Service
+public class NearDuplicateReuse {
+
+    static final String OUTCOME_REUSED = "reused";
+    static final String OUTCOME_MISS = "miss";
+    static final String OUTCOME_STALE = "stale";
+    static final String OUTCOME_SHORT = "short";
+
+    // Lowest similarity reported to dedup.similarity, to see how close misses come
+    private static final double REPORT_SIMILARITY = 0.5;
+    // Weight of the newest extraction in the smoothed extraction time
+    private static final double SMOOTHING = 0.1;
+    private static final int MIN_PHONE_DIGITS = 9;
+
+    private static final Pattern EMAIL = Pattern.compile("[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}");
+    private static final Pattern PHONE = Pattern.compile("\\+?\\d[\\d ().-]{7,}\\d");
+    private static final Pattern LINKEDIN = Pattern.compile(
+            "(?i)(?:https?://)?(?:[a-z]{2,3}\\.)?linkedin\\.com/in/[A-Za-z0-9_%-]+/?");
+
+    /**
+     * Signature of the new text (null when too short to compare) and the reused data, if any.
+     */
+    public record Lookup(int[] signature, ParsedCvData reused) {
+
+        static final Lookup NONE = new Lookup(null, null);
+    }
+
+    private final NearDuplicateIndex index;
+    private final DatabaseAdapter databaseAdapter;
+    private final boolean enabled;
+    private final double threshold;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary similaritySummary;
+    private final Counter latencySaved;
+    private final Counter crossCandidate;
+
+    private volatile double extractionSeconds;
+
+    public NearDuplicateReuse(NearDuplicateIndex index,
+                              DatabaseAdapter databaseAdapter,
+                              DedupProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.index = index;
+        this.databaseAdapter = databaseAdapter;
+        this.enabled = properties.isEnabled();
+        this.threshold = properties.getThreshold();
+        this.meterRegistry = meterRegistry;
+        this.similaritySummary = DistributionSummary.builder("dedup.similarity")
+                .description("Estimated similarity of a new CV to the closest indexed CV")
+                .publishPercentiles(0.5, 0.9)
+                .register(meterRegistry);
+        this.latencySaved = Counter.builder("dedup.latency_saved")
+                .description("Estimated extraction time saved by reusing near-duplicate results")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.crossCandidate = Counter.builder("dedup.cross_candidate")
+                .description("CVs nearly identical to another candidate's CV")
+                .register(meterRegistry);
+        Gauge.builder("dedup.index.size", index, NearDuplicateIndex::size)
+                .description("Candidates in the near-duplicate index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Look for the candidate's previous CV; never throws, a failed lookup is a miss.
+     */
+    public Lookup lookup(String candidateId, String resumeText) {
+        if (!enabled) {
+            return Lookup.NONE;
+        }
+        int[] signature = index.signature(resumeText);
+        if (signature == null) {
+            count(OUTCOME_SHORT);
+            return Lookup.NONE;
+        }
+        try {
+            List<NearDuplicateIndex.Match> matches = index.findSimilar(signature, REPORT_SIMILARITY);
+            if (!matches.isEmpty()) {
+                similaritySummary.record(matches.get(0).similarity());
+            }
+            NearDuplicateIndex.Match previous = null;
+            for (NearDuplicateIndex.Match match : matches) {
+                if (match.similarity() < threshold) {
+                    break;
+                }
+                if (match.entry().candidateId().equals(candidateId)) {
+                    previous = previous == null ? match : previous;
+                } else {
+                    crossCandidate.increment();
+                    log.info("CV of candidate {} is a near-duplicate ({}) of candidate {}'s",
+                            candidateId, String.format(Locale.ROOT, "%.2f", match.similarity()),
+                            match.entry().candidateId());
+                }
+            }
+            if (previous == null) {
+                count(OUTCOME_MISS);
+                return new Lookup(signature, null);
+            }
+            int fingerprint = previous.entry().fingerprint();
+            Optional<ParsedCvData> stored = databaseAdapter.loadParsedData(candidateId)
+                    .filter(data -> data.hashCode() == fingerprint);
+            if (stored.isEmpty()) {
+                count(OUTCOME_STALE);
+                return new Lookup(signature, null);
+            }
+            count(OUTCOME_REUSED);
+            latencySaved.increment(extractionSeconds);
+            return new Lookup(signature, refreshContacts(stored.get(), resumeText));
+        } catch (RuntimeException e) {
+            log.warn("Near-duplicate lookup failed for candidate {}: {}", candidateId, e.getMessage());
+            count(OUTCOME_MISS);
+            return new Lookup(signature, null);
+        }
+    }
+
+    /**
+     * Index the candidate's CV once its parsed data is stored.
+     *
+     * @param extractionNanos Extraction time, 0 when the data was reused
+     */
+    public void remember(String candidateId, Lookup lookup, ParsedCvData parsedData, long extractionNanos) {
+        if (extractionNanos > 0) {
+            double seconds = extractionNanos / 1e9;
+            double previous = extractionSeconds;
+            extractionSeconds = previous == 0 ? seconds : previous + SMOOTHING * (seconds - previous);
+        }
+        if (!enabled || lookup.signature() == null) {
+            return;
+        }
+        index.put(candidateId, lookup.signature(), parsedData.hashCode());
+    }
+
+    /**
+     * Previous contact details, replaced by the ones in the new text where it no longer has them.
+     */
+    static ParsedCvData refreshContacts(ParsedCvData previous, String text) {
+        return ParsedCvData.builder()
+                .fullName(previous.getFullName())
+                .email(refresh(previous.getEmail(), text, EMAIL, value -> value.toLowerCase(Locale.ROOT)))
+                .phone(refresh(previous.getPhone(), text, PHONE, NearDuplicateReuse::digits))
+                .linkedIn(refresh(previous.getLinkedIn(), text, LINKEDIN, NearDuplicateReuse::linkedInPath))
+                .skills(previous.getSkills())
+                .experience(previous.getExperience())
+                .education(previous.getEducation())
+                .summary(previous.getSummary())
+                .build();
+    }
+
+    private static String refresh(String previous, String text, Pattern pattern, UnaryOperator<String> normalize) {
+        if (previous == null || previous.isBlank()) {
+            return previous;
+        }
+        String wanted = normalize.apply(previous);
+        String first = null;
+        Matcher matcher = pattern.matcher(text);
+        while (matcher.find()) {
+            String found = matcher.group();
+            if (pattern == PHONE && digits(found).length() < MIN_PHONE_DIGITS) {
+                continue;
+            }
+            if (normalize.apply(found).equals(wanted)) {
+                return previous;
+            }
+            first = first == null ? found.trim() : first;
+        }
+        return first;
+    }
+
+    private static String digits(String value) {
+        return value.replaceAll("\\D", "");
+    }
+
+    private static String linkedInPath(String value) {
+        String lower = value.toLowerCase(Locale.ROOT);
+        int path = lower.indexOf("linkedin.com/");
+        String normalized = path >= 0 ? lower.substring(path) : lower;
+        return normalized.endsWith("/") ? normalized.substring(0, normalized.length() - 1) : normalized;
+    }
+
+    private void count(String outcome) {
+        Counter.builder("dedup.lookups")
+                .description("Near-duplicate lookups by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
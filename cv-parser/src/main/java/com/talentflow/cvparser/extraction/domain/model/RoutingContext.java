@@ -0,0 +1,39 @@
+package com.talentflow.cvparser.extraction.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * What the model router knows about one LLM call.
+ */
+@Value
+@Builder
+public class RoutingContext {
+
+    /**
+     * Pipeline stage making the call ("extraction" or "scoring"); a metric tag only.
+     */
+    String stage;
+
+    /**
+     * Length of the CV text in characters.
+     */
+    int textLength;
+
+    /**
+     * Fraction of the text that came from OCR, 0.0-1.0.
+     */
+    double ocrShare;
+
+    /**
+     * How well the text matches the usual CV structure, 0.0-1.0 (see StructureConfidence).
+     */
+    double ruleConfidence;
+
+    /**
+     * Time left for this call, or null when unbounded. Models slower than this are skipped.
+     */
+    Duration latencyBudget;
+}
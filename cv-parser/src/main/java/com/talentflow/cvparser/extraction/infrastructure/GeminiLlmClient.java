@@ -0,0 +1,300 @@
+package com.talentflow.cvparser.extraction.infrastructure;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentflow.cvparser.extraction.domain.model.RoutingContext;
+import com.talentflow.cvparser.shared.config.GeminiConfig;
+import com.talentflow.cvparser.shared.dto.ParsedCvData;
+import com.talentflow.cvparser.shared.exception.ExtractionException;
+import com.talentflow.cvparser.shared.resilience.AdaptiveConcurrencyLimiter;
+import com.talentflow.cvparser.shared.resilience.HedgingPolicy;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gemini REST client for structured extraction.
+ *
+ * Wraps generateContent and streamGenerateContent with the geminiApi
+ * circuit breaker and retry instances from application.yml. Admission is
+ * controlled by the shared {@link AdaptiveConcurrencyLimiter}; calls may be hedged
+ * by {@link HedgingPolicy}, streaming ones until their first chunk.
+ *
+ * The model is chosen per attempt by {@link ModelRouter}, so a retry can move to
+ * another model; each call also passes that model's own breaker and rate limiter.
+ */
+@Component
+public class GeminiLlmClient {
+
+    private static final Logger log = LoggerFactory.getLogger(GeminiLlmClient.class);
+
+    private static final String INSTANCE = "geminiApi";
+    private static final String API_KEY_HEADER = "x-goog-api-key";
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private static final ParameterizedTypeReference<ServerSentEvent<JsonNode>> SSE_TYPE =
+            new ParameterizedTypeReference<>() { };
+
+    private final WebClient geminiWebClient;
+    private final GeminiConfig geminiConfig;
+    private final ObjectMapper objectMapper;
+    private final CircuitBreaker circuitBreaker;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final HedgingPolicy hedgingPolicy;
+    private final ModelRouter modelRouter;
+    private final Retry retry;
+
+    public GeminiLlmClient(WebClient geminiWebClient,
+                           GeminiConfig geminiConfig,
+                           ObjectMapper objectMapper,
+                           AdaptiveConcurrencyLimiter concurrencyLimiter,
+                           HedgingPolicy hedgingPolicy,
+                           ModelRouter modelRouter,
+                           CircuitBreakerRegistry circuitBreakerRegistry,
+                           RetryRegistry retryRegistry) {
+        this.geminiWebClient = geminiWebClient;
+        this.geminiConfig = geminiConfig;
+        this.objectMapper = objectMapper;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE);
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.hedgingPolicy = hedgingPolicy;
+        this.modelRouter = modelRouter;
+        this.retry = retryRegistry.retry(INSTANCE);
+    }
+
+    /**
+     * Generate a complete JSON response with the default model (llm.model).
+     */
+    public Mono<String> generate(String systemPrompt, String userPrompt) {
+        return generate(systemPrompt, userPrompt, null);
+    }
+
+    /**
+     * Generate a complete JSON response in a single round trip.
+     * Each attempt (primary or hedge) passes the circuit breakers and limiter on its own.
+     *
+     * @param systemPrompt System instruction (trusted)
+     * @param userPrompt   User content (untrusted CV text)
+     * @param context      Routing input; null uses the default model
+     * @return Concatenated text of the first candidate
+     */
+    public Mono<String> generate(String systemPrompt, String userPrompt, RoutingContext context) {
+        long estimatedTokens = estimateTokens(systemPrompt, userPrompt);
+        Mono<String> attempt = Mono.defer(() -> {
+            ModelRoute route = modelRouter.route(context);
+            long start = System.nanoTime();
+            return geminiWebClient.post()
+                    .uri("/models/{model}:generateContent", route.getName())
+                    .header(API_KEY_HEADER, geminiConfig.getApiKey())
+                    .bodyValue(requestBody(systemPrompt, userPrompt))
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .timeout(geminiConfig.getTimeout())
+                    .doOnNext(response -> {
+                        concurrencyLimiter.recordTokenUsage(estimatedTokens, totalTokens(response));
+                        route.recordSuccess(System.nanoTime() - start, promptTokens(response), outputTokens(response));
+                    })
+                    .doOnError(e -> route.recordFailure(System.nanoTime() - start))
+                    .map(this::candidateText)
+                    .transformDeferred(CircuitBreakerOperator.of(route.getCircuitBreaker()));
+        })
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transform(call -> concurrencyLimiter.limit(call, estimatedTokens));
+
+        return hedgingPolicy.hedge(attempt, this::canHedge)
+                .transformDeferred(RetryOperator.of(retry))
+                .onErrorMap(WebClientResponseException.class, this::toExtractionException);
+    }
+
+    /**
+     * Stream generated text chunks with the default model (llm.model).
+     */
+    public Flux<String> streamGenerate(String systemPrompt, String userPrompt) {
+        return streamGenerate(systemPrompt, userPrompt, null);
+    }
+
+    /**
+     * Stream generated text chunks as they are produced.
+     * The configured timeout applies as an idle timeout between chunks. A slow first chunk
+     * may be hedged; the attempt that produces one first is the stream that is kept.
+     * Failures before the first chunk are retried like {@link #generate}; once text has been
+     * emitted a retry would repeat it, so later failures end the stream.
+     *
+     * @param systemPrompt System instruction (trusted)
+     * @param userPrompt   User content (untrusted CV text)
+     * @param context      Routing input; null uses the default model
+     * @return Text chunks in generation order
+     */
+    public Flux<String> streamGenerate(String systemPrompt, String userPrompt, RoutingContext context) {
+        long estimatedTokens = estimateTokens(systemPrompt, userPrompt);
+        Flux<String> attempt = Flux.defer(() -> {
+            ModelRoute route = modelRouter.route(context);
+            long start = System.nanoTime();
+            AtomicLong usedTokens = new AtomicLong();
+            AtomicLong usedPromptTokens = new AtomicLong();
+            AtomicLong usedOutputTokens = new AtomicLong();
+            AtomicLong usedChunks = new AtomicLong();
+            return geminiWebClient.post()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/models/{model}:streamGenerateContent")
+                            .queryParam("alt", "sse")
+                            .build(route.getName()))
+                    .header(API_KEY_HEADER, geminiConfig.getApiKey())
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(requestBody(systemPrompt, userPrompt))
+                    .retrieve()
+                    .bodyToFlux(SSE_TYPE)
+                    .timeout(geminiConfig.getTimeout())
+                    .mapNotNull(ServerSentEvent::data)
+                    .doOnNext(chunk -> {
+                        usedChunks.incrementAndGet();
+                        usedTokens.accumulateAndGet(totalTokens(chunk), Math::max);
+                        usedPromptTokens.accumulateAndGet(promptTokens(chunk), Math::max);
+                        usedOutputTokens.accumulateAndGet(outputTokens(chunk), Math::max);
+                    })
+                    .doFinally(signal -> {
+                        concurrencyLimiter.recordTokenUsage(estimatedTokens, usedTokens.get());
+                        // Cancel is the normal end of streamExtract (takeUntil on the closing brace);
+                        // a cancel before any chunk is a lost hedge race or an abandoned call
+                        if (signal == SignalType.ON_ERROR) {
+                            route.recordFailure(System.nanoTime() - start);
+                        } else if (signal == SignalType.ON_COMPLETE || usedChunks.get() > 0) {
+                            route.recordSuccess(System.nanoTime() - start, usedPromptTokens.get(), usedOutputTokens.get());
+                        }
+                    })
+                    .map(this::candidateText)
+                    .filter(text -> !text.isEmpty())
+                    .transformDeferred(CircuitBreakerOperator.of(route.getCircuitBreaker()))
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                    .transform(call -> concurrencyLimiter.limit(call, estimatedTokens));
+        });
+
+        Flux<String> stream = Flux.defer(() -> {
+            AtomicBoolean started = new AtomicBoolean();
+            return hedgingPolicy.hedgeFirst(attempt, this::canHedge)
+                    .doOnNext(chunk -> started.set(true))
+                    .onErrorMap(e -> started.get(), StreamBrokenException::new);
+        });
+
+        return stream
+                .transformDeferred(RetryOperator.of(retry))
+                .onErrorMap(StreamBrokenException.class, Throwable::getCause)
+                .onErrorMap(WebClientResponseException.class, this::toExtractionException);
+    }
+
+    /**
+     * Stream a structured extraction and parse it incrementally.
+     *
+     * Schema violations fail the stream on the first offending token, which cancels the
+     * HTTP exchange and stops token generation. Completed top-level fields are reported
+     * to the listener as they arrive so contact details can be persisted early.
+     *
+     * @param systemPrompt System instruction (trusted)
+     * @param userPrompt   User content (untrusted CV text)
+     * @param listener     Callback for completed fields (may be null)
+     * @param context      Routing input; null uses the default model
+     * @return Fully parsed CV data
+     */
+    public Mono<ParsedCvData> streamExtract(String systemPrompt, String userPrompt,
+                                            IncrementalCvJsonParser.FieldListener listener,
+                                            RoutingContext context) {
+        return Mono.defer(() -> {
+            IncrementalCvJsonParser parser = new IncrementalCvJsonParser(objectMapper, listener);
+            return streamGenerate(systemPrompt, userPrompt, context)
+                    .doOnNext(parser::feed)
+                    .takeUntil(chunk -> parser.isCompleted())
+                    .then(Mono.fromCallable(parser::finish))
+                    .doOnError(ExtractionException.class,
+                            e -> log.warn("Streaming extraction aborted: {} ({})", e.getMessage(), e.getErrorCode()));
+        });
+    }
+
+    private Map<String, Object> requestBody(String systemPrompt, String userPrompt) {
+        return Map.of(
+                "systemInstruction", Map.of("parts", List.of(Map.of("text", systemPrompt))),
+                "contents", List.of(Map.of(
+                        "role", "user",
+                        "parts", List.of(Map.of("text", userPrompt))
+                )),
+                "generationConfig", Map.of(
+                        "responseMimeType", MediaType.APPLICATION_JSON_VALUE,
+                        "maxOutputTokens", geminiConfig.getMaxTokens()
+                )
+        );
+    }
+
+    /**
+     * Hedges only add load, so they are skipped while the breaker is probing or open
+     * and when the adaptive limit has no spare permit.
+     */
+    private boolean canHedge() {
+        return circuitBreaker.getState() == CircuitBreaker.State.CLOSED
+                && concurrencyLimiter.getInFlight() < (int) concurrencyLimiter.getLimit();
+    }
+
+    /**
+     * Pessimistic reservation: prompt size plus the full output allowance.
+     * The unused part is returned once usageMetadata is known; the limiter returns all of it
+     * for attempts that fail, time out or are cancelled before responding.
+     */
+    private long estimateTokens(String systemPrompt, String userPrompt) {
+        long promptChars = (long) systemPrompt.length() + userPrompt.length();
+        return promptChars / CHARS_PER_TOKEN + geminiConfig.getMaxTokens();
+    }
+
+    private long totalTokens(JsonNode response) {
+        return response.path("usageMetadata").path("totalTokenCount").asLong(0);
+    }
+
+    private long promptTokens(JsonNode response) {
+        return response.path("usageMetadata").path("promptTokenCount").asLong(0);
+    }
+
+    private long outputTokens(JsonNode response) {
+        return response.path("usageMetadata").path("candidatesTokenCount").asLong(0);
+    }
+
+    private String candidateText(JsonNode response) {
+        StringBuilder text = new StringBuilder();
+        for (JsonNode part : response.path("candidates").path(0).path("content").path("parts")) {
+            text.append(part.path("text").asText(""));
+        }
+        return text.toString();
+    }
+
+    private ExtractionException toExtractionException(WebClientResponseException e) {
+        int status = e.getStatusCode().value();
+        boolean retryable = status == 429 || e.getStatusCode().is5xxServerError();
+        return new ExtractionException("Gemini API returned HTTP " + status, "LLM_API_ERROR", retryable, e);
+    }
+
+    /**
+     * Failure after a stream emitted its first chunk. Not one of geminiApi's retry-exceptions, so the
+     * retry passes it on; it is unwrapped right after.
+     */
+    private static final class StreamBrokenException extends RuntimeException {
+
+        private StreamBrokenException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
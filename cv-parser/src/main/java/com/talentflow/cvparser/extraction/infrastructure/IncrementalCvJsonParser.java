@@ -0,0 +1,250 @@
+package com.talentflow.cvparser.extraction.infrastructure;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.talentflow.cvparser.shared.dto.ParsedCvData;
+import com.talentflow.cvparser.shared.exception.ExtractionException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Incremental parser for a streamed {@link ParsedCvData} JSON document.
+ *
+ * Chunks of model output are fed as they arrive. Every token is checked against the
+ * expected shape immediately, so a schema violation fails the stream on the first bad
+ * token instead of after the whole generation. Completed top-level fields are reported
+ * to a {@link FieldListener}, which lets callers persist contact fields early.
+ *
+ * <p>Not thread-safe: create one instance per response stream.</p>
+ */
+public class IncrementalCvJsonParser {
+
+    /**
+     * Callback for top-level fields as soon as their value is complete.
+     */
+    @FunctionalInterface
+    public interface FieldListener {
+        void onField(String field, Object value);
+    }
+
+    /**
+     * Contact fields that are small and usually emitted first by the model.
+     */
+    public static final Set<String> CONTACT_FIELDS = Set.of("fullName", "email", "phone", "linkedIn");
+
+    private static final Set<String> STRING_FIELDS = Set.of("fullName", "email", "phone", "linkedIn", "summary");
+    private static final Set<String> STRING_ARRAY_FIELDS = Set.of("skills");
+    private static final Set<String> OBJECT_ARRAY_FIELDS = Set.of("experience", "education");
+
+    // Guards against runaway generations (repetition loops, dumped CV text)
+    private static final int MAX_ARRAY_ITEMS = 200;
+    private static final int MAX_STRING_LENGTH = 20_000;
+
+    private final ObjectMapper objectMapper;
+    private final FieldListener listener;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final Map<String, JavaType> fieldTypes;
+
+    private final ParsedCvData.ParsedCvDataBuilder result = ParsedCvData.builder();
+
+    private boolean started;
+    private boolean completed;
+    private boolean failed;
+    private String currentField;
+    private TokenBuffer currentValue;
+    private int valueDepth;
+    private int arrayItems;
+
+    public IncrementalCvJsonParser(ObjectMapper objectMapper, FieldListener listener) {
+        this.objectMapper = objectMapper;
+        this.listener = listener != null ? listener : (field, value) -> { };
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to create non-blocking JSON parser", e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.fieldTypes = Map.of(
+                "skills", objectMapper.getTypeFactory().constructCollectionType(List.class, String.class),
+                "experience", objectMapper.getTypeFactory().constructCollectionType(List.class, ParsedCvData.Experience.class),
+                "education", objectMapper.getTypeFactory().constructCollectionType(List.class, ParsedCvData.Education.class)
+        );
+    }
+
+    /**
+     * Feed the next chunk of model output.
+     *
+     * @param chunk Text chunk as received from the stream
+     * @throws ExtractionException if the chunk violates the expected schema
+     */
+    public void feed(String chunk) {
+        if (chunk == null || chunk.isEmpty() || completed || failed) {
+            return;
+        }
+        byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            drain();
+        } catch (JsonProcessingException e) {
+            throw violation("Malformed JSON in LLM response: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw violation("Unable to read LLM response: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Signal end of stream and return the assembled data.
+     *
+     * @return Parsed CV data
+     * @throws ExtractionException if the stream ended before the JSON object was complete
+     */
+    public ParsedCvData finish() {
+        if (failed) {
+            throw new ExtractionException("LLM response was rejected during streaming", "LLM_SCHEMA_VIOLATION", false);
+        }
+        if (!completed) {
+            feeder.endOfInput();
+            throw new ExtractionException(
+                    "LLM response ended before JSON object was complete", "LLM_INCOMPLETE_RESPONSE", true);
+        }
+        return result.build();
+    }
+
+    /**
+     * Whether the root JSON object has been fully received.
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!completed && (token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+            if (!started) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw violation("LLM response must be a JSON object, got " + token, null);
+                }
+                started = true;
+                continue;
+            }
+
+            if (currentValue != null) {
+                onValueToken(token);
+                continue;
+            }
+
+            switch (token) {
+                case FIELD_NAME -> currentField = parser.currentName();
+                case END_OBJECT -> completed = true;
+                default -> startValue(token);
+            }
+        }
+    }
+
+    private void startValue(JsonToken token) throws IOException {
+        if (STRING_FIELDS.contains(currentField)) {
+            if (token != JsonToken.VALUE_STRING && token != JsonToken.VALUE_NULL) {
+                throw violation("Field '" + currentField + "' must be a string, got " + token, null);
+            }
+        } else if (isArrayField(currentField)) {
+            if (token != JsonToken.START_ARRAY && token != JsonToken.VALUE_NULL) {
+                throw violation("Field '" + currentField + "' must be an array, got " + token, null);
+            }
+        }
+
+        currentValue = new TokenBuffer(parser);
+        valueDepth = 0;
+        arrayItems = 0;
+        onValueToken(token);
+    }
+
+    private void onValueToken(JsonToken token) throws IOException {
+        if (valueDepth == 1 && token != JsonToken.END_ARRAY && isArrayField(currentField)) {
+            checkArrayItem(token);
+        } else if (valueDepth == 2 && OBJECT_ARRAY_FIELDS.contains(currentField) && token.isStructStart()) {
+            throw violation("Entries of '" + currentField + "' must contain only scalar values", null);
+        }
+        if (token == JsonToken.VALUE_STRING && parser.getTextLength() > MAX_STRING_LENGTH) {
+            throw violation("Field '" + currentField + "' exceeds " + MAX_STRING_LENGTH + " characters", null);
+        }
+
+        currentValue.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+            valueDepth++;
+        } else if (token.isStructEnd()) {
+            valueDepth--;
+        }
+        if (valueDepth == 0) {
+            completeValue();
+        }
+    }
+
+    private boolean isArrayField(String field) {
+        return STRING_ARRAY_FIELDS.contains(field) || OBJECT_ARRAY_FIELDS.contains(field);
+    }
+
+    private void checkArrayItem(JsonToken token) {
+        if (++arrayItems > MAX_ARRAY_ITEMS) {
+            throw violation("Field '" + currentField + "' exceeds " + MAX_ARRAY_ITEMS + " entries", null);
+        }
+        if (STRING_ARRAY_FIELDS.contains(currentField) && token != JsonToken.VALUE_STRING) {
+            throw violation("Entries of '" + currentField + "' must be strings, got " + token, null);
+        }
+        if (OBJECT_ARRAY_FIELDS.contains(currentField) && token != JsonToken.START_OBJECT) {
+            throw violation("Entries of '" + currentField + "' must be objects, got " + token, null);
+        }
+    }
+
+    private void completeValue() throws IOException {
+        String field = currentField;
+        TokenBuffer buffer = currentValue;
+        currentValue = null;
+        currentField = null;
+
+        Object value;
+        try (JsonParser valueParser = buffer.asParser(objectMapper)) {
+            valueParser.nextToken();
+            value = switch (field) {
+                case "fullName", "email", "phone", "linkedIn", "summary" -> valueParser.getValueAsString();
+                case "skills", "experience", "education" -> objectMapper.readValue(valueParser, fieldTypes.get(field));
+                default -> null; // Unknown fields are ignored, matching fail-on-unknown-properties: false
+            };
+        }
+        if (value == null && !STRING_FIELDS.contains(field) && !fieldTypes.containsKey(field)) {
+            return;
+        }
+
+        apply(field, value);
+        listener.onField(field, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void apply(String field, Object value) {
+        switch (field) {
+            case "fullName" -> result.fullName((String) value);
+            case "email" -> result.email((String) value);
+            case "phone" -> result.phone((String) value);
+            case "linkedIn" -> result.linkedIn((String) value);
+            case "summary" -> result.summary((String) value);
+            case "skills" -> result.skills((List<String>) value);
+            case "experience" -> result.experience((List<ParsedCvData.Experience>) value);
+            case "education" -> result.education((List<ParsedCvData.Education>) value);
+            default -> { }
+        }
+    }
+
+    private ExtractionException violation(String message, Throwable cause) {
+        failed = true;
+        return new ExtractionException(message, "LLM_SCHEMA_VIOLATION", false, cause);
+    }
+}
@@ -0,0 +1,107 @@
+package com.talentflow.cvparser.extraction.infrastructure;
+
+import java.util.Arrays;
+
+/**
+ * MinHash signatures of resume text for near-duplicate detection.
+ *
+ * Text is normalized to lowercase letter / digit words (punctuation, layout and case differences
+ * between two exports of the same CV disappear), then cut into overlapping shingles of
+ * shingleSize words. Each of numHashes seeded 64-bit mixes keeps its minimum over the shingles;
+ * the share of equal positions in two signatures estimates the Jaccard similarity of their
+ * shingle sets. A changed phone number touches shingleSize shingles out of hundreds.
+ */
+public final class MinHasher {
+
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    private final int numHashes;
+    private final int shingleSize;
+    private final long[] seeds;
+
+    public MinHasher(int numHashes, int shingleSize) {
+        this.numHashes = numHashes;
+        this.shingleSize = Math.max(1, shingleSize);
+        this.seeds = new long[numHashes];
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < numHashes; i++) {
+            seed += GOLDEN;
+            seeds[i] = mix(seed);
+        }
+    }
+
+    public int numHashes() {
+        return numHashes;
+    }
+
+    /**
+     * Signature of the text, or null if it has fewer than minShingles shingles (too short to compare).
+     */
+    public int[] signature(CharSequence text, int minShingles) {
+        long[] words = wordHashes(text);
+        int shingles = words.length - shingleSize + 1;
+        if (shingles < Math.max(1, minShingles)) {
+            return null;
+        }
+        int[] signature = new int[numHashes];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int s = 0; s < shingles; s++) {
+            long shingle = words[s];
+            for (int w = 1; w < shingleSize; w++) {
+                shingle = shingle * 31 + words[s + w];
+            }
+            for (int i = 0; i < numHashes; i++) {
+                int hash = (int) (mix(shingle ^ seeds[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Estimated Jaccard similarity, 0.0-1.0.
+     */
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    /**
+     * 64-bit hash per normalized word, in text order.
+     */
+    static long[] wordHashes(CharSequence text) {
+        long[] hashes = new long[64];
+        int count = 0;
+        long hash = 0;
+        boolean inWord = false;
+        for (int i = 0, n = text.length(); i <= n; i++) {
+            char c = i < n ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                hash = hash * 1_000_003L + Character.toLowerCase(c);
+                inWord = true;
+            } else if (inWord) {
+                if (count == hashes.length) {
+                    hashes = Arrays.copyOf(hashes, count * 2);
+                }
+                hashes[count++] = mix(hash);
+                hash = 0;
+                inWord = false;
+            }
+        }
+        return Arrays.copyOf(hashes, count);
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB93FE1A85EC5L;
+        return z ^ (z >>> 33);
+    }
+}
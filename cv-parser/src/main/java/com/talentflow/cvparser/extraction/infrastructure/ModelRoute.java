@@ -0,0 +1,122 @@
+package com.talentflow.cvparser.extraction.infrastructure;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One routable Gemini model with its own circuit breaker, rate limiter and metrics.
+ *
+ * Metrics per model: llm.model.latency{outcome}, llm.model.tokens{type} and llm.model.cost
+ * (USD, from the configured token prices).
+ */
+public class ModelRoute {
+
+    // Weight of the newest sample in the smoothed latency
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final String name;
+    private final double maxComplexity;
+    private final CircuitBreaker circuitBreaker;
+    private final RateLimiter rateLimiter;
+    private final double inputCostPerToken;
+    private final double outputCostPerToken;
+
+    private final Timer successLatency;
+    private final Timer errorLatency;
+    private final Counter promptTokens;
+    private final Counter outputTokens;
+    private final Counter cost;
+
+    private volatile long smoothedLatencyNanos;
+
+    ModelRoute(String name, double maxComplexity, CircuitBreaker circuitBreaker, RateLimiter rateLimiter,
+               double inputCostPerMillion, double outputCostPerMillion, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxComplexity = maxComplexity;
+        this.circuitBreaker = circuitBreaker;
+        this.rateLimiter = rateLimiter;
+        this.inputCostPerToken = inputCostPerMillion / 1_000_000.0;
+        this.outputCostPerToken = outputCostPerMillion / 1_000_000.0;
+
+        this.successLatency = latencyTimer(meterRegistry, "success");
+        this.errorLatency = latencyTimer(meterRegistry, "error");
+        this.promptTokens = tokenCounter(meterRegistry, "prompt");
+        this.outputTokens = tokenCounter(meterRegistry, "output");
+        this.cost = Counter.builder("llm.model.cost")
+                .description("Estimated Gemini spend from token usage")
+                .baseUnit("usd")
+                .tag("model", name)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getMaxComplexity() {
+        return maxComplexity;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * False while this model's breaker rejects calls.
+     */
+    public boolean isAvailable() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    /**
+     * Take a rate limit permit without waiting.
+     */
+    boolean tryAcquire() {
+        return rateLimiter.acquirePermission();
+    }
+
+    /**
+     * Smoothed latency of successful calls (0 until the first one).
+     */
+    public long expectedLatencyNanos() {
+        return smoothedLatencyNanos;
+    }
+
+    public void recordSuccess(long latencyNanos, long prompt, long output) {
+        successLatency.record(latencyNanos, TimeUnit.NANOSECONDS);
+        long previous = smoothedLatencyNanos;
+        smoothedLatencyNanos = previous == 0
+                ? latencyNanos
+                : (long) (previous + LATENCY_SMOOTHING * (latencyNanos - previous));
+        promptTokens.increment(prompt);
+        outputTokens.increment(output);
+        cost.increment(prompt * inputCostPerToken + output * outputCostPerToken);
+    }
+
+    public void recordFailure(long latencyNanos) {
+        errorLatency.record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer latencyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("llm.model.latency")
+                .description("Gemini call latency per model")
+                .tag("model", name)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private Counter tokenCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("llm.model.tokens")
+                .description("Tokens used per model")
+                .tag("model", name)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
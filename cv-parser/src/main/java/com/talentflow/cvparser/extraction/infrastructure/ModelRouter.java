@@ -0,0 +1,193 @@
+package com.talentflow.cvparser.extraction.infrastructure;
+
+import com.talentflow.cvparser.extraction.domain.model.RoutingContext;
+import com.talentflow.cvparser.shared.config.GeminiConfig;
+import com.talentflow.cvparser.shared.config.ModelRoutingProperties;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Picks the Gemini model for each call from llm.routing.models.
+ *
+ * Complexity = length-weight * min(1, textLength / long-text-chars)
+ *            + ocr-weight * ocrShare
+ *            + uncertainty-weight * (1 - ruleConfidence)
+ * selects the first model whose max-complexity covers the call. If that model's smoothed
+ * latency exceeds the call's latency budget, faster (earlier) models are tried instead.
+ *
+ * Each model has its own circuit breaker (geminiApi.{model}, same settings as geminiApi) and
+ * rate limiter (requests-per-minute, no waiting). When the chosen model is open or out of
+ * permits, cheaper models are tried first, then more capable ones; if none is available the
+ * call fails with CallNotPermittedException, which parks the CV like a geminiApi outage.
+ *
+ * Decisions are counted as llm.routing.decisions{model, stage, reason} with reason
+ * complexity, latency_budget, fallback, default (no routing context) or rejected.
+ */
+@Component
+public class ModelRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(ModelRouter.class);
+
+    private static final String BASE_INSTANCE = "geminiApi";
+    private static final String DEFAULT_STAGE = "unknown";
+
+    private final ModelRoutingProperties properties;
+    private final List<ModelRoute> routes;
+    private final int defaultIndex;
+    private final MeterRegistry meterRegistry;
+
+    public ModelRouter(ModelRoutingProperties properties,
+                       GeminiConfig geminiConfig,
+                       CircuitBreakerRegistry circuitBreakerRegistry,
+                       RateLimiterRegistry rateLimiterRegistry,
+                       MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        List<ModelRoutingProperties.Model> models = properties.getModels();
+        if (models.isEmpty()) {
+            ModelRoutingProperties.Model single = new ModelRoutingProperties.Model();
+            single.setName(geminiConfig.getModel());
+            models = List.of(single);
+        }
+
+        CircuitBreakerConfig breakerConfig = circuitBreakerRegistry.circuitBreaker(BASE_INSTANCE).getCircuitBreakerConfig();
+        List<ModelRoute> built = new ArrayList<>();
+        for (ModelRoutingProperties.Model model : models) {
+            if (model.getName() == null || model.getName().isBlank()) {
+                throw new IllegalStateException("llm.routing.models entries need a name");
+            }
+            RateLimiterConfig limiterConfig = RateLimiterConfig.custom()
+                    .limitForPeriod(model.getRequestsPerMinute())
+                    .limitRefreshPeriod(Duration.ofMinutes(1))
+                    .timeoutDuration(Duration.ZERO)
+                    .build();
+            String instance = BASE_INSTANCE + "." + model.getName();
+            built.add(new ModelRoute(model.getName(), model.getMaxComplexity(),
+                    circuitBreakerRegistry.circuitBreaker(instance, breakerConfig),
+                    rateLimiterRegistry.rateLimiter(instance, limiterConfig),
+                    model.getInputCostPerMillion(), model.getOutputCostPerMillion(), meterRegistry));
+        }
+        this.routes = List.copyOf(built);
+
+        int index = routes.size() - 1;
+        for (int i = 0; i < routes.size(); i++) {
+            if (routes.get(i).getName().equals(geminiConfig.getModel())) {
+                index = i;
+            }
+        }
+        this.defaultIndex = index;
+        log.info("Model routing over {}", routes.stream().map(ModelRoute::getName).toList());
+    }
+
+    /**
+     * Choose a model and take one of its rate limit permits.
+     *
+     * @param context Call characteristics; null routes to llm.model (or the most capable model)
+     * @throws CallNotPermittedException if no model is available
+     */
+    public ModelRoute route(RoutingContext context) {
+        String stage = context != null && context.getStage() != null ? context.getStage() : DEFAULT_STAGE;
+        int target;
+        String reason;
+        if (context == null) {
+            target = defaultIndex;
+            reason = "default";
+        } else {
+            double complexity = complexity(context);
+            DistributionSummary.builder("llm.routing.complexity")
+                    .description("Complexity score of routed LLM calls")
+                    .tag("stage", stage)
+                    .register(meterRegistry)
+                    .record(complexity);
+            target = indexFor(complexity);
+            reason = "complexity";
+
+            Duration budget = context.getLatencyBudget();
+            if (budget != null) {
+                long budgetNanos = budget.toNanos();
+                while (target > 0 && (budgetNanos <= 0 || routes.get(target).expectedLatencyNanos() > budgetNanos)) {
+                    target--;
+                    reason = "latency_budget";
+                }
+            }
+        }
+
+        for (int candidate : candidates(target)) {
+            ModelRoute route = routes.get(candidate);
+            if (route.isAvailable() && route.tryAcquire()) {
+                countDecision(route, stage, candidate == target ? reason : "fallback");
+                return route;
+            }
+        }
+        countDecision(routes.get(target), stage, "rejected");
+        throw CallNotPermittedException.createCallNotPermittedException(routes.get(target).getCircuitBreaker());
+    }
+
+    public List<ModelRoute> getRoutes() {
+        return routes;
+    }
+
+    double complexity(RoutingContext context) {
+        double length = Math.min(1.0, (double) context.getTextLength() / Math.max(1, properties.getLongTextChars()));
+        double ocr = clamp(context.getOcrShare());
+        double uncertainty = 1.0 - clamp(context.getRuleConfidence());
+        double weights = properties.getLengthWeight() + properties.getOcrWeight() + properties.getUncertaintyWeight();
+        double score = properties.getLengthWeight() * length
+                + properties.getOcrWeight() * ocr
+                + properties.getUncertaintyWeight() * uncertainty;
+        return weights > 0 ? clamp(score / weights) : 0.0;
+    }
+
+    private int indexFor(double complexity) {
+        for (int i = 0; i < routes.size(); i++) {
+            if (complexity <= routes.get(i).getMaxComplexity()) {
+                return i;
+            }
+        }
+        return routes.size() - 1;
+    }
+
+    /**
+     * Target first, then cheaper models nearest first, then more capable ones.
+     */
+    private int[] candidates(int target) {
+        int[] order = new int[routes.size()];
+        int n = 0;
+        order[n++] = target;
+        for (int i = target - 1; i >= 0; i--) {
+            order[n++] = i;
+        }
+        for (int i = target + 1; i < routes.size(); i++) {
+            order[n++] = i;
+        }
+        return order;
+    }
+
+    private void countDecision(ModelRoute route, String stage, String reason) {
+        Counter.builder("llm.routing.decisions")
+                .description("Model routing decisions")
+                .tag("model", route.getName())
+                .tag("stage", stage)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0.0, Math.min(1.0, value));
+    }
+}
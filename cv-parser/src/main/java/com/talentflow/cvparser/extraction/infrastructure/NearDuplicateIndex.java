@@ -0,0 +1,349 @@
+package com.talentflow.cvparser.extraction.infrastructure;
+
+import com.talentflow.cvparser.shared.config.DedupProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory LSH index of CV MinHash signatures, one entry per candidate (their latest CV).
+ *
+ * Signatures are split into bands; two CVs become candidates for comparison when any band
+ * matches exactly, and candidates are confirmed by their estimated similarity. With 16 bands of
+ * 8 rows a pair at 0.9 similarity is found with probability > 0.9999, a pair at 0.5 with 0.06.
+ *
+ * Band keys live in one open-addressing long -> entry table. Superseded and evicted entries are
+ * left in it and skipped on lookup; the table is rebuilt once stale slots outnumber live ones.
+ *
+ * Entries are appended to dedup.index-file (header: magic, format, numHashes, shingleSize; then
+ * per entry: candidate id, parsed data fingerprint, indexed-at millis, signature) and loaded at
+ * startup, later records superseding earlier ones. A truncated last record (crash mid-write) is
+ * dropped. The file is rewritten with live entries only when it holds twice as many records.
+ * It is a cache: on any I/O error the index keeps working in memory only.
+ */
+@Slf4j
+@Component
+public class NearDuplicateIndex {
+
+    private static final int MAGIC = 0x43564D48; // "CVMH"
+    private static final int FORMAT = 1;
+    private static final int MIN_COMPACT_RECORDS = 1024;
+
+    /**
+     * @param fingerprint hashCode of the parsed data extracted from this CV
+     */
+    public record Entry(String candidateId, int[] signature, int fingerprint, long indexedAt) {
+    }
+
+    public record Match(Entry entry, double similarity) {
+    }
+
+    private final MinHasher hasher;
+    private final int bands;
+    private final int rows;
+    private final int shingleSize;
+    private final int minShingles;
+    private final int maxEntries;
+    private final Path file;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Insertion order is age: re-indexing a candidate moves it to the end
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    private long[] bandKeys = new long[1024];
+    private Entry[] bandEntries = new Entry[1024];
+    private int bandSlots;
+    private DataOutputStream out;
+    private int records;
+
+    public NearDuplicateIndex(DedupProperties properties) {
+        this.bands = Math.max(1, properties.getBands());
+        this.rows = Math.max(1, properties.getNumHashes() / bands);
+        this.shingleSize = properties.getShingleSize();
+        this.hasher = new MinHasher(bands * rows, shingleSize);
+        this.minShingles = properties.getMinShingles();
+        this.maxEntries = Math.max(1, properties.getMaxEntries());
+        String indexFile = properties.getIndexFile();
+        this.file = properties.isEnabled() && indexFile != null && !indexFile.isBlank() ? Path.of(indexFile) : null;
+    }
+
+    /**
+     * Signature of a resume text, or null when it is too short to compare reliably.
+     */
+    public int[] signature(String text) {
+        return text == null ? null : hasher.signature(text, minShingles);
+    }
+
+    /**
+     * Indexed entries with at least minSimilarity to the signature, most similar first.
+     */
+    public List<Match> findSimilar(int[] signature, double minSimilarity) {
+        lock.readLock().lock();
+        try {
+            Set<Entry> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<Match> matches = new ArrayList<>();
+            int mask = bandKeys.length - 1;
+            for (int band = 0; band < bands; band++) {
+                long key = bandKey(signature, band);
+                for (int slot = slot(key, mask); bandEntries[slot] != null; slot = (slot + 1) & mask) {
+                    Entry entry = bandEntries[slot];
+                    if (bandKeys[slot] != key || entries.get(entry.candidateId()) != entry || !seen.add(entry)) {
+                        continue;
+                    }
+                    double similarity = MinHasher.similarity(signature, entry.signature());
+                    if (similarity >= minSimilarity) {
+                        matches.add(new Match(entry, similarity));
+                    }
+                }
+            }
+            matches.sort((a, b) -> Double.compare(b.similarity(), a.similarity()));
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Index (or replace) the candidate's latest CV.
+     */
+    public void put(String candidateId, int[] signature, int fingerprint) {
+        Entry entry = new Entry(candidateId, signature.clone(), fingerprint, System.currentTimeMillis());
+        lock.writeLock().lock();
+        try {
+            add(entry);
+            append(entry);
+            if (bandSlots > 2 * bands * entries.size()) {
+                rebuildBands();
+            }
+            if (out != null && records >= MIN_COMPACT_RECORDS && records > 2 * entries.size()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Load the index file and open it for appending.
+     */
+    @PostConstruct
+    public void load() {
+        if (file == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            boolean rewrite = !Files.exists(file);
+            if (!rewrite) {
+                rewrite = !read();
+            }
+            if (rewrite || (records >= MIN_COMPACT_RECORDS && records > 2 * entries.size())) {
+                compact();
+            } else {
+                out = new DataOutputStream(new BufferedOutputStream(
+                        Files.newOutputStream(file, StandardOpenOption.APPEND)));
+            }
+            log.info("Near-duplicate index loaded: {} candidates from {}", entries.size(), file);
+        } catch (IOException e) {
+            log.warn("Near-duplicate index file {} unusable, keeping the index in memory only: {}", file, e.getMessage());
+            closeQuietly();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            closeQuietly();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return false if the file must be rewritten (other format, or a truncated last record)
+     */
+    private boolean read() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT
+                    || in.readInt() != hasher.numHashes() || in.readInt() != shingleSize) {
+                log.info("Near-duplicate index file {} has other settings, starting empty", file);
+                return false;
+            }
+            while (true) {
+                String candidateId;
+                try {
+                    candidateId = in.readUTF();
+                } catch (EOFException end) {
+                    return true;
+                }
+                int fingerprint = in.readInt();
+                long indexedAt = in.readLong();
+                int[] signature = new int[hasher.numHashes()];
+                for (int i = 0; i < signature.length; i++) {
+                    signature[i] = in.readInt();
+                }
+                add(new Entry(candidateId, signature, fingerprint, indexedAt));
+                records++;
+            }
+        } catch (EOFException truncated) {
+            return false;
+        }
+    }
+
+    private void add(Entry entry) {
+        entries.remove(entry.candidateId());
+        entries.put(entry.candidateId(), entry);
+        if (entries.size() > maxEntries) {
+            Iterator<Entry> oldest = entries.values().iterator();
+            oldest.next();
+            oldest.remove();
+        }
+        for (int band = 0; band < bands; band++) {
+            addBand(bandKey(entry.signature(), band), entry);
+        }
+    }
+
+    private void addBand(long key, Entry entry) {
+        if (2 * (bandSlots + 1) > bandKeys.length) {
+            resizeBands(bandKeys.length * 2);
+        }
+        int mask = bandKeys.length - 1;
+        int slot = slot(key, mask);
+        while (bandEntries[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        bandKeys[slot] = key;
+        bandEntries[slot] = entry;
+        bandSlots++;
+    }
+
+    private void resizeBands(int capacity) {
+        long[] keys = bandKeys;
+        Entry[] values = bandEntries;
+        bandKeys = new long[capacity];
+        bandEntries = new Entry[capacity];
+        bandSlots = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                addBand(keys[i], values[i]);
+            }
+        }
+    }
+
+    private void rebuildBands() {
+        int capacity = Integer.highestOneBit(Math.max(512, entries.size() * bands)) * 4;
+        bandKeys = new long[capacity];
+        bandEntries = new Entry[capacity];
+        bandSlots = 0;
+        for (Entry entry : entries.values()) {
+            for (int band = 0; band < bands; band++) {
+                addBand(bandKey(entry.signature(), band), entry);
+            }
+        }
+    }
+
+    private long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * rows, end = i + rows; i < end; i++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[i];
+        }
+        return key;
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * 0xC2B2AE3D27D4EB4FL;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void append(Entry entry) {
+        if (out == null) {
+            return;
+        }
+        try {
+            write(out, entry);
+            out.flush();
+            records++;
+        } catch (IOException e) {
+            log.warn("Near-duplicate index file {} not writable, keeping the index in memory only: {}", file, e.getMessage());
+            closeQuietly();
+        }
+    }
+
+    /**
+     * Rewrite the file with live entries only (temp file, then atomic rename) and reopen it.
+     */
+    private void compact() {
+        closeQuietly();
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream tempOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                tempOut.writeInt(MAGIC);
+                tempOut.writeInt(FORMAT);
+                tempOut.writeInt(hasher.numHashes());
+                tempOut.writeInt(shingleSize);
+                for (Entry entry : entries.values()) {
+                    write(tempOut, entry);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            records = entries.size();
+            out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file, StandardOpenOption.APPEND)));
+        } catch (IOException e) {
+            log.warn("Near-duplicate index file {} not writable, keeping the index in memory only: {}", file, e.getMessage());
+        }
+    }
+
+    private static void write(DataOutputStream stream, Entry entry) throws IOException {
+        stream.writeUTF(entry.candidateId());
+        stream.writeInt(entry.fingerprint());
+        stream.writeLong(entry.indexedAt());
+        for (int value : entry.signature()) {
+            stream.writeInt(value);
+        }
+    }
+
+    private void closeQuietly() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.debug("Closing near-duplicate index file failed: {}", e.getMessage());
+        }
+        out = null;
+    }
+}
@@ -0,0 +1,126 @@
+package com.talentflow.cvparser.extraction.infrastructure;
+
+/**
+ * Rule-based confidence that a text is a cleanly structured CV, 0.0-1.0.
+ *
+ * Average of three single-pass signals (no regexes, bounded to the first SCAN_CHARS chars):
+ *   - contact: an email address and a phone-like digit run (0.5 each)
+ *   - sections: share of the usual headings (experience, education, skills, summary/profile)
+ *     found at the start of a line
+ *   - cleanliness: share of letters, digits, whitespace and common punctuation; OCR noise and
+ *     broken text layers lower it
+ *
+ * A high score means a small model is likely to extract the CV correctly.
+ */
+public final class StructureConfidence {
+
+    static final int SCAN_CHARS = 20_000;
+
+    private static final int MIN_PHONE_DIGITS = 9;
+    private static final String[][] SECTION_HEADINGS = {
+            {"experience", "work experience", "employment", "professional experience"},
+            {"education", "academic"},
+            {"skills", "technical skills", "competencies"},
+            {"summary", "profile", "about me", "objective"}
+    };
+    private static final String COMMON_PUNCTUATION = ".,;:-+()/&@'\"!?%#*|";
+
+    private StructureConfidence() {
+    }
+
+    public static double score(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0.0;
+        }
+        int length = Math.min(text.length(), SCAN_CHARS);
+        return (contactScore(text, length) + sectionScore(text, length) + cleanliness(text, length)) / 3.0;
+    }
+
+    static double contactScore(String text, int length) {
+        boolean email = false;
+        boolean phone = false;
+        int digitRun = 0;
+        for (int i = 0; i < length && !(email && phone); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digitRun++;
+                phone |= digitRun >= MIN_PHONE_DIGITS;
+            } else if (c != ' ' && c != '-' && c != '.' && c != '(' && c != ')' && c != '+') {
+                // Separators inside phone numbers keep the run going
+                digitRun = 0;
+            }
+            if (c == '@' && !email) {
+                email = isEmailAt(text, i, length);
+            }
+        }
+        return (email ? 0.5 : 0.0) + (phone ? 0.5 : 0.0);
+    }
+
+    static double sectionScore(String text, int length) {
+        boolean[] found = new boolean[SECTION_HEADINGS.length];
+        int lineStart = 0;
+        while (lineStart < length) {
+            int start = skipSpaces(text, lineStart, length);
+            for (int s = 0; s < SECTION_HEADINGS.length; s++) {
+                if (!found[s]) {
+                    for (String heading : SECTION_HEADINGS[s]) {
+                        if (text.regionMatches(true, start, heading, 0, heading.length())) {
+                            found[s] = true;
+                            break;
+                        }
+                    }
+                }
+            }
+            int newline = text.indexOf('\n', start);
+            if (newline < 0) {
+                break;
+            }
+            lineStart = newline + 1;
+        }
+        int count = 0;
+        for (boolean f : found) {
+            if (f) {
+                count++;
+            }
+        }
+        return (double) count / SECTION_HEADINGS.length;
+    }
+
+    static double cleanliness(String text, int length) {
+        int clean = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c) || Character.isWhitespace(c) || COMMON_PUNCTUATION.indexOf(c) >= 0) {
+                clean++;
+            }
+        }
+        return (double) clean / length;
+    }
+
+    /**
+     * local@domain.tld: a word character before the '@' and a dot followed by a letter after it.
+     */
+    private static boolean isEmailAt(String text, int at, int length) {
+        if (at == 0 || !Character.isLetterOrDigit(text.charAt(at - 1))) {
+            return false;
+        }
+        for (int i = at + 1; i < length - 1; i++) {
+            char c = text.charAt(i);
+            if (c == '.') {
+                return i > at + 1 && Character.isLetter(text.charAt(i + 1));
+            }
+            if (!Character.isLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static int skipSpaces(String text, int from, int length) {
+        int i = from;
+        while (i < length && (text.charAt(i) == ' ' || text.charAt(i) == '\t')) {
+            i++;
+        }
+        return i;
+    }
+}
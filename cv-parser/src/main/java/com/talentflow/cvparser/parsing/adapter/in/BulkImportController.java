@@ -0,0 +1,59 @@
+package com.talentflow.cvparser.parsing.adapter.in;
+
+import com.talentflow.cvparser.parsing.application.BulkImportProgress;
+import com.talentflow.cvparser.parsing.application.BulkImportUseCase;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.regex.Pattern;
+
+/**
+ * Internal endpoint for bulk imports (called by the API Gateway, not exposed publicly).
+ *
+ * POST /internal/imports with {"bucket": ..., "prefix": ...} starts an import of every CV under
+ * the prefix (202), GET /internal/imports/{importId} returns its progress and throughput.
+ */
+@RestController
+@RequestMapping("/internal/imports")
+public class BulkImportController {
+
+    private static final Pattern UUID_PATTERN =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    private final BulkImportUseCase importUseCase;
+
+    public BulkImportController(BulkImportUseCase importUseCase) {
+        this.importUseCase = importUseCase;
+    }
+
+    public record StartRequest(String bucket, String prefix) {
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<BulkImportProgress>> start(@RequestBody StartRequest request) {
+        // start() looks up and creates the run with blocking JPA calls
+        return Mono.fromCallable(() -> ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .body(importUseCase.start(request.bucket(), request.prefix())))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @GetMapping("/{importId}")
+    public Mono<ResponseEntity<BulkImportProgress>> progress(@PathVariable String importId) {
+        if (!UUID_PATTERN.matcher(importId).matches()) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return Mono.fromCallable(() -> importUseCase.progress(importId)
+                        .map(ResponseEntity::ok)
+                        .orElseGet(() -> ResponseEntity.notFound().build()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,146 @@
+package com.talentflow.cvparser.parsing.adapter.in;
+
+import com.rabbitmq.client.Channel;
+import com.talentflow.cvparser.parsing.application.CvParsingOrchestrator;
+import com.talentflow.cvparser.shared.config.RabbitMqConfig;
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import com.talentflow.cvparser.shared.messaging.ConfirmedPublisher;
+import com.talentflow.cvparser.shared.messaging.FairJobDispatcher;
+import com.talentflow.cvparser.shared.messaging.RetryRoutingErrorHandler;
+import com.talentflow.cvparser.shared.messaging.ShardMembership;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Entry point for cv.uploaded events.
+ *
+ * Each message is handed to the {@link FairJobDispatcher} keyed by jobId and acked from the
+ * worker once processed. Failures on the worker are routed by {@link RetryRoutingErrorHandler}
+ * exactly as listener failures are (delayed retry, or DLQ plus cv.failed); conversion
+ * failures never reach the worker and go through the listener's errorHandler. The ack is not
+ * part of processing: if it fails, the message is only logged and left to redelivery.
+ *
+ * With messaging.sharding enabled, cv_parser.jobs messages are only forwarded to the
+ * consistent-hash exchange, and this replica processes its own shard queue instead
+ * (see {@link ShardMembership}).
+ */
+@Slf4j
+@Component
+public class CvUploadedConsumer {
+
+    private final CvParsingOrchestrator orchestrator;
+    private final FairJobDispatcher dispatcher;
+    private final RetryRoutingErrorHandler errorHandler;
+    private final ShardMembership shardMembership;
+
+    public CvUploadedConsumer(CvParsingOrchestrator orchestrator,
+                              FairJobDispatcher dispatcher,
+                              RetryRoutingErrorHandler errorHandler,
+                              ShardMembership shardMembership) {
+        this.orchestrator = orchestrator;
+        this.dispatcher = dispatcher;
+        this.errorHandler = errorHandler;
+        this.shardMembership = shardMembership;
+    }
+
+    @RabbitListener(queues = RabbitMqConfig.CV_PARSER_QUEUE, errorHandler = "retryRoutingErrorHandler",
+            containerFactory = "cvIntakeListenerContainerFactory")
+    public void onCvUploaded(CvUploadedEvent event, Message amqpMessage, Channel channel,
+                             @Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag) throws IOException {
+        if (shardMembership.isActive()) {
+            if (shardMembership.forward(event, amqpMessage)) {
+                channel.basicAck(deliveryTag, false);
+            } else {
+                // Not a processing failure: leave it to the broker to be forwarded again
+                channel.basicNack(deliveryTag, false, true);
+            }
+            return;
+        }
+        dispatch(event, amqpMessage, channel, deliveryTag);
+    }
+
+    /**
+     * This replica's shard queue; started by {@link ShardMembership} once it has joined the ring.
+     */
+    @RabbitListener(id = ShardMembership.LISTENER_ID,
+            queues = RabbitMqConfig.CV_PARSER_SHARD_QUEUE_PREFIX + "${messaging.sharding.replica-id:local}",
+            autoStartup = "false", errorHandler = "retryRoutingErrorHandler",
+            containerFactory = "cvIntakeListenerContainerFactory")
+    public void onShardedCvUploaded(CvUploadedEvent event, Message amqpMessage, Channel channel,
+                                    @Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag) throws IOException {
+        dispatch(event, amqpMessage, channel, deliveryTag);
+    }
+
+    private void dispatch(CvUploadedEvent event, Message amqpMessage, Channel channel, long deliveryTag)
+            throws IOException {
+        boolean queued;
+        try {
+            queued = dispatcher.submit(event.getJobId(), () -> process(event, amqpMessage, channel, deliveryTag));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            // Scheduler buffer stayed full (or shutting down): leave the message to the broker
+            channel.basicNack(deliveryTag, false, true);
+        }
+    }
+
+    void process(CvUploadedEvent event, Message amqpMessage, Channel channel, long deliveryTag) {
+        try {
+            orchestrator.process(event, amqpMessage.getMessageProperties().getMessageId());
+        } catch (ConfirmedPublisher.NotConfirmedException e) {
+            // Parking was not confirmed: not a processing failure, the CV is parsed again on redelivery
+            log.warn("Parked copy of application {} was not confirmed, requeueing: {}",
+                    event.getApplicationId(), e.getMessage());
+            nack(channel, deliveryTag);
+            return;
+        } catch (Exception e) {
+            routeFailure(event, amqpMessage, channel, deliveryTag, e);
+            return;
+        }
+        ack(channel, deliveryTag, event.getApplicationId());
+    }
+
+    /**
+     * Ack a processed CV. A failed ack (channel closed by a container stop or a connection drop)
+     * is not a processing failure: the broker redelivers the message, so no DLQ copy or cv.failed.
+     */
+    static void ack(Channel channel, long deliveryTag, String applicationId) {
+        try {
+            channel.basicAck(deliveryTag, false);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ack failed for processed application {}, the broker will redeliver it: {}",
+                    applicationId, e.getMessage());
+        }
+    }
+
+    private void routeFailure(CvUploadedEvent event, Message amqpMessage, Channel channel, long deliveryTag,
+                              Exception failure) {
+        try {
+            errorHandler.handleError(amqpMessage, channel, MessageBuilder.withPayload(event).build(),
+                    new ListenerExecutionFailedException("CV processing failed", failure, amqpMessage));
+        } catch (Exception e) {
+            log.error("Could not route failed CV for application {}, returning it to the queue",
+                    event.getApplicationId(), e);
+            nack(channel, deliveryTag);
+        }
+    }
+
+    private static void nack(Channel channel, long deliveryTag) {
+        try {
+            channel.basicNack(deliveryTag, false, true);
+        } catch (IOException | RuntimeException nackFailure) {
+            // Channel is gone; the broker redelivers unacked messages anyway
+            log.debug("Nack failed", nackFailure);
+        }
+    }
+}
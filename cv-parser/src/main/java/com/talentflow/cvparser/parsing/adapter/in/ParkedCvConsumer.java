@@ -0,0 +1,89 @@
+package com.talentflow.cvparser.parsing.adapter.in;
+
+import com.rabbitmq.client.Channel;
+import com.talentflow.cvparser.parsing.application.CvParsingOrchestrator;
+import com.talentflow.cvparser.shared.config.RabbitMqConfig;
+import com.talentflow.cvparser.shared.dto.ParkedCvEvent;
+import com.talentflow.cvparser.shared.messaging.ConfirmedPublisher;
+import com.talentflow.cvparser.shared.messaging.ParkingLot;
+import com.talentflow.cvparser.shared.messaging.RetryRoutingErrorHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains cv_parser.jobs.parked once Gemini is back.
+ *
+ * The container is started and stopped by {@link ParkingLot}; each message waits for a drain
+ * slot before its LLM stage runs. A CV that hits an unavailable Gemini again is parked again;
+ * the message is acked once the new copy is confirmed and requeued if it is not.
+ * Any other failure is handed to {@link RetryRoutingErrorHandler} as the original cv.uploaded
+ * message, so it gets the normal retry and DLQ treatment (a retry re-runs the whole pipeline).
+ */
+@Slf4j
+@Component
+public class ParkedCvConsumer {
+
+    private final CvParsingOrchestrator orchestrator;
+    private final ParkingLot parkingLot;
+    private final RetryRoutingErrorHandler errorHandler;
+    private final MessageConverter eventMessageConverter;
+
+    public ParkedCvConsumer(CvParsingOrchestrator orchestrator,
+                            ParkingLot parkingLot,
+                            RetryRoutingErrorHandler errorHandler,
+                            MessageConverter eventMessageConverter) {
+        this.orchestrator = orchestrator;
+        this.parkingLot = parkingLot;
+        this.errorHandler = errorHandler;
+        this.eventMessageConverter = eventMessageConverter;
+    }
+
+    @RabbitListener(id = ParkingLot.LISTENER_ID, queues = RabbitMqConfig.CV_PARSER_PARKING_QUEUE,
+            containerFactory = "parkingListenerContainerFactory", autoStartup = "false")
+    public void onParked(ParkedCvEvent parked, Message amqpMessage, Channel channel,
+                         @Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag) throws Exception {
+        parkingLot.awaitDrainSlot();
+        try {
+            if (orchestrator.resume(parked)) {
+                parkingLot.recordDrained("completed");
+            } else {
+                parkingLot.park(parked);
+                parkingLot.recordDrained("reparked");
+            }
+        } catch (ConfirmedPublisher.NotConfirmedException e) {
+            // The new parked copy may be lost: keep this one
+            log.warn("Re-parking application {} was not confirmed, requeueing: {}",
+                    parked.getUpload().getApplicationId(), e.getMessage());
+            parkingLot.recordDrained("requeued");
+            channel.basicNack(deliveryTag, false, true);
+            return;
+        } catch (RuntimeException e) {
+            parkingLot.recordDrained("failed");
+            Message upload = asUploadMessage(parked, amqpMessage);
+            errorHandler.handleError(upload, channel, MessageBuilder.withPayload(parked.getUpload()).build(),
+                    new ListenerExecutionFailedException("Parked CV failed", e, upload));
+            return;
+        }
+        CvUploadedConsumer.ack(channel, deliveryTag, parked.getUpload().getApplicationId());
+    }
+
+    /**
+     * The original upload as a cv_parser.jobs message, carrying the parked message's delivery tag to ack.
+     * Parking did not count as an attempt, so the upload starts with a full set of retries. The upload's
+     * message-id is kept, so a retry publishes events with the same message-ids as the original run.
+     */
+    private Message asUploadMessage(ParkedCvEvent parked, Message amqpMessage) {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(amqpMessage.getMessageProperties().getDeliveryTag());
+        properties.setMessageId(parked.getUploadMessageId());
+        return eventMessageConverter.toMessage(parked.getUpload(), properties);
+    }
+}
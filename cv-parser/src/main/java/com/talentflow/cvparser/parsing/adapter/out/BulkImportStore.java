@@ -0,0 +1,120 @@
+package com.talentflow.cvparser.parsing.adapter.out;
+
+import com.talentflow.cvparser.parsing.infrastructure.repository.BulkImportEntity;
+import com.talentflow.cvparser.parsing.infrastructure.repository.BulkImportRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Persistence adapter for bulk import runs and their checkpoints.
+ *
+ * A run belongs to the replica named in owner for as long as that replica renews heartbeat_at;
+ * every write after the claim is a single update conditional on still being the owner of a running
+ * import, so a replica that lost its lease (e.g. after a long GC pause) cannot move the checkpoint
+ * of a run taken over by another, not even between a read and a write.
+ */
+@Component
+public class BulkImportStore {
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    private final BulkImportRepository repository;
+
+    public BulkImportStore(BulkImportRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Create a running import owned by the caller.
+     */
+    @Transactional
+    public BulkImportEntity create(String bucket, String prefix, String owner) {
+        LocalDateTime now = now();
+        BulkImportEntity entity = new BulkImportEntity();
+        entity.setId(UUID.randomUUID().toString());
+        entity.setBucket(bucket);
+        entity.setPrefix(prefix);
+        entity.setState(RUNNING);
+        entity.setOwner(owner);
+        entity.setHeartbeatAt(now);
+        entity.setStartedAt(now);
+        return repository.save(entity);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<BulkImportEntity> find(String importId) {
+        return repository.findById(importId);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<BulkImportEntity> findRunning(String bucket, String prefix) {
+        return repository.findFirstByBucketAndPrefixAndState(bucket, prefix, RUNNING);
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> findStalled(Duration lease) {
+        return repository.findStalled(now().minus(lease));
+    }
+
+    /**
+     * Take over a stalled import.
+     *
+     * @return The import as claimed, or empty if another replica got it first
+     */
+    @Transactional
+    public Optional<BulkImportEntity> claim(String importId, String owner, Duration lease) {
+        LocalDateTime now = now();
+        if (repository.claim(importId, owner, now, now.minus(lease)) == 0) {
+            return Optional.empty();
+        }
+        return repository.findById(importId);
+    }
+
+    @Transactional
+    public void renew(Collection<String> importIds, String owner) {
+        if (!importIds.isEmpty()) {
+            repository.renew(importIds, owner, now());
+        }
+    }
+
+    @Transactional
+    public void release(String importId, String owner) {
+        repository.release(importId, owner);
+    }
+
+    /**
+     * Record progress up to and including checkpointKey.
+     *
+     * @return false if the caller no longer owns the import
+     */
+    @Transactional
+    public boolean checkpoint(String importId, String owner, String checkpointKey,
+                              int listed, int processed, int failed, int skipped, String lastError) {
+        return repository.checkpoint(importId, owner, checkpointKey, listed, processed, failed, skipped,
+                lastError, now()) == 1;
+    }
+
+    /**
+     * Mark a run COMPLETED or FAILED, if the caller still owns it.
+     *
+     * @return false if the caller no longer owns the import
+     */
+    @Transactional
+    public boolean finish(String importId, String owner, String state, String lastError) {
+        return repository.finish(importId, owner, state, lastError, now()) == 1;
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,119 @@
+package com.talentflow.cvparser.parsing.adapter.out;
+
+import com.talentflow.cvparser.shared.exception.ParsingException;
+import com.talentflow.cvparser.shared.util.ByteBufferPool;
+import com.talentflow.cvparser.shared.util.FileValidator;
+import com.talentflow.cvparser.shared.util.PooledBuffer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Downloads CV files from S3/MinIO/R2 into pooled buffers and lists them for bulk import.
+ */
+@Slf4j
+@Component
+public class StorageAdapter {
+
+    private final S3Client s3Client;
+    private final ByteBufferPool bufferPool;
+    private final FileValidator fileValidator;
+
+    public StorageAdapter(@Lazy S3Client s3Client, ByteBufferPool bufferPool, FileValidator fileValidator) {
+        this.s3Client = s3Client;
+        this.bufferPool = bufferPool;
+        this.fileValidator = fileValidator;
+    }
+
+    /**
+     * Download an object into a buffer leased from the pool.
+     * The caller owns the lease and must close it (try-with-resources).
+     *
+     * @throws ParsingException FILE_NOT_FOUND, FILE_TOO_LARGE (also when a body without a declared length
+     *                          runs past the limit), or STORAGE_UNAVAILABLE (retryable, I/O errors only)
+     */
+    public PooledBuffer download(String bucket, String fileKey) {
+        fileValidator.validateBucket(bucket);
+        fileValidator.validateFileKey(fileKey);
+
+        int maxBytes = fileValidator.getMaxSizeMb() * 1024 * 1024;
+        GetObjectRequest request = GetObjectRequest.builder().bucket(bucket).key(fileKey).build();
+        try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(request)) {
+            Long contentLength = in.response().contentLength();
+            if (contentLength != null && contentLength > maxBytes) {
+                // Don't drain the rest of the body just to reuse the connection
+                in.abort();
+                throw new ParsingException(
+                        String.format("File size %d bytes exceeds maximum %d MB", contentLength, fileValidator.getMaxSizeMb()),
+                        "FILE_TOO_LARGE");
+            }
+            try {
+                return bufferPool.read(in, contentLength != null ? contentLength : -1, maxBytes);
+            } catch (ByteBufferPool.SizeLimitExceededException e) {
+                // Length unknown up front (chunked) and the body kept going
+                in.abort();
+                throw new ParsingException(
+                        String.format("File exceeds maximum %d MB", fileValidator.getMaxSizeMb()), "FILE_TOO_LARGE", e);
+            }
+        } catch (NoSuchKeyException e) {
+            throw new ParsingException("CV file not found: " + fileKey, "FILE_NOT_FOUND", e);
+        } catch (SdkException | IOException e) {
+            throw new ParsingException("Unable to download CV file: " + e.getMessage(), "STORAGE_UNAVAILABLE", true, e);
+        }
+    }
+
+    /**
+     * One object of a listing.
+     */
+    public record StoredObject(String key, long size, Instant lastModified) {
+    }
+
+    /**
+     * One listing page, in key order.
+     *
+     * @param truncated More keys follow the last one
+     */
+    public record ObjectPage(List<StoredObject> objects, boolean truncated) {
+    }
+
+    /**
+     * List up to maxKeys objects under a prefix, in key order, after startAfter (exclusive).
+     * Paging by the last key rather than a continuation token lets a stored checkpoint resume
+     * the listing.
+     *
+     * @param startAfter Last key already seen, or null to start at the beginning of the prefix
+     * @throws ParsingException STORAGE_UNAVAILABLE (retryable)
+     */
+    public ObjectPage list(String bucket, String prefix, String startAfter, int maxKeys) {
+        fileValidator.validateBucket(bucket);
+        ListObjectsV2Request.Builder request = ListObjectsV2Request.builder()
+                .bucket(bucket)
+                .prefix(prefix)
+                .maxKeys(maxKeys);
+        if (startAfter != null) {
+            request.startAfter(startAfter);
+        }
+        try {
+            ListObjectsV2Response response = s3Client.listObjectsV2(request.build());
+            List<StoredObject> objects = response.contents().stream()
+                    .map(object -> new StoredObject(object.key(), object.size() != null ? object.size() : -1,
+                            object.lastModified()))
+                    .toList();
+            return new ObjectPage(objects, Boolean.TRUE.equals(response.isTruncated()));
+        } catch (SdkException e) {
+            throw new ParsingException("Unable to list CV files: " + e.getMessage(), "STORAGE_UNAVAILABLE", true, e);
+        }
+    }
+}
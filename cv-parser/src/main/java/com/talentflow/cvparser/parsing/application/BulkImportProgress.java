@@ -0,0 +1,216 @@
+package com.talentflow.cvparser.parsing.application;
+
+import com.talentflow.cvparser.parsing.adapter.out.BulkImportStore;
+import com.talentflow.cvparser.parsing.infrastructure.repository.BulkImportEntity;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one bulk import; serialized as-is by the import endpoint.
+ *
+ * Live on the replica running the import, otherwise a snapshot of the last checkpoint.
+ * Counts cover the whole import, across resumes; throughput covers the current run only.
+ */
+public class BulkImportProgress {
+
+    private final String importId;
+    private final String bucket;
+    private final String prefix;
+    private final Instant startedAt;
+    private final Instant resumedAt;
+    private final int processedAtResume;
+    private final AtomicInteger listed;
+    private final AtomicInteger processed;
+    private final AtomicInteger failed;
+    private final AtomicInteger skipped;
+    private final AtomicLong throttledMillis = new AtomicLong();
+    private final boolean live;
+    private volatile String state;
+    private volatile String checkpointKey;
+    private volatile String lastError;
+    private volatile Instant finishedAt;
+    private volatile Instant updatedAt;
+    private volatile boolean stopped;
+
+    private BulkImportProgress(BulkImportEntity entity, boolean live) {
+        this.importId = entity.getId();
+        this.bucket = entity.getBucket();
+        this.prefix = entity.getPrefix();
+        this.startedAt = instant(entity.getStartedAt());
+        this.resumedAt = live ? Instant.now() : startedAt;
+        this.processedAtResume = live ? entity.getProcessed() : 0;
+        this.listed = new AtomicInteger(entity.getListed());
+        this.processed = new AtomicInteger(entity.getProcessed());
+        this.failed = new AtomicInteger(entity.getFailed());
+        this.skipped = new AtomicInteger(entity.getSkipped());
+        this.live = live;
+        this.state = entity.getState();
+        this.checkpointKey = entity.getCheckpointKey();
+        this.lastError = entity.getLastError();
+        this.finishedAt = instant(entity.getFinishedAt());
+        this.updatedAt = instant(entity.getUpdatedAt());
+    }
+
+    /**
+     * Progress of a run this replica (re)starts from its stored checkpoint.
+     */
+    static BulkImportProgress resume(BulkImportEntity entity) {
+        return new BulkImportProgress(entity, true);
+    }
+
+    /**
+     * Read-only view of a stored run.
+     */
+    static BulkImportProgress snapshot(BulkImportEntity entity) {
+        return new BulkImportProgress(entity, false);
+    }
+
+    void addListed(int count) {
+        listed.addAndGet(count);
+    }
+
+    void addProcessed(int count) {
+        processed.addAndGet(count);
+    }
+
+    void addFailed(int count, String error) {
+        failed.addAndGet(count);
+        lastError = error;
+    }
+
+    void addSkipped(int count) {
+        skipped.addAndGet(count);
+    }
+
+    void addThrottled(long millis) {
+        throttledMillis.addAndGet(millis);
+    }
+
+    void checkpointed(String key) {
+        checkpointKey = key;
+        updatedAt = Instant.now();
+    }
+
+    void finish(String finalState, String error) {
+        finishedAt = Instant.now();
+        updatedAt = finishedAt;
+        if (error != null) {
+            lastError = error;
+        }
+        state = finalState;
+    }
+
+    /**
+     * Stop after the page in progress (lease lost or shutdown); the run stays RUNNING in the store.
+     */
+    void stop() {
+        stopped = true;
+    }
+
+    boolean isStopped() {
+        return stopped;
+    }
+
+    public String getImportId() {
+        return importId;
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    /**
+     * Objects listed so far.
+     */
+    public int getListed() {
+        return listed.get();
+    }
+
+    /**
+     * Applications run through the pipeline (parked ones included).
+     */
+    public int getProcessed() {
+        return processed.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Objects not imported: unsupported extension, too large, or no application with that file key.
+     */
+    public int getSkipped() {
+        return skipped.get();
+    }
+
+    /**
+     * Last key of the last fully processed listing page; a resumed run lists after it.
+     */
+    public String getCheckpointKey() {
+        return checkpointKey;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Whether this replica is running the import (counts are live, not from the last checkpoint).
+     */
+    public boolean isLive() {
+        return live && !stopped && isRunning();
+    }
+
+    /**
+     * Time spent waiting for live traffic to leave headroom, in this run.
+     */
+    public double getThrottledSeconds() {
+        return throttledMillis.get() / 1000.0;
+    }
+
+    /**
+     * Applications processed per second since this run started (or resumed).
+     */
+    public double getThroughputPerSecond() {
+        Instant end = finishedAt != null ? finishedAt : live ? Instant.now() : updatedAt;
+        if (end == null) {
+            return 0.0;
+        }
+        double seconds = Math.max(0.001, Duration.between(resumedAt, end).toMillis() / 1000.0);
+        return (processed.get() - processedAtResume) / seconds;
+    }
+
+    public boolean isRunning() {
+        return BulkImportStore.RUNNING.equals(state);
+    }
+
+    private static Instant instant(LocalDateTime time) {
+        return time != null ? time.toInstant(ZoneOffset.UTC) : null;
+    }
+}
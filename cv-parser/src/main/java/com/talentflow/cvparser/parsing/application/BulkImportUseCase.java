@@ -0,0 +1,407 @@
+package com.talentflow.cvparser.parsing.application;
+
+import com.talentflow.cvparser.parsing.adapter.out.BulkImportStore;
+import com.talentflow.cvparser.parsing.adapter.out.StorageAdapter;
+import com.talentflow.cvparser.parsing.adapter.out.StorageAdapter.ObjectPage;
+import com.talentflow.cvparser.parsing.adapter.out.StorageAdapter.StoredObject;
+import com.talentflow.cvparser.parsing.infrastructure.repository.BulkImportEntity;
+import com.talentflow.cvparser.scoring.adapter.out.DatabaseAdapter;
+import com.talentflow.cvparser.scoring.domain.model.ApplicationRef;
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import com.talentflow.cvparser.shared.exception.ParsingException;
+import com.talentflow.cvparser.shared.resilience.SaturationMonitor;
+import com.talentflow.cvparser.shared.util.FileValidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs every CV under a bucket prefix through the pipeline, e.g. when onboarding a client.
+ *
+ * The prefix is listed in key order, bulk-import.page-size keys at a time. Keys are resolved to
+ * applications by their stored cv_file_key; each application then goes through
+ * {@link CvParsingOrchestrator#process} (validate, parse, extract, score, publish cv.parsed)
+ * with at most bulk-import.concurrency CVs in flight per import, on a scheduler of its own
+ * whose thread cap bounds all imports together.
+ *
+ * After each page the last key and the counts are checkpointed in bulk_imports. A run belongs
+ * to the replica holding its lease (heartbeat_at renewed every heartbeat-interval); when a
+ * replica crashes the lease goes stale after bulk-import.lease and any replica resumes the
+ * import by listing after the checkpoint. At most one page is processed twice, which the
+ * pipeline tolerates (it overwrites the same rows and the gateway dedupes cv.parsed).
+ *
+ * Live traffic comes first: before each CV the import waits while the service load factor
+ * ({@link SaturationMonitor}) is at or above bulk-import.max-load-factor, well below the 1.0 at
+ * which the queue consumers themselves pause.
+ *
+ * Metrics: bulk_import.objects{outcome}, bulk_import.object.time, bulk_import.throttled (seconds)
+ * and bulk_import.active.
+ */
+@Service
+public class BulkImportUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImportUseCase.class);
+
+    private static final String PDF = "application/pdf";
+    private static final String DOCX = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+
+    private final StorageAdapter storageAdapter;
+    private final DatabaseAdapter databaseAdapter;
+    private final BulkImportStore store;
+    private final CvParsingOrchestrator orchestrator;
+    private final FileValidator fileValidator;
+    private final SaturationMonitor saturationMonitor;
+    private final int pageSize;
+    private final int concurrency;
+    private final double maxLoadFactor;
+    private final Duration throttlePause;
+    private final Duration lease;
+    private final int listAttempts;
+    private final String owner;
+    private final Scheduler scheduler;
+
+    private final Map<String, BulkImportProgress> active = new ConcurrentHashMap<>();
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final Counter skippedCounter;
+    private final Counter throttledCounter;
+    private final Timer objectTimer;
+
+    public BulkImportUseCase(StorageAdapter storageAdapter,
+                             DatabaseAdapter databaseAdapter,
+                             BulkImportStore store,
+                             CvParsingOrchestrator orchestrator,
+                             FileValidator fileValidator,
+                             SaturationMonitor saturationMonitor,
+                             @Value("${bulk-import.page-size:100}") int pageSize,
+                             @Value("${bulk-import.concurrency:4}") int concurrency,
+                             @Value("${bulk-import.max-threads:8}") int maxThreads,
+                             @Value("${bulk-import.max-load-factor:0.6}") double maxLoadFactor,
+                             @Value("${bulk-import.throttle-pause:2s}") Duration throttlePause,
+                             @Value("${bulk-import.lease:5m}") Duration lease,
+                             @Value("${bulk-import.list-attempts:3}") int listAttempts,
+                             @Value("${messaging.sharding.replica-id:local}") String replicaId,
+                             MeterRegistry meterRegistry) {
+        this.storageAdapter = storageAdapter;
+        this.databaseAdapter = databaseAdapter;
+        this.store = store;
+        this.orchestrator = orchestrator;
+        this.fileValidator = fileValidator;
+        this.saturationMonitor = saturationMonitor;
+        this.pageSize = Math.max(1, Math.min(1000, pageSize));
+        this.concurrency = Math.max(1, concurrency);
+        this.maxLoadFactor = maxLoadFactor;
+        this.throttlePause = throttlePause;
+        this.lease = lease;
+        this.listAttempts = Math.max(1, listAttempts);
+        // A restarted pod keeps its hostname but must not pass for the crashed incarnation
+        this.owner = replicaId + "-" + UUID.randomUUID().toString().substring(0, 8);
+        // CVs in flight plus the listing and checkpoint steps of each import
+        this.scheduler = Schedulers.newBoundedElastic(Math.max(2, maxThreads), Integer.MAX_VALUE, "bulk-import");
+        this.processedCounter = outcomeCounter(meterRegistry, "processed");
+        this.failedCounter = outcomeCounter(meterRegistry, "failed");
+        this.skippedCounter = outcomeCounter(meterRegistry, "skipped");
+        this.throttledCounter = Counter.builder("bulk_import.throttled")
+                .description("Time bulk imports waited for headroom left by live traffic")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.objectTimer = Timer.builder("bulk_import.object.time")
+                .description("Pipeline time per imported CV")
+                .register(meterRegistry);
+        Gauge.builder("bulk_import.active", active, Map::size)
+                .description("Bulk imports running on this replica")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start importing a bucket prefix in the background.
+     *
+     * @return Progress of the new import, or of the import already running for this bucket and prefix
+     * @throws IllegalArgumentException if the bucket or prefix is invalid
+     */
+    public synchronized BulkImportProgress start(String bucket, String prefix) {
+        fileValidator.validateBucket(bucket);
+        fileValidator.validateFileKey(prefix);
+
+        Optional<BulkImportEntity> running = store.findRunning(bucket, prefix);
+        if (running.isPresent()) {
+            BulkImportProgress local = active.get(running.get().getId());
+            return local != null ? local : BulkImportProgress.snapshot(running.get());
+        }
+        BulkImportProgress progress = BulkImportProgress.resume(store.create(bucket, prefix, owner));
+        log.info("Bulk import {} started for {}/{}", progress.getImportId(), bucket, prefix);
+        run(progress);
+        return progress;
+    }
+
+    public Optional<BulkImportProgress> progress(String importId) {
+        BulkImportProgress local = active.get(importId);
+        if (local != null) {
+            return Optional.of(local);
+        }
+        return store.find(importId).map(BulkImportProgress::snapshot);
+    }
+
+    /**
+     * Keep the leases of the imports running here.
+     */
+    @Scheduled(fixedDelayString = "${bulk-import.heartbeat-interval-ms:30000}")
+    public void renewLeases() {
+        store.renew(active.keySet(), owner);
+    }
+
+    /**
+     * Resume imports whose replica stopped renewing its lease.
+     */
+    @Scheduled(fixedDelayString = "${bulk-import.resume-check-interval-ms:60000}",
+            initialDelayString = "${bulk-import.resume-check-interval-ms:60000}")
+    public void resumeStalled() {
+        for (String importId : store.findStalled(lease)) {
+            store.claim(importId, owner, lease).ifPresent(entity -> {
+                BulkImportProgress progress = BulkImportProgress.resume(entity);
+                log.info("Resuming bulk import {} for {}/{} after key {}", importId, entity.getBucket(),
+                        entity.getPrefix(), entity.getCheckpointKey());
+                run(progress);
+            });
+        }
+    }
+
+    private void run(BulkImportProgress progress) {
+        String importId = progress.getImportId();
+        active.put(importId, progress);
+        pages(progress)
+                .concatMap(page -> importPage(progress, page), 1)
+                .then()
+                .subscribe(
+                        null,
+                        e -> {
+                            active.remove(importId);
+                            String error = e.getMessage();
+                            if (!store.finish(importId, owner, BulkImportStore.FAILED, error)) {
+                                lostLease(progress);
+                                return;
+                            }
+                            progress.finish(BulkImportStore.FAILED, error);
+                            log.error("Bulk import {} aborted after {} CVs", importId, progress.getProcessed(), e);
+                        },
+                        () -> {
+                            active.remove(importId);
+                            if (progress.isStopped()) {
+                                log.info("Bulk import {} stopped at key {}", importId, progress.getCheckpointKey());
+                                return;
+                            }
+                            if (!store.finish(importId, owner, BulkImportStore.COMPLETED, null)) {
+                                lostLease(progress);
+                                return;
+                            }
+                            progress.finish(BulkImportStore.COMPLETED, null);
+                            log.info("Bulk import {} done: {} listed, {} processed, {} failed, {} skipped ({} /s)",
+                                    importId, progress.getListed(), progress.getProcessed(), progress.getFailed(),
+                                    progress.getSkipped(), String.format("%.2f", progress.getThroughputPerSecond()));
+                        });
+    }
+
+    /**
+     * Listing pages after the checkpoint, generated lazily (one page ahead of the one importing).
+     */
+    private Flux<ObjectPage> pages(BulkImportProgress progress) {
+        return Flux.<ObjectPage, String>generate(progress::getCheckpointKey, (after, sink) -> {
+                    if (progress.isStopped()) {
+                        sink.complete();
+                        return after;
+                    }
+                    ObjectPage page = list(progress, after);
+                    if (page.objects().isEmpty()) {
+                        sink.complete();
+                        return after;
+                    }
+                    sink.next(page);
+                    if (!page.truncated()) {
+                        sink.complete();
+                    }
+                    return page.objects().get(page.objects().size() - 1).key();
+                })
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * Retries transient listing failures in place: retrying the generated Flux would list again
+     * from the checkpoint and repeat the page already handed out.
+     */
+    private ObjectPage list(BulkImportProgress progress, String after) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return storageAdapter.list(progress.getBucket(), progress.getPrefix(), after, pageSize);
+            } catch (ParsingException e) {
+                if (!e.isRetryable() || attempt >= listAttempts) {
+                    throw e;
+                }
+                log.warn("Listing {}/{} failed (attempt {}): {}", progress.getBucket(), progress.getPrefix(),
+                        attempt, e.getMessage());
+                sleep(throttlePause.multipliedBy(attempt));
+            }
+        }
+    }
+
+    /**
+     * The next page is listed while this one imports, so a run stopped meanwhile must not import it.
+     */
+    private Mono<Void> importPage(BulkImportProgress progress, ObjectPage page) {
+        if (progress.isStopped()) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> resolve(progress, page.objects()))
+                .subscribeOn(scheduler)
+                .flatMapMany(events -> Flux.fromIterable(events)
+                        .flatMap(event -> Mono.fromRunnable(() -> importOne(progress, event))
+                                .subscribeOn(scheduler), concurrency))
+                .then(Mono.fromRunnable(() -> checkpoint(progress, page)).subscribeOn(scheduler))
+                .then();
+    }
+
+    /**
+     * Filter a page down to importable CVs and turn each matching application into an upload event.
+     */
+    private List<CvUploadedEvent> resolve(BulkImportProgress progress, List<StoredObject> objects) {
+        progress.addListed(objects.size());
+        long maxBytes = fileValidator.getMaxSizeMb() * 1024L * 1024L;
+        Map<String, StoredObject> importable = new LinkedHashMap<>();
+        for (StoredObject object : objects) {
+            if (mimeType(object.key()) != null && object.size() > 0 && object.size() <= maxBytes && validKey(object.key())) {
+                importable.put(object.key(), object);
+            }
+        }
+        List<ApplicationRef> applications = databaseAdapter.findApplicationsByFileKeys(importable.keySet());
+        long matchedKeys = applications.stream().map(ApplicationRef::getFileKey).distinct().count();
+        int skipped = objects.size() - (int) matchedKeys;
+        progress.addSkipped(skipped);
+        skippedCounter.increment(skipped);
+
+        return applications.stream()
+                .map(application -> {
+                    StoredObject object = importable.get(application.getFileKey());
+                    return CvUploadedEvent.builder()
+                            .candidateId(application.getCandidateId())
+                            .applicationId(application.getApplicationId())
+                            .jobId(application.getJobId())
+                            .bucket(progress.getBucket())
+                            .fileKey(object.key())
+                            .mimeType(mimeType(object.key()))
+                            .uploadedAt(object.lastModified() != null ? object.lastModified() : Instant.now())
+                            .build();
+                })
+                .toList();
+    }
+
+    private void importOne(BulkImportProgress progress, CvUploadedEvent event) {
+        awaitHeadroom(progress);
+        long start = System.nanoTime();
+        try {
+            orchestrator.process(event);
+            progress.addProcessed(1);
+            processedCounter.increment();
+        } catch (RuntimeException e) {
+            log.warn("Bulk import {}: application {} ({}) failed: {}", progress.getImportId(),
+                    event.getApplicationId(), event.getFileKey(), e.getMessage());
+            progress.addFailed(1, event.getFileKey() + ": " + e.getMessage());
+            failedCounter.increment();
+        } finally {
+            objectTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Block this import's worker while live traffic needs the capacity.
+     */
+    private void awaitHeadroom(BulkImportProgress progress) {
+        while (saturationMonitor.getLoadFactor() >= maxLoadFactor && !progress.isStopped()) {
+            sleep(throttlePause);
+            progress.addThrottled(throttlePause.toMillis());
+            throttledCounter.increment(throttlePause.toMillis() / 1000.0);
+        }
+    }
+
+    private void checkpoint(BulkImportProgress progress, ObjectPage page) {
+        String lastKey = page.objects().get(page.objects().size() - 1).key();
+        boolean owned = store.checkpoint(progress.getImportId(), owner, lastKey, progress.getListed(),
+                progress.getProcessed(), progress.getFailed(), progress.getSkipped(), progress.getLastError());
+        if (!owned) {
+            lostLease(progress);
+            return;
+        }
+        progress.checkpointed(lastKey);
+    }
+
+    /**
+     * Another replica claimed the import; its state in the store is no longer ours to write.
+     */
+    private void lostLease(BulkImportProgress progress) {
+        log.warn("Bulk import {} was taken over by another replica; stopping here", progress.getImportId());
+        progress.stop();
+    }
+
+    /**
+     * Stop local imports after their current page and hand them over at once.
+     */
+    @PreDestroy
+    void shutdown() {
+        active.values().forEach(BulkImportProgress::stop);
+        active.keySet().forEach(importId -> store.release(importId, owner));
+        scheduler.dispose();
+    }
+
+    private boolean validKey(String key) {
+        try {
+            fileValidator.validateFileKey(key);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String mimeType(String key) {
+        String lower = key.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".pdf")) {
+            return PDF;
+        }
+        return lower.endsWith(".docx") ? DOCX : null;
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("bulk_import.objects")
+                .description("CVs handled by bulk import")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,224 @@
+package com.talentflow.cvparser.parsing.application;
+
+import com.talentflow.cvparser.extraction.application.DataExtractionUseCase;
+import com.talentflow.cvparser.extraction.application.NearDuplicateReuse;
+import com.talentflow.cvparser.extraction.domain.model.RoutingContext;
+import com.talentflow.cvparser.extraction.infrastructure.StructureConfidence;
+import com.talentflow.cvparser.parsing.domain.model.ParsedDocument;
+import com.talentflow.cvparser.scoring.adapter.out.DatabaseAdapter;
+import com.talentflow.cvparser.scoring.adapter.out.EventPublisherAdapter;
+import com.talentflow.cvparser.scoring.domain.model.JobRequirements;
+import com.talentflow.cvparser.scoring.domain.model.ScoringResult;
+import com.talentflow.cvparser.scoring.domain.port.ScoringPort;
+import com.talentflow.cvparser.shared.config.ModelRoutingProperties;
+import com.talentflow.cvparser.shared.dto.CvExtractedEvent;
+import com.talentflow.cvparser.shared.dto.CvParsedEvent;
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import com.talentflow.cvparser.shared.dto.ParkedCvEvent;
+import com.talentflow.cvparser.shared.dto.ParsedCvData;
+import com.talentflow.cvparser.shared.exception.ExtractionException;
+import com.talentflow.cvparser.shared.exception.ScoringException;
+import com.talentflow.cvparser.shared.messaging.ParkingLot;
+import com.talentflow.cvparser.shared.profiling.StageRecording;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Coordinates one CV through parse, extract, score and publish.
+ *
+ * No transaction spans the pipeline: each persistence step is its own short transaction
+ * in {@link DatabaseAdapter}, so no locks are held during the download or LLM calls.
+ *
+ * The LLM stage (extract + score) is skipped while Gemini is unavailable: the CV is parked
+ * with its text by {@link ParkingLot} and completed later by {@link #resume(ParkedCvEvent)}.
+ * Failures are thrown to the caller for retry routing.
+ *
+ * Both LLM calls carry a {@link RoutingContext} (text length, OCR share, rule-based structure
+ * confidence and what is left of llm.routing.latency-budget) so each picks its own model.
+ *
+ * Extraction, scoring and publish are recorded as JFR stage events ({@link StageRecording}).
+ *
+ * Results go out in two phases: cv.extracted right after extraction, so contact details and
+ * skills are visible while scoring runs, then cv.parsed with the score. Both are versioned and
+ * identified from the upload and the cv.uploaded delivery's message-id, which travels with a
+ * parked CV, so a CV completed later or on another replica publishes the same events
+ * ({@link EventPublisherAdapter}).
+ *
+ * A near-duplicate of the candidate's previous CV skips the extraction call and reuses its
+ * parsed data with refreshed contact details ({@link NearDuplicateReuse}); scoring still runs.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CvParsingOrchestrator {
+
+    static final String REASON_LLM_UNAVAILABLE = "LLM_UNAVAILABLE";
+    static final String STAGE_EXTRACTION = "extraction";
+    static final String STAGE_SCORING = "scoring";
+    static final String STAGE_PUBLISH = "publish";
+
+    private final CvParsingUseCase parsingUseCase;
+    private final DataExtractionUseCase extractionUseCase;
+    private final NearDuplicateReuse nearDuplicates;
+    private final ScoringPort scoringPort;
+    private final DatabaseAdapter databaseAdapter;
+    private final EventPublisherAdapter eventPublisher;
+    private final ParkingLot parkingLot;
+    private final ModelRoutingProperties routingProperties;
+
+    /**
+     * Process a CV that did not arrive as a delivery (bulk import).
+     */
+    public void process(CvUploadedEvent event) {
+        process(event, null);
+    }
+
+    /**
+     * Process a newly uploaded CV.
+     *
+     * @param uploadMessageId Message-id of the cv.uploaded delivery; null if it had none
+     */
+    public void process(CvUploadedEvent event, String uploadMessageId) {
+        ParsedDocument document = parsingUseCase.downloadAndParse(event);
+        databaseAdapter.saveResumeText(event.getCandidateId(), document.getText());
+
+        ParkedCvEvent pending = ParkedCvEvent.builder()
+                .upload(event)
+                .uploadMessageId(uploadMessageId)
+                .resumeText(document.getText())
+                .ocrShare(document.ocrShare())
+                .reason(REASON_LLM_UNAVAILABLE)
+                .parkedAt(Instant.now())
+                .build();
+        if (!parkingLot.isLlmAvailable()) {
+            parkingLot.park(pending);
+            return;
+        }
+        runLlmStage(pending);
+    }
+
+    /**
+     * Complete a parked CV without downloading or parsing it again.
+     *
+     * @return false if Gemini became unavailable again and the CV was not completed; the caller
+     *         should park the event again (it keeps parsed data if extraction finished)
+     */
+    public boolean resume(ParkedCvEvent parked) {
+        if (!parkingLot.isLlmAvailable()) {
+            return false;
+        }
+        try {
+            complete(parked);
+            return true;
+        } catch (RuntimeException e) {
+            if (parkingLot.shouldPark(e)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private void runLlmStage(ParkedCvEvent pending) {
+        try {
+            complete(pending);
+        } catch (RuntimeException e) {
+            if (!parkingLot.shouldPark(e)) {
+                throw e;
+            }
+            parkingLot.park(pending);
+        }
+    }
+
+    /**
+     * Extract (unless already done), score, persist and publish.
+     * Parsed data and when cv.extracted went out are recorded on the event so a park after
+     * extraction keeps them.
+     */
+    private void complete(ParkedCvEvent pending) {
+        CvUploadedEvent event = pending.getUpload();
+        long deadline = System.nanoTime() + routingProperties.getLatencyBudget().toNanos();
+        double ruleConfidence = StructureConfidence.score(pending.getResumeText());
+
+        ParsedCvData parsedData = pending.getParsedData();
+        if (parsedData == null) {
+            NearDuplicateReuse.Lookup lookup = nearDuplicates.lookup(event.getCandidateId(), pending.getResumeText());
+            parsedData = lookup.reused();
+            long extractionNanos = 0;
+            if (parsedData == null) {
+                long start = System.nanoTime();
+                try (StageRecording stage = textStage(STAGE_EXTRACTION, pending)) {
+                    parsedData = extractionUseCase.extract(event.getCandidateId(), pending.getResumeText(),
+                            routingContext(STAGE_EXTRACTION, pending, ruleConfidence, deadline)).block();
+                    if (parsedData == null) {
+                        throw new ExtractionException("Extraction returned no data", "EXTRACTION_FAILED", true);
+                    }
+                    stage.succeeded();
+                }
+                extractionNanos = System.nanoTime() - start;
+            }
+            databaseAdapter.saveParsedData(event.getCandidateId(), parsedData);
+            nearDuplicates.remember(event.getCandidateId(), lookup, parsedData, extractionNanos);
+            pending.setParsedData(parsedData);
+            pending.setExtractedAt(eventPublisher.publishExtracted(CvExtractedEvent.builder()
+                    .candidateId(event.getCandidateId())
+                    .applicationId(event.getApplicationId())
+                    .jobId(event.getJobId())
+                    .parsedData(parsedData)
+                    .extractedAt(Instant.now())
+                    .build(), event, pending.getUploadMessageId()));
+        }
+
+        JobRequirements job = databaseAdapter.findJobRequirements(event.getJobId())
+                .orElseThrow(() -> new ScoringException("Job not found: " + event.getJobId(), "JOB_NOT_FOUND", false));
+        ScoringResult result;
+        try (StageRecording stage = textStage(STAGE_SCORING, pending)) {
+            result = scoringPort.score(parsedData, pending.getResumeText(), job,
+                    routingContext(STAGE_SCORING, pending, ruleConfidence, deadline)).block();
+            if (result == null) {
+                throw new ScoringException("Scoring returned no result", "SCORING_FAILED", true);
+            }
+            stage.succeeded();
+        }
+        databaseAdapter.saveScores(Map.of(event.getApplicationId(), result));
+
+        try (StageRecording stage = StageRecording.start(STAGE_PUBLISH, event.getApplicationId())) {
+            stage.mimeType(event.getMimeType());
+            eventPublisher.publishParsed(CvParsedEvent.builder()
+                    .candidateId(event.getCandidateId())
+                    .applicationId(event.getApplicationId())
+                    .jobId(event.getJobId())
+                    .aiScore(result.getScore())
+                    .parsedData(parsedData)
+                    .scoringReasoning(result.getReasoning())
+                    .parsedAt(Instant.now())
+                    .build(), event, pending.getUploadMessageId(), pending.getExtractedAt());
+            stage.succeeded();
+        }
+        log.info("CV processed for application {} (score {})", event.getApplicationId(), result.getScore());
+    }
+
+    /**
+     * JFR stage event for an LLM stage; bytes is the UTF-16 size of the resume text sent.
+     */
+    private static StageRecording textStage(String stage, ParkedCvEvent pending) {
+        return StageRecording.start(stage, pending.getUpload().getApplicationId())
+                .mimeType(pending.getUpload().getMimeType())
+                .bytes(2L * pending.getResumeText().length());
+    }
+
+    private static RoutingContext routingContext(String stage, ParkedCvEvent pending, double ruleConfidence,
+                                                 long deadlineNanos) {
+        return RoutingContext.builder()
+                .stage(stage)
+                .textLength(pending.getResumeText().length())
+                .ocrShare(pending.getOcrShare())
+                .ruleConfidence(ruleConfidence)
+                .latencyBudget(Duration.ofNanos(deadlineNanos - System.nanoTime()))
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.talentflow.cvparser.parsing.application;
+
+import com.talentflow.cvparser.parsing.adapter.out.StorageAdapter;
+import com.talentflow.cvparser.parsing.domain.model.ParsedDocument;
+import com.talentflow.cvparser.parsing.domain.service.DocumentParserService;
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import com.talentflow.cvparser.shared.exception.ParsingException;
+import com.talentflow.cvparser.shared.profiling.StageRecording;
+import com.talentflow.cvparser.shared.util.FileValidator;
+import com.talentflow.cvparser.shared.util.PooledBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Download, validate and parse one uploaded CV.
+ *
+ * The file lives in a single pooled buffer for the whole step: Tika detection and the
+ * parsers read it in place, and the lease is released on every exit path. Only the
+ * extracted text outlives this method.
+ *
+ * Download and parse are recorded as separate JFR stage events ({@link StageRecording}).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CvParsingUseCase {
+
+    private final StorageAdapter storageAdapter;
+    private final FileValidator fileValidator;
+    private final DocumentParserService documentParserService;
+
+    static final String STAGE_DOWNLOAD = "download";
+    static final String STAGE_PARSE = "parse";
+
+    public ParsedDocument downloadAndParse(CvUploadedEvent event) {
+        PooledBuffer file;
+        try (StageRecording stage = StageRecording.start(STAGE_DOWNLOAD, event.getApplicationId())) {
+            file = storageAdapter.download(event.getBucket(), event.getFileKey());
+            stage.mimeType(event.getMimeType()).bytes(file.buffer().remaining());
+            stage.succeeded();
+        }
+
+        try (file; StageRecording stage = StageRecording.start(STAGE_PARSE, event.getApplicationId())) {
+            stage.bytes(file.buffer().remaining());
+            String mimeType;
+            try {
+                mimeType = fileValidator.validate(file.buffer(), event.getFileKey());
+            } catch (IllegalArgumentException e) {
+                throw new ParsingException(e.getMessage(), "INVALID_FILE", e);
+            }
+            stage.mimeType(mimeType);
+            if (!mimeType.equals(event.getMimeType())) {
+                log.info("Declared MIME type {} differs from detected {} for application {}",
+                        event.getMimeType(), mimeType, event.getApplicationId());
+            }
+            ParsedDocument document = documentParserService.parse(file.buffer(), mimeType);
+            stage.pageCount(document.getPageCount());
+            stage.succeeded();
+            return document;
+        }
+    }
+}
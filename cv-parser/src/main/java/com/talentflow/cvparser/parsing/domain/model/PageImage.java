@@ -0,0 +1,26 @@
+package com.talentflow.cvparser.parsing.domain.model;
+
+/**
+ * One rendered page as 8-bit grayscale pixels (0 black, 255 white), row by row without padding.
+ *
+ * @param pixels Width * height bytes, read as unsigned
+ * @param width  Width in pixels
+ * @param height Height in pixels
+ * @param dpi    Resolution the page was rendered at
+ */
+public record PageImage(byte[] pixels, int width, int height, int dpi) {
+
+    public PageImage {
+        if (pixels.length != width * height) {
+            throw new IllegalArgumentException("Expected " + width * height + " pixels, got " + pixels.length);
+        }
+    }
+
+    public int pixel(int x, int y) {
+        return pixels[y * width + x] & 0xFF;
+    }
+
+    public long pixelCount() {
+        return (long) width * height;
+    }
+}
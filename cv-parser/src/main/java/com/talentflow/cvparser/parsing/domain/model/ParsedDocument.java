@@ -0,0 +1,48 @@
+package com.talentflow.cvparser.parsing.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Plain text extracted from an uploaded CV file.
+ */
+@Value
+@Builder
+public class ParsedDocument {
+
+    /**
+     * Extracted text, paragraphs separated by newlines.
+     */
+    String text;
+
+    /**
+     * Detected MIME type of the source file.
+     */
+    String mimeType;
+
+    /**
+     * Page count (PDF only; 0 when the format has no fixed pages).
+     */
+    int pageCount;
+
+    /**
+     * True if the text came from OCR rather than the text layer.
+     */
+    boolean ocrUsed;
+
+    /**
+     * Pages whose text came from OCR (0 when unknown or no OCR).
+     */
+    int ocrPageCount;
+
+    /**
+     * Fraction of the text that came from OCR, 0.0-1.0.
+     * Per page when page counts are known, otherwise all or nothing by {@link #ocrUsed}.
+     */
+    public double ocrShare() {
+        if (pageCount > 0 && ocrPageCount > 0) {
+            return Math.min(1.0, (double) ocrPageCount / pageCount);
+        }
+        return ocrUsed ? 1.0 : 0.0;
+    }
+}
@@ -0,0 +1,35 @@
+package com.talentflow.cvparser.parsing.domain.service;
+
+import com.talentflow.cvparser.parsing.domain.model.ParsedDocument;
+import com.talentflow.cvparser.shared.exception.ParsingException;
+import com.talentflow.cvparser.shared.util.FileValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Selects the parser for a detected MIME type.
+ */
+@Service
+@RequiredArgsConstructor
+public class DocumentParserService {
+
+    private final PdfParserService pdfParserService;
+    private final DocxParserService docxParserService;
+    private final FileValidator fileValidator;
+
+    /**
+     * @param content  Complete file, read in place
+     * @param mimeType MIME type detected by {@link FileValidator} (not the one declared in the event)
+     */
+    public ParsedDocument parse(ByteBuffer content, String mimeType) {
+        if (fileValidator.isPdf(mimeType)) {
+            return pdfParserService.parse(content);
+        }
+        if (fileValidator.isDocx(mimeType)) {
+            return docxParserService.parse(content);
+        }
+        throw new ParsingException("Unsupported file type: " + mimeType, "UNSUPPORTED_FORMAT");
+    }
+}
@@ -0,0 +1,21 @@
+package com.talentflow.cvparser.parsing.domain.service;
+
+import com.talentflow.cvparser.parsing.domain.model.ParsedDocument;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Text extraction from DOCX (Office Open XML) files.
+ */
+public interface DocxParserService {
+
+    /**
+     * @param content Complete file from position to limit; read in place, never copied or modified
+     * @return Extracted text; errors are {@link com.talentflow.cvparser.shared.exception.ParsingException}
+     */
+    ParsedDocument parse(ByteBuffer content);
+
+    default ParsedDocument parse(byte[] content) {
+        return parse(ByteBuffer.wrap(content));
+    }
+}
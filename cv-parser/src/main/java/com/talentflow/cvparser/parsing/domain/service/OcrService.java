@@ -0,0 +1,20 @@
+package com.talentflow.cvparser.parsing.domain.service;
+
+import com.talentflow.cvparser.parsing.domain.model.PageImage;
+
+import java.util.List;
+
+/**
+ * OCR of scanned pages.
+ */
+public interface OcrService {
+
+    /**
+     * Recognize the rendered pages of one document. The OCR language is chosen once per document.
+     *
+     * @param pages    Grayscale page images in page order
+     * @param textHint Text-layer text of the same document, may be empty; used to pick the language
+     * @return Text per page, same order; errors are {@link com.talentflow.cvparser.shared.exception.ParsingException}
+     */
+    List<String> recognize(List<PageImage> pages, String textHint);
+}
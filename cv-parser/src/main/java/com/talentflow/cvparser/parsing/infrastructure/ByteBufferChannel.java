@@ -0,0 +1,85 @@
+package com.talentflow.cvparser.parsing.infrastructure;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * Read-only seekable channel over a buffer's position..limit, without copying.
+ *
+ * Unlike SeekableInMemoryByteChannel it does not assume the whole backing array is content,
+ * so pooled buffers with stale bytes past the limit are read correctly.
+ */
+final class ByteBufferChannel implements SeekableByteChannel {
+
+    private final ByteBuffer content;
+    private int position;
+    private boolean open = true;
+
+    ByteBufferChannel(ByteBuffer content) {
+        this.content = content.slice();
+    }
+
+    @Override
+    public int read(ByteBuffer destination) throws ClosedChannelException {
+        ensureOpen();
+        int remaining = content.limit() - position;
+        if (remaining <= 0) {
+            return -1;
+        }
+        int n = Math.min(remaining, destination.remaining());
+        destination.put(destination.position(), content, position, n);
+        destination.position(destination.position() + n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public int write(ByteBuffer source) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long position() throws ClosedChannelException {
+        ensureOpen();
+        return position;
+    }
+
+    @Override
+    public SeekableByteChannel position(long newPosition) throws ClosedChannelException {
+        ensureOpen();
+        if (newPosition < 0) {
+            throw new IllegalArgumentException("Negative position: " + newPosition);
+        }
+        position = (int) Math.min(newPosition, content.limit());
+        return this;
+    }
+
+    @Override
+    public long size() throws ClosedChannelException {
+        ensureOpen();
+        return content.limit();
+    }
+
+    @Override
+    public SeekableByteChannel truncate(long size) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        open = false;
+    }
+
+    private void ensureOpen() throws ClosedChannelException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.talentflow.cvparser.parsing.infrastructure;
+
+/**
+ * Chooses eng, vie or eng+vie for a document from the share of words carrying Vietnamese
+ * diacritics (letters such as ă, đ, ơ, ư and the tone-marked vowels of U+1EA0-U+1EF9).
+ *
+ * English CVs score near zero; an English CV with a Vietnamese name scores a few percent and
+ * keeps both models so the name is read correctly; Vietnamese CVs score well above half.
+ */
+final class OcrLanguageSelector {
+
+    static final String ENGLISH = "eng";
+    static final String VIETNAMESE = "vie";
+    static final String BOTH = ENGLISH + "+" + VIETNAMESE;
+
+    // Vietnamese letters outside U+1EA0-U+1EF9, including Latin-1 accented vowels it shares
+    private static final String VIETNAMESE_LETTERS =
+            "ăâđêôơưĂÂĐÊÔƠƯàáãèéìíòóõùúýÀÁÃÈÉÌÍÒÓÕÙÚÝ";
+
+    private final double mixedShare;
+    private final double vietnameseShare;
+
+    /**
+     * @param mixedShare      Word share from which both models are used
+     * @param vietnameseShare Word share from which vie alone is used
+     */
+    OcrLanguageSelector(double mixedShare, double vietnameseShare) {
+        this.mixedShare = mixedShare;
+        this.vietnameseShare = vietnameseShare;
+    }
+
+    String choose(double share) {
+        if (share >= vietnameseShare) {
+            return VIETNAMESE;
+        }
+        return share >= mixedShare ? BOTH : ENGLISH;
+    }
+
+    /**
+     * Fraction of words (letter runs) with at least one Vietnamese letter; 0 for text without words.
+     */
+    static double vietnameseWordShare(CharSequence text) {
+        int words = 0;
+        int vietnameseWords = 0;
+        boolean inWord = false;
+        boolean vietnamese = false;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (Character.isLetter(c)) {
+                inWord = true;
+                vietnamese |= isVietnamese(c);
+            } else if (inWord) {
+                words++;
+                if (vietnamese) {
+                    vietnameseWords++;
+                }
+                inWord = false;
+                vietnamese = false;
+            }
+        }
+        if (inWord) {
+            words++;
+            if (vietnamese) {
+                vietnameseWords++;
+            }
+        }
+        return words == 0 ? 0.0 : (double) vietnameseWords / words;
+    }
+
+    /**
+     * Number of letters in the text, to judge whether it is enough for {@link #vietnameseWordShare}.
+     */
+    static int letterCount(CharSequence text) {
+        int letters = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            if (Character.isLetter(text.charAt(i))) {
+                letters++;
+            }
+        }
+        return letters;
+    }
+
+    private static boolean isVietnamese(char c) {
+        return (c >= 'Ạ' && c <= 'ỹ') || (c > 0x7F && VIETNAMESE_LETTERS.indexOf(c) >= 0);
+    }
+}
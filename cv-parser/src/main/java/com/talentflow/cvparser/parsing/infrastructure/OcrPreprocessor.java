@@ -0,0 +1,308 @@
+package com.talentflow.cvparser.parsing.infrastructure;
+
+import com.talentflow.cvparser.parsing.domain.model.PageImage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Page clean-up ahead of Tesseract: adaptive binarization, deskew and margin cropping.
+ *
+ * Pages arrive already rendered in grayscale at parsing.pdf.ocr-render-dpi, so scans of any
+ * source resolution and color depth reach this step in one format. Everything works on the
+ * page's byte array with int / long scratch arrays; there are no per-pixel objects, and a page
+ * is processed by one thread (pages run in parallel on the ocrExecutor).
+ *
+ * - Binarization: Bradley-Roth local mean threshold over a window of 1/8 of the page width,
+ *   from running column and row sums (O(width) extra memory instead of an integral image).
+ *   Uneven lighting and gray backgrounds become white; text becomes black.
+ * - Deskew: the projection profile of sampled black pixels is sheared over +-max-skew-degrees;
+ *   the angle with the sharpest profile (largest sum of squared row counts) is the skew. Pages
+ *   skewed by at least min-skew-degrees are rotated back.
+ * - Crop: rows and columns without connected black pixels (beyond a small noise floor) are
+ *   trimmed from the edges, keeping margin-padding-inches, so Tesseract skips empty margins.
+ */
+@Component
+public class OcrPreprocessor {
+
+    private static final byte BLACK = 0;
+    private static final byte WHITE = (byte) 255;
+
+    // Pixels sampled for skew estimation, at most
+    private static final int SKEW_SAMPLES = 60_000;
+
+    private final boolean enabled;
+    private final int thresholdPercent;
+    private final double maxSkewDegrees;
+    private final double skewStepDegrees;
+    private final double minSkewDegrees;
+    private final double marginPaddingInches;
+
+    public OcrPreprocessor(@Value("${parsing.ocr-preprocessing.enabled:true}") boolean enabled,
+                           @Value("${parsing.ocr-preprocessing.threshold-percent:15}") int thresholdPercent,
+                           @Value("${parsing.ocr-preprocessing.max-skew-degrees:5}") double maxSkewDegrees,
+                           @Value("${parsing.ocr-preprocessing.skew-step-degrees:0.2}") double skewStepDegrees,
+                           @Value("${parsing.ocr-preprocessing.min-skew-degrees:0.3}") double minSkewDegrees,
+                           @Value("${parsing.ocr-preprocessing.margin-padding-inches:0.1}") double marginPaddingInches) {
+        this.enabled = enabled;
+        this.thresholdPercent = thresholdPercent;
+        this.maxSkewDegrees = maxSkewDegrees;
+        this.skewStepDegrees = Math.max(0.05, skewStepDegrees);
+        this.minSkewDegrees = minSkewDegrees;
+        this.marginPaddingInches = marginPaddingInches;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Binarize, deskew and crop one page. Returns the input unchanged when disabled.
+     */
+    public PageImage process(PageImage page) {
+        if (!enabled) {
+            return page;
+        }
+        PageImage binary = binarize(page, thresholdPercent);
+        double skew = estimateSkew(binary, maxSkewDegrees, skewStepDegrees);
+        if (Math.abs(skew) >= minSkewDegrees) {
+            binary = rotate(binary, -skew);
+        }
+        return cropMargins(binary, (int) Math.round(page.dpi() * marginPaddingInches));
+    }
+
+    /**
+     * Bradley-Roth adaptive threshold: a pixel is black when it is thresholdPercent darker than the
+     * mean of the window around it.
+     */
+    static PageImage binarize(PageImage page, int thresholdPercent) {
+        int w = page.width();
+        int h = page.height();
+        byte[] in = page.pixels();
+        byte[] out = new byte[in.length];
+        int r = Math.max(1, w / 16);
+        long keep = 100L - thresholdPercent;
+
+        // Column sums over the rows of the current window
+        int[] columns = new int[w];
+        for (int y = 0; y <= Math.min(r, h - 1); y++) {
+            addRow(columns, in, y, w, 1);
+        }
+        for (int y = 0; y < h; y++) {
+            if (y > 0) {
+                if (y + r < h) {
+                    addRow(columns, in, y + r, w, 1);
+                }
+                if (y - r - 1 >= 0) {
+                    addRow(columns, in, y - r - 1, w, -1);
+                }
+            }
+            int rows = Math.min(h - 1, y + r) - Math.max(0, y - r) + 1;
+
+            long sum = 0;
+            for (int x = 0; x <= Math.min(r, w - 1); x++) {
+                sum += columns[x];
+            }
+            int row = y * w;
+            for (int x = 0; x < w; x++) {
+                if (x > 0) {
+                    if (x + r < w) {
+                        sum += columns[x + r];
+                    }
+                    if (x - r - 1 >= 0) {
+                        sum -= columns[x - r - 1];
+                    }
+                }
+                long count = (long) rows * (Math.min(w - 1, x + r) - Math.max(0, x - r) + 1);
+                int value = in[row + x] & 0xFF;
+                out[row + x] = value * count * 100 <= sum * keep ? BLACK : WHITE;
+            }
+        }
+        return new PageImage(out, w, h, page.dpi());
+    }
+
+    private static void addRow(int[] columns, byte[] pixels, int y, int w, int sign) {
+        int row = y * w;
+        for (int x = 0; x < w; x++) {
+            columns[x] += sign * (pixels[row + x] & 0xFF);
+        }
+    }
+
+    /**
+     * Skew of the text lines in degrees (positive: lines rise to the right), 0 for blank pages.
+     */
+    static double estimateSkew(PageImage binary, double maxDegrees, double stepDegrees) {
+        int w = binary.width();
+        int h = binary.height();
+        byte[] pixels = binary.pixels();
+
+        int black = 0;
+        for (byte pixel : pixels) {
+            if (pixel == BLACK) {
+                black++;
+            }
+        }
+        if (black == 0) {
+            return 0.0;
+        }
+        int stride = Math.max(1, (int) Math.ceil(Math.sqrt((double) black / SKEW_SAMPLES)));
+        int[] xs = new int[Math.min(black, SKEW_SAMPLES * 2)];
+        int[] ys = new int[xs.length];
+        int samples = 0;
+        for (int y = 0; y < h && samples < xs.length; y += stride) {
+            int row = y * w;
+            for (int x = 0; x < w && samples < xs.length; x += stride) {
+                if (pixels[row + x] == BLACK) {
+                    xs[samples] = x;
+                    ys[samples] = y;
+                    samples++;
+                }
+            }
+        }
+
+        int steps = (int) Math.round(maxDegrees / stepDegrees);
+        double maxShear = Math.tan(Math.toRadians(maxDegrees)) * w;
+        int offset = (int) Math.ceil(maxShear);
+        long[] bins = new long[h + 2 * offset + 1];
+        double bestAngle = 0.0;
+        double bestScore = -1;
+        for (int i = -steps; i <= steps; i++) {
+            double angle = i * stepDegrees;
+            double tan = Math.tan(Math.toRadians(angle));
+            Arrays.fill(bins, 0);
+            for (int s = 0; s < samples; s++) {
+                bins[(int) Math.round(ys[s] + xs[s] * tan) + offset]++;
+            }
+            double score = 0;
+            for (long bin : bins) {
+                score += (double) bin * bin;
+            }
+            // Ties go to the smaller angle
+            if (score > bestScore || (score == bestScore && Math.abs(angle) < Math.abs(bestAngle))) {
+                bestScore = score;
+                bestAngle = angle;
+            }
+        }
+        return bestAngle;
+    }
+
+    /**
+     * Rotate about the page center (positive degrees: counterclockwise as displayed), nearest
+     * neighbour, uncovered corners white. The page size is unchanged.
+     */
+    static PageImage rotate(PageImage page, double degrees) {
+        int w = page.width();
+        int h = page.height();
+        byte[] in = page.pixels();
+        byte[] out = new byte[in.length];
+        double radians = Math.toRadians(degrees);
+        double cos = Math.cos(radians);
+        double sin = Math.sin(radians);
+        double cx = (w - 1) / 2.0;
+        double cy = (h - 1) / 2.0;
+        for (int y = 0; y < h; y++) {
+            double dy = y - cy;
+            // Source coordinates step linearly along a row
+            double sx = -cos * cx - sin * dy + cx;
+            double sy = -sin * cx + cos * dy + cy;
+            int row = y * w;
+            for (int x = 0; x < w; x++) {
+                int ix = (int) Math.round(sx);
+                int iy = (int) Math.round(sy);
+                out[row + x] = ix >= 0 && ix < w && iy >= 0 && iy < h ? in[iy * w + ix] : WHITE;
+                sx += cos;
+                sy += sin;
+            }
+        }
+        return new PageImage(out, w, h, page.dpi());
+    }
+
+    /**
+     * Trim empty margins, keeping padding pixels around the content; blank pages are returned as is.
+     */
+    static PageImage cropMargins(PageImage binary, int padding) {
+        int w = binary.width();
+        int h = binary.height();
+        byte[] pixels = binary.pixels();
+        int[] rowCounts = new int[h];
+        int[] columnCounts = new int[w];
+        // Only black pixels with a black right or lower neighbour count: isolated specks are noise
+        for (int y = 0; y < h - 1; y++) {
+            int row = y * w;
+            for (int x = 0; x < w - 1; x++) {
+                if (pixels[row + x] == BLACK && (pixels[row + x + 1] == BLACK || pixels[row + w + x] == BLACK)) {
+                    rowCounts[y]++;
+                    columnCounts[x]++;
+                }
+            }
+        }
+        int top = first(rowCounts, Math.max(2, w / 400));
+        int left = first(columnCounts, Math.max(2, h / 400));
+        if (top < 0 || left < 0) {
+            return binary;
+        }
+        int bottom = last(rowCounts, Math.max(2, w / 400));
+        int right = last(columnCounts, Math.max(2, h / 400));
+
+        int x0 = Math.max(0, left - padding);
+        int y0 = Math.max(0, top - padding);
+        int x1 = Math.min(w - 1, right + padding);
+        int y1 = Math.min(h - 1, bottom + padding);
+        int cw = x1 - x0 + 1;
+        int ch = y1 - y0 + 1;
+        if (cw == w && ch == h) {
+            return binary;
+        }
+        byte[] out = new byte[cw * ch];
+        for (int y = 0; y < ch; y++) {
+            System.arraycopy(pixels, (y0 + y) * w + x0, out, y * cw, cw);
+        }
+        return new PageImage(out, cw, ch, binary.dpi());
+    }
+
+    /**
+     * Downscale by an integer factor, averaging each factor x factor block.
+     */
+    static PageImage downscale(PageImage page, int factor) {
+        if (factor <= 1) {
+            return page;
+        }
+        int w = Math.max(1, page.width() / factor);
+        int h = Math.max(1, page.height() / factor);
+        byte[] in = page.pixels();
+        byte[] out = new byte[w * h];
+        int area = factor * factor;
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                int sum = 0;
+                for (int dy = 0; dy < factor; dy++) {
+                    int row = (y * factor + dy) * page.width() + x * factor;
+                    for (int dx = 0; dx < factor; dx++) {
+                        sum += in[row + dx] & 0xFF;
+                    }
+                }
+                out[y * w + x] = (byte) (sum / area);
+            }
+        }
+        return new PageImage(out, w, h, Math.max(1, page.dpi() / factor));
+    }
+
+    private static int first(int[] counts, int min) {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] >= min) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int last(int[] counts, int min) {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] >= min) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
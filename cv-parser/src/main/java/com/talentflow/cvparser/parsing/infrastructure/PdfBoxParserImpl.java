@@ -0,0 +1,278 @@
+package com.talentflow.cvparser.parsing.infrastructure;
+
+import com.talentflow.cvparser.parsing.domain.model.PageImage;
+import com.talentflow.cvparser.parsing.domain.model.ParsedDocument;
+import com.talentflow.cvparser.parsing.domain.service.OcrService;
+import com.talentflow.cvparser.parsing.domain.service.PdfParserService;
+import com.talentflow.cvparser.shared.exception.ParsingException;
+import com.talentflow.cvparser.shared.util.FileValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.encryption.InvalidPasswordException;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * PDFBox text extraction, page-parallel for long documents.
+ *
+ * Below parsing.pdf.parallel-threshold pages the text is stripped on the calling thread.
+ * Above it, the pages are split into contiguous ranges that are stripped concurrently on the
+ * parsingExecutor and concatenated in page order.
+ *
+ * PDDocument is not thread-safe (COS objects are parsed lazily on access), so the file bytes
+ * are shared instead: each helper opens its own view over the same (pooled) buffer, which
+ * only parses the xref and trailer. The calling thread reuses the document it already loaded.
+ *
+ * Ranges are claimed from a shared counter and the calling thread claims ranges too. It
+ * therefore never waits on work still queued behind it in the same pool, and extraction
+ * degrades to single-threaded when the pool is busy.
+ *
+ * Documents with too little text layer (scanned CVs) go to the {@link OcrService} page by page.
+ */
+@Slf4j
+@Service
+public class PdfBoxParserImpl implements PdfParserService {
+
+    static final String PDF_MIME_TYPE = "application/pdf";
+
+    private final Executor parsingExecutor;
+    private final FileValidator fileValidator;
+    private final int parallelThreshold;
+    private final int maxParallelism;
+    private final int minPagesPerRange;
+    private final OcrService ocrService;
+    private final int ocrMinCharsPerPage;
+    private final int ocrRenderDpi;
+
+    public PdfBoxParserImpl(@Qualifier("parsingExecutor") Executor parsingExecutor,
+                            FileValidator fileValidator,
+                            @Value("${parsing.pdf.parallel-threshold:8}") int parallelThreshold,
+                            @Value("${parsing.pdf.max-parallelism:4}") int maxParallelism,
+                            @Value("${parsing.pdf.min-pages-per-range:2}") int minPagesPerRange,
+                            OcrService ocrService,
+                            @Value("${parsing.pdf.ocr-min-chars-per-page:20}") int ocrMinCharsPerPage,
+                            @Value("${parsing.pdf.ocr-render-dpi:300}") int ocrRenderDpi) {
+        this.parsingExecutor = parsingExecutor;
+        this.fileValidator = fileValidator;
+        this.parallelThreshold = parallelThreshold;
+        this.maxParallelism = maxParallelism;
+        this.minPagesPerRange = Math.max(1, minPagesPerRange);
+        this.ocrService = ocrService;
+        this.ocrMinCharsPerPage = ocrMinCharsPerPage;
+        this.ocrRenderDpi = ocrRenderDpi;
+    }
+
+    @Override
+    public ParsedDocument parse(ByteBuffer content) {
+        long start = System.nanoTime();
+        try (PDDocument document = Loader.loadPDF(new RandomAccessReadBuffer(content.slice()))) {
+            int pages = document.getNumberOfPages();
+            if (pages > fileValidator.getMaxPages()) {
+                throw new ParsingException(
+                        String.format("PDF has %d pages, maximum is %d", pages, fileValidator.getMaxPages()),
+                        "TOO_MANY_PAGES");
+            }
+
+            int ranges = rangeCount(pages);
+            String text = ranges <= 1
+                    ? strip(document, 1, pages)
+                    : stripParallel(content, document, pages, ranges);
+
+            log.debug("PDF text extracted: {} pages, {} ranges, {} chars in {} ms", pages, ranges, text.length(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            if (nonWhitespace(text) < (long) ocrMinCharsPerPage * pages) {
+                return withOcr(document, pages, text);
+            }
+            return ParsedDocument.builder()
+                    .text(text)
+                    .mimeType(PDF_MIME_TYPE)
+                    .pageCount(pages)
+                    .build();
+        } catch (InvalidPasswordException e) {
+            throw new ParsingException("PDF is password protected", "PASSWORD_PROTECTED", e);
+        } catch (IOException e) {
+            throw new ParsingException("Unable to read PDF: " + e.getMessage(), "CORRUPTED_FILE", e);
+        }
+    }
+
+    /**
+     * Scanned or partly scanned PDF: pages whose text layer has fewer than ocr-min-chars-per-page
+     * characters are rendered in grayscale at ocr-render-dpi and OCR'd; the text layer of the
+     * other pages is kept. Rendering at one fixed resolution, whatever the resolution of the
+     * embedded scan, gives the OCR preprocessing and Tesseract the same input scale every time. The whole text layer is passed on for OCR language detection.
+     */
+    private ParsedDocument withOcr(PDDocument document, int pages, String textLayer) throws IOException {
+        long start = System.nanoTime();
+        String[] pageTexts = new String[pages];
+        List<Integer> scanned = new ArrayList<>();
+        for (int page = 0; page < pages; page++) {
+            pageTexts[page] = strip(document, page + 1, page + 1);
+            if (nonWhitespace(pageTexts[page]) < ocrMinCharsPerPage) {
+                scanned.add(page);
+            }
+        }
+
+        PDFRenderer renderer = new PDFRenderer(document);
+        List<PageImage> images = new ArrayList<>(scanned.size());
+        for (int page : scanned) {
+            images.add(pageImage(renderer.renderImageWithDPI(page, ocrRenderDpi, ImageType.GRAY), ocrRenderDpi));
+        }
+        List<String> recognized = ocrService.recognize(images, textLayer);
+        for (int i = 0; i < scanned.size(); i++) {
+            pageTexts[scanned.get(i)] = recognized.get(i) + "\n";
+        }
+
+        StringBuilder text = new StringBuilder();
+        for (String pageText : pageTexts) {
+            text.append(pageText);
+        }
+        log.debug("PDF OCR: {} of {} pages in {} ms", scanned.size(), pages,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return ParsedDocument.builder()
+                .text(text.toString())
+                .mimeType(PDF_MIME_TYPE)
+                .pageCount(pages)
+                .ocrUsed(!scanned.isEmpty())
+                .ocrPageCount(scanned.size())
+                .build();
+    }
+
+    /**
+     * Page pixels without copying when the image is already packed 8-bit grayscale (PDFBox GRAY renders are).
+     */
+    static PageImage pageImage(BufferedImage image, int dpi) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (image.getType() == BufferedImage.TYPE_BYTE_GRAY
+                && image.getRaster().getDataBuffer() instanceof DataBufferByte data
+                && data.getOffset() == 0
+                && data.getSize() == width * height) {
+            return new PageImage(data.getData(), width, height, dpi);
+        }
+        BufferedImage gray = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = gray.createGraphics();
+        try {
+            g.drawImage(image, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return new PageImage(((DataBufferByte) gray.getRaster().getDataBuffer()).getData(), width, height, dpi);
+    }
+
+    private static long nonWhitespace(String text) {
+        long count = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    int rangeCount(int pages) {
+        if (pages < parallelThreshold) {
+            return 1;
+        }
+        return Math.max(1, Math.min(maxParallelism, pages / minPagesPerRange));
+    }
+
+    private String stripParallel(ByteBuffer content, PDDocument document, int pages, int ranges) throws IOException {
+        String[] texts = new String[ranges];
+        AtomicInteger nextRange = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(ranges);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        for (int i = 1; i < ranges; i++) {
+            try {
+                parsingExecutor.execute(() -> {
+                    if (nextRange.get() >= ranges) {
+                        return;
+                    }
+                    try (PDDocument view = Loader.loadPDF(new RandomAccessReadBuffer(content.slice()))) {
+                        claimRanges(view, pages, ranges, nextRange, texts, done, failure);
+                    } catch (IOException | RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                        // Nothing was claimed if the view failed to load; the caller takes the ranges
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+
+        claimRanges(document, pages, ranges, nextRange, texts, done, failure);
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParsingException("PDF extraction interrupted", "PARSING_FAILED", e);
+        }
+
+        Throwable error = failure.get();
+        if (error != null && hasMissingRange(texts)) {
+            throw error instanceof IOException io ? io : new IOException(error);
+        }
+        StringBuilder text = new StringBuilder();
+        for (String range : texts) {
+            text.append(range);
+        }
+        return text.toString();
+    }
+
+    private void claimRanges(PDDocument document, int pages, int ranges, AtomicInteger nextRange,
+                             String[] texts, CountDownLatch done, AtomicReference<Throwable> failure) {
+        int range;
+        while ((range = nextRange.getAndIncrement()) < ranges) {
+            try {
+                texts[range] = strip(document, firstPage(range, pages, ranges), firstPage(range + 1, pages, ranges) - 1);
+            } catch (IOException | RuntimeException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                done.countDown();
+            }
+        }
+    }
+
+    private static boolean hasMissingRange(String[] texts) {
+        for (String text : texts) {
+            if (text == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 1-based first page of a range; ranges differ in size by at most one page.
+     */
+    private static int firstPage(int range, int pages, int ranges) {
+        return 1 + (int) ((long) range * pages / ranges);
+    }
+
+    private static String strip(PDDocument document, int startPage, int endPage) throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper();
+        stripper.setStartPage(startPage);
+        stripper.setEndPage(endPage);
+        return stripper.getText(document);
+    }
+}
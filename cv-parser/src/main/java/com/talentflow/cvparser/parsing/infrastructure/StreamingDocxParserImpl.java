@@ -0,0 +1,281 @@
+package com.talentflow.cvparser.parsing.infrastructure;
+
+import com.talentflow.cvparser.parsing.domain.model.ParsedDocument;
+import com.talentflow.cvparser.parsing.domain.service.DocxParserService;
+import com.talentflow.cvparser.shared.exception.ParsingException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Enumeration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming DOCX text extraction.
+ *
+ * Instead of building the XWPF DOM (styles, numbering, embedded images), the ZIP central
+ * directory is read in place from the (pooled) file buffer and only the main document part is opened and pulled through a
+ * hardened StAX reader. Media parts are never decompressed, so memory is bounded by the text
+ * and independent of embedded image size.
+ *
+ * Zip-bomb guards (parsing.docx.*):
+ *   - max-entries: entries in the central directory
+ *   - max-document-size: uncompressed size of the document part, declared and actually read
+ *   - max-compression-ratio: declared uncompressed / compressed size of the document part
+ *   - max-text-chars: extraction stops (text truncated) once reached
+ *
+ * Text rules: w:t runs, w:tab as tab, w:br / w:cr / end of w:p as newline. Deleted runs and
+ * field codes are ignored, and mc:Fallback is skipped so text boxes are not emitted twice.
+ */
+@Slf4j
+@Service
+public class StreamingDocxParserImpl implements DocxParserService {
+
+    static final String DOCX_MIME_TYPE = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+
+    private static final String PACKAGE_RELATIONSHIPS = "_rels/.rels";
+    private static final String DEFAULT_DOCUMENT_PART = "word/document.xml";
+    private static final String OFFICE_DOCUMENT_RELATIONSHIP = "/officeDocument";
+    private static final Set<String> WORD_NAMESPACES = Set.of(
+            "http://schemas.openxmlformats.org/wordprocessingml/2006/main",
+            "http://purl.oclc.org/ooxml/wordprocessingml/main");
+    private static final String MARKUP_COMPATIBILITY_NAMESPACE =
+            "http://schemas.openxmlformats.org/markup-compatibility/2006";
+    private static final int MAX_RELATIONSHIPS_BYTES = 64 * 1024;
+
+    private final XMLInputFactory xmlInputFactory;
+    private final int maxEntries;
+    private final long maxDocumentBytes;
+    private final int maxCompressionRatio;
+    private final int maxTextChars;
+
+    public StreamingDocxParserImpl(@Value("${parsing.docx.max-entries:1000}") int maxEntries,
+                                   @Value("${parsing.docx.max-document-size:50MB}") DataSize maxDocumentSize,
+                                   @Value("${parsing.docx.max-compression-ratio:200}") int maxCompressionRatio,
+                                   @Value("${parsing.docx.max-text-chars:500000}") int maxTextChars) {
+        this.maxEntries = maxEntries;
+        this.maxDocumentBytes = maxDocumentSize.toBytes();
+        this.maxCompressionRatio = maxCompressionRatio;
+        this.maxTextChars = maxTextChars;
+        this.xmlInputFactory = secureXmlInputFactory();
+    }
+
+    @Override
+    public ParsedDocument parse(ByteBuffer content) {
+        long start = System.nanoTime();
+        try (ZipFile zip = new ZipFile(new ByteBufferChannel(content))) {
+            checkEntryCount(zip);
+            ZipArchiveEntry document = zip.getEntry(resolveDocumentPart(zip));
+            if (document == null) {
+                throw new ParsingException("DOCX has no main document part", "INVALID_DOCX");
+            }
+            checkDeclaredSize(document);
+
+            String text;
+            try (InputStream in = new BufferedInputStream(
+                    new LimitedInputStream(zip.getInputStream(document), maxDocumentBytes), 64 * 1024)) {
+                text = extractText(in);
+            }
+            log.debug("DOCX text extracted: {} chars in {} ms", text.length(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return ParsedDocument.builder()
+                    .text(text)
+                    .mimeType(DOCX_MIME_TYPE)
+                    .build();
+        } catch (IOException e) {
+            throw new ParsingException("Unable to read DOCX archive: " + e.getMessage(), "INVALID_DOCX", e);
+        } catch (XMLStreamException e) {
+            throw new ParsingException("Malformed DOCX document XML: " + e.getMessage(), "INVALID_DOCX", e);
+        }
+    }
+
+    private void checkEntryCount(ZipFile zip) {
+        int count = 0;
+        for (Enumeration<ZipArchiveEntry> entries = zip.getEntries(); entries.hasMoreElements(); entries.nextElement()) {
+            if (++count > maxEntries) {
+                throw new ParsingException("DOCX has more than " + maxEntries + " entries", "DOCX_LIMIT_EXCEEDED");
+            }
+        }
+    }
+
+    private void checkDeclaredSize(ZipArchiveEntry entry) {
+        long size = entry.getSize();
+        long compressed = entry.getCompressedSize();
+        if (size > maxDocumentBytes) {
+            throw new ParsingException("DOCX document part declares " + size + " bytes", "DOCX_LIMIT_EXCEEDED");
+        }
+        if (size > 0 && compressed > 0 && size / compressed > maxCompressionRatio) {
+            throw new ParsingException("DOCX document part compression ratio exceeds " + maxCompressionRatio,
+                    "DOCX_LIMIT_EXCEEDED");
+        }
+    }
+
+    /**
+     * Main part from the package relationships (officeDocument), falling back to word/document.xml.
+     */
+    private String resolveDocumentPart(ZipFile zip) throws IOException, XMLStreamException {
+        ZipArchiveEntry relationships = zip.getEntry(PACKAGE_RELATIONSHIPS);
+        if (relationships == null) {
+            return DEFAULT_DOCUMENT_PART;
+        }
+        try (InputStream in = new LimitedInputStream(zip.getInputStream(relationships), MAX_RELATIONSHIPS_BYTES)) {
+            XMLStreamReader reader = createReader(in);
+            try {
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.DTD) {
+                        throw new ParsingException("DOCX relationships declare a DTD", "INVALID_DOCX");
+                    }
+                    if (event == XMLStreamConstants.START_ELEMENT && "Relationship".equals(reader.getLocalName())) {
+                        String type = reader.getAttributeValue(null, "Type");
+                        String target = reader.getAttributeValue(null, "Target");
+                        if (type != null && target != null && type.endsWith(OFFICE_DOCUMENT_RELATIONSHIP)) {
+                            return target.startsWith("/") ? target.substring(1) : target;
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        return DEFAULT_DOCUMENT_PART;
+    }
+
+    private String extractText(InputStream in) throws XMLStreamException {
+        XMLStreamReader reader = createReader(in);
+        StringBuilder text = new StringBuilder(8192);
+        boolean inText = false;
+        int fallbackDepth = 0;
+        try {
+            while (reader.hasNext() && text.length() < maxTextChars) {
+                int event = reader.next();
+                if (fallbackDepth > 0) {
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        fallbackDepth++;
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        fallbackDepth--;
+                    }
+                    continue;
+                }
+                switch (event) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        String namespace = reader.getNamespaceURI();
+                        if (MARKUP_COMPATIBILITY_NAMESPACE.equals(namespace) && "Fallback".equals(reader.getLocalName())) {
+                            fallbackDepth = 1;
+                        } else if (WORD_NAMESPACES.contains(namespace)) {
+                            switch (reader.getLocalName()) {
+                                case "t" -> inText = true;
+                                case "tab" -> text.append('\t');
+                                case "br", "cr" -> text.append('\n');
+                                default -> {
+                                }
+                            }
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        if (WORD_NAMESPACES.contains(reader.getNamespaceURI())) {
+                            switch (reader.getLocalName()) {
+                                case "t" -> inText = false;
+                                case "p" -> text.append('\n');
+                                default -> {
+                                }
+                            }
+                        }
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                        if (inText) {
+                            text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        }
+                    }
+                    case XMLStreamConstants.DTD ->
+                            throw new ParsingException("DOCX document declares a DTD", "INVALID_DOCX");
+                    default -> {
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        if (text.length() >= maxTextChars) {
+            log.warn("DOCX text truncated at {} chars", maxTextChars);
+            text.setLength(maxTextChars);
+        }
+        return text.toString();
+    }
+
+    private XMLStreamReader createReader(InputStream in) throws XMLStreamException {
+        return xmlInputFactory.createXMLStreamReader(in);
+    }
+
+    /**
+     * JDK StAX factory with DTDs and external entities disabled (README 9.2).
+     */
+    private static XMLInputFactory secureXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+
+    /**
+     * Fails once more bytes than allowed are read, whatever the ZIP header declared.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+
+        private LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(long n) {
+            count += n;
+            if (count > limit) {
+                throw new ParsingException("DOCX part exceeds " + limit + " uncompressed bytes", "DOCX_LIMIT_EXCEEDED");
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.talentflow.cvparser.parsing.infrastructure;
+
+import com.talentflow.cvparser.shared.config.TesseractConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.sourceforge.tess4j.ITessAPI.TessBaseAPI;
+import net.sourceforge.tess4j.TessAPI;
+import net.sourceforge.tess4j.util.LoadLibs;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Initialized Tesseract engines, cached per language.
+ *
+ * tess4j's Tesseract class initializes and tears down the engine (loading the traineddata
+ * models) on every call. Here each engine is a native TessBaseAPI handle initialized once for
+ * one language and reused for any number of pages. A handle is used by one thread at a time:
+ * callers borrow it for one page and return it; at most tesseract.engines.max-idle-per-language
+ * idle handles are kept per language, extra ones are ended on return.
+ */
+@Slf4j
+@Component
+public class TesseractEngineCache {
+
+    private final TesseractConfig tesseractConfig;
+    private final int maxIdlePerLanguage;
+    private final Map<String, ConcurrentLinkedDeque<TessBaseAPI>> idle = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> idleCounts = new ConcurrentHashMap<>();
+
+    private volatile TessAPI api;
+    private volatile boolean closed;
+
+    public TesseractEngineCache(TesseractConfig tesseractConfig,
+                                @Value("${tesseract.engines.max-idle-per-language:4}") int maxIdlePerLanguage) {
+        this.tesseractConfig = tesseractConfig;
+        this.maxIdlePerLanguage = Math.max(1, maxIdlePerLanguage);
+    }
+
+    /**
+     * Run an action with an engine for the language, e.g. "eng" or "eng+vie".
+     *
+     * @throws IllegalStateException if the engine cannot be initialized (missing traineddata)
+     */
+    public <T> T withEngine(String language, Function<TessBaseAPI, T> action) {
+        TessBaseAPI handle = borrow(language);
+        boolean healthy = false;
+        try {
+            T result = action.apply(handle);
+            healthy = true;
+            return result;
+        } finally {
+            giveBack(language, handle, healthy);
+        }
+    }
+
+    /**
+     * The native API (loads the library on first use).
+     */
+    public TessAPI api() {
+        TessAPI current = api;
+        if (current == null) {
+            synchronized (this) {
+                current = api;
+                if (current == null) {
+                    current = LoadLibs.getTessAPIInstance();
+                    api = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private TessBaseAPI borrow(String language) {
+        TessBaseAPI handle = idle.computeIfAbsent(language, key -> new ConcurrentLinkedDeque<>()).pollFirst();
+        if (handle != null) {
+            idleCount(language).decrementAndGet();
+            return handle;
+        }
+        TessAPI tess = api();
+        handle = tess.TessBaseAPICreate();
+        String dataPath = tesseractConfig.getDataPath();
+        if (tess.TessBaseAPIInit3(handle, dataPath == null || dataPath.isBlank() ? null : dataPath, language) != 0) {
+            tess.TessBaseAPIDelete(handle);
+            throw new IllegalStateException("Tesseract could not load language " + language);
+        }
+        log.debug("Initialized Tesseract engine for {}", language);
+        return handle;
+    }
+
+    private void giveBack(String language, TessBaseAPI handle, boolean healthy) {
+        TessAPI tess = api();
+        tess.TessBaseAPIClear(handle);
+        if (healthy && !closed && idleCount(language).incrementAndGet() <= maxIdlePerLanguage) {
+            idle.get(language).offerFirst(handle);
+            return;
+        }
+        if (healthy && !closed) {
+            idleCount(language).decrementAndGet();
+        }
+        end(handle);
+    }
+
+    private AtomicInteger idleCount(String language) {
+        return idleCounts.computeIfAbsent(language, key -> new AtomicInteger());
+    }
+
+    private void end(TessBaseAPI handle) {
+        TessAPI tess = api();
+        tess.TessBaseAPIEnd(handle);
+        tess.TessBaseAPIDelete(handle);
+    }
+
+    @PreDestroy
+    void close() {
+        closed = true;
+        idle.values().forEach(handles -> {
+            TessBaseAPI handle;
+            while ((handle = handles.pollFirst()) != null) {
+                end(handle);
+            }
+        });
+    }
+}
@@ -0,0 +1,250 @@
+package com.talentflow.cvparser.parsing.infrastructure;
+
+import com.sun.jna.Pointer;
+import com.talentflow.cvparser.parsing.domain.model.PageImage;
+import com.talentflow.cvparser.parsing.domain.service.OcrService;
+import com.talentflow.cvparser.shared.config.TesseractConfig;
+import com.talentflow.cvparser.shared.exception.ParsingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.sourceforge.tess4j.ITessAPI.TessBaseAPI;
+import net.sourceforge.tess4j.TessAPI;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tesseract OCR with the language chosen per document.
+ *
+ * Running every page with eng+vie roughly doubles recognition time, and most CVs are English
+ * only. When tesseract.language covers both eng and vie, one language is picked per document
+ * before the full-resolution OCR ({@link OcrLanguageSelector}):
+ * - from the text layer when the PDF has enough of it (mixed digital / scanned documents);
+ * - otherwise from a quick OCR of the first page downscaled by probe-scale (rounded to a whole
+ *   divisor of the resolution), with the vie model (its character set covers English too).
+ * Other tesseract.language values are used as configured.
+ *
+ * Each page is cleaned up by the {@link OcrPreprocessor} (binarize, deskew, crop) and then
+ * recognized, pages in parallel on the ocrExecutor with engines from {@link TesseractEngineCache}.
+ * The probe reuses the preprocessed first page.
+ *
+ * Metrics: ocr.preprocess.time, ocr.language.selected{language, source}, ocr.page.time{language},
+ * ocr.language.probe.time and ocr.language.time_saved. Time saved compares each single-language
+ * page with the eng+vie time per megapixel (observed, or combined-cost-factor times the actual
+ * time until eng+vie pages have been seen), minus the probe.
+ */
+@Slf4j
+@Service
+public class TesseractOcrImpl implements OcrService {
+
+    static final String SOURCE_TEXT_LAYER = "text_layer";
+    static final String SOURCE_PROBE = "probe";
+    static final String SOURCE_CONFIGURED = "configured";
+
+    // Weight of the newest page in the smoothed eng+vie time per megapixel
+    private static final double SMOOTHING = 0.1;
+
+    private final TesseractEngineCache engines;
+    private final OcrPreprocessor preprocessor;
+    private final Executor ocrExecutor;
+    private final String configuredLanguage;
+    private final boolean detection;
+    private final OcrLanguageSelector selector;
+    private final String probeLanguage;
+    private final double probeScale;
+    private final int minHintLetters;
+    private final double combinedCostFactor;
+    private final MeterRegistry meterRegistry;
+    private final Timer probeTimer;
+    private final Timer preprocessTimer;
+    private final Counter timeSaved;
+
+    private volatile double combinedNanosPerMegapixel;
+
+    public TesseractOcrImpl(TesseractEngineCache engines,
+                            OcrPreprocessor preprocessor,
+                            @Qualifier("ocrExecutor") Executor ocrExecutor,
+                            TesseractConfig tesseractConfig,
+                            @Value("${tesseract.language-detection.enabled:true}") boolean detectionEnabled,
+                            @Value("${tesseract.language-detection.probe-language:vie}") String probeLanguage,
+                            @Value("${tesseract.language-detection.probe-scale:0.5}") double probeScale,
+                            @Value("${tesseract.language-detection.min-hint-letters:200}") int minHintLetters,
+                            @Value("${tesseract.language-detection.mixed-share:0.02}") double mixedShare,
+                            @Value("${tesseract.language-detection.vietnamese-share:0.3}") double vietnameseShare,
+                            @Value("${tesseract.language-detection.combined-cost-factor:2.0}") double combinedCostFactor,
+                            MeterRegistry meterRegistry) {
+        this.engines = engines;
+        this.preprocessor = preprocessor;
+        this.ocrExecutor = ocrExecutor;
+        this.configuredLanguage = tesseractConfig.getLanguage();
+        List<String> languages = Arrays.asList(configuredLanguage.split("\\+"));
+        this.detection = detectionEnabled
+                && languages.contains(OcrLanguageSelector.ENGLISH)
+                && languages.contains(OcrLanguageSelector.VIETNAMESE);
+        this.selector = new OcrLanguageSelector(mixedShare, vietnameseShare);
+        this.probeLanguage = probeLanguage;
+        this.probeScale = Math.max(0.1, Math.min(1.0, probeScale));
+        this.minHintLetters = minHintLetters;
+        this.combinedCostFactor = combinedCostFactor;
+        this.meterRegistry = meterRegistry;
+        this.probeTimer = Timer.builder("ocr.language.probe.time")
+                .description("Low-resolution OCR of the first page for language detection")
+                .register(meterRegistry);
+        this.preprocessTimer = Timer.builder("ocr.preprocess.time")
+                .description("Binarization, deskew and margin crop per page")
+                .register(meterRegistry);
+        this.timeSaved = Counter.builder("ocr.language.time_saved")
+                .description("Estimated OCR time saved by single-language recognition")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<String> recognize(List<PageImage> pages, String textHint) {
+        if (pages.isEmpty()) {
+            return List.of();
+        }
+        try {
+            List<CompletableFuture<PageImage>> prepared = new ArrayList<>(pages.size());
+            for (PageImage page : pages) {
+                prepared.add(CompletableFuture.supplyAsync(() -> preprocess(page), ocrExecutor));
+            }
+
+            long probeNanos = System.nanoTime();
+            Selection selection = selectLanguage(prepared.get(0), textHint);
+            probeNanos = selection.source().equals(SOURCE_PROBE) ? System.nanoTime() - probeNanos : 0;
+            String language = selection.language();
+            countSelection(language, selection.source());
+
+            List<CompletableFuture<String>> futures = new ArrayList<>(pages.size());
+            long[] pageNanos = new long[pages.size()];
+            long[] pagePixels = new long[pages.size()];
+            for (int i = 0; i < pages.size(); i++) {
+                int index = i;
+                futures.add(prepared.get(i).thenApplyAsync(page -> {
+                    long start = System.nanoTime();
+                    String text = recognizePage(language, page);
+                    pageNanos[index] = System.nanoTime() - start;
+                    pagePixels[index] = page.pixelCount();
+                    return text;
+                }, ocrExecutor));
+            }
+            List<String> texts = new ArrayList<>(pages.size());
+            for (CompletableFuture<String> future : futures) {
+                texts.add(future.join());
+            }
+            recordPages(language, pagePixels, pageNanos, probeNanos);
+            return texts;
+        } catch (CompletionException e) {
+            throw ocrFailure(e.getCause() != null ? e.getCause() : e);
+        } catch (RuntimeException | LinkageError e) {
+            throw ocrFailure(e);
+        }
+    }
+
+    private record Selection(String language, String source) {
+    }
+
+    private PageImage preprocess(PageImage page) {
+        if (!preprocessor.isEnabled()) {
+            return page;
+        }
+        long start = System.nanoTime();
+        PageImage prepared = preprocessor.process(page);
+        preprocessTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return prepared;
+    }
+
+    private Selection selectLanguage(CompletableFuture<PageImage> firstPage, String textHint) {
+        if (!detection) {
+            return new Selection(configuredLanguage, SOURCE_CONFIGURED);
+        }
+        if (textHint != null && OcrLanguageSelector.letterCount(textHint) >= minHintLetters) {
+            return new Selection(selector.choose(OcrLanguageSelector.vietnameseWordShare(textHint)), SOURCE_TEXT_LAYER);
+        }
+        long start = System.nanoTime();
+        PageImage probe = OcrPreprocessor.downscale(firstPage.join(), (int) Math.round(1 / probeScale));
+        String probeText = recognizePage(probeLanguage, probe);
+        probeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return new Selection(selector.choose(OcrLanguageSelector.vietnameseWordShare(probeText)), SOURCE_PROBE);
+    }
+
+    private String recognizePage(String language, PageImage page) {
+        int width = page.width();
+        int height = page.height();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(width * height);
+        buffer.put(page.pixels(), 0, width * height).flip();
+
+        return engines.withEngine(language, handle -> {
+            TessAPI tess = engines.api();
+            tess.TessBaseAPISetImage(handle, buffer, width, height, 1, width);
+            tess.TessBaseAPISetSourceResolution(handle, page.dpi());
+            return text(tess, handle);
+        });
+    }
+
+    private static String text(TessAPI tess, TessBaseAPI handle) {
+        Pointer text = tess.TessBaseAPIGetUTF8Text(handle);
+        if (text == null) {
+            throw new IllegalStateException("Tesseract returned no text");
+        }
+        try {
+            return text.getString(0, StandardCharsets.UTF_8.name());
+        } finally {
+            tess.TessDeleteText(text);
+        }
+    }
+
+    private void countSelection(String language, String source) {
+        Counter.builder("ocr.language.selected")
+                .description("OCR language chosen per document")
+                .tag("language", language)
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void recordPages(String language, long[] pagePixels, long[] pageNanos, long probeNanos) {
+        Timer pageTimer = Timer.builder("ocr.page.time")
+                .description("Tesseract time per page")
+                .tag("language", language)
+                .register(meterRegistry);
+        boolean combined = language.equals(OcrLanguageSelector.BOTH);
+        double savedNanos = -probeNanos;
+        for (int i = 0; i < pageNanos.length; i++) {
+            pageTimer.record(pageNanos[i], TimeUnit.NANOSECONDS);
+            double megapixels = Math.max(1e-3, pagePixels[i] / 1e6);
+            double perMegapixel = pageNanos[i] / megapixels;
+            if (combined) {
+                double previous = combinedNanosPerMegapixel;
+                combinedNanosPerMegapixel = previous == 0 ? perMegapixel : previous + SMOOTHING * (perMegapixel - previous);
+            } else if (detection) {
+                double baseline = combinedNanosPerMegapixel > 0
+                        ? combinedNanosPerMegapixel * megapixels
+                        : pageNanos[i] * combinedCostFactor;
+                savedNanos += baseline - pageNanos[i];
+            }
+        }
+        if (!combined && detection && savedNanos > 0) {
+            timeSaved.increment(savedNanos / 1e9);
+        }
+    }
+
+    private static ParsingException ocrFailure(Throwable cause) {
+        // Missing native library or traineddata: retrying on this pod will not help
+        boolean retryable = !(cause instanceof LinkageError || cause instanceof IllegalStateException);
+        return new ParsingException("OCR failed: " + cause.getMessage(), "OCR_FAILED", retryable, cause);
+    }
+}
@@ -0,0 +1,77 @@
+package com.talentflow.cvparser.parsing.infrastructure.repository;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * One bulk import of a bucket prefix with its checkpoint.
+ *
+ * Written only by the CV parser; the table is created by the API Gateway's Prisma migrations
+ * like the rest of the schema.
+ */
+@Entity
+@Table(name = "bulk_imports")
+@DynamicUpdate
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkImportEntity {
+
+    @Id
+    private String id;
+
+    @Column(nullable = false, updatable = false)
+    private String bucket;
+
+    @Column(nullable = false, updatable = false)
+    private String prefix;
+
+    @Column(nullable = false)
+    private String state;
+
+    @Column(name = "checkpoint_key")
+    private String checkpointKey;
+
+    private int listed;
+
+    private int processed;
+
+    private int failed;
+
+    private int skipped;
+
+    @Column(name = "last_error", columnDefinition = "text")
+    private String lastError;
+
+    private String owner;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "started_at", nullable = false, updatable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // Prisma's @updatedAt is client-side, so writers outside Prisma must maintain it
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = LocalDateTime.now(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,74 @@
+package com.talentflow.cvparser.parsing.infrastructure.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for bulk import runs.
+ *
+ * The lease queries are single conditional updates, so two replicas can never both own a run.
+ */
+@Repository
+public interface BulkImportRepository extends JpaRepository<BulkImportEntity, String> {
+
+    Optional<BulkImportEntity> findFirstByBucketAndPrefixAndState(String bucket, String prefix, String state);
+
+    /**
+     * Running imports whose owner stopped renewing its lease (or released it).
+     */
+    @Query("select i.id from BulkImportEntity i where i.state = 'RUNNING'"
+            + " and (i.heartbeatAt is null or i.heartbeatAt < :staleBefore)")
+    List<String> findStalled(@Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * Take over a stalled running import; 1 if claimed.
+     */
+    @Modifying
+    @Query("update BulkImportEntity i set i.owner = :owner, i.heartbeatAt = :now, i.updatedAt = :now"
+            + " where i.id = :id and i.state = 'RUNNING'"
+            + " and (i.heartbeatAt is null or i.heartbeatAt < :staleBefore)")
+    int claim(@Param("id") String id, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query("update BulkImportEntity i set i.heartbeatAt = :now where i.id in :ids and i.owner = :owner")
+    int renew(@Param("ids") Collection<String> ids, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    /**
+     * Give up the lease so another replica resumes the import at once.
+     */
+    @Modifying
+    @Query("update BulkImportEntity i set i.heartbeatAt = null where i.id = :id and i.owner = :owner")
+    int release(@Param("id") String id, @Param("owner") String owner);
+
+    /**
+     * Record a page's checkpoint and renew the lease; 1 if the caller still owns the running import.
+     */
+    @Modifying
+    @Query("update BulkImportEntity i set i.checkpointKey = :checkpointKey, i.listed = :listed,"
+            + " i.processed = :processed, i.failed = :failed, i.skipped = :skipped, i.lastError = :lastError,"
+            + " i.heartbeatAt = :now, i.updatedAt = :now"
+            + " where i.id = :id and i.owner = :owner and i.state = 'RUNNING'")
+    int checkpoint(@Param("id") String id, @Param("owner") String owner,
+                   @Param("checkpointKey") String checkpointKey, @Param("listed") int listed,
+                   @Param("processed") int processed, @Param("failed") int failed, @Param("skipped") int skipped,
+                   @Param("lastError") String lastError, @Param("now") LocalDateTime now);
+
+    /**
+     * End a run; 1 if the caller still owned it. A null lastError keeps the stored one.
+     */
+    @Modifying
+    @Query("update BulkImportEntity i set i.state = :state, i.finishedAt = :now, i.heartbeatAt = null,"
+            + " i.lastError = coalesce(:lastError, i.lastError), i.updatedAt = :now"
+            + " where i.id = :id and i.owner = :owner and i.state = 'RUNNING'")
+    int finish(@Param("id") String id, @Param("owner") String owner, @Param("state") String state,
+               @Param("lastError") String lastError, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,53 @@
+package com.talentflow.cvparser.scoring.adapter.in;
+
+import com.rabbitmq.client.Channel;
+import com.talentflow.cvparser.scoring.application.BulkRescoringUseCase;
+import com.talentflow.cvparser.shared.config.RabbitMqConfig;
+import com.talentflow.cvparser.shared.dto.JobRequirementsUpdatedEvent;
+import com.talentflow.cvparser.shared.exception.ScoringException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Starts bulk rescoring when a job's requirements change.
+ *
+ * The message is acked as soon as the run is started (progress is tracked by
+ * {@link BulkRescoringUseCase}); invalid events and unknown jobs are logged and dropped,
+ * since a trigger can always be re-sent or issued through the rescoring endpoint.
+ */
+@Slf4j
+@Component
+public class JobRequirementsUpdatedConsumer {
+
+    private final BulkRescoringUseCase rescoringUseCase;
+    private final Validator validator;
+
+    public JobRequirementsUpdatedConsumer(BulkRescoringUseCase rescoringUseCase, Validator validator) {
+        this.rescoringUseCase = rescoringUseCase;
+        this.validator = validator;
+    }
+
+    @RabbitListener(queues = RabbitMqConfig.RESCORING_QUEUE)
+    public void onJobRequirementsUpdated(JobRequirementsUpdatedEvent event, Channel channel,
+                                         @Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag) throws IOException {
+        Set<ConstraintViolation<JobRequirementsUpdatedEvent>> violations = validator.validate(event);
+        if (!violations.isEmpty()) {
+            log.warn("Ignoring invalid job.requirements.updated event: {}", violations.iterator().next().getMessage());
+        } else {
+            try {
+                rescoringUseCase.start(event.getJobId());
+            } catch (ScoringException e) {
+                log.warn("Rescoring not started for job {}: {}", event.getJobId(), e.getMessage());
+            }
+        }
+        channel.basicAck(deliveryTag, false);
+    }
+}
@@ -0,0 +1,53 @@
+package com.talentflow.cvparser.scoring.adapter.in;
+
+import com.talentflow.cvparser.scoring.application.BulkRescoringUseCase;
+import com.talentflow.cvparser.scoring.application.RescoringProgress;
+import com.talentflow.cvparser.shared.exception.ScoringException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.regex.Pattern;
+
+/**
+ * Internal endpoint for bulk rescoring (called by the API Gateway, not exposed publicly).
+ *
+ * POST /internal/rescoring/jobs/{jobId} starts a run (202), GET returns its progress.
+ */
+@RestController
+@RequestMapping("/internal/rescoring/jobs")
+public class RescoringController {
+
+    private static final Pattern UUID_PATTERN =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    private final BulkRescoringUseCase rescoringUseCase;
+
+    public RescoringController(BulkRescoringUseCase rescoringUseCase) {
+        this.rescoringUseCase = rescoringUseCase;
+    }
+
+    @PostMapping("/{jobId}")
+    public Mono<ResponseEntity<RescoringProgress>> start(@PathVariable String jobId) {
+        if (!UUID_PATTERN.matcher(jobId).matches()) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        // start() reads the job and counts applications with blocking JPA calls
+        return Mono.fromCallable(() -> ResponseEntity.status(HttpStatus.ACCEPTED).body(rescoringUseCase.start(jobId)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(ScoringException.class, e -> Mono.just(ResponseEntity.notFound().build()));
+    }
+
+    @GetMapping("/{jobId}")
+    public Mono<ResponseEntity<RescoringProgress>> progress(@PathVariable String jobId) {
+        return Mono.just(rescoringUseCase.progress(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+}
@@ -0,0 +1,239 @@
+package com.talentflow.cvparser.scoring.adapter.out;
+
+import com.talentflow.cvparser.scoring.domain.model.ApplicationRef;
+import com.talentflow.cvparser.scoring.domain.model.JobRequirements;
+import com.talentflow.cvparser.scoring.domain.model.ScoringInput;
+import com.talentflow.cvparser.scoring.domain.model.ScoringResult;
+import com.talentflow.cvparser.scoring.infrastructure.repository.ApplicationEntity;
+import com.talentflow.cvparser.scoring.infrastructure.repository.ApplicationRepository;
+import com.talentflow.cvparser.scoring.infrastructure.repository.CandidateEntity;
+import com.talentflow.cvparser.scoring.infrastructure.repository.CandidateRepository;
+import com.talentflow.cvparser.scoring.infrastructure.repository.JobRepository;
+import com.talentflow.cvparser.shared.dto.ParsedCvData;
+import com.talentflow.cvparser.shared.exception.ScoringException;
+import com.talentflow.cvparser.shared.util.ResumeTextCodec;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Persistence adapter for parser results.
+ *
+ * Keeps transactions short (one row per call) and hides storage details such as
+ * resume text compression from the pipeline.
+ */
+@Component
+public class DatabaseAdapter {
+
+    private final CandidateRepository candidateRepository;
+    private final ApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final ResumeTextCodec resumeTextCodec;
+
+    public DatabaseAdapter(CandidateRepository candidateRepository,
+                           ApplicationRepository applicationRepository,
+                           JobRepository jobRepository,
+                           ResumeTextCodec resumeTextCodec) {
+        this.candidateRepository = candidateRepository;
+        this.applicationRepository = applicationRepository;
+        this.jobRepository = jobRepository;
+        this.resumeTextCodec = resumeTextCodec;
+    }
+
+    /**
+     * Store extracted resume text, compressing it when above the configured threshold.
+     *
+     * @param candidateId Candidate UUID
+     * @param resumeText  Extracted plain text
+     * @throws ScoringException if the candidate does not exist
+     */
+    @Transactional
+    public void saveResumeText(String candidateId, String resumeText) {
+        CandidateEntity candidate = candidateRepository.findById(candidateId)
+                .orElseThrow(() -> new ScoringException(
+                        "Candidate not found: " + candidateId, "CANDIDATE_NOT_FOUND", false));
+
+        if (resumeTextCodec.shouldCompress(resumeText)) {
+            candidate.setResumeText(null);
+            candidate.setResumeTextCompressed(resumeTextCodec.compress(resumeText));
+            candidate.setResumeTextEncoding(ResumeTextCodec.ENCODING);
+        } else {
+            candidate.setResumeText(resumeText);
+            candidate.setResumeTextCompressed(null);
+            candidate.setResumeTextEncoding(null);
+        }
+    }
+
+    /**
+     * Load resume text, decompressing transparently.
+     *
+     * @param candidateId Candidate UUID
+     * @return Plain text, or empty if the candidate or text does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> loadResumeText(String candidateId) {
+        return candidateRepository.findById(candidateId).map(this::resumeTextOf);
+    }
+
+    /**
+     * Store structured CV data so the CV can be rescored without re-parsing.
+     *
+     * @throws ScoringException if the candidate does not exist
+     */
+    @Transactional
+    public void saveParsedData(String candidateId, ParsedCvData parsedData) {
+        CandidateEntity candidate = candidateRepository.findById(candidateId)
+                .orElseThrow(() -> new ScoringException(
+                        "Candidate not found: " + candidateId, "CANDIDATE_NOT_FOUND", false));
+        candidate.setParsedData(parsedData);
+    }
+
+    /**
+     * Store contact fields ahead of the full extraction result, keeping any other stored data.
+     *
+     * @param contacts Field name (fullName, email, phone, linkedIn) to value; a null value clears the field
+     * @throws ScoringException if the candidate does not exist
+     */
+    @Transactional
+    public void saveContactFields(String candidateId, Map<String, String> contacts) {
+        CandidateEntity candidate = candidateRepository.findById(candidateId)
+                .orElseThrow(() -> new ScoringException(
+                        "Candidate not found: " + candidateId, "CANDIDATE_NOT_FOUND", false));
+        ParsedCvData stored = candidate.getParsedData();
+        ParsedCvData merged = stored == null ? new ParsedCvData() : ParsedCvData.builder()
+                .fullName(stored.getFullName())
+                .email(stored.getEmail())
+                .phone(stored.getPhone())
+                .linkedIn(stored.getLinkedIn())
+                .skills(stored.getSkills())
+                .experience(stored.getExperience())
+                .education(stored.getEducation())
+                .summary(stored.getSummary())
+                .build();
+        contacts.forEach((field, value) -> {
+            switch (field) {
+                case "fullName" -> merged.setFullName(value);
+                case "email" -> merged.setEmail(value);
+                case "phone" -> merged.setPhone(value);
+                case "linkedIn" -> merged.setLinkedIn(value);
+                default -> { }
+            }
+        });
+        // A new instance so the JSON column is seen as dirty
+        candidate.setParsedData(merged);
+    }
+
+    /**
+     * Load the candidate's stored structured CV data.
+     *
+     * @return Parsed data, or empty if the candidate or data does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<ParsedCvData> loadParsedData(String candidateId) {
+        return candidateRepository.findById(candidateId).map(CandidateEntity::getParsedData);
+    }
+
+    /**
+     * Load what a job's CVs are scored against.
+     */
+    @Transactional(readOnly = true)
+    public Optional<JobRequirements> findJobRequirements(String jobId) {
+        return jobRepository.findById(jobId).map(job -> JobRequirements.builder()
+                .jobId(job.getId())
+                .title(job.getTitle())
+                .description(job.getDescription())
+                .requirements(job.getRequirements())
+                .build());
+    }
+
+    /**
+     * Number of live applications for a job.
+     */
+    @Transactional(readOnly = true)
+    public long countApplications(String jobId) {
+        return applicationRepository.countByJobIdAndDeletedAtIsNull(jobId);
+    }
+
+    /**
+     * Load one keyset page of stored scoring inputs for a job.
+     * Parsed data is null for candidates parsed before it was stored.
+     *
+     * @param jobId              Job UUID
+     * @param afterApplicationId Last application id of the previous page ("" for the first page)
+     * @param pageSize           Maximum applications to return
+     * @return Inputs ordered by application id; empty when done
+     */
+    @Transactional(readOnly = true)
+    public List<ScoringInput> loadScoringPage(String jobId, String afterApplicationId, int pageSize) {
+        List<ApplicationEntity> applications = applicationRepository
+                .findByJobIdAndDeletedAtIsNullAndIdGreaterThanOrderByIdAsc(jobId, afterApplicationId, Limit.of(pageSize));
+        Map<String, CandidateEntity> candidates = candidateRepository
+                .findAllById(applications.stream().map(ApplicationEntity::getCandidateId).toList())
+                .stream()
+                .collect(Collectors.toMap(CandidateEntity::getId, Function.identity()));
+
+        return applications.stream()
+                .map(application -> {
+                    CandidateEntity candidate = candidates.get(application.getCandidateId());
+                    return ScoringInput.builder()
+                            .applicationId(application.getId())
+                            .candidateId(application.getCandidateId())
+                            .jobId(application.getJobId())
+                            .resumeText(candidate != null ? resumeTextOf(candidate) : null)
+                            .parsedData(candidate != null ? candidate.getParsedData() : null)
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * Live applications for a set of CV object keys; keys without an application are absent.
+     * A file shared by several applications (same CV, several jobs) maps to each of them.
+     */
+    @Transactional(readOnly = true)
+    public List<ApplicationRef> findApplicationsByFileKeys(Collection<String> fileKeys) {
+        if (fileKeys.isEmpty()) {
+            return List.of();
+        }
+        return applicationRepository.findByCvFileKeyInAndDeletedAtIsNull(fileKeys).stream()
+                .map(application -> ApplicationRef.builder()
+                        .applicationId(application.getId())
+                        .candidateId(application.getCandidateId())
+                        .jobId(application.getJobId())
+                        .fileKey(application.getCvFileKey())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Store scores for a batch of applications in one transaction.
+     *
+     * @param results Scoring result by application id
+     */
+    @Transactional
+    public void saveScores(Map<String, ScoringResult> results) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        for (ApplicationEntity application : applicationRepository.findAllById(results.keySet())) {
+            ScoringResult result = results.get(application.getId());
+            application.setAiScore(result.getScore());
+            application.setScoringReasoning(result.getReasoning());
+            application.setScoredAt(now);
+        }
+    }
+
+    private String resumeTextOf(CandidateEntity candidate) {
+        if (candidate.getResumeTextCompressed() != null) {
+            return resumeTextCodec.decompress(candidate.getResumeTextCompressed(), candidate.getResumeTextEncoding());
+        }
+        return candidate.getResumeText();
+    }
+}
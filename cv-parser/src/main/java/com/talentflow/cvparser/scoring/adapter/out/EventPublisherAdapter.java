@@ -0,0 +1,144 @@
+package com.talentflow.cvparser.scoring.adapter.out;
+
+import com.talentflow.cvparser.shared.config.RabbitMqConfig;
+import com.talentflow.cvparser.shared.dto.CvExtractedEvent;
+import com.talentflow.cvparser.shared.dto.CvParsedEvent;
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Publishes pipeline results to talentflow.events.
+ *
+ * A run publishes cv.extracted as soon as parsed data exists (messaging.early-extracted.enabled)
+ * and cv.parsed once scored. Both are identified by the upload they belong to, not by when they
+ * happen to be sent:
+ * - version = uploadedAt (epoch milliseconds) * 10 + phase (1 cv.extracted, 2 cv.parsed,
+ *   3 rescoring). Consumers keep the highest version per application, so cv.parsed outranks the
+ *   cv.extracted of its upload on any replica and whatever the delivery order, and every event of
+ *   a newer upload outranks those of an older one;
+ * - message-id = hash of routing key, application, the cv.uploaded delivery's message-id,
+ *   uploadedAt and phase. A redelivered upload, a retry, or a parked CV completed later on
+ *   another replica publishes the same message-id and version, which consumers dedupe.
+ * Rescoring has no upload: its cv.parsed is versioned from the time it is published, so it outranks
+ * the events of every upload made before it. That includes an upload still pending (parked or
+ * waiting for a retry) while the rescore runs; its later cv.parsed is dropped by consumers, and the
+ * job needs another rescore to publish the score it stored.
+ * The early event is best effort: if it cannot be published the run goes on and cv.parsed,
+ * which carries the same parsed data, is the only event.
+ *
+ * Metric: events.extracted.lead_time, how much earlier cv.extracted went out than cv.parsed.
+ */
+@Slf4j
+@Component
+public class EventPublisherAdapter {
+
+    static final String VERSION_HEADER = "x-event-version";
+
+    static final int PHASE_EXTRACTED = 1;
+    static final int PHASE_PARSED = 2;
+    static final int PHASE_RESCORED = 3;
+    private static final int PHASES = 10;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final boolean earlyExtracted;
+    private final Timer leadTime;
+
+    public EventPublisherAdapter(RabbitTemplate rabbitTemplate,
+                                 @Value("${messaging.early-extracted.enabled:true}") boolean earlyExtracted,
+                                 MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.earlyExtracted = earlyExtracted;
+        this.leadTime = Timer.builder("events.extracted.lead_time")
+                .description("Time between the cv.extracted and cv.parsed events of a run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publish the cv.extracted event of an upload; the version is assigned here.
+     *
+     * @param upload          The upload being processed
+     * @param uploadMessageId Message-id of the cv.uploaded delivery (null if it had none)
+     * @return When the event was published, to pass to {@link #publishParsed}; null if early
+     *         events are disabled or the publish failed
+     */
+    public Instant publishExtracted(CvExtractedEvent event, CvUploadedEvent upload, String uploadMessageId) {
+        if (!earlyExtracted) {
+            return null;
+        }
+        long version = version(upload.getUploadedAt(), PHASE_EXTRACTED);
+        event.setVersion(version);
+        try {
+            send(RabbitMqConfig.ROUTING_KEY_CV_EXTRACTED, event, version,
+                    messageId(RabbitMqConfig.ROUTING_KEY_CV_EXTRACTED, upload, uploadMessageId, PHASE_EXTRACTED));
+            return Instant.now();
+        } catch (AmqpException e) {
+            log.warn("cv.extracted not published for application {}: {}", event.getApplicationId(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Publish the cv.parsed event of an upload.
+     *
+     * @param upload          The upload being processed
+     * @param uploadMessageId Message-id of the cv.uploaded delivery (null if it had none)
+     * @param extractedAt     Returned by {@link #publishExtracted}, or null
+     */
+    public void publishParsed(CvParsedEvent event, CvUploadedEvent upload, String uploadMessageId,
+                              Instant extractedAt) {
+        long version = version(upload.getUploadedAt(), PHASE_PARSED);
+        event.setVersion(version);
+        send(RabbitMqConfig.ROUTING_KEY_CV_PARSED, event, version,
+                messageId(RabbitMqConfig.ROUTING_KEY_CV_PARSED, upload, uploadMessageId, PHASE_PARSED));
+        if (extractedAt != null) {
+            leadTime.record(Duration.between(extractedAt, Instant.now()));
+        }
+    }
+
+    /**
+     * Publish a cv.parsed event for a rescored application.
+     * Versioned from now: see the class comment for how it orders against pending uploads.
+     */
+    public void publishParsed(CvParsedEvent event) {
+        long version = version(Instant.now(), PHASE_RESCORED);
+        event.setVersion(version);
+        send(RabbitMqConfig.ROUTING_KEY_CV_PARSED, event, version,
+                uuid(RabbitMqConfig.ROUTING_KEY_CV_PARSED + ":" + event.getApplicationId() + ":" + version));
+    }
+
+    static long version(Instant basis, int phase) {
+        return basis.toEpochMilli() * PHASES + phase;
+    }
+
+    static String messageId(String routingKey, CvUploadedEvent upload, String uploadMessageId, int phase) {
+        return uuid(routingKey + ":" + upload.getApplicationId() + ":" + uploadMessageId + ":"
+                + upload.getUploadedAt().toEpochMilli() + ":" + phase);
+    }
+
+    private static String uuid(String name) {
+        return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private void send(String routingKey, Object event, long version, String messageId) {
+        MessagePostProcessor identify = message -> {
+            message.getMessageProperties().setMessageId(messageId);
+            message.getMessageProperties().setHeader(VERSION_HEADER, version);
+            message.getMessageProperties().setTimestamp(Date.from(Instant.ofEpochMilli(version / PHASES)));
+            return message;
+        };
+        rabbitTemplate.convertAndSend(RabbitMqConfig.EXCHANGE_NAME, routingKey, event, identify);
+    }
+}
@@ -0,0 +1,200 @@
+package com.talentflow.cvparser.scoring.application;
+
+import com.talentflow.cvparser.scoring.adapter.out.DatabaseAdapter;
+import com.talentflow.cvparser.scoring.adapter.out.EventPublisherAdapter;
+import com.talentflow.cvparser.scoring.domain.model.JobRequirements;
+import com.talentflow.cvparser.scoring.domain.model.ScoringInput;
+import com.talentflow.cvparser.scoring.domain.model.ScoringResult;
+import com.talentflow.cvparser.scoring.domain.port.ScoringPort;
+import com.talentflow.cvparser.shared.dto.CvParsedEvent;
+import com.talentflow.cvparser.shared.exception.ScoringException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Re-runs only the scoring stage for every application to a job, e.g. after its requirements change.
+ *
+ * Stored resume text and parsed data are read in keyset pages (rescoring.page-size), each page is
+ * scored with bounded concurrency (rescoring.concurrency, on top of the shared Gemini limiter),
+ * scores are written in one transaction per page and a cv.parsed event is published per application.
+ * Only one page is held in memory at a time. One run per job: triggering a running job returns its progress
+ * and queues one more run, which starts with freshly loaded requirements when the current one finishes.
+ */
+@Service
+public class BulkRescoringUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkRescoringUseCase.class);
+
+    private final DatabaseAdapter databaseAdapter;
+    private final ScoringPort scoringPort;
+    private final EventPublisherAdapter eventPublisher;
+    private final int pageSize;
+    private final int concurrency;
+    private final Duration retention;
+
+    private final Map<String, RescoringProgress> runs = new ConcurrentHashMap<>();
+    private final Counter scoredCounter;
+    private final Counter failedCounter;
+    private final Counter skippedCounter;
+
+    public BulkRescoringUseCase(DatabaseAdapter databaseAdapter,
+                                ScoringPort scoringPort,
+                                EventPublisherAdapter eventPublisher,
+                                @Value("${rescoring.page-size:100}") int pageSize,
+                                @Value("${rescoring.concurrency:8}") int concurrency,
+                                @Value("${rescoring.retention:1h}") Duration retention,
+                                MeterRegistry meterRegistry) {
+        this.databaseAdapter = databaseAdapter;
+        this.scoringPort = scoringPort;
+        this.eventPublisher = eventPublisher;
+        this.pageSize = pageSize;
+        this.concurrency = concurrency;
+        this.retention = retention;
+        this.scoredCounter = outcomeCounter(meterRegistry, "scored");
+        this.failedCounter = outcomeCounter(meterRegistry, "failed");
+        this.skippedCounter = outcomeCounter(meterRegistry, "skipped");
+    }
+
+    /**
+     * Start rescoring a job in the background.
+     *
+     * @return Progress of the new run, or of the run already in progress for this job (which then reruns)
+     * @throws ScoringException JOB_NOT_FOUND if the job does not exist
+     */
+    public synchronized RescoringProgress start(String jobId) {
+        RescoringProgress existing = runs.get(jobId);
+        if (existing != null && existing.isRunning()) {
+            // The running pass may already be scoring against outdated requirements
+            existing.requestRerun();
+            return existing;
+        }
+        purgeFinishedRuns();
+
+        JobRequirements job = databaseAdapter.findJobRequirements(jobId)
+                .orElseThrow(() -> new ScoringException("Job not found: " + jobId, "JOB_NOT_FOUND", false));
+        RescoringProgress progress = new RescoringProgress(jobId, databaseAdapter.countApplications(jobId));
+        runs.put(jobId, progress);
+
+        log.info("Rescoring {} applications for job {}", progress.getTotal(), jobId);
+        pages(jobId)
+                .concatMap(page -> scorePage(job, page, progress), 1)
+                .then()
+                .subscribe(
+                        null,
+                        e -> {
+                            log.error("Rescoring job {} aborted after {} applications", jobId, progress.getScored(), e);
+                            finish(progress, RescoringProgress.State.FAILED);
+                        },
+                        () -> {
+                            log.info("Rescored job {}: {} scored, {} failed, {} skipped ({} /s)", jobId,
+                                    progress.getScored(), progress.getFailed(), progress.getSkipped(),
+                                    String.format("%.1f", progress.getThroughputPerSecond()));
+                            finish(progress, RescoringProgress.State.COMPLETED);
+                        });
+        return progress;
+    }
+
+    /**
+     * Under the same lock as start(), so a trigger either sees the run still running and
+     * requests a rerun, or sees it finished and starts a new run itself.
+     */
+    private synchronized void finish(RescoringProgress progress, RescoringProgress.State state) {
+        progress.finish(state);
+        if (!progress.isRerunRequested()) {
+            return;
+        }
+        log.info("Job {} was triggered again while rescoring, starting another run", progress.getJobId());
+        try {
+            start(progress.getJobId());
+        } catch (RuntimeException e) {
+            log.error("Rerun of rescoring job {} not started", progress.getJobId(), e);
+        }
+    }
+
+    public Optional<RescoringProgress> progress(String jobId) {
+        return Optional.ofNullable(runs.get(jobId));
+    }
+
+    /**
+     * Lazily generated keyset pages; blocking reads run on boundedElastic, one page per request.
+     */
+    private Flux<List<ScoringInput>> pages(String jobId) {
+        return Flux.<List<ScoringInput>, String>generate(() -> "", (afterId, sink) -> {
+                    List<ScoringInput> page = databaseAdapter.loadScoringPage(jobId, afterId, pageSize);
+                    if (page.isEmpty()) {
+                        sink.complete();
+                        return afterId;
+                    }
+                    sink.next(page);
+                    return page.get(page.size() - 1).getApplicationId();
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<Void> scorePage(JobRequirements job, List<ScoringInput> page, RescoringProgress progress) {
+        List<ScoringInput> scorable = page.stream().filter(input -> input.getParsedData() != null).toList();
+        int skipped = page.size() - scorable.size();
+        progress.addSkipped(skipped);
+        skippedCounter.increment(skipped);
+
+        return Flux.fromIterable(scorable)
+                .flatMap(input -> scoringPort.score(input.getParsedData(), input.getResumeText(), job)
+                        .map(result -> Map.entry(input, result))
+                        .onErrorResume(e -> {
+                            log.warn("Rescoring application {} failed: {}", input.getApplicationId(), e.getMessage());
+                            progress.addFailed(1);
+                            failedCounter.increment();
+                            return Mono.empty();
+                        }), concurrency)
+                .collectList()
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(scored -> {
+                    Map<String, ScoringResult> results = new LinkedHashMap<>();
+                    scored.forEach(entry -> results.put(entry.getKey().getApplicationId(), entry.getValue()));
+                    databaseAdapter.saveScores(results);
+                    scored.forEach(entry -> eventPublisher.publishParsed(parsedEvent(entry.getKey(), entry.getValue())));
+                    progress.addScored(scored.size());
+                    scoredCounter.increment(scored.size());
+                })
+                .then();
+    }
+
+    private static CvParsedEvent parsedEvent(ScoringInput input, ScoringResult result) {
+        return CvParsedEvent.builder()
+                .candidateId(input.getCandidateId())
+                .applicationId(input.getApplicationId())
+                .jobId(input.getJobId())
+                .aiScore(result.getScore())
+                .parsedData(input.getParsedData())
+                .scoringReasoning(result.getReasoning())
+                .parsedAt(Instant.now())
+                .build();
+    }
+
+    private void purgeFinishedRuns() {
+        Instant cutoff = Instant.now().minus(retention);
+        runs.values().removeIf(run -> !run.isRunning() && run.getFinishedAt().isBefore(cutoff));
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("rescoring.applications")
+                .description("Applications processed by bulk rescoring")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
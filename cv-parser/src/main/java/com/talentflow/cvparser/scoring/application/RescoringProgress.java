@@ -0,0 +1,108 @@
+package com.talentflow.cvparser.scoring.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live progress of one bulk rescoring run; serialized as-is by the rescoring endpoint.
+ */
+public class RescoringProgress {
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String jobId;
+    private final long total;
+    private final Instant startedAt = Instant.now();
+    private final AtomicInteger scored = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private volatile State state = State.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile boolean rerunRequested;
+
+    RescoringProgress(String jobId, long total) {
+        this.jobId = jobId;
+        this.total = total;
+    }
+
+    void addScored(int count) {
+        scored.addAndGet(count);
+    }
+
+    void addFailed(int count) {
+        failed.addAndGet(count);
+    }
+
+    void addSkipped(int count) {
+        skipped.addAndGet(count);
+    }
+
+    void requestRerun() {
+        rerunRequested = true;
+    }
+
+    void finish(State finalState) {
+        finishedAt = Instant.now();
+        state = finalState;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public int getScored() {
+        return scored.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Applications without stored parsed data (parsed before it was persisted).
+     */
+    public int getSkipped() {
+        return skipped.get();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * Scored applications per second since the run started.
+     */
+    public double getThroughputPerSecond() {
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        double seconds = Math.max(0.001, Duration.between(startedAt, end).toMillis() / 1000.0);
+        return scored.get() / seconds;
+    }
+
+    /**
+     * Triggered again while running; a fresh run starts once this one finishes.
+     */
+    public boolean isRerunRequested() {
+        return rerunRequested;
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+}
@@ -0,0 +1,17 @@
+package com.talentflow.cvparser.scoring.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Identifiers of one application and the CV object it was submitted with.
+ */
+@Value
+@Builder
+public class ApplicationRef {
+
+    String applicationId;
+    String candidateId;
+    String jobId;
+    String fileKey;
+}
@@ -0,0 +1,21 @@
+package com.talentflow.cvparser.scoring.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * What a CV is scored against: the job posting's title, description and requirements.
+ */
+@Value
+@Builder
+public class JobRequirements {
+
+    String jobId;
+    String title;
+    String description;
+
+    /**
+     * Requirements JSON as stored on the job (free-form).
+     */
+    String requirements;
+}
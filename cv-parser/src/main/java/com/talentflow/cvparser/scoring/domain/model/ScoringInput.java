@@ -0,0 +1,19 @@
+package com.talentflow.cvparser.scoring.domain.model;
+
+import com.talentflow.cvparser.shared.dto.ParsedCvData;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Stored data needed to (re)score one application without re-parsing the CV.
+ */
+@Value
+@Builder
+public class ScoringInput {
+
+    String applicationId;
+    String candidateId;
+    String jobId;
+    String resumeText;
+    ParsedCvData parsedData;
+}
@@ -0,0 +1,22 @@
+package com.talentflow.cvparser.scoring.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of scoring one CV against one job.
+ */
+@Value
+@Builder
+public class ScoringResult {
+
+    /**
+     * Match score, 0-100.
+     */
+    int score;
+
+    /**
+     * Short explanation shown to recruiters.
+     */
+    String reasoning;
+}
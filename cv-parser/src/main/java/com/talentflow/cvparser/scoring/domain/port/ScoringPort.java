@@ -0,0 +1,30 @@
+package com.talentflow.cvparser.scoring.domain.port;
+
+import com.talentflow.cvparser.extraction.domain.model.RoutingContext;
+import com.talentflow.cvparser.scoring.domain.model.JobRequirements;
+import com.talentflow.cvparser.scoring.domain.model.ScoringResult;
+import com.talentflow.cvparser.shared.dto.ParsedCvData;
+import reactor.core.publisher.Mono;
+
+/**
+ * Scoring stage: rates a parsed CV against a job's requirements.
+ */
+public interface ScoringPort {
+
+    /**
+     * @param parsedData Structured CV data
+     * @param resumeText Extracted plain text (may be null)
+     * @param job        Job to score against
+     * @return Score and reasoning; errors are {@link com.talentflow.cvparser.shared.exception.ScoringException}
+     */
+    default Mono<ScoringResult> score(ParsedCvData parsedData, String resumeText, JobRequirements job) {
+        return score(parsedData, resumeText, job, null);
+    }
+
+    /**
+     * Score with a routing context, so the model can be chosen per CV.
+     *
+     * @param context Model routing input (null for the default model)
+     */
+    Mono<ScoringResult> score(ParsedCvData parsedData, String resumeText, JobRequirements job, RoutingContext context);
+}
@@ -0,0 +1,61 @@
+package com.talentflow.cvparser.scoring.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentflow.cvparser.extraction.domain.model.RoutingContext;
+import com.talentflow.cvparser.extraction.infrastructure.GeminiLlmClient;
+import com.talentflow.cvparser.scoring.domain.model.JobRequirements;
+import com.talentflow.cvparser.scoring.domain.model.ScoringResult;
+import com.talentflow.cvparser.scoring.domain.port.ScoringPort;
+import com.talentflow.cvparser.shared.dto.ParsedCvData;
+import com.talentflow.cvparser.shared.exception.ExtractionException;
+import com.talentflow.cvparser.shared.exception.ScoringException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Gemini implementation of the scoring stage.
+ *
+ * Shares {@link GeminiLlmClient} (circuit breaker, adaptive limiter, token budget) with extraction.
+ */
+@Component
+public class GeminiScoringClient implements ScoringPort {
+
+    private final GeminiLlmClient llmClient;
+    private final ScoringPromptTemplate promptTemplate;
+    private final ObjectMapper objectMapper;
+
+    public GeminiScoringClient(GeminiLlmClient llmClient, ScoringPromptTemplate promptTemplate, ObjectMapper objectMapper) {
+        this.llmClient = llmClient;
+        this.promptTemplate = promptTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<ScoringResult> score(ParsedCvData parsedData, String resumeText, JobRequirements job,
+                                     RoutingContext context) {
+        return Mono.fromSupplier(() -> promptTemplate.userPrompt(parsedData, resumeText, job))
+                .flatMap(userPrompt -> llmClient.generate(promptTemplate.systemPrompt(), userPrompt, context))
+                .map(this::parse)
+                .onErrorMap(ExtractionException.class, e -> new ScoringException(
+                        "Scoring call failed: " + e.getMessage(), e.getErrorCode(), e.isRetryable(), e));
+    }
+
+    private ScoringResult parse(String response) {
+        try {
+            JsonNode json = objectMapper.readTree(response);
+            JsonNode score = json.path("score");
+            if (!score.canConvertToInt() || score.asInt() < 0 || score.asInt() > 100) {
+                throw new ScoringException("Score missing or out of range", "LLM_SCHEMA_VIOLATION", false);
+            }
+            return ScoringResult.builder()
+                    .score(score.asInt())
+                    .reasoning(json.path("reasoning").asText(null))
+                    .build();
+        } catch (JsonProcessingException e) {
+            // Truncated or malformed output usually succeeds on a second try
+            throw new ScoringException("Scoring response is not valid JSON", "LLM_INVALID_RESPONSE", true, e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.talentflow.cvparser.scoring.infrastructure.repository;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Application row as seen by the CV parser (score columns; the CV file key is read-only).
+ *
+ * Owned by the API Gateway (Prisma migrations); see {@link CandidateEntity}.
+ */
+@Entity
+@Table(name = "applications")
+@DynamicUpdate
+@Getter
+@Setter
+@NoArgsConstructor
+public class ApplicationEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "job_id", nullable = false, updatable = false)
+    private String jobId;
+
+    @Column(name = "candidate_id", nullable = false, updatable = false)
+    private String candidateId;
+
+    @Column(name = "cv_file_key", updatable = false)
+    private String cvFileKey;
+
+    @Column(name = "ai_score")
+    private Integer aiScore;
+
+    @Column(name = "scoring_reasoning", columnDefinition = "text")
+    private String scoringReasoning;
+
+    @Column(name = "scored_at")
+    private LocalDateTime scoredAt;
+
+    @Column(name = "deleted_at", updatable = false)
+    private LocalDateTime deletedAt;
+
+    // Prisma's @updatedAt is client-side, so writers outside Prisma must maintain it
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = LocalDateTime.now(ZoneOffset.UTC);
+    }
+}
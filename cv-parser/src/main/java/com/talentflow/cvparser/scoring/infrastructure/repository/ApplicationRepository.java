@@ -0,0 +1,28 @@
+package com.talentflow.cvparser.scoring.infrastructure.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for application rows (scoring columns).
+ */
+@Repository
+public interface ApplicationRepository extends JpaRepository<ApplicationEntity, String> {
+
+    /**
+     * Keyset page of live applications for a job, ordered by id.
+     * Stable under concurrent inserts, unlike offset paging.
+     */
+    List<ApplicationEntity> findByJobIdAndDeletedAtIsNullAndIdGreaterThanOrderByIdAsc(String jobId, String afterId, Limit limit);
+
+    long countByJobIdAndDeletedAtIsNull(String jobId);
+
+    /**
+     * Live applications whose CV is one of the given object keys (bulk import).
+     */
+    List<ApplicationEntity> findByCvFileKeyInAndDeletedAtIsNull(Collection<String> cvFileKeys);
+}
@@ -0,0 +1,62 @@
+package com.talentflow.cvparser.scoring.infrastructure.repository;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import com.talentflow.cvparser.shared.dto.ParsedCvData;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Candidate row as seen by the CV parser.
+ *
+ * The table is owned by the API Gateway (Prisma migrations); only the columns
+ * the parser reads or writes are mapped. Use {@code DatabaseAdapter} for resume
+ * text so compression stays transparent.
+ */
+@Entity
+@Table(name = "candidates")
+@DynamicUpdate
+@Getter
+@Setter
+@NoArgsConstructor
+public class CandidateEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "resume_text", columnDefinition = "text")
+    private String resumeText;
+
+    // bytea in PostgreSQL; unbounded, unlike the varbinary(255) a plain byte[] gets from schema generation
+    @JdbcTypeCode(SqlTypes.VARBINARY)
+    @Column(name = "resume_text_compressed", length = Integer.MAX_VALUE)
+    private byte[] resumeTextCompressed;
+
+    @Column(name = "resume_text_encoding")
+    private String resumeTextEncoding;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "parsed_data")
+    private ParsedCvData parsedData;
+
+    // Prisma's @updatedAt is client-side, so writers outside Prisma must maintain it
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = LocalDateTime.now(ZoneOffset.UTC);
+    }
+}
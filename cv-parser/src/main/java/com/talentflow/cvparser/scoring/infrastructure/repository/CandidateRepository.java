@@ -0,0 +1,11 @@
+package com.talentflow.cvparser.scoring.infrastructure.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for candidate rows.
+ */
+@Repository
+public interface CandidateRepository extends JpaRepository<CandidateEntity, String> {
+}
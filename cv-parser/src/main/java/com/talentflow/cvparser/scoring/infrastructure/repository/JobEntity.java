@@ -0,0 +1,36 @@
+package com.talentflow.cvparser.scoring.infrastructure.repository;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Job posting as read by the scoring stage. Read-only: jobs are managed by the API Gateway.
+ */
+@Entity
+@Immutable
+@Table(name = "jobs")
+@Getter
+@NoArgsConstructor
+public class JobEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "description")
+    private String description;
+
+    // Free-form JSON defined by the recruiter UI, passed to the LLM as-is
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "requirements")
+    private String requirements;
+}
@@ -0,0 +1,52 @@
+package com.talentflow.cvparser.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Near-duplicate CV detection (dedup.*).
+ *
+ * A re-upload whose MinHash similarity to the candidate's previous CV reaches threshold reuses
+ * the stored extraction instead of calling Gemini again.
+ */
+@Data
+@ConfigurationProperties(prefix = "dedup")
+public class DedupProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * MinHash signature length; must be a multiple of bands.
+     */
+    private int numHashes = 128;
+
+    /**
+     * LSH bands (rows per band = numHashes / bands). 16 x 8 finds pairs above about 0.7 similarity.
+     */
+    private int bands = 16;
+
+    /**
+     * Words per shingle.
+     */
+    private int shingleSize = 3;
+
+    /**
+     * Estimated Jaccard similarity from which the previous extraction is reused.
+     */
+    private double threshold = 0.9;
+
+    /**
+     * Shorter texts (in shingles) are not indexed: too little text to tell CVs apart.
+     */
+    private int minShingles = 20;
+
+    /**
+     * Candidates kept in memory; the oldest are evicted beyond this.
+     */
+    private int maxEntries = 100_000;
+
+    /**
+     * Append-only signature file, loaded at startup; empty for a memory-only index.
+     */
+    private String indexFile = "";
+}
@@ -0,0 +1,118 @@
+package com.talentflow.cvparser.shared.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import net.sourceforge.tess4j.util.LoadLibs;
+import org.apache.pdfbox.pdmodel.font.FontMappers;
+import org.apache.tika.Tika;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warms up the heavy document libraries off the startup path.
+ *
+ * Tika's detector registry, PDFBox's system font cache and the Tesseract native library
+ * together take seconds to initialize (DOCX is read with the JDK's StAX parser and needs no
+ * warm-up). Modes (startup.warmup.mode):
+ *   - BACKGROUND: start a daemon thread during context refresh; readiness stays
+ *     OUT_OF_SERVICE until it finishes (default)
+ *   - EAGER: warm up synchronously during refresh (CDS training runs, so the classes are archived)
+ *   - LAZY: skip; each library initializes on first use
+ *
+ * Registered as the "warmup" health indicator and included in the readiness group.
+ * A library that fails to load (e.g. no Tesseract installed) is reported but does not block readiness.
+ */
+@Slf4j
+@Component("warmup")
+public class DocumentEngineWarmup implements HealthIndicator {
+
+    public enum Mode {
+        BACKGROUND,
+        EAGER,
+        LAZY
+    }
+
+    private final Mode mode;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, String> engines = new LinkedHashMap<>();
+    private volatile boolean warm;
+
+    public DocumentEngineWarmup(@Value("${startup.warmup.mode:BACKGROUND}") Mode mode,
+                                MeterRegistry meterRegistry) {
+        this.mode = mode;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void start() {
+        switch (mode) {
+            case EAGER -> warmUp();
+            case BACKGROUND -> {
+                Thread thread = new Thread(this::warmUp, "engine-warmup");
+                thread.setDaemon(true);
+                thread.start();
+            }
+            case LAZY -> warm = true;
+        }
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = warm ? Health.up() : Health.outOfService();
+        synchronized (engines) {
+            builder.withDetails(new LinkedHashMap<>(engines));
+        }
+        return builder.withDetail("mode", mode).build();
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    private void warmUp() {
+        long start = System.nanoTime();
+        step("tika", () -> new Tika().detect("%PDF-1.7".getBytes(StandardCharsets.US_ASCII)));
+        // First mapper access scans system fonts and builds PDFBox's font cache
+        step("pdfbox-fonts", () -> FontMappers.instance().getFontBoxFont("Helvetica", null));
+        step("tesseract", LoadLibs::getTessAPIInstance);
+        warm = true;
+        log.info("Document engines warmed up in {} ms",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void step(String engine, WarmupStep action) {
+        long start = System.nanoTime();
+        String state;
+        try {
+            action.run();
+            state = "ready";
+        } catch (Exception | LinkageError e) {
+            // Missing native libs or fonts only disable that engine
+            log.warn("Warm-up of {} failed: {}", engine, e.toString());
+            state = "unavailable";
+        }
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("startup.warmup.time")
+                .description("Time to initialize a document engine")
+                .tag("engine", engine)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        synchronized (engines) {
+            engines.put(engine, state);
+        }
+    }
+
+    @FunctionalInterface
+    private interface WarmupStep {
+        void run() throws Exception;
+    }
+}
@@ -1,11 +1,14 @@
 package com.talentflow.cvparser.shared.config;
 
+import com.talentflow.cvparser.shared.http.LlmHttpTransport;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
@@ -14,8 +17,12 @@ import java.time.Duration;
  *
  * Uses environment variables:
  *   - GEMINI_API_KEY: API key for authentication
- *   - LLM_MODEL: Model name (default: gemini-2.5-flash)
+ *   - LLM_MODEL: Default model (default: gemini-2.5-flash); per-call choice is in llm.routing (ModelRouter)
  *   - LLM_TIMEOUT_SECONDS: Request timeout
+ *   - LLM_STREAMING_ENABLED: Use streamGenerateContent with incremental parsing
+ *
+ * Connection pool, HTTP/2, compression, size limits and per-phase timeouts: llm.transport
+ * ({@link LlmTransportProperties}, {@link LlmHttpTransport}).
  */
 @Configuration
 public class GeminiConfig {
@@ -32,14 +39,29 @@ public class GeminiConfig {
     @Value("${llm.timeout-seconds:30}")
     private int timeoutSeconds;
 
+    @Value("${llm.max-tokens:8192}")
+    private int maxTokens;
+
+    @Value("${llm.streaming.enabled:false}")
+    private boolean streamingEnabled;
+
     /**
-     * WebClient configured for Gemini API calls.
-     * Includes API key in query parameters and appropriate headers.
+     * Connection pool for Gemini calls (llm.transport), shared by extraction and scoring.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider llmConnectionProvider(LlmTransportProperties transportProperties) {
+        return LlmHttpTransport.connectionProvider(transportProperties);
+    }
+
+    /**
+     * WebClient configured for Gemini API calls over the tuned LLM transport.
+     * The API key is sent per request in a header.
      */
     @Bean
-    public WebClient geminiWebClient() {
-        return WebClient.builder()
-                .baseUrl(baseUrl)
+    public WebClient geminiWebClient(ConnectionProvider llmConnectionProvider,
+                                     LlmTransportProperties transportProperties,
+                                     MeterRegistry meterRegistry) {
+        return LlmHttpTransport.webClientBuilder(baseUrl, llmConnectionProvider, transportProperties, meterRegistry)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
@@ -60,10 +82,32 @@ public class GeminiConfig {
         return apiKey;
     }
 
+    /**
+     * Get the configured model name.
+     */
+    public String getModel() {
+        return model;
+    }
+
     /**
      * Get the request timeout duration.
+     * For streaming calls this is applied as an idle timeout between chunks.
      */
     public Duration getTimeout() {
         return Duration.ofSeconds(timeoutSeconds);
     }
+
+    /**
+     * Get the maximum number of output tokens per generation.
+     */
+    public int getMaxTokens() {
+        return maxTokens;
+    }
+
+    /**
+     * Whether extraction should use the streaming generate endpoint.
+     */
+    public boolean isStreamingEnabled() {
+        return streamingEnabled;
+    }
 }
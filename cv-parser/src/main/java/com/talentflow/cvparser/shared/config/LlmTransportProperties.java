@@ -0,0 +1,82 @@
+package com.talentflow.cvparser.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * HTTP transport for Gemini calls (llm.transport.*).
+ *
+ * The whole-call timeout stays llm.timeout-seconds; these settings bound the individual
+ * connection phases and the shared connection pool.
+ */
+@Data
+@ConfigurationProperties(prefix = "llm.transport")
+public class LlmTransportProperties {
+
+    /**
+     * Pool size. With HTTP/2 each connection carries many concurrent streams, so this can stay
+     * well below the LLM concurrency limit.
+     */
+    private int maxConnections = 50;
+
+    /**
+     * Requests allowed to wait for a pooled connection; beyond this they fail immediately.
+     */
+    private int pendingAcquireMaxCount = 200;
+
+    /**
+     * Longest wait for a pooled connection.
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Idle connections are closed after max-idle-time, all connections after max-life-time
+     * (so DNS changes are picked up); eviction runs every evict-interval.
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(60);
+    private Duration maxLifeTime = Duration.ofMinutes(10);
+    private Duration evictInterval = Duration.ofSeconds(30);
+
+    /**
+     * TCP connect, time to response headers, and idle read / write timeouts.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration responseTimeout = Duration.ofSeconds(30);
+    private Duration readTimeout = Duration.ofSeconds(30);
+    private Duration writeTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Negotiate HTTP/2 (ALPN) on https endpoints, falling back to HTTP/1.1.
+     */
+    private boolean http2 = true;
+
+    /**
+     * Accept gzip responses (Accept-Encoding) and decompress them.
+     */
+    private boolean compressResponses = true;
+
+    /**
+     * Gzip request bodies at or above this size (Content-Encoding: gzip); 0 disables.
+     * Only for endpoints that accept compressed requests.
+     */
+    private DataSize compressRequestsAbove = DataSize.ofBytes(0);
+
+    /**
+     * Largest buffered response (generateContent) or single streamed event.
+     */
+    private DataSize maxInMemorySize = DataSize.ofMegabytes(2);
+
+    /**
+     * Largest total body of one response, streamed or not.
+     */
+    private DataSize maxResponseSize = DataSize.ofMegabytes(8);
+
+    /**
+     * Publish Reactor Netty pool and client metrics (reactor.netty.connection.provider.*,
+     * reactor.netty.http.client.*), including connection acquisition time.
+     */
+    private boolean metrics = true;
+}
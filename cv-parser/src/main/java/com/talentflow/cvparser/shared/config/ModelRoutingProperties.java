@@ -0,0 +1,67 @@
+package com.talentflow.cvparser.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gemini model routing (llm.routing.*).
+ *
+ * Models are listed from cheapest/fastest to most capable. Each call gets a complexity score
+ * in 0.0-1.0 and goes to the first model whose max-complexity covers it. With no models
+ * configured, every call uses llm.model.
+ */
+@Data
+@ConfigurationProperties(prefix = "llm.routing")
+public class ModelRoutingProperties {
+
+    /**
+     * Candidate models, cheapest first; the last one should have max-complexity 1.0.
+     */
+    private List<Model> models = new ArrayList<>();
+
+    /**
+     * Text length at which the length component of the complexity score saturates.
+     */
+    private int longTextChars = 30_000;
+
+    /**
+     * Complexity weights for text length, OCR share and (1 - rule confidence).
+     */
+    private double lengthWeight = 0.4;
+    private double ocrWeight = 0.3;
+    private double uncertaintyWeight = 0.3;
+
+    /**
+     * Time budget for the whole LLM stage of one CV (extraction + scoring).
+     */
+    private Duration latencyBudget = Duration.ofSeconds(20);
+
+    @Data
+    public static class Model {
+
+        /**
+         * Gemini model id, e.g. gemini-2.5-flash.
+         */
+        private String name;
+
+        /**
+         * Highest complexity score routed to this model.
+         */
+        private double maxComplexity = 1.0;
+
+        /**
+         * Per-model request rate limit.
+         */
+        private int requestsPerMinute = 1000;
+
+        /**
+         * Price per million prompt / output tokens, for the llm.model.cost metric.
+         */
+        private double inputCostPerMillion;
+        private double outputCostPerMillion;
+    }
+}
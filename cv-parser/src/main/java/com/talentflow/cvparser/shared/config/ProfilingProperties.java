@@ -0,0 +1,60 @@
+package com.talentflow.cvparser.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Continuous JFR profiling of the CV pipeline (profiling.*).
+ */
+@Data
+@ConfigurationProperties(prefix = "profiling")
+public class ProfilingProperties {
+
+    private Jfr jfr = new Jfr();
+
+    private SlowStage slowStage = new SlowStage();
+
+    @Data
+    public static class Jfr {
+
+        /**
+         * Run the always-on rolling recording and the slow stage stream.
+         */
+        private boolean enabled = true;
+
+        /**
+         * JFR settings for the rolling recording: "default" (about 1% overhead) or "profile".
+         */
+        private String settings = "default";
+
+        /**
+         * Rolling window: older data is discarded once either limit is reached.
+         */
+        private Duration maxAge = Duration.ofMinutes(30);
+        private DataSize maxSize = DataSize.ofMegabytes(256);
+
+        /**
+         * Directory for dumps; the JVM temp directory when empty.
+         */
+        private String dumpDirectory = "";
+    }
+
+    @Data
+    public static class SlowStage {
+
+        /**
+         * Stage duration above which a stage is flagged, for stages without their own threshold.
+         */
+        private Duration defaultThreshold = Duration.ofSeconds(10);
+
+        /**
+         * Per-stage thresholds, keyed by stage name (download, parse, extraction, scoring, publish).
+         */
+        private Map<String, Duration> thresholds = new HashMap<>();
+    }
+}
@@ -1,13 +1,24 @@
 package com.talentflow.cvparser.shared.config;
 
+import com.talentflow.cvparser.shared.messaging.EventMessageConverter;
+import com.talentflow.cvparser.shared.messaging.ThresholdCompressingPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.amqp.support.postprocessor.DelegatingDecompressingPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * RabbitMQ configuration following ADR-009 polyglot messaging topology.
  *
@@ -15,6 +26,11 @@ import org.springframework.context.annotation.Configuration;
  * Queues:
  *   - cv_parser.jobs (main queue, bound to cv.uploaded routing key)
  *   - cv_parser.jobs.dlq (dead letter queue)
+ *   - cv_parser.jobs.retry.{millis}ms (one per retry delay; TTL queues dead-lettering back to cv_parser.jobs)
+ *   - cv_parser.jobs.parked (parsed CVs waiting for Gemini to recover; drained by ParkingLot)
+ *   - cv_parser.rescoring (bound to job.requirements.updated; triggers bulk rescoring)
+ *   - cv_parser.jobs.shard.{replicaId} (optional; one per replica behind the cv_parser.jobs.sharded
+ *     consistent-hash exchange, declared at runtime by ShardMembership)
  *
  * @see docs/adr/ADR-009-rabbitmq-polyglot.md
  */
@@ -27,11 +43,22 @@ public class RabbitMqConfig {
     // Queue names
     public static final String CV_PARSER_QUEUE = "cv_parser.jobs";
     public static final String CV_PARSER_DLQ = "cv_parser.jobs.dlq";
+    public static final String CV_PARSER_RETRY_QUEUE_PREFIX = "cv_parser.jobs.retry.";
+    public static final String CV_PARSER_PARKING_QUEUE = "cv_parser.jobs.parked";
+    public static final String RESCORING_QUEUE = "cv_parser.rescoring";
+    public static final String CV_PARSER_SHARD_QUEUE_PREFIX = "cv_parser.jobs.shard.";
+
+    // Consistent-hash exchange for optional per-replica sharding (rabbitmq_consistent_hash_exchange plugin)
+    public static final String CV_PARSER_SHARD_EXCHANGE = "cv_parser.jobs.sharded";
+    public static final String CV_PARSER_UNSHARDED_EXCHANGE = "cv_parser.jobs.unsharded";
+    public static final String SHARD_KEY_HEADER = "x-shard-key";
 
     // Routing keys
     public static final String ROUTING_KEY_CV_UPLOADED = "cv.uploaded";
+    public static final String ROUTING_KEY_CV_EXTRACTED = "cv.extracted";
     public static final String ROUTING_KEY_CV_PARSED = "cv.parsed";
     public static final String ROUTING_KEY_CV_FAILED = "cv.failed";
+    public static final String ROUTING_KEY_JOB_REQUIREMENTS_UPDATED = "job.requirements.updated";
 
     // Message TTL (24 hours in milliseconds)
     private static final int MESSAGE_TTL = 86400000;
@@ -50,7 +77,7 @@ public class RabbitMqConfig {
 
     /**
      * Main CV parser queue with dead letter configuration.
-     * Messages failing after retries are routed to DLQ.
+     * Rejected messages are routed to DLQ; retries go through the retry queues.
      */
     @Bean
     public Queue cvParserQueue() {
@@ -64,7 +91,7 @@ public class RabbitMqConfig {
 
     /**
      * Dead letter queue for failed CV processing messages.
-     * Messages here should be monitored and manually processed.
+     * Messages here should be monitored; replay them with the dlq actuator endpoint.
      */
     @Bean
     public Queue cvParserDeadLetterQueue() {
@@ -73,6 +100,75 @@ public class RabbitMqConfig {
                 .build();
     }
 
+    /**
+     * Delayed retry queues, one per configured delay.
+     * No consumers: messages wait out the queue TTL, then dead-letter back to cv_parser.jobs.
+     * A per-queue TTL (rather than per-message) keeps expiry strictly FIFO.
+     */
+    @Bean
+    public Declarables cvParserRetryQueues(@Value("${messaging.retry.delays:5s,30s,2m}") List<Duration> delays) {
+        return new Declarables(delays.stream()
+                .map(delay -> QueueBuilder
+                        .durable(retryQueueName(delay))
+                        .withArgument("x-message-ttl", delay.toMillis())
+                        .withArgument("x-dead-letter-exchange", "")
+                        .withArgument("x-dead-letter-routing-key", CV_PARSER_QUEUE)
+                        .build())
+                .toList());
+    }
+
+    /**
+     * Name of the retry queue for a delay, e.g. cv_parser.jobs.retry.30000ms.
+     * In the TTL's own unit, so sub-second delays (500ms, 1500ms) get distinct queues.
+     */
+    public static String retryQueueName(Duration delay) {
+        return CV_PARSER_RETRY_QUEUE_PREFIX + delay.toMillis() + "ms";
+    }
+
+    /**
+     * Per-replica shard queue, dead-lettering and expiring like cv_parser.jobs.
+     * Declared by ShardMembership when messaging.sharding.enabled is set, not as a bean.
+     */
+    public static Queue shardQueue(String replicaId) {
+        return QueueBuilder
+                .durable(CV_PARSER_SHARD_QUEUE_PREFIX + replicaId)
+                .withArgument("x-dead-letter-exchange", "")
+                .withArgument("x-dead-letter-routing-key", CV_PARSER_DLQ)
+                .withArgument("x-message-ttl", MESSAGE_TTL)
+                .build();
+    }
+
+    /**
+     * Consistent-hash exchange spreading cv.uploaded work over the shard queues by x-shard-key.
+     * Messages arriving while no shard queue is bound go to the alternate exchange, which
+     * returns them to cv_parser.jobs instead of dropping them.
+     */
+    public static Exchange shardExchange() {
+        return new CustomExchange(CV_PARSER_SHARD_EXCHANGE, "x-consistent-hash", true, false,
+                Map.of("hash-header", SHARD_KEY_HEADER, "alternate-exchange", CV_PARSER_UNSHARDED_EXCHANGE));
+    }
+
+    /**
+     * Alternate exchange of cv_parser.jobs.sharded.
+     */
+    public static FanoutExchange unshardedExchange() {
+        return ExchangeBuilder
+                .fanoutExchange(CV_PARSER_UNSHARDED_EXCHANGE)
+                .durable(true)
+                .build();
+    }
+
+    /**
+     * Parking queue for CVs whose LLM stage is waiting on the geminiApi circuit breaker.
+     * No TTL: parked messages carry work already done and must outlive the outage.
+     */
+    @Bean
+    public Queue cvParserParkingQueue() {
+        return QueueBuilder
+                .durable(CV_PARSER_PARKING_QUEUE)
+                .build();
+    }
+
     /**
      * Binding: cv_parser.jobs queue receives cv.uploaded events.
      */
@@ -85,21 +181,118 @@ public class RabbitMqConfig {
     }
 
     /**
-     * JSON message converter for serializing/deserializing events.
+     * Rescoring trigger queue. Triggers are idempotent per job, so no DLQ.
+     */
+    @Bean
+    public Queue rescoringQueue() {
+        return QueueBuilder
+                .durable(RESCORING_QUEUE)
+                .build();
+    }
+
+    /**
+     * Binding: cv_parser.rescoring queue receives job.requirements.updated events.
      */
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public Binding jobRequirementsUpdatedBinding(Queue rescoringQueue, TopicExchange talentflowEventsExchange) {
+        return BindingBuilder
+                .bind(rescoringQueue)
+                .to(talentflowEventsExchange)
+                .with(ROUTING_KEY_JOB_REQUIREMENTS_UPDATED);
     }
 
     /**
-     * RabbitTemplate configured with JSON converter.
+     * Event message converter for serializing/deserializing events.
+     * Decodes JSON or CBOR by content-type; encodes JSON unless binary mode is enabled.
      */
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter jsonMessageConverter) {
+    public MessageConverter eventMessageConverter(
+            @Value("${messaging.encoding.mode:COMPATIBILITY}") EventMessageConverter.Mode mode,
+            @Value("${messaging.encoding.binary-event-types:CvParsedEvent}") Set<String> binaryEventTypes,
+            MeterRegistry meterRegistry) {
+        return new EventMessageConverter(mode, binaryEventTypes, meterRegistry);
+    }
+
+    /**
+     * Gzips bodies above messaging.compression.threshold-bytes (content-encoding: gzip).
+     */
+    @Bean
+    public ThresholdCompressingPostProcessor eventCompressor(
+            @Value("${messaging.compression.threshold-bytes:65536}") int compressionThreshold,
+            MeterRegistry meterRegistry) {
+        return new ThresholdCompressingPostProcessor(compressionThreshold, meterRegistry);
+    }
+
+    /**
+     * RabbitTemplate configured with the event converter and body compression.
+     */
+    @Bean
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory,
+                                         MessageConverter eventMessageConverter,
+                                         ThresholdCompressingPostProcessor eventCompressor) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
-        template.setMessageConverter(jsonMessageConverter);
+        template.setMessageConverter(eventMessageConverter);
+        template.setBeforePublishPostProcessors(eventCompressor);
         template.setExchange(EXCHANGE_NAME);
         return template;
     }
+
+    /**
+     * Listener container factory with Spring Boot's spring.rabbitmq.listener.simple settings,
+     * plus transparent decompression of messages carrying a content-encoding header.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setAfterReceivePostProcessors(new DelegatingDecompressingPostProcessor());
+        return factory;
+    }
+
+    /**
+     * Container factory for the cv_parser.jobs and shard listeners, which hand messages to the
+     * FairJobDispatcher and ack them later. The unacked window is what fills the dispatcher's
+     * buffer, so prefetch is sized from fair-scheduler.buffer-capacity (split over the consumers,
+     * plus the message a listener holds while blocked in submit) rather than from
+     * spring.rabbitmq.listener.simple.prefetch. A smaller window would leave the DRR queue only
+     * a handful of messages to reorder, and a burst for one job would still block the others in
+     * the broker's FIFO queue.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory cvIntakeListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${fair-scheduler.buffer-capacity:200}") int bufferCapacity,
+            @Value("${spring.rabbitmq.listener.simple.concurrency:1}") int consumers) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setAfterReceivePostProcessors(new DelegatingDecompressingPostProcessor());
+        factory.setPrefetchCount(intakePrefetch(bufferCapacity, consumers));
+        return factory;
+    }
+
+    static int intakePrefetch(int bufferCapacity, int consumers) {
+        int perConsumer = Math.max(1, consumers);
+        return (bufferCapacity + perConsumer - 1) / perConsumer + 1;
+    }
+
+    /**
+     * Container factory for the parking queue drain: one consumer, one unacked message, so the
+     * drain rate is set by the consumer alone. Containers are started and stopped by ParkingLot.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory parkingListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setAfterReceivePostProcessors(new DelegatingDecompressingPostProcessor());
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        factory.setPrefetchCount(1);
+        factory.setAutoStartup(false);
+        return factory;
+    }
 }
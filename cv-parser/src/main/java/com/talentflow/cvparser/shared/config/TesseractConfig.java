@@ -0,0 +1,28 @@
+package com.talentflow.cvparser.shared.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tesseract OCR configuration.
+ *
+ * Uses environment variables:
+ *   - TESSERACT_DATA_PATH: tessdata directory
+ *   - TESSERACT_LANGUAGE: Language(s), e.g. eng+vie; with eng+vie the OCR language is chosen
+ *     per document (tesseract.language-detection)
+ *
+ * No engine is created at startup: the native library is loaded by
+ * {@link DocumentEngineWarmup} in the background or on first OCR call. Engines are created
+ * from these settings and reused per language by TesseractEngineCache.
+ */
+@Getter
+@Configuration
+public class TesseractConfig {
+
+    @Value("${tesseract.data-path:}")
+    private String dataPath;
+
+    @Value("${tesseract.language:eng}")
+    private String language;
+}
@@ -3,6 +3,7 @@ package com.talentflow.cvparser.shared.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
@@ -15,9 +16,12 @@ import java.util.concurrent.ThreadPoolExecutor;
  *   - parsingExecutor: PDF/DOCX parsing (I/O bound)
  *   - ocrExecutor: Tesseract OCR (CPU intensive)
  *   - llmExecutor: Gemini API calls (I/O bound, high latency)
+ *
+ * Scheduling is enabled for periodic monitors (e.g. SaturationMonitor).
  */
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class ThreadPoolConfig {
 
     /**
@@ -0,0 +1,72 @@
+package com.talentflow.cvparser.shared.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Early event published as soon as structured data is extracted, before scoring.
+ * Published to talentflow.events exchange with routing key cv.extracted; the cv.parsed event of
+ * the same run follows with the score and the same parsed data.
+ *
+ * Consumers keep, per application, the event with the highest version and ignore the rest:
+ * cv.parsed of an upload always has a higher version than its cv.extracted, so a cv.extracted
+ * delivered late (or redelivered) never overwrites a score. The AMQP message-id is derived
+ * from the upload and the event's phase, so duplicates of one event share it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CvExtractedEvent {
+
+    private static final String UUID_PATTERN = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$";
+
+    /**
+     * UUID of the candidate.
+     */
+    @NotBlank(message = "candidateId is required")
+    @Pattern(regexp = UUID_PATTERN, message = "candidateId must be a valid UUID")
+    private String candidateId;
+
+    /**
+     * UUID of the job application.
+     */
+    @NotBlank(message = "applicationId is required")
+    @Pattern(regexp = UUID_PATTERN, message = "applicationId must be a valid UUID")
+    private String applicationId;
+
+    /**
+     * UUID of the job.
+     */
+    @NotBlank(message = "jobId is required")
+    @Pattern(regexp = UUID_PATTERN, message = "jobId must be a valid UUID")
+    private String jobId;
+
+    /**
+     * Extracted structured data from the CV (contact details, skills, experience).
+     */
+    @NotNull(message = "parsedData is required")
+    @Valid
+    private ParsedCvData parsedData;
+
+    /**
+     * Ordering key per application: uploadedAt in epoch milliseconds * 10 + phase (1 for
+     * cv.extracted, 2 for cv.parsed).
+     */
+    @NotNull(message = "version is required")
+    private Long version;
+
+    /**
+     * Timestamp when extraction completed.
+     */
+    @NotNull(message = "extractedAt is required")
+    private Instant extractedAt;
+}
@@ -67,4 +67,11 @@ public class CvParsedEvent {
      */
     @NotNull(message = "parsedAt is required")
     private Instant parsedAt;
+
+    /**
+     * Ordering key per application, always above the version of the cv.extracted event of the
+     * same upload; see {@link CvExtractedEvent}. Rescoring versions from the time it publishes.
+     * Set by the publisher.
+     */
+    private Long version;
 }
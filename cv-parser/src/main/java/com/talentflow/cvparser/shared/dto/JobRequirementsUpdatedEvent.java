@@ -0,0 +1,35 @@
+package com.talentflow.cvparser.shared.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Event received when a recruiter changes a job's title, description or requirements.
+ * Consumed from talentflow.events with routing key job.requirements.updated; triggers bulk rescoring.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRequirementsUpdatedEvent {
+
+    private static final String UUID_PATTERN = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$";
+
+    /**
+     * UUID of the updated job.
+     */
+    @NotBlank(message = "jobId is required")
+    @Pattern(regexp = UUID_PATTERN, message = "jobId must be a valid UUID")
+    private String jobId;
+
+    /**
+     * Timestamp of the change.
+     */
+    private Instant updatedAt;
+}
@@ -0,0 +1,70 @@
+package com.talentflow.cvparser.shared.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A CV that was parsed but could not reach the LLM stage because Gemini was unavailable.
+ * Sent to cv_parser.jobs.parked and completed once the geminiApi circuit breaker closes.
+ *
+ * Internal to the CV parser; not published to talentflow.events.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParkedCvEvent {
+
+    /**
+     * The original upload event.
+     */
+    @Valid
+    @NotNull(message = "upload is required")
+    private CvUploadedEvent upload;
+
+    /**
+     * Message-id of the cv.uploaded delivery (null if it had none); with upload.uploadedAt it
+     * identifies the events published for this upload.
+     */
+    private String uploadMessageId;
+
+    /**
+     * Text extracted from the file, so the file is not downloaded and parsed again.
+     */
+    @NotNull(message = "resumeText is required")
+    private String resumeText;
+
+    /**
+     * Fraction of the text that came from OCR (model routing input).
+     */
+    private double ocrShare;
+
+    /**
+     * Structured data if extraction finished before scoring was parked; null otherwise.
+     */
+    private ParsedCvData parsedData;
+
+    /**
+     * When the cv.extracted event for parsedData was published; null if it was not.
+     */
+    private Instant extractedAt;
+
+    /**
+     * Why the CV was parked, e.g. LLM_UNAVAILABLE.
+     */
+    @NotBlank(message = "reason is required")
+    private String reason;
+
+    /**
+     * Timestamp when the CV was first parked (kept when it is parked again).
+     */
+    @NotNull(message = "parkedAt is required")
+    private Instant parkedAt;
+}
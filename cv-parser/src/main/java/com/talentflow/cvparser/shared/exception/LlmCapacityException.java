@@ -0,0 +1,26 @@
+package com.talentflow.cvparser.shared.exception;
+
+/**
+ * Exception thrown when an LLM call cannot obtain a concurrency permit or
+ * token budget within the configured wait time.
+ * Always retryable: the call was never sent.
+ */
+public class LlmCapacityException extends RuntimeException {
+
+    private final String errorCode;
+    private final boolean retryable;
+
+    public LlmCapacityException(String message) {
+        super(message);
+        this.errorCode = "LLM_CAPACITY_EXCEEDED";
+        this.retryable = true;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -39,6 +39,12 @@ public class ParsingException extends RuntimeException {
         this.retryable = false;
     }
 
+    public ParsingException(String message, String errorCode, boolean retryable, Throwable cause) {
+        super(message, cause);
+        this.errorCode = errorCode;
+        this.retryable = retryable;
+    }
+
     public String getErrorCode() {
         return errorCode;
     }
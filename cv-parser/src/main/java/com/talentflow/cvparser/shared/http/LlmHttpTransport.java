@@ -0,0 +1,224 @@
+package com.talentflow.cvparser.shared.http;
+
+import com.talentflow.cvparser.shared.config.LlmTransportProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Reactor Netty transport for LLM calls (llm.transport.*).
+ *
+ * - One bounded, LIFO connection pool (hot connections are reused first, idle ones evicted in
+ *   the background); a full pool fails fast instead of queueing without limit.
+ * - HTTP/2 with HTTP/1.1 fallback on https endpoints, so concurrent calls share connections.
+ *   Plain http endpoints (local stubs) use HTTP/1.1.
+ * - Gzip responses are accepted and decompressed; request bodies can be gzipped above a size.
+ * - Connect, response-header, idle read and idle write timeouts. Read / write timeout handlers
+ *   are added per request and removed when the connection returns to the pool.
+ * - Buffered responses and single streamed events are capped by max-in-memory-size, the
+ *   total body of any response by max-response-size.
+ *
+ * Metrics: Reactor Netty's reactor.netty.connection.provider.* (pool gauges and
+ * pending.connections.time, the acquisition time) and reactor.netty.http.client.* with the
+ * model id replaced by {model}, plus llm.transport.pool.exhausted{reason} when an acquisition
+ * is rejected (pending_limit) or times out (acquire_timeout).
+ */
+public final class LlmHttpTransport {
+
+    static final String POOL_NAME = "llm";
+
+    private static final String HTTPS = "https:";
+    private static final String GZIP = "gzip";
+
+    // reactor-pool is shaded into reactor-netty-core, so its exceptions are matched by name
+    private static final String PENDING_LIMIT_EXCEPTION = "PoolAcquirePendingLimitException";
+    private static final String ACQUIRE_TIMEOUT_EXCEPTION = "PoolAcquireTimeoutException";
+
+    private LlmHttpTransport() {
+    }
+
+    /**
+     * The shared pool; dispose it on shutdown.
+     */
+    public static ConnectionProvider connectionProvider(LlmTransportProperties properties) {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .maxLifeTime(properties.getMaxLifeTime())
+                .evictInBackground(properties.getEvictInterval())
+                .lifo()
+                .metrics(properties.isMetrics())
+                .build();
+    }
+
+    /**
+     * WebClient builder over the pool for one LLM endpoint.
+     */
+    public static WebClient.Builder webClientBuilder(String baseUrl,
+                                                     ConnectionProvider connectionProvider,
+                                                     LlmTransportProperties properties,
+                                                     MeterRegistry meterRegistry) {
+        long readTimeoutMillis = properties.getReadTimeout().toMillis();
+        long writeTimeoutMillis = properties.getWriteTimeout().toMillis();
+        boolean http2 = properties.isHttp2() && baseUrl.regionMatches(true, 0, HTTPS, 0, HTTPS.length());
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(properties.getResponseTimeout())
+                .doOnRequest((request, connection) ->
+                        connection.addHandlerFirst(new WriteTimeoutHandler(writeTimeoutMillis, TimeUnit.MILLISECONDS)))
+                .doOnResponse((response, connection) ->
+                        connection.addHandlerFirst(new ReadTimeoutHandler(readTimeoutMillis, TimeUnit.MILLISECONDS)))
+                .compress(properties.isCompressResponses())
+                .protocol(http2 ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11}
+                        : new HttpProtocol[]{HttpProtocol.HTTP11})
+                .metrics(properties.isMetrics(), LlmHttpTransport::uriTag);
+
+        WebClient.Builder builder = WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs()
+                        .maxInMemorySize((int) properties.getMaxInMemorySize().toBytes()))
+                .filter(poolExhaustion(meterRegistry))
+                .filter(responseSizeLimit(properties.getMaxResponseSize().toBytes()));
+        long gzipThreshold = properties.getCompressRequestsAbove().toBytes();
+        if (gzipThreshold > 0) {
+            builder.filter(gzipRequests(gzipThreshold));
+        }
+        return builder;
+    }
+
+    /**
+     * Metric tag for a request URI: query dropped and the model id replaced, so tags stay bounded.
+     */
+    static String uriTag(String uri) {
+        int query = uri.indexOf('?');
+        String path = query >= 0 ? uri.substring(0, query) : uri;
+        int models = path.indexOf("/models/");
+        if (models < 0) {
+            return path;
+        }
+        int action = path.indexOf(':', models);
+        return path.substring(0, models) + "/models/{model}" + (action >= 0 ? path.substring(action) : "");
+    }
+
+    private static ExchangeFilterFunction poolExhaustion(MeterRegistry meterRegistry) {
+        Counter pendingLimit = exhaustedCounter(meterRegistry, "pending_limit");
+        Counter acquireTimeout = exhaustedCounter(meterRegistry, "acquire_timeout");
+        return (request, next) -> next.exchange(request).doOnError(error -> {
+            for (Throwable t = error; t != null; t = t.getCause()) {
+                String type = t.getClass().getSimpleName();
+                if (type.equals(PENDING_LIMIT_EXCEPTION)) {
+                    pendingLimit.increment();
+                    return;
+                }
+                if (type.equals(ACQUIRE_TIMEOUT_EXCEPTION)) {
+                    acquireTimeout.increment();
+                    return;
+                }
+            }
+        });
+    }
+
+    private static Counter exhaustedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("llm.transport.pool.exhausted")
+                .description("LLM requests that could not get a pooled connection")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static ExchangeFilterFunction responseSizeLimit(long maxBytes) {
+        return (request, next) -> next.exchange(request).map(response -> response.mutate()
+                .body(body -> limit(body, maxBytes))
+                .build());
+    }
+
+    private static Flux<DataBuffer> limit(Flux<DataBuffer> body, long maxBytes) {
+        AtomicLong received = new AtomicLong();
+        return body.handle((buffer, sink) -> {
+            if (received.addAndGet(buffer.readableByteCount()) > maxBytes) {
+                DataBufferUtils.release(buffer);
+                sink.error(new DataBufferLimitException("LLM response exceeded " + maxBytes + " bytes"));
+                return;
+            }
+            sink.next(buffer);
+        });
+    }
+
+    private static ExchangeFilterFunction gzipRequests(long thresholdBytes) {
+        return (request, next) -> next.exchange(ClientRequest.from(request)
+                .body((outputMessage, context) ->
+                        request.body().insert(new GzipRequest(outputMessage, thresholdBytes), context))
+                .build());
+    }
+
+    /**
+     * Buffers the body (LLM requests are single JSON documents) and gzips it above the threshold.
+     */
+    private static final class GzipRequest extends ClientHttpRequestDecorator {
+
+        private final long thresholdBytes;
+
+        GzipRequest(ClientHttpRequest delegate, long thresholdBytes) {
+            super(delegate);
+            this.thresholdBytes = thresholdBytes;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(body).flatMap(joined -> {
+                if (joined.readableByteCount() < thresholdBytes) {
+                    return super.writeWith(Mono.just(joined));
+                }
+                byte[] compressed;
+                try {
+                    compressed = gzip(joined);
+                } finally {
+                    DataBufferUtils.release(joined);
+                }
+                getHeaders().set(HttpHeaders.CONTENT_ENCODING, GZIP);
+                getHeaders().setContentLength(compressed.length);
+                return super.writeWith(Mono.just(bufferFactory().wrap(compressed)));
+            });
+        }
+
+        private static byte[] gzip(DataBuffer buffer) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, buffer.readableByteCount() / 4));
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out);
+                 var in = buffer.asInputStream()) {
+                in.transferTo(gzip);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJackson2MessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson CBOR message converter (content-type application/cbor).
+ * Same object model and type headers as the JSON converter, binary on the wire.
+ *
+ * The body has no character encoding, so none is declared, and inbound bodies are always
+ * read as bytes: the base class decodes through a String, which a CBOR parser rejects.
+ */
+public class CborMessageConverter extends AbstractJackson2MessageConverter {
+
+    public static final String CONTENT_TYPE_CBOR = "application/cbor";
+
+    private final ObjectMapper cborMapper;
+
+    public CborMessageConverter() {
+        this(CBORMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build());
+    }
+
+    private CborMessageConverter(ObjectMapper cborMapper) {
+        super(cborMapper, MimeType.valueOf(CONTENT_TYPE_CBOR), "*");
+        this.cborMapper = cborMapper;
+    }
+
+    @Override
+    protected Message createMessage(Object objectToConvert, MessageProperties messageProperties,
+                                    @Nullable Type genericType) throws MessageConversionException {
+        Message message = super.createMessage(objectToConvert, messageProperties, genericType);
+        message.getMessageProperties().setContentEncoding(null);
+        return message;
+    }
+
+    /**
+     * Target type as for JSON: the listener's parameter type, else the __TypeId__ headers.
+     */
+    @Override
+    public Object fromMessage(Message message, @Nullable Object conversionHint) throws MessageConversionException {
+        try {
+            return cborMapper.readValue(message.getBody(),
+                    getJavaTypeMapper().toJavaType(message.getMessageProperties()));
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to convert CBOR message content", e);
+        }
+    }
+}
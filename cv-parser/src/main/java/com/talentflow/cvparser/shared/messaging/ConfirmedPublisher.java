@@ -0,0 +1,93 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.ReturnListener;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes copies whose source delivery is acked right after: retry and DLQ copies, parked CVs.
+ *
+ * The publish is mandatory and waits for the publisher confirm, so a nack, a timeout, an
+ * unroutable message or a failed channel surfaces as {@link NotConfirmedException} and the
+ * caller can leave the source delivery to the broker instead of acking it.
+ * Bodies go through the same converter and compression as {@link RabbitTemplate} sends.
+ */
+@Component
+public class ConfirmedPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ThresholdCompressingPostProcessor compressor;
+    private final Duration confirmTimeout;
+    private final MessagePropertiesConverter propertiesConverter = new DefaultMessagePropertiesConverter();
+
+    public ConfirmedPublisher(RabbitTemplate rabbitTemplate,
+                              ThresholdCompressingPostProcessor compressor,
+                              @Value("${messaging.publish.confirm-timeout:5s}") Duration confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.compressor = compressor;
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    /**
+     * Convert a payload with the template's converter and publish it.
+     *
+     * @throws NotConfirmedException if the broker did not confirm the message as routed
+     */
+    public void convertAndSend(String exchange, String routingKey, Object payload) {
+        send(exchange, routingKey, rabbitTemplate.getMessageConverter().toMessage(payload, new MessageProperties()));
+    }
+
+    /**
+     * Publish a message and wait for its confirm.
+     *
+     * @throws NotConfirmedException if the broker did not confirm the message as routed
+     */
+    public void send(String exchange, String routingKey, Message message) {
+        Message compressed = compressor.postProcessMessage(message);
+        AMQP.BasicProperties properties = propertiesConverter.fromMessageProperties(
+                compressed.getMessageProperties(), StandardCharsets.UTF_8.name());
+        boolean routed;
+        try {
+            routed = Boolean.TRUE.equals(rabbitTemplate.execute(channel -> {
+                AtomicBoolean returned = new AtomicBoolean();
+                ReturnListener onReturn = (replyCode, replyText, returnExchange, returnRoutingKey, props, body) ->
+                        returned.set(true);
+                channel.addReturnListener(onReturn);
+                try {
+                    channel.basicPublish(exchange, routingKey, true, properties, compressed.getBody());
+                    // The broker sends basic.return before the ack of an unroutable mandatory message
+                    channel.waitForConfirmsOrDie(confirmTimeout.toMillis());
+                    return !returned.get();
+                } finally {
+                    channel.removeReturnListener(onReturn);
+                }
+            }));
+        } catch (AmqpException e) {
+            throw new NotConfirmedException("Publish to " + routingKey + " was not confirmed: " + e.getMessage(), e);
+        }
+        if (!routed) {
+            throw new NotConfirmedException("Publish to " + routingKey + " was returned as unroutable", null);
+        }
+    }
+
+    /**
+     * The message may not have reached its queue; the source delivery must not be acked.
+     */
+    public static class NotConfirmedException extends AmqpException {
+
+        public NotConfirmedException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import com.talentflow.cvparser.shared.validation.EventFieldScanner;
+import org.springframework.amqp.support.converter.JacksonUtils;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Specialized decoder for CvUploadedEvent, the highest-volume inbound message.
+ *
+ * Streams the AMQP body bytes through a Jackson JsonParser directly into the event (no tree,
+ * no bean introspection) and checks the DTO's constraints with {@link EventFieldScanner}
+ * instead of @Pattern regexes. Behaviour matches Jackson2JsonMessageConverter followed by
+ * bean validation:
+ *   - unknown fields are ignored and a repeated field keeps its last value
+ *   - non-string scalars are coerced to strings, and objects or arrays are rejected, by the same mapper
+ *   - uploadedAt is read by the mapper's Instant deserializer (ISO-8601 or epoch seconds)
+ *   - every constraint violation is reported, with the DTO's messages
+ *
+ * Invalid or malformed messages fail with MessageConversionException, which the listener
+ * error handler treats as terminal.
+ */
+public class CvUploadedEventDecoder {
+
+    private final ObjectMapper objectMapper;
+
+    public CvUploadedEventDecoder() {
+        // Same mapper configuration as Jackson2JsonMessageConverter
+        this(JacksonUtils.enhancedObjectMapper());
+    }
+
+    public CvUploadedEventDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param body UTF-8 (or UTF-16/32, auto-detected) JSON body
+     * @return Valid event
+     * @throws MessageConversionException if the body is malformed or violates a constraint
+     */
+    public CvUploadedEvent decode(byte[] body) {
+        CvUploadedEvent event;
+        try {
+            event = read(body);
+        } catch (IOException e) {
+            throw new MessageConversionException("Malformed CvUploadedEvent: " + e.getMessage(), e);
+        }
+        return requireValid(event);
+    }
+
+    /**
+     * Check an event decoded by any path (CBOR, JSON in another charset) with the same constraints.
+     *
+     * @return The event, if valid
+     * @throws MessageConversionException listing every constraint violation
+     */
+    public static CvUploadedEvent requireValid(CvUploadedEvent event) {
+        List<String> violations = validate(event);
+        if (!violations.isEmpty()) {
+            throw new MessageConversionException("Invalid CvUploadedEvent: " + String.join(", ", violations));
+        }
+        return event;
+    }
+
+    /**
+     * Constraint violations of the event, using the messages declared on the DTO.
+     */
+    public static List<String> validate(CvUploadedEvent event) {
+        List<String> violations = new ArrayList<>(0);
+        checkUuid(event.getCandidateId(), "candidateId", violations);
+        checkUuid(event.getApplicationId(), "applicationId", violations);
+        checkUuid(event.getJobId(), "jobId", violations);
+
+        String bucket = event.getBucket();
+        if (EventFieldScanner.isBlank(bucket)) {
+            violations.add("bucket is required");
+        }
+        if (bucket != null && !EventFieldScanner.isBucketName(bucket)) {
+            violations.add("bucket must be a valid S3 bucket name");
+        }
+
+        String fileKey = event.getFileKey();
+        if (EventFieldScanner.isBlank(fileKey)) {
+            violations.add("fileKey is required");
+        }
+        if (fileKey != null && !EventFieldScanner.isFileKey(fileKey)) {
+            violations.add("fileKey contains invalid characters");
+        }
+
+        if (EventFieldScanner.isBlank(event.getMimeType())) {
+            violations.add("mimeType is required");
+        }
+        if (event.getUploadedAt() == null) {
+            violations.add("uploadedAt is required");
+        }
+        return violations;
+    }
+
+    private CvUploadedEvent read(byte[] body) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            JsonToken first = parser.nextToken();
+            if (first != JsonToken.START_OBJECT) {
+                throw new MessageConversionException("CvUploadedEvent must be a JSON object, got " + first);
+            }
+            CvUploadedEvent event = new CvUploadedEvent();
+            String field;
+            while ((field = parser.nextFieldName()) != null) {
+                parser.nextToken();
+                switch (field) {
+                    case "candidateId" -> event.setCandidateId(readString(parser));
+                    case "applicationId" -> event.setApplicationId(readString(parser));
+                    case "jobId" -> event.setJobId(readString(parser));
+                    case "bucket" -> event.setBucket(readString(parser));
+                    case "fileKey" -> event.setFileKey(readString(parser));
+                    case "mimeType" -> event.setMimeType(readString(parser));
+                    case "uploadedAt" -> event.setUploadedAt(objectMapper.readValue(parser, Instant.class));
+                    default -> parser.skipChildren();
+                }
+            }
+            return event;
+        }
+    }
+
+    private String readString(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NULL -> null;
+            // Coercion (or rejection) of anything else exactly as the POJO mapping would do it
+            default -> objectMapper.readValue(parser, String.class);
+        };
+    }
+
+    private static void checkUuid(String value, String field, List<String> violations) {
+        if (EventFieldScanner.isBlank(value)) {
+            violations.add(field + " is required");
+        }
+        if (value != null && !EventFieldScanner.isUuid(value)) {
+            violations.add(field + " must be a valid UUID");
+        }
+    }
+}
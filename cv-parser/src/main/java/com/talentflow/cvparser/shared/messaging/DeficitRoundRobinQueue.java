@@ -0,0 +1,169 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Bounded blocking queue with weighted deficit round robin (DRR) across keys.
+ *
+ * Each key has its own FIFO sub-queue; active keys are visited in turn and each visit adds
+ * weight credits, one item costing one credit. A key with weight 2 therefore gets twice the
+ * turns of a key with weight 1, and a burst under one key cannot delay other keys by more
+ * than one round. Fractional weights accumulate across rounds.
+ *
+ * Memory is bounded by the total capacity; empty sub-queues are dropped immediately, so
+ * the number of tracked keys never exceeds the number of buffered items.
+ *
+ * @param <T> Item type
+ */
+public class DeficitRoundRobinQueue<T> {
+
+    private static final double MIN_WEIGHT = 0.01;
+
+    private final int capacity;
+    private final ToDoubleFunction<String> weights;
+
+    private final Map<String, SubQueue<T>> queues = new HashMap<>();
+    private final ArrayDeque<SubQueue<T>> active = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private int size;
+
+    /**
+     * @param capacity Maximum buffered items across all keys
+     * @param weights  Weight per key (1.0 = normal share)
+     */
+    public DeficitRoundRobinQueue(int capacity, ToDoubleFunction<String> weights) {
+        this.capacity = capacity;
+        this.weights = weights;
+    }
+
+    /**
+     * Enqueue, waiting up to the timeout for space.
+     *
+     * @return false if the queue stayed full
+     */
+    public boolean offer(String key, T item, long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size >= capacity) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = notFull.awaitNanos(remaining);
+            }
+            SubQueue<T> queue = queues.get(key);
+            if (queue == null) {
+                queue = new SubQueue<>(key, Math.max(MIN_WEIGHT, weights.applyAsDouble(key)));
+                queues.put(key, queue);
+                active.addLast(queue);
+            }
+            queue.items.addLast(new Entry<>(item, System.nanoTime()));
+            size++;
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Dequeue the next item in DRR order, waiting up to the timeout.
+     *
+     * @return the entry, or null on timeout
+     */
+    public Entry<T> poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (remaining <= 0) {
+                    return null;
+                }
+                remaining = notEmpty.awaitNanos(remaining);
+            }
+            Entry<T> entry = next();
+            size--;
+            notFull.signal();
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry<T> next() {
+        while (true) {
+            SubQueue<T> queue = active.peekFirst();
+            if (!queue.credited) {
+                queue.deficit += queue.weight;
+                queue.credited = true;
+            }
+            if (queue.deficit >= 1.0) {
+                Entry<T> entry = queue.items.pollFirst();
+                queue.deficit -= 1.0;
+                if (queue.items.isEmpty()) {
+                    // Idle keys keep no state (and no saved credit), as in classic DRR
+                    active.pollFirst();
+                    queues.remove(queue.key);
+                } else if (queue.deficit < 1.0) {
+                    rotate(queue);
+                }
+                return entry;
+            }
+            rotate(queue);
+        }
+    }
+
+    private void rotate(SubQueue<T> queue) {
+        active.pollFirst();
+        queue.credited = false;
+        active.addLast(queue);
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of keys with buffered items.
+     */
+    public int activeKeys() {
+        lock.lock();
+        try {
+            return queues.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Buffered item plus the time it was enqueued (for wait-time metrics).
+     */
+    public record Entry<T>(T item, long enqueuedAtNanos) {
+    }
+
+    private static final class SubQueue<T> {
+        private final String key;
+        private final double weight;
+        private final ArrayDeque<Entry<T>> items = new ArrayDeque<>();
+        private double deficit;
+        private boolean credited;
+
+        private SubQueue(String key, double weight) {
+            this.key = key;
+            this.weight = weight;
+        }
+    }
+}
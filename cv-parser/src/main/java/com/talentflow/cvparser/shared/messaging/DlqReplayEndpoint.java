@@ -0,0 +1,50 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for DLQ replay (/actuator/dlq).
+ *
+ * GET shows progress and DLQ depth, POST starts a replay ({"maxMessages": 500, "ratePerSecond": 10}),
+ * DELETE stops a running replay. Not exposed unless added to management.endpoints.web.exposure.include.
+ */
+@Component
+@Endpoint(id = "dlq")
+@RequiredArgsConstructor
+public class DlqReplayEndpoint {
+
+    private static final int DEFAULT_MAX_MESSAGES = 1000;
+    private static final double DEFAULT_RATE_PER_SECOND = 10.0;
+
+    private final DlqReplayService replayService;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return replayService.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> replay(@Nullable Integer maxMessages, @Nullable Double ratePerSecond) {
+        boolean started = replayService.start(
+                maxMessages != null ? maxMessages : DEFAULT_MAX_MESSAGES,
+                ratePerSecond != null ? ratePerSecond : DEFAULT_RATE_PER_SECOND);
+        Map<String, Object> status = new LinkedHashMap<>(replayService.status());
+        status.put("started", started);
+        return status;
+    }
+
+    @DeleteOperation
+    public Map<String, Object> stop() {
+        replayService.stop();
+        return replayService.status();
+    }
+}
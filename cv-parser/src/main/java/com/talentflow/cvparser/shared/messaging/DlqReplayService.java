@@ -0,0 +1,152 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.GetResponse;
+import com.talentflow.cvparser.shared.config.RabbitMqConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Rate-controlled bulk replay of cv_parser.jobs.dlq back into cv_parser.jobs.
+ *
+ * Messages are moved one at a time (basic.get, publish, publisher confirm, then ack on the same
+ * channel), so a failure mid-move leaves the message in the DLQ rather than losing it. Retry and error headers
+ * are stripped so a replayed message gets a full set of retries again. The rate is capped to
+ * avoid flooding the pipeline (and Gemini) after an outage.
+ */
+@Slf4j
+@Component
+public class DlqReplayService {
+
+    private static final String HEADER_X_DEATH = "x-death";
+    private static final long CONFIRM_TIMEOUT_MILLIS = 5_000;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final double maxRatePerSecond;
+    private final Counter replayedCounter;
+
+    private final AtomicInteger replayed = new AtomicInteger();
+    private volatile Thread worker;
+    private volatile boolean stopRequested;
+    private volatile String lastError;
+
+    public DlqReplayService(RabbitTemplate rabbitTemplate,
+                            @Value("${messaging.retry.replay.max-rate-per-second:50}") double maxRatePerSecond,
+                            MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.maxRatePerSecond = maxRatePerSecond;
+        this.replayedCounter = Counter.builder("messaging.dlq.replayed")
+                .description("Messages moved from the DLQ back to cv_parser.jobs")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start replaying in the background.
+     *
+     * @param maxMessages   Upper bound of messages to move in this run
+     * @param ratePerSecond Requested rate, capped at messaging.retry.replay.max-rate-per-second
+     * @return false if a replay is already running
+     */
+    public synchronized boolean start(int maxMessages, double ratePerSecond) {
+        if (isRunning()) {
+            return false;
+        }
+        double rate = Math.max(0.1, Math.min(ratePerSecond, maxRatePerSecond));
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+
+        replayed.set(0);
+        lastError = null;
+        stopRequested = false;
+        worker = new Thread(() -> run(maxMessages, intervalNanos), "dlq-replay");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("DLQ replay started: up to {} messages at {}/s", maxMessages, rate);
+        return true;
+    }
+
+    /**
+     * Ask a running replay to stop after the current message.
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    public boolean isRunning() {
+        Thread current = worker;
+        return current != null && current.isAlive();
+    }
+
+    /**
+     * Replay progress and current DLQ depth (null when the broker is unreachable).
+     */
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", isRunning());
+        status.put("replayed", replayed.get());
+        status.put("lastError", lastError);
+        status.put("dlqDepth", dlqDepth());
+        return status;
+    }
+
+    private Long dlqDepth() {
+        try {
+            return rabbitTemplate.execute(channel -> channel.messageCount(RabbitMqConfig.CV_PARSER_DLQ));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void run(int maxMessages, long intervalNanos) {
+        long next = System.nanoTime();
+        try {
+            while (replayed.get() < maxMessages && !stopRequested) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                next += intervalNanos;
+
+                if (!Boolean.TRUE.equals(rabbitTemplate.execute(channel -> {
+                    GetResponse response = channel.basicGet(RabbitMqConfig.CV_PARSER_DLQ, false);
+                    if (response == null) {
+                        return false;
+                    }
+                    channel.basicPublish("", RabbitMqConfig.CV_PARSER_QUEUE, resetHeaders(response.getProps()),
+                            response.getBody());
+                    channel.waitForConfirmsOrDie(CONFIRM_TIMEOUT_MILLIS);
+                    channel.basicAck(response.getEnvelope().getDeliveryTag(), false);
+                    return true;
+                }))) {
+                    break;
+                }
+                replayed.incrementAndGet();
+                replayedCounter.increment();
+            }
+        } catch (RuntimeException e) {
+            lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+            log.error("DLQ replay aborted after {} messages", replayed.get(), e);
+        }
+        log.info("DLQ replay finished: {} messages replayed", replayed.get());
+    }
+
+    private static AMQP.BasicProperties resetHeaders(AMQP.BasicProperties props) {
+        Map<String, Object> headers = props.getHeaders() != null ? new HashMap<>(props.getHeaders()) : new HashMap<>();
+        headers.remove(RetryRoutingErrorHandler.HEADER_RETRY_COUNT);
+        headers.remove(RetryRoutingErrorHandler.HEADER_ERROR_CODE);
+        headers.remove(RetryRoutingErrorHandler.HEADER_ERROR_MESSAGE);
+        headers.remove(RetryRoutingErrorHandler.HEADER_FAILED_AT);
+        headers.remove(HEADER_X_DEATH);
+        return props.builder().headers(headers).build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Message converter that picks JSON or CBOR per message.
+ *
+ * Inbound: selected by the AMQP content-type header (application/cbor, otherwise JSON).
+ * JSON for a CvUploadedEvent listener parameter goes through {@link CvUploadedEventDecoder}
+ * (streaming decode plus constraint checks) when the body is UTF-8; a CvUploadedEvent decoded
+ * any other way (CBOR, other charsets) is checked against the same constraints afterwards.
+ * Outbound: CBOR only in BINARY mode and only for the configured event types;
+ * COMPATIBILITY mode keeps JSON for every message so legacy consumers are unaffected.
+ *
+ * Records payload size (messaging.payload.size) and encode/decode time
+ * (messaging.codec.time) tagged by encoding and payload type.
+ */
+public class EventMessageConverter implements MessageConverter {
+
+    public enum Mode {
+        /** JSON for everything (default, safe for legacy consumers). */
+        COMPATIBILITY,
+        /** CBOR for the configured binary event types. */
+        BINARY
+    }
+
+    private static final String JSON = "json";
+    private static final String CBOR = "cbor";
+
+    private final MessageConverter jsonConverter = new Jackson2JsonMessageConverter();
+    private final MessageConverter cborConverter = new CborMessageConverter();
+    private final CvUploadedEventDecoder cvUploadedEventDecoder = new CvUploadedEventDecoder();
+
+    private final Mode mode;
+    private final Set<String> binaryEventTypes;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param mode             Outbound encoding mode
+     * @param binaryEventTypes Simple class names sent as CBOR in BINARY mode (e.g. CvParsedEvent)
+     * @param meterRegistry    Registry for size and timing metrics
+     */
+    public EventMessageConverter(Mode mode, Set<String> binaryEventTypes, MeterRegistry meterRegistry) {
+        this.mode = mode;
+        this.binaryEventTypes = Set.copyOf(binaryEventTypes);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) throws MessageConversionException {
+        String type = object.getClass().getSimpleName();
+        boolean binary = mode == Mode.BINARY && binaryEventTypes.contains(type);
+        String encoding = binary ? CBOR : JSON;
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Message message = (binary ? cborConverter : jsonConverter).toMessage(object, messageProperties);
+        sample.stop(codecTimer("encode", encoding, type));
+
+        DistributionSummary.builder("messaging.payload.size")
+                .description("Serialized event payload size")
+                .baseUnit("bytes")
+                .tag("encoding", encoding)
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(message.getBody().length);
+        return message;
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        String contentType = message.getMessageProperties().getContentType();
+        boolean binary = contentType != null && contentType.startsWith(CborMessageConverter.CONTENT_TYPE_CBOR);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        if (!binary && isCvUploadedJson(message.getMessageProperties())) {
+            result = cvUploadedEventDecoder.decode(message.getBody());
+        } else {
+            result = (binary ? cborConverter : jsonConverter).fromMessage(message);
+            if (result instanceof CvUploadedEvent event) {
+                CvUploadedEventDecoder.requireValid(event);
+            }
+        }
+        sample.stop(codecTimer("decode", binary ? CBOR : JSON, result.getClass().getSimpleName()));
+        return result;
+    }
+
+    /**
+     * Same preconditions as the generic JSON path (content type contains "json"), restricted
+     * to UTF-8 bodies; other charsets keep using the generic converter.
+     */
+    private static boolean isCvUploadedJson(MessageProperties properties) {
+        if (properties.getInferredArgumentType() != CvUploadedEvent.class) {
+            return false;
+        }
+        String contentType = properties.getContentType();
+        String charset = properties.getContentEncoding();
+        return contentType != null && contentType.contains("json")
+                && (charset == null || StandardCharsets.UTF_8.name().equalsIgnoreCase(charset));
+    }
+
+    private Timer codecTimer(String operation, String encoding, String type) {
+        return Timer.builder("messaging.codec.time")
+                .description("Event serialization/deserialization time")
+                .tag("operation", operation)
+                .tag("encoding", encoding)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,214 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fair scheduling of CV jobs across job postings.
+ *
+ * The cv_parser.jobs listener hands each message to {@link #submit(String, Runnable)} keyed by
+ * CvUploadedEvent.jobId (acking from inside the task), and a fixed set of workers drains a
+ * {@link DeficitRoundRobinQueue}. A posting that receives thousands of CVs then shares the workers
+ * with every other posting instead of blocking them in FIFO order.
+ *
+ * The reordering window is the buffer, which is filled by the listener prefetch; the intake
+ * listeners' prefetch is derived from fair-scheduler.buffer-capacity
+ * (RabbitMqConfig#cvIntakeListenerContainerFactory). When the buffer is full, submit blocks the
+ * listener thread, so the broker keeps the backlog.
+ *
+ * While paused ({@link #pause()}, by the SaturationMonitor) submit blocks as if the buffer were
+ * full: listener threads stop taking messages, but buffered CVs keep being processed and acked on
+ * their still-open channels. {@link #estimatedWaitNanos()} (buffer depth x smoothed processing
+ * time / workers) feeds the saturation model.
+ *
+ * Weights: fair-scheduler.weights as jobId=weight pairs (default 1.0). Wait time is recorded
+ * as scheduler.job.wait, tagged with the jobId for weighted jobs and "default" otherwise to keep
+ * metric cardinality bounded.
+ */
+@Slf4j
+@Component
+public class FairJobDispatcher {
+
+    private static final String DEFAULT_JOB_TAG = "default";
+    // Weight of the newest task in the smoothed processing time
+    private static final double SMOOTHING = 0.1;
+
+    private final int workers;
+    private final Duration submitTimeout;
+    private final Map<String, Double> weights;
+    private final DeficitRoundRobinQueue<Job> queue;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> waitTimers = new HashMap<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private final AtomicInteger busyWorkers = new AtomicInteger();
+    private final Object gate = new Object();
+    private volatile boolean running = true;
+    private volatile boolean paused;
+    private volatile double serviceNanos;
+
+    public FairJobDispatcher(@Value("${fair-scheduler.workers:4}") int workers,
+                             @Value("${fair-scheduler.buffer-capacity:200}") int bufferCapacity,
+                             @Value("${fair-scheduler.submit-timeout:30s}") Duration submitTimeout,
+                             @Value("${fair-scheduler.weights:}") List<String> weights,
+                             MeterRegistry meterRegistry) {
+        this.workers = workers;
+        this.submitTimeout = submitTimeout;
+        this.weights = parseWeights(weights);
+        this.queue = new DeficitRoundRobinQueue<>(bufferCapacity, jobId -> this.weights.getOrDefault(jobId, 1.0));
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("scheduler.buffered", queue, DeficitRoundRobinQueue::size)
+                .description("CV jobs buffered in the fair scheduler")
+                .register(meterRegistry);
+        Gauge.builder("scheduler.jobs.active", queue, DeficitRoundRobinQueue::activeKeys)
+                .description("Job postings with buffered CVs")
+                .register(meterRegistry);
+        Gauge.builder("scheduler.workers.busy", busyWorkers, AtomicInteger::get)
+                .description("Fair scheduler workers processing a CV")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        for (int i = 0; i < workers; i++) {
+            Thread thread = new Thread(this::work, "fair-worker-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+    }
+
+    /**
+     * Queue a task for a job posting, blocking while the buffer is full.
+     *
+     * @param jobId Fairness key
+     * @param task  Processing including the message ack; must handle its own errors
+     * @return false if the buffer stayed full (or the dispatcher paused) for fair-scheduler.submit-timeout;
+     *         the caller should nack/requeue
+     */
+    public boolean submit(String jobId, Runnable task) throws InterruptedException {
+        long deadline = System.nanoTime() + submitTimeout.toNanos();
+        synchronized (gate) {
+            while (paused) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(gate, remaining);
+            }
+        }
+        return queue.offer(jobId, new Job(jobId, task), Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stop accepting new CVs; buffered ones are still processed.
+     */
+    public void pause() {
+        paused = true;
+    }
+
+    public void resume() {
+        synchronized (gate) {
+            paused = false;
+            gate.notifyAll();
+        }
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public int getBuffered() {
+        return queue.size();
+    }
+
+    public int getBusyWorkers() {
+        return busyWorkers.get();
+    }
+
+    /**
+     * Expected wait of a CV submitted now: buffered CVs x smoothed processing time / workers.
+     */
+    public double estimatedWaitNanos() {
+        return queue.size() * serviceNanos / Math.max(1, workers);
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                DeficitRoundRobinQueue.Entry<Job> entry = queue.poll(1, TimeUnit.SECONDS);
+                if (entry == null) {
+                    continue;
+                }
+                long start = System.nanoTime();
+                waitTimer(entry.item().jobId()).record(start - entry.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+                busyWorkers.incrementAndGet();
+                try {
+                    entry.item().task().run();
+                } finally {
+                    busyWorkers.decrementAndGet();
+                    recordService(System.nanoTime() - start);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Fair scheduler task failed", e);
+            }
+        }
+    }
+
+    private synchronized void recordService(long nanos) {
+        double previous = serviceNanos;
+        serviceNanos = previous == 0 ? nanos : previous + SMOOTHING * (nanos - previous);
+    }
+
+    private Timer waitTimer(String jobId) {
+        String tag = weights.containsKey(jobId) ? jobId : DEFAULT_JOB_TAG;
+        synchronized (waitTimers) {
+            return waitTimers.computeIfAbsent(tag, key -> Timer.builder("scheduler.job.wait")
+                    .description("Time a CV waited in the fair scheduler before processing")
+                    .tag("job", key)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static Map<String, Double> parseWeights(List<String> entries) {
+        Map<String, Double> parsed = new HashMap<>();
+        for (String entry : entries) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalStateException("fair-scheduler.weights entry must be jobId=weight: " + entry);
+            }
+            parsed.put(entry.substring(0, separator).trim(), Double.parseDouble(entry.substring(separator + 1).trim()));
+        }
+        return Map.copyOf(parsed);
+    }
+
+    private record Job(String jobId, Runnable task) {
+    }
+}
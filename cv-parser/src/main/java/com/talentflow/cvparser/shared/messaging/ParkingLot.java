@@ -0,0 +1,170 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import com.talentflow.cvparser.shared.config.RabbitMqConfig;
+import com.talentflow.cvparser.shared.dto.ParkedCvEvent;
+import com.talentflow.cvparser.shared.resilience.SaturationMonitor;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Parking mode for Gemini outages.
+ *
+ * While the geminiApi circuit breaker is open, CVs that reach the LLM stage are not failed:
+ * their extracted text (and parsed data, if extraction already finished) is sent to
+ * cv_parser.jobs.parked, so the download and parse work is kept and no cv.failed event is
+ * published. LLM-bound work is paused by checking {@link #isLlmAvailable()} before each call.
+ *
+ * Draining is tied to the breaker: the parking listener container (one consumer, prefetch 1)
+ * runs only while the breaker is CLOSED and takes at most parking.drain-rate-per-second
+ * messages, so a recovering Gemini is not hit with the whole backlog at once. Live traffic
+ * probes the breaker in HALF_OPEN; the drain waits until those probes have closed it.
+ *
+ * The drain also pauses while the pod is saturated ({@link SaturationMonitor}): drained CVs
+ * run a full LLM stage, which is the load being shed.
+ *
+ * The container is reconciled with the breaker and saturation state every
+ * parking.check-interval-ms rather than from the transition callback, which runs on the Gemini
+ * call's thread. This also covers a restart with a non-empty queue.
+ */
+@Slf4j
+@Component
+public class ParkingLot {
+
+    /** Listener id of the parking queue consumer. */
+    public static final String LISTENER_ID = "parkedCvListener";
+
+    private static final String INSTANCE = "geminiApi";
+
+    private final ConfirmedPublisher publisher;
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+    private final CircuitBreaker circuitBreaker;
+    private final SaturationMonitor saturationMonitor;
+    private final boolean autoStartup;
+    private final long drainIntervalNanos;
+    private final Counter parkedCounter;
+    private final MeterRegistry meterRegistry;
+
+    private final Object drainLock = new Object();
+    private long nextDrainNanos = System.nanoTime();
+
+    public ParkingLot(ConfirmedPublisher publisher,
+                      RabbitListenerEndpointRegistry listenerRegistry,
+                      CircuitBreakerRegistry circuitBreakerRegistry,
+                      SaturationMonitor saturationMonitor,
+                      @Value("${spring.rabbitmq.listener.simple.auto-startup:true}") boolean autoStartup,
+                      @Value("${parking.drain-rate-per-second:2}") double drainRatePerSecond,
+                      MeterRegistry meterRegistry) {
+        this.publisher = publisher;
+        this.listenerRegistry = listenerRegistry;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE);
+        this.saturationMonitor = saturationMonitor;
+        this.autoStartup = autoStartup;
+        this.drainIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(0.1, drainRatePerSecond));
+        this.meterRegistry = meterRegistry;
+        this.parkedCounter = Counter.builder("parking.parked")
+                .description("CVs parked while Gemini was unavailable")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        circuitBreaker.getEventPublisher().onStateTransition(
+                event -> log.info("geminiApi circuit breaker {}", event.getStateTransition()));
+    }
+
+    /**
+     * False while the breaker rejects calls; HALF_OPEN counts as available so live traffic can probe it.
+     */
+    public boolean isLlmAvailable() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    /**
+     * Whether a failed LLM call should be parked rather than retried or dead-lettered:
+     * the breaker rejected it, or it failed transiently and the breaker has since opened.
+     */
+    public boolean shouldPark(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof CallNotPermittedException) {
+                return true;
+            }
+        }
+        return !isLlmAvailable() && RetryRoutingErrorHandler.classify(error).retryable();
+    }
+
+    /**
+     * Send a CV to the parking queue and wait for the broker to confirm it.
+     * Callers ack the delivery the CV came from only once this returns.
+     *
+     * @throws ConfirmedPublisher.NotConfirmedException if the parked copy may be lost; requeue the source delivery
+     */
+    public void park(ParkedCvEvent parked) {
+        publisher.convertAndSend("", RabbitMqConfig.CV_PARSER_PARKING_QUEUE, parked);
+        parkedCounter.increment();
+        log.warn("Gemini unavailable ({}), parked application {}", parked.getReason(),
+                parked.getUpload().getApplicationId());
+    }
+
+    /**
+     * Block the drain consumer until its next slot (parking.drain-rate-per-second).
+     */
+    public void awaitDrainSlot() {
+        long wait;
+        synchronized (drainLock) {
+            long now = System.nanoTime();
+            long slot = Math.max(nextDrainNanos, now);
+            nextDrainNanos = slot + drainIntervalNanos;
+            wait = slot - now;
+        }
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    /**
+     * Record the outcome of one drained message (completed, failed or requeued).
+     */
+    public void recordDrained(String outcome) {
+        Counter.builder("parking.drained")
+                .description("Parked CVs taken off the parking queue")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Run the drain consumer only while the breaker is closed and the pod is not saturated.
+     */
+    @Scheduled(fixedDelayString = "${parking.check-interval-ms:2000}")
+    public synchronized void reconcile() {
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(LISTENER_ID);
+        if (container == null || !autoStartup) {
+            return;
+        }
+        boolean closed = circuitBreaker.getState() == CircuitBreaker.State.CLOSED;
+        boolean saturated = saturationMonitor.isSaturated();
+        if (closed && !saturated && !container.isRunning()) {
+            log.info("geminiApi circuit breaker closed, draining {}", RabbitMqConfig.CV_PARSER_PARKING_QUEUE);
+            container.start();
+        } else if ((!closed || saturated) && container.isRunning()) {
+            log.info("geminiApi circuit breaker {}{}, pausing {} drain", circuitBreaker.getState(),
+                    saturated ? " and pod saturated" : "", RabbitMqConfig.CV_PARSER_PARKING_QUEUE);
+            // Async stop: the message in progress is requeued by the consumer or finishes normally
+            container.stop(() -> log.debug("Parking drain paused"));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import com.rabbitmq.client.Channel;
+import com.talentflow.cvparser.shared.config.RabbitMqConfig;
+import com.talentflow.cvparser.shared.dto.CvFailedEvent;
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import com.talentflow.cvparser.shared.exception.ExtractionException;
+import com.talentflow.cvparser.shared.exception.LlmCapacityException;
+import com.talentflow.cvparser.shared.exception.ParsingException;
+import com.talentflow.cvparser.shared.exception.ScoringException;
+import com.talentflow.cvparser.shared.util.PiiRedactor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.api.RabbitListenerErrorHandler;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Listener error handler that replaces in-listener retry backoff with delayed retry queues.
+ *
+ * A failed message is republished to cv_parser.jobs.retry.{delay} (which dead-letters back to
+ * cv_parser.jobs when the TTL expires) and the original is acked, so the listener thread and its
+ * prefetched messages are never held while waiting. Non-retryable failures and exhausted retries
+ * go to cv_parser.jobs.dlq with the error code attached, and a cv.failed event is published.
+ * The original is acked only once the broker has confirmed the copy; otherwise it is requeued.
+ *
+ * Usage: {@code @RabbitListener(queues = RabbitMqConfig.CV_PARSER_QUEUE, errorHandler = "retryRoutingErrorHandler")}
+ */
+@Slf4j
+@Component("retryRoutingErrorHandler")
+public class RetryRoutingErrorHandler implements RabbitListenerErrorHandler {
+
+    /** Number of delayed retries already taken by the message. */
+    public static final String HEADER_RETRY_COUNT = "x-retry-count";
+    /** Error code of the last failure (set on retried and dead-lettered messages). */
+    public static final String HEADER_ERROR_CODE = "x-error-code";
+    /** Sanitized message of the last failure (dead-lettered messages only). */
+    public static final String HEADER_ERROR_MESSAGE = "x-error-message";
+    /** ISO-8601 time the message was dead-lettered. */
+    public static final String HEADER_FAILED_AT = "x-failed-at";
+
+    private static final int MAX_HEADER_MESSAGE_LENGTH = 500;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ConfirmedPublisher publisher;
+    private final List<Duration> delays;
+    private final MeterRegistry meterRegistry;
+
+    public RetryRoutingErrorHandler(RabbitTemplate rabbitTemplate,
+                                    ConfirmedPublisher publisher,
+                                    @Value("${messaging.retry.delays:5s,30s,2m}") List<Duration> delays,
+                                    MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.publisher = publisher;
+        this.delays = List.copyOf(delays);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object handleError(Message amqpMessage, Channel channel,
+                              org.springframework.messaging.Message<?> message,
+                              ListenerExecutionFailedException exception) throws Exception {
+        Failure failure = classify(exception);
+        int retryCount = retryCount(amqpMessage);
+        long deliveryTag = amqpMessage.getMessageProperties().getDeliveryTag();
+
+        try {
+            route(amqpMessage, message, failure, retryCount);
+        } catch (ConfirmedPublisher.NotConfirmedException e) {
+            // The copy may be lost: keep the original, it fails again on redelivery and is routed then
+            log.warn("Routing failure {} was not confirmed, requeueing the message: {}",
+                    failure.errorCode(), e.getMessage());
+            channel.basicNack(deliveryTag, false, true);
+            return null;
+        }
+        channel.basicAck(deliveryTag, false);
+        return null;
+    }
+
+    /**
+     * No channel, so nothing can be acked after routing: reject and let the queue's own
+     * dead-lettering apply. Required by the interface; listener containers call the channel-aware
+     * variant above.
+     */
+    @Override
+    @SuppressWarnings("removal")
+    public Object handleError(Message amqpMessage, org.springframework.messaging.Message<?> message,
+                              ListenerExecutionFailedException exception) {
+        throw new AmqpRejectAndDontRequeueException("No channel to route retry", true, exception);
+    }
+
+    private void route(Message amqpMessage, org.springframework.messaging.Message<?> message, Failure failure,
+                       int retryCount) {
+        if (failure.retryable() && retryCount < delays.size()) {
+            Duration delay = delays.get(retryCount);
+            publisher.send("", RabbitMqConfig.retryQueueName(delay), MessageBuilder.fromClonedMessage(amqpMessage)
+                    .setHeader(HEADER_RETRY_COUNT, retryCount + 1)
+                    .setHeader(HEADER_ERROR_CODE, failure.errorCode())
+                    .build());
+            counter("messaging.retry.scheduled", "Messages sent to a delayed retry queue",
+                    "delay", delay.toMillis() + "ms").increment();
+            log.warn("Processing failed with {} (attempt {}/{}), retrying in {}",
+                    failure.errorCode(), retryCount + 1, delays.size() + 1, delay);
+        } else {
+            String reason = failure.retryable() ? "exhausted" : "non_retryable";
+            deadLetter(amqpMessage, failure);
+            publishFailedEvent(message, failure);
+            counter("messaging.retry.dead_lettered", "Messages moved to the DLQ after failing",
+                    "reason", reason).increment();
+            log.error("Processing failed with {} ({}), moved to {}",
+                    failure.errorCode(), reason, RabbitMqConfig.CV_PARSER_DLQ);
+        }
+    }
+
+    private void deadLetter(Message amqpMessage, Failure failure) {
+        String errorMessage = failure.message();
+        if (errorMessage != null && errorMessage.length() > MAX_HEADER_MESSAGE_LENGTH) {
+            errorMessage = errorMessage.substring(0, MAX_HEADER_MESSAGE_LENGTH);
+        }
+        publisher.send("", RabbitMqConfig.CV_PARSER_DLQ, MessageBuilder.fromClonedMessage(amqpMessage)
+                .setHeader(HEADER_ERROR_CODE, failure.errorCode())
+                .setHeader(HEADER_ERROR_MESSAGE, errorMessage)
+                .setHeader(HEADER_FAILED_AT, Instant.now().toString())
+                .build());
+    }
+
+    private void publishFailedEvent(org.springframework.messaging.Message<?> message, Failure failure) {
+        if (message == null || !(message.getPayload() instanceof CvUploadedEvent event)) {
+            // Payload could not be converted; there is nothing to correlate a cv.failed event with
+            return;
+        }
+        CvFailedEvent failedEvent = CvFailedEvent.builder()
+                .candidateId(event.getCandidateId())
+                .applicationId(event.getApplicationId())
+                .jobId(event.getJobId())
+                .errorCode(failure.errorCode())
+                .errorMessage(failure.message() != null ? failure.message() : failure.errorCode())
+                .retryable(failure.retryable())
+                .failedAt(Instant.now())
+                .build();
+        rabbitTemplate.convertAndSend(RabbitMqConfig.EXCHANGE_NAME, RabbitMqConfig.ROUTING_KEY_CV_FAILED, failedEvent);
+    }
+
+    /**
+     * Map a listener failure to an error code and retry decision.
+     * Domain exceptions decide for themselves; known transient infrastructure errors are retried;
+     * anything else (bad payload, validation, bugs) is terminal.
+     */
+    static Failure classify(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof ParsingException e) {
+                return new Failure(e.getErrorCode(), e.isRetryable(), sanitize(e));
+            }
+            if (t instanceof ExtractionException e) {
+                return new Failure(e.getErrorCode(), e.isRetryable(), sanitize(e));
+            }
+            if (t instanceof ScoringException e) {
+                return new Failure(e.getErrorCode(), e.isRetryable(), sanitize(e));
+            }
+            if (t instanceof LlmCapacityException e) {
+                return new Failure(e.getErrorCode(), e.isRetryable(), sanitize(e));
+            }
+            if (t instanceof IOException || t instanceof TimeoutException
+                    || t instanceof TransientDataAccessException || t instanceof AmqpConnectException) {
+                return new Failure("TRANSIENT_ERROR", true, sanitize(t));
+            }
+        }
+        return new Failure("PROCESSING_FAILED", false, "Unexpected error while processing CV");
+    }
+
+    private static String sanitize(Throwable t) {
+        return PiiRedactor.sanitize(t.getMessage());
+    }
+
+    private static int retryCount(Message message) {
+        Object value = message.getMessageProperties().getHeader(HEADER_RETRY_COUNT);
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+
+    private Counter counter(String name, String description, String tagKey, String tagValue) {
+        return Counter.builder(name)
+                .description(description)
+                .tag(tagKey, tagValue)
+                .register(meterRegistry);
+    }
+
+    record Failure(String errorCode, boolean retryable, String message) {
+    }
+}
@@ -0,0 +1,266 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.GetResponse;
+import com.rabbitmq.client.ReturnListener;
+import com.talentflow.cvparser.shared.config.RabbitMqConfig;
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Optional sharding of cv.uploaded work across replicas (messaging.sharding).
+ *
+ * With several replicas competing on cv_parser.jobs, any replica may get any CV, so per-pod
+ * caches keyed by candidate or job hit poorly. When sharding is enabled, cv_parser.jobs stays the
+ * entry point (the gateway binding, retries and DLQ replay all land there) but its consumer only
+ * forwards: each message is republished to the cv_parser.jobs.sharded consistent-hash exchange
+ * with the shard key (candidateId or jobId) in the x-shard-key header, and processed by the
+ * replica whose cv_parser.jobs.shard.{replicaId} queue owns that key on the hash ring.
+ *
+ * Membership follows the replica lifecycle. On start the shard queue is declared and bound with
+ * messaging.sharding.weight as its share of the ring, then its listener is started; the exchange
+ * moves the new replica's share of keys to it. On graceful stop the listener is stopped, the queue
+ * is unbound (its keys move to the remaining replicas), messages still in it are handed back to
+ * cv_parser.jobs to be forwarded again, and the empty queue is deleted.
+ *
+ * A replica that dies without stopping keeps its binding, and its keys wait in its queue until a
+ * replica with the same id returns, so replica ids must be stable (StatefulSet pod names);
+ * anything left longer than the queue TTL dead-letters to cv_parser.jobs.dlq.
+ *
+ * The original of a forwarded or handed-back message is acked only after the broker has
+ * confirmed the copy (publisher confirms, spring.rabbitmq.publisher-confirm-type: simple); a
+ * forwarded copy is published mandatory, so one that no shard queue took counts as not forwarded.
+ *
+ * Requires the rabbitmq_consistent_hash_exchange broker plugin. If the topology cannot be
+ * declared, this replica stays unsharded and processes cv_parser.jobs directly.
+ */
+@Slf4j
+@Component
+public class ShardMembership implements SmartLifecycle {
+
+    /** Listener id of the shard queue consumer. */
+    public static final String LISTENER_ID = "shardedCvListener";
+
+    // Start before and stop after the listener containers (RabbitListenerEndpointRegistry)
+    private static final int PHASE = Integer.MAX_VALUE - 4096;
+
+    public enum Key { CANDIDATE_ID, JOB_ID }
+
+    private final AmqpAdmin amqpAdmin;
+    private final RabbitTemplate rabbitTemplate;
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+    private final boolean enabled;
+    private final Key key;
+    private final String replicaId;
+    private final int weight;
+    private final Duration confirmTimeout;
+    private final MessagePropertiesConverter propertiesConverter = new DefaultMessagePropertiesConverter();
+    private final Counter forwardedCounter;
+    private final Counter forwardFailedCounter;
+    private final Counter handedOffCounter;
+
+    private volatile boolean active;
+    private volatile boolean running;
+
+    public ShardMembership(AmqpAdmin amqpAdmin,
+                           RabbitTemplate rabbitTemplate,
+                           RabbitListenerEndpointRegistry listenerRegistry,
+                           @Value("${messaging.sharding.enabled:false}") boolean enabled,
+                           @Value("${messaging.sharding.key:CANDIDATE_ID}") Key key,
+                           @Value("${messaging.sharding.replica-id:local}") String replicaId,
+                           @Value("${messaging.sharding.weight:10}") int weight,
+                           @Value("${messaging.sharding.confirm-timeout:5s}") Duration confirmTimeout,
+                           MeterRegistry meterRegistry) {
+        this.amqpAdmin = amqpAdmin;
+        this.rabbitTemplate = rabbitTemplate;
+        this.listenerRegistry = listenerRegistry;
+        this.enabled = enabled;
+        this.key = key;
+        this.replicaId = replicaId;
+        this.weight = Math.max(1, weight);
+        this.confirmTimeout = confirmTimeout;
+        this.forwardedCounter = Counter.builder("messaging.sharding.forwarded")
+                .description("cv.uploaded messages forwarded to the consistent-hash exchange")
+                .register(meterRegistry);
+        this.forwardFailedCounter = Counter.builder("messaging.sharding.forward_failed")
+                .description("cv.uploaded messages the consistent-hash exchange did not confirm or route")
+                .register(meterRegistry);
+        this.handedOffCounter = Counter.builder("messaging.sharding.handed_off")
+                .description("Messages returned to cv_parser.jobs when this replica left the ring")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Name of this replica's shard queue; must match the shard listener's queue.
+     */
+    public static String queueName(String replicaId) {
+        return RabbitMqConfig.CV_PARSER_SHARD_QUEUE_PREFIX + replicaId;
+    }
+
+    /**
+     * True while this replica is on the hash ring and cv_parser.jobs messages should be forwarded.
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Republish a cv_parser.jobs message to the consistent-hash exchange, keeping its body and
+     * headers (including the retry count), and wait for the broker to confirm it.
+     *
+     * @return true once a shard queue holds the copy and the caller may ack the original;
+     *         false if it was returned unroutable, nacked or not confirmed in time
+     */
+    public boolean forward(CvUploadedEvent event, Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        properties.setHeader(RabbitMqConfig.SHARD_KEY_HEADER, shardKey(event));
+        AMQP.BasicProperties amqpProperties = propertiesConverter.fromMessageProperties(properties,
+                StandardCharsets.UTF_8.name());
+        try {
+            boolean routed = Boolean.TRUE.equals(rabbitTemplate.execute(channel -> {
+                AtomicBoolean returned = new AtomicBoolean();
+                ReturnListener onReturn = (replyCode, replyText, exchange, routingKey, props, body) ->
+                        returned.set(true);
+                channel.addReturnListener(onReturn);
+                try {
+                    channel.basicPublish(RabbitMqConfig.CV_PARSER_SHARD_EXCHANGE, "", true, amqpProperties,
+                            message.getBody());
+                    // The broker sends basic.return before the ack of an unroutable mandatory message
+                    channel.waitForConfirmsOrDie(confirmTimeout.toMillis());
+                    return !returned.get();
+                } finally {
+                    channel.removeReturnListener(onReturn);
+                }
+            }));
+            if (routed) {
+                forwardedCounter.increment();
+                return true;
+            }
+            log.warn("Forwarded message for application {} was not routed to a shard queue", event.getApplicationId());
+        } catch (RuntimeException e) {
+            log.warn("Forwarded message for application {} was not confirmed: {}", event.getApplicationId(),
+                    e.getMessage());
+        }
+        forwardFailedCounter.increment();
+        return false;
+    }
+
+    String shardKey(CvUploadedEvent event) {
+        String value = key == Key.JOB_ID ? event.getJobId() : event.getCandidateId();
+        return value != null ? value : event.getApplicationId();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (!enabled) {
+            return;
+        }
+        try {
+            amqpAdmin.declareExchange(RabbitMqConfig.unshardedExchange());
+            amqpAdmin.declareExchange(RabbitMqConfig.shardExchange());
+            amqpAdmin.declareBinding(new Binding(RabbitMqConfig.CV_PARSER_QUEUE, Binding.DestinationType.QUEUE,
+                    RabbitMqConfig.CV_PARSER_UNSHARDED_EXCHANGE, "", Map.of()));
+            amqpAdmin.declareQueue(RabbitMqConfig.shardQueue(replicaId));
+            amqpAdmin.declareBinding(ringBinding());
+        } catch (RuntimeException e) {
+            log.error("Could not join the shard ring as {}; processing cv_parser.jobs unsharded "
+                    + "(is rabbitmq_consistent_hash_exchange enabled?)", replicaId, e);
+            return;
+        }
+
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(LISTENER_ID);
+        if (container != null) {
+            container.start();
+        }
+        active = true;
+        log.info("Joined shard ring as {} (weight {}, key {})", replicaId, weight, key);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (!active) {
+            return;
+        }
+        active = false;
+
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(LISTENER_ID);
+        if (container != null) {
+            container.stop();
+        }
+        String queue = queueName(replicaId);
+        try {
+            amqpAdmin.removeBinding(ringBinding());
+            long handedOff = handOff(queue);
+            amqpAdmin.deleteQueue(queue, false, true);
+            log.info("Left shard ring as {}; {} messages handed back to {}", replicaId, handedOff,
+                    RabbitMqConfig.CV_PARSER_QUEUE);
+        } catch (RuntimeException e) {
+            // The binding or messages stay; a replica with the same id picks them up
+            log.warn("Could not leave shard ring cleanly as {}", replicaId, e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private Binding ringBinding() {
+        Queue queue = RabbitMqConfig.shardQueue(replicaId);
+        return BindingBuilder
+                .bind(queue)
+                .to(RabbitMqConfig.shardExchange())
+                .with(String.valueOf(weight))
+                .noargs();
+    }
+
+    /**
+     * Move every message left in the shard queue back to cv_parser.jobs, one at a time
+     * (basic.get, publish, confirm, then ack), so a failure mid-move keeps the message in the shard queue.
+     */
+    private long handOff(String queue) {
+        long moved = 0;
+        while (Boolean.TRUE.equals(rabbitTemplate.execute(channel -> {
+            GetResponse response = channel.basicGet(queue, false);
+            if (response == null) {
+                return false;
+            }
+            channel.basicPublish("", RabbitMqConfig.CV_PARSER_QUEUE, response.getProps(), response.getBody());
+            channel.waitForConfirmsOrDie(confirmTimeout.toMillis());
+            channel.basicAck(response.getEnvelope().getDeliveryTag(), false);
+            return true;
+        }))) {
+            moved++;
+            handedOffCounter.increment();
+        }
+        return moved;
+    }
+}
@@ -0,0 +1,68 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.support.postprocessor.GZipPostProcessor;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gzip-compresses outbound message bodies at or above a size threshold.
+ *
+ * Compressed messages carry content-encoding: gzip, so any AMQP consumer can detect and
+ * inflate them (Spring: DelegatingDecompressingPostProcessor, Node: zlib.gunzip).
+ * Small messages are sent untouched to avoid paying CPU for no gain, as are messages that
+ * are already compressed (e.g. republished for retry). A plain charset content-encoding, as
+ * set by the JSON converter, does not count: gzip keeps it after the prefix ("gzip, UTF-8").
+ */
+public class ThresholdCompressingPostProcessor implements MessagePostProcessor {
+
+    private static final Set<String> COMPRESSED_ENCODINGS = Set.of("gzip", "zip", "deflate");
+
+    private final GZipPostProcessor gzip = new GZipPostProcessor();
+    private final int thresholdBytes;
+    private final DistributionSummary ratio;
+    private final Timer compressTimer;
+
+    public ThresholdCompressingPostProcessor(int thresholdBytes, MeterRegistry meterRegistry) {
+        this.thresholdBytes = thresholdBytes;
+        this.ratio = DistributionSummary.builder("compression.ratio")
+                .description("Original size / compressed size for event payloads")
+                .tag("target", "event")
+                .register(meterRegistry);
+        this.compressTimer = Timer.builder("compression.time")
+                .description("Wall-clock time spent compressing event payloads")
+                .tag("operation", "compress")
+                .tag("target", "event")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message postProcessMessage(Message message) throws AmqpException {
+        int originalSize = message.getBody().length;
+        if (originalSize < thresholdBytes || isCompressed(message.getMessageProperties().getContentEncoding())) {
+            return message;
+        }
+
+        long start = System.nanoTime();
+        Message compressed = gzip.postProcessMessage(message);
+        compressTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        ratio.record((double) originalSize / Math.max(1, compressed.getBody().length));
+        return compressed;
+    }
+
+    private static boolean isCompressed(String contentEncoding) {
+        if (contentEncoding == null) {
+            return false;
+        }
+        // Delimited by ", " (Spring AMQP 2.x+) or ":" (older producers)
+        String outer = contentEncoding.split("[,:]", 2)[0];
+        return COMPRESSED_ENCODINGS.contains(outer.trim().toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,181 @@
+package com.talentflow.cvparser.shared.profiling;
+
+import com.talentflow.cvparser.shared.config.ProfilingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Always-on JFR recording of the CV pipeline.
+ *
+ * A rolling recording (profiling.jfr.settings, "default" by default) keeps the last
+ * profiling.jfr.max-age / max-size of JVM events (allocation samples, lock contention, GC,
+ * execution samples) together with {@link CvStageEvent}s, and can be dumped on demand through
+ * the jfr actuator endpoint.
+ *
+ * A separate in-process {@link RecordingStream} receives only stage events and flags each stage
+ * slower than its profiling.slow-stage threshold as the JFR stream flushes (about once a second):
+ * a warning log with the redacted application id and profiling.slow_stages{stage} are emitted,
+ * so the dump can be taken while the regression is still inside the window.
+ */
+@Slf4j
+@Component
+public class ContinuousProfiler implements SmartLifecycle {
+
+    private static final String RECORDING_NAME = "cv-parser-continuous";
+    private static final String DUMP_PREFIX = "cv-parser-";
+    private static final String DUMP_SUFFIX = ".jfr";
+
+    private final ProfilingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> slowCounters = new ConcurrentHashMap<>();
+
+    private volatile Recording recording;
+    private volatile RecordingStream stream;
+    private volatile Path lastDump;
+
+    public ContinuousProfiler(ProfilingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!properties.getJfr().isEnabled() || isRunning()) {
+            return;
+        }
+        ProfilingProperties.Jfr jfr = properties.getJfr();
+        try {
+            Recording rolling = new Recording(Configuration.getConfiguration(jfr.getSettings()));
+            rolling.setName(RECORDING_NAME);
+            rolling.setToDisk(true);
+            rolling.setMaxAge(jfr.getMaxAge());
+            rolling.setMaxSize(jfr.getMaxSize().toBytes());
+            rolling.enable(CvStageEvent.NAME).withoutStackTrace().withThreshold(Duration.ZERO);
+            rolling.start();
+            recording = rolling;
+        } catch (IOException | ParseException | RuntimeException e) {
+            // JFR unavailable (e.g. -XX:-FlightRecorder) or unknown settings: run without profiling
+            log.warn("Continuous JFR recording not started", e);
+            return;
+        }
+
+        RecordingStream slowStages = new RecordingStream();
+        slowStages.enable(CvStageEvent.NAME).withThreshold(minimumThreshold());
+        slowStages.onEvent(CvStageEvent.NAME, this::checkStage);
+        slowStages.startAsync();
+        stream = slowStages;
+        log.info("Continuous JFR recording started ({} settings, max age {}, max size {})",
+                jfr.getSettings(), jfr.getMaxAge(), jfr.getMaxSize());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        Recording current = recording;
+        return current != null && current.getState() == RecordingState.RUNNING;
+    }
+
+    /**
+     * Write the rolling window to a new file, replacing the previous dump.
+     *
+     * @return The dump file
+     * @throws IllegalStateException if the recording is not running
+     */
+    public synchronized Path dump() {
+        Recording current = recording;
+        if (current == null || current.getState() != RecordingState.RUNNING) {
+            throw new IllegalStateException("Continuous JFR recording is not running");
+        }
+        try {
+            String configured = properties.getJfr().getDumpDirectory();
+            Path directory = configured == null || configured.isBlank()
+                    ? Path.of(System.getProperty("java.io.tmpdir"))
+                    : Files.createDirectories(Path.of(configured));
+            Path file = Files.createTempFile(directory, DUMP_PREFIX, DUMP_SUFFIX);
+            current.dump(file);
+            if (lastDump != null) {
+                Files.deleteIfExists(lastDump);
+            }
+            lastDump = file;
+            log.info("JFR recording dumped to {} ({} bytes)", file, Files.size(file));
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("JFR dump failed", e);
+        }
+    }
+
+    /**
+     * Recording state for the actuator endpoint.
+     */
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        Recording current = recording;
+        status.put("running", isRunning());
+        status.put("settings", properties.getJfr().getSettings());
+        status.put("maxAge", properties.getJfr().getMaxAge().toString());
+        status.put("maxSizeBytes", properties.getJfr().getMaxSize().toBytes());
+        if (current != null) {
+            Instant started = current.getStartTime();
+            status.put("startedAt", started != null ? started.toString() : null);
+            status.put("recordedBytes", current.getSize());
+        }
+        status.put("lastDump", lastDump != null ? lastDump.toString() : null);
+        return status;
+    }
+
+    private void checkStage(RecordedEvent event) {
+        String stage = event.getString("stage");
+        Duration duration = event.getDuration();
+        if (duration.compareTo(threshold(stage)) <= 0) {
+            return;
+        }
+        slowCounters.computeIfAbsent(stage, key -> Counter.builder("profiling.slow_stages")
+                .description("Pipeline stages slower than their profiling.slow-stage threshold")
+                .tag("stage", key)
+                .register(meterRegistry)).increment();
+        log.warn("Slow {} stage: {} ms for application {} ({}, {} pages, {} bytes{})",
+                stage, duration.toMillis(), event.getString("applicationId"), event.getString("mimeType"),
+                event.getInt("pageCount"), event.getLong("bytes"), event.getBoolean("failed") ? ", failed" : "");
+    }
+
+    private Duration threshold(String stage) {
+        ProfilingProperties.SlowStage slowStage = properties.getSlowStage();
+        return slowStage.getThresholds().getOrDefault(stage, slowStage.getDefaultThreshold());
+    }
+
+    private Duration minimumThreshold() {
+        ProfilingProperties.SlowStage slowStage = properties.getSlowStage();
+        return slowStage.getThresholds().values().stream()
+                .reduce(slowStage.getDefaultThreshold(), (a, b) -> a.compareTo(b) <= 0 ? a : b);
+    }
+}
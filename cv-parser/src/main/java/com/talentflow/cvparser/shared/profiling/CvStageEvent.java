@@ -0,0 +1,44 @@
+package com.talentflow.cvparser.shared.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one pipeline stage of one CV.
+ *
+ * Duration and thread come from the event itself, so allocation and lock events recorded on the
+ * same thread during the stage can be attributed to the CV in JDK Mission Control.
+ */
+@Name(CvStageEvent.NAME)
+@Label("CV Pipeline Stage")
+@Category({"TalentFlow", "CV Pipeline"})
+@Description("One pipeline stage (download, parse, extraction, scoring, publish) of one CV")
+@StackTrace(false)
+class CvStageEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.talentflow.cvparser.CvStage";
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Application Id")
+    @Description("Application id; PII-redacted unless it is a UUID")
+    String applicationId;
+
+    @Label("MIME Type")
+    String mimeType;
+
+    @Label("Page Count")
+    int pageCount;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Failed")
+    boolean failed;
+}
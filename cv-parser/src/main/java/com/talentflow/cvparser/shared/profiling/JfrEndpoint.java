@@ -0,0 +1,40 @@
+package com.talentflow.cvparser.shared.profiling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint for the continuous JFR recording (/actuator/jfr).
+ *
+ * GET shows the recording state, POST dumps the rolling window and returns it as a .jfr file
+ * (open in JDK Mission Control or `jfr print`). Not exposed unless added to
+ * management.endpoints.web.exposure.include.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@RequiredArgsConstructor
+public class JfrEndpoint {
+
+    private final ContinuousProfiler profiler;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return profiler.status();
+    }
+
+    @WriteOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump() {
+        if (!profiler.isRunning()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(profiler.dump()));
+    }
+}
@@ -0,0 +1,70 @@
+package com.talentflow.cvparser.shared.profiling;
+
+import com.talentflow.cvparser.shared.util.PiiRedactor;
+
+import java.util.regex.Pattern;
+
+/**
+ * An open {@link CvStageEvent}; closing it ends the stage and commits the event.
+ *
+ * Use with try-with-resources and call {@link #succeeded()} as the last statement of the block,
+ * so a stage left by an exception is recorded as failed.
+ */
+public final class StageRecording implements AutoCloseable {
+
+    private static final Pattern UUID_PATTERN =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    private final CvStageEvent event;
+
+    private StageRecording(CvStageEvent event) {
+        this.event = event;
+    }
+
+    /**
+     * Begin a stage. Cheap when no recording has the event enabled.
+     *
+     * @param stage         Stage name, e.g. parse
+     * @param applicationId Application id; recorded as-is if it is a UUID, redacted otherwise
+     */
+    public static StageRecording start(String stage, String applicationId) {
+        CvStageEvent event = new CvStageEvent();
+        if (event.isEnabled()) {
+            event.stage = stage;
+            // Redaction would mangle the digit runs of a UUID into phone numbers
+            event.applicationId = applicationId != null && UUID_PATTERN.matcher(applicationId).matches()
+                    ? applicationId
+                    : PiiRedactor.sanitize(applicationId);
+        }
+        event.failed = true;
+        event.begin();
+        return new StageRecording(event);
+    }
+
+    public StageRecording mimeType(String mimeType) {
+        event.mimeType = mimeType;
+        return this;
+    }
+
+    public StageRecording pageCount(int pageCount) {
+        event.pageCount = pageCount;
+        return this;
+    }
+
+    public StageRecording bytes(long bytes) {
+        event.bytes = bytes;
+        return this;
+    }
+
+    public void succeeded() {
+        event.failed = false;
+    }
+
+    @Override
+    public void close() {
+        event.end();
+        if (event.shouldCommit()) {
+            event.commit();
+        }
+    }
+}
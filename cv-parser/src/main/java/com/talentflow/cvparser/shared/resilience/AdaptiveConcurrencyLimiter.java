@@ -0,0 +1,355 @@
+package com.talentflow.cvparser.shared.resilience;
+
+import com.talentflow.cvparser.shared.exception.LlmCapacityException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * AIMD concurrency limiter shared by all Gemini calls.
+ *
+ * Replaces the static geminiApi rate limiter:
+ *   - additive increase (+1 per round trip) while latency stays within tolerance of the observed minimum
+ *   - multiplicative decrease when latency inflates
+ *   - hard backoff on 429/503/timeouts, honouring Retry-After
+ *
+ * Calls also reserve from a tokens-per-minute {@link TokenBudget} shared by extraction and scoring.
+ * Callers that wait longer than max-wait (for budget, then for a permit) fail with
+ * {@link LlmCapacityException} instead of queueing forever. A reservation is returned in full
+ * when the caller gives up waiting or the call ends without a response (error, timeout, or a
+ * hedge or retry cancelling it); once a response arrives the caller reconciles it with
+ * {@link #recordTokenUsage(long, long)}.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    // Re-learn the no-load latency periodically so a slow period does not pin minRtt
+    private static final int MIN_RTT_PROBE_INTERVAL = 500;
+    private static final double LATENCY_DECREASE_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final double backoffRatio;
+    private final Duration maxWait;
+    private final TokenBudget tokenBudget;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final Counter rejected;
+    private final Counter throttled;
+
+    private volatile double limit;
+    private volatile long blockedUntilNanos;
+    private long minRttNanos = Long.MAX_VALUE;
+    private int samples;
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(@Value("${llm.concurrency.initial-limit:8}") int initialLimit,
+                                      @Value("${llm.concurrency.min-limit:1}") int minLimit,
+                                      @Value("${llm.concurrency.max-limit:64}") int maxLimit,
+                                      @Value("${llm.concurrency.latency-tolerance:2.0}") double latencyTolerance,
+                                      @Value("${llm.concurrency.backoff-ratio:0.5}") double backoffRatio,
+                                      @Value("${llm.concurrency.max-wait:5s}") Duration maxWait,
+                                      @Value("${llm.concurrency.tokens-per-minute:1000000}") long tokensPerMinute,
+                                      MeterRegistry meterRegistry) {
+        this(initialLimit, minLimit, maxLimit, latencyTolerance, backoffRatio, maxWait, tokensPerMinute, meterRegistry,
+                System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock Monotonic time source for latency, Retry-After and the token budget
+     *                  (System::nanoTime outside tests)
+     */
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double latencyTolerance,
+                               double backoffRatio, Duration maxWait, long tokensPerMinute,
+                               MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.backoffRatio = backoffRatio;
+        this.maxWait = maxWait;
+        this.tokenBudget = new TokenBudget(tokensPerMinute, nanoClock);
+
+        Gauge.builder("llm.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive in-flight limit for Gemini calls")
+                .register(meterRegistry);
+        Gauge.builder("llm.concurrency.inflight", inFlight, AtomicInteger::get)
+                .description("Gemini calls currently in flight")
+                .register(meterRegistry);
+        Gauge.builder("llm.tokens.available", tokenBudget, TokenBudget::available)
+                .description("Tokens left in the shared per-minute budget")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("llm.concurrency.rejected")
+                .description("Calls that could not obtain capacity within max-wait")
+                .register(meterRegistry);
+        this.throttled = Counter.builder("llm.concurrency.throttled")
+                .description("429/503/timeout responses that triggered a backoff")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run a single-response call under the limiter.
+     *
+     * @param call            Deferred call (subscribed only once a permit is granted)
+     * @param estimatedTokens Estimated prompt + output tokens
+     */
+    public <T> Mono<T> limit(Mono<T> call, long estimatedTokens) {
+        return acquire(estimatedTokens).flatMap(start -> {
+            AtomicBoolean answered = new AtomicBoolean();
+            return call
+                    .doOnNext(value -> answered.set(true))
+                    .doOnSuccess(value -> onSuccess(start))
+                    .doOnError(this::onError)
+                    .doFinally(signal -> release(answered.get() ? 0 : estimatedTokens));
+        });
+    }
+
+    /**
+     * Run a streaming call under the limiter.
+     * Latency is measured to the first element, which is independent of output length.
+     */
+    public <T> Flux<T> limit(Flux<T> call, long estimatedTokens) {
+        return acquire(estimatedTokens).flatMapMany(start -> {
+            AtomicBoolean first = new AtomicBoolean(true);
+            return call
+                    .doOnNext(value -> {
+                        if (first.compareAndSet(true, false)) {
+                            onSuccess(start);
+                        }
+                    })
+                    .doOnError(this::onError)
+                    .doFinally(signal -> release(first.get() ? estimatedTokens : 0));
+        });
+    }
+
+    /**
+     * Reconcile a token reservation with the usage reported by the API.
+     * Without reported usage the estimate stands, since the call did produce a response.
+     */
+    public void recordTokenUsage(long estimatedTokens, long actualTokens) {
+        if (actualTokens > 0) {
+            tokenBudget.adjust(actualTokens - estimatedTokens);
+        }
+    }
+
+    /**
+     * Current in-flight limit.
+     */
+    public double getLimit() {
+        return limit;
+    }
+
+    /**
+     * Calls currently holding a permit.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private Mono<Long> acquire(long estimatedTokens) {
+        return reserveTokens(estimatedTokens)
+                .timeout(maxWait, Mono.error(this::capacityExceeded))
+                .then(Mono.defer(() -> {
+                    // Cancel can also arrive after the grant, from downstream of the call
+                    AtomicBoolean granted = new AtomicBoolean();
+                    return Mono.<Long>create(this::enqueue)
+                            .doOnNext(start -> granted.set(true))
+                            .doFinally(signal -> {
+                                if (!granted.get()) {
+                                    tokenBudget.adjust(-estimatedTokens);
+                                }
+                            });
+                }));
+    }
+
+    private Mono<Void> reserveTokens(long tokens) {
+        return Mono.defer(() -> {
+            long blockedNanos = blockedUntilNanos - nanoClock.getAsLong();
+            long waitNanos = blockedNanos > 0 ? blockedNanos : tokenBudget.tryReserve(tokens);
+            if (waitNanos <= 0) {
+                return Mono.<Void>empty();
+            }
+            return Mono.delay(Duration.ofNanos(waitNanos)).then(reserveTokens(tokens));
+        });
+    }
+
+    private void enqueue(MonoSink<Long> sink) {
+        Waiter waiter = new Waiter(sink);
+        sink.onCancel(waiter::cancel);
+        if (tryGrant(waiter)) {
+            return;
+        }
+        waiters.add(waiter);
+        sink.onDispose(Schedulers.parallel().schedule(() -> {
+            if (waiter.cancel()) {
+                waiters.remove(waiter);
+                sink.error(capacityExceeded());
+            }
+        }, maxWait.toMillis(), TimeUnit.MILLISECONDS));
+        // A permit may have been released between tryGrant and add
+        drainWaiters();
+    }
+
+    private LlmCapacityException capacityExceeded() {
+        rejected.increment();
+        return new LlmCapacityException("No LLM capacity available within " + maxWait.toMillis() + "ms");
+    }
+
+    private boolean tryGrant(Waiter waiter) {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                if (!waiter.grant(nanoClock.getAsLong())) {
+                    inFlight.decrementAndGet();
+                }
+                return true;
+            }
+        }
+    }
+
+    private void drainWaiters() {
+        Waiter next;
+        while ((next = waiters.peek()) != null) {
+            if (next.isCancelled()) {
+                waiters.remove(next);
+                continue;
+            }
+            if (!tryGrant(next)) {
+                return;
+            }
+            waiters.remove(next);
+        }
+    }
+
+    /**
+     * @param unusedTokens Reserved tokens to return to the budget
+     */
+    private void release(long unusedTokens) {
+        if (unusedTokens > 0) {
+            tokenBudget.adjust(-unusedTokens);
+        }
+        inFlight.decrementAndGet();
+        drainWaiters();
+    }
+
+    private synchronized void onSuccess(long startNanos) {
+        long rtt = nanoClock.getAsLong() - startNanos;
+        if (++samples % MIN_RTT_PROBE_INTERVAL == 0 || rtt < minRttNanos) {
+            minRttNanos = rtt;
+        }
+
+        if (rtt > minRttNanos * latencyTolerance) {
+            limit = Math.max(minLimit, limit * LATENCY_DECREASE_RATIO);
+        } else if (inFlight.get() * 2 >= limit) {
+            // Only grow when the limit is actually being used
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    private synchronized void onError(Throwable error) {
+        if (!isOverload(error)) {
+            return;
+        }
+        throttled.increment();
+        limit = Math.max(minLimit, limit * backoffRatio);
+
+        Duration retryAfter = retryAfter(error);
+        if (retryAfter != null) {
+            blockedUntilNanos = nanoClock.getAsLong() + retryAfter.toNanos();
+            log.warn("Gemini throttled, pausing new calls for {}s (limit now {})",
+                    retryAfter.toSeconds(), String.format("%.1f", limit));
+        }
+    }
+
+    private boolean isOverload(Throwable error) {
+        if (error instanceof WebClientResponseException e) {
+            int status = e.getStatusCode().value();
+            return status == 429 || status == 503;
+        }
+        return error instanceof TimeoutException;
+    }
+
+    private Duration retryAfter(Throwable error) {
+        if (!(error instanceof WebClientResponseException e)) {
+            return null;
+        }
+        String value = e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date form
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration delay = Duration.between(ZonedDateTime.now(at.getZone()), at);
+            return delay.isNegative() ? null : delay;
+        } catch (DateTimeParseException e2) {
+            return null;
+        }
+    }
+
+    /**
+     * Pending acquisition. Grant, timeout and cancel race on a single flag so a permit
+     * is never handed to a subscriber that has already given up.
+     */
+    private static final class Waiter {
+
+        private final MonoSink<Long> sink;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Waiter(MonoSink<Long> sink) {
+            this.sink = sink;
+        }
+
+        boolean grant(long nowNanos) {
+            if (!done.compareAndSet(false, true)) {
+                return false;
+            }
+            sink.success(nowNanos);
+            return true;
+        }
+
+        boolean cancel() {
+            return done.compareAndSet(false, true);
+        }
+
+        boolean isCancelled() {
+            return done.get();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.talentflow.cvparser.shared.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Request hedging for tail-latency reduction.
+ *
+ * If an attempt has not completed after the observed latency percentile (p95 by default),
+ * an identical second attempt is started and whichever answers first wins; the other is cancelled.
+ * Streams are hedged the same way up to their first element.
+ *
+ * Hedges are paid for by a budget: every primary call earns budget-ratio credits and each
+ * hedge spends one, so extra calls never exceed budget-ratio of traffic (5% by default).
+ * Callers supply a guard so hedges are skipped while the circuit breaker is not closed
+ * or the adaptive limiter has no spare capacity.
+ */
+@Component
+public class HedgingPolicy {
+
+    private static final int WINDOW_SIZE = 256;
+    private static final int RECOMPUTE_INTERVAL = 16;
+    // Allows a short burst of hedges after a quiet period without breaking the long-run ratio
+    private static final double MAX_CREDITS = 10.0;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final double budgetRatio;
+    private final Duration minDelay;
+    private final int minSamples;
+
+    private final long[] latencies = new long[WINDOW_SIZE];
+    private int samples;
+    private double credits;
+    private volatile long hedgeDelayNanos = -1;
+
+    private final Counter issued;
+    private final Counter won;
+    private final Counter denied;
+
+    public HedgingPolicy(@Value("${llm.hedging.enabled:false}") boolean enabled,
+                         @Value("${llm.hedging.percentile:0.95}") double percentile,
+                         @Value("${llm.hedging.budget-ratio:0.05}") double budgetRatio,
+                         @Value("${llm.hedging.min-delay:1s}") Duration minDelay,
+                         @Value("${llm.hedging.min-samples:20}") int minSamples,
+                         MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.budgetRatio = budgetRatio;
+        this.minDelay = minDelay;
+        this.minSamples = minSamples;
+
+        this.issued = Counter.builder("llm.hedge.issued")
+                .description("Hedged (duplicate) Gemini requests sent")
+                .register(meterRegistry);
+        this.won = Counter.builder("llm.hedge.won")
+                .description("Hedged requests that answered before the primary")
+                .register(meterRegistry);
+        this.denied = Counter.builder("llm.hedge.denied")
+                .description("Hedges skipped because of budget, circuit breaker or limiter state")
+                .register(meterRegistry);
+        Gauge.builder("llm.hedge.delay", this, policy -> policy.hedgeDelayNanos / 1_000_000.0)
+                .description("Current hedge delay in milliseconds (-1 while warming up)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run an attempt with optional hedging.
+     *
+     * Errors of the hedge are swallowed so the primary decides the outcome; a primary error
+     * propagates immediately (retry is left to the caller).
+     *
+     * @param attempt      Cold publisher; every subscription sends a new request
+     * @param hedgeAllowed Checked when the hedge delay elapses
+     */
+    public <T> Mono<T> hedge(Mono<T> attempt, BooleanSupplier hedgeAllowed) {
+        return hedgeFirst(attempt.flux(), hedgeAllowed).next();
+    }
+
+    /**
+     * Run a streamed attempt, hedging only until its first element.
+     *
+     * The attempt that emits first is kept and the other one is cancelled, so at most one
+     * stream is consumed past its first element. The hedge delay is based on time to first
+     * element. A hedge error before its first element is swallowed; after that the hedge is
+     * the stream and its errors propagate.
+     *
+     * @param attempt      Cold publisher; every subscription sends a new request
+     * @param hedgeAllowed Checked when the hedge delay elapses
+     */
+    public <T> Flux<T> hedgeFirst(Flux<T> attempt, BooleanSupplier hedgeAllowed) {
+        if (!enabled) {
+            return attempt;
+        }
+        earnCredit();
+
+        long delayNanos = hedgeDelayNanos;
+        if (delayNanos < 0) {
+            return timed(attempt, null);
+        }
+
+        AtomicBoolean hedgeWon = new AtomicBoolean();
+        Flux<T> hedge = Mono.delay(Duration.ofNanos(delayNanos))
+                .thenMany(Flux.defer(() -> {
+                    if (!hedgeAllowed.getAsBoolean() || !spendCredit()) {
+                        denied.increment();
+                        return Flux.<T>never();
+                    }
+                    issued.increment();
+                    AtomicBoolean started = new AtomicBoolean();
+                    return attempt
+                            .doOnNext(value -> {
+                                if (!started.getAndSet(true)) {
+                                    hedgeWon.set(true);
+                                    won.increment();
+                                }
+                            })
+                            .onErrorResume(e -> started.get() ? Flux.error(e) : Flux.never());
+                }));
+
+        return Flux.firstWithSignal(timed(attempt, hedgeWon), hedge);
+    }
+
+    /**
+     * Only primary attempts feed the latency window: hedges are the fast half of a race and
+     * would drag the percentile down. A primary that loses to a hedge is recorded with the
+     * time it had run when cancelled, a lower bound that keeps slow calls in the window.
+     */
+    private <T> Flux<T> timed(Flux<T> attempt, AtomicBoolean hedgeWon) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            return attempt
+                    .doOnNext(value -> {
+                        if (!recorded.getAndSet(true)) {
+                            recordLatency(System.nanoTime() - start);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (hedgeWon != null && hedgeWon.get() && !recorded.getAndSet(true)) {
+                            recordLatency(System.nanoTime() - start);
+                        }
+                    });
+        });
+    }
+
+    private synchronized void earnCredit() {
+        credits = Math.min(MAX_CREDITS, credits + budgetRatio);
+    }
+
+    private synchronized boolean spendCredit() {
+        if (credits < 1.0) {
+            return false;
+        }
+        credits -= 1.0;
+        return true;
+    }
+
+    private synchronized void recordLatency(long nanos) {
+        latencies[samples % WINDOW_SIZE] = nanos;
+        samples++;
+        if (samples >= minSamples && samples % RECOMPUTE_INTERVAL == 0) {
+            long[] window = Arrays.copyOf(latencies, Math.min(samples, WINDOW_SIZE));
+            Arrays.sort(window);
+            long observed = window[(int) Math.min(window.length - 1, Math.floor(percentile * window.length))];
+            hedgeDelayNanos = Math.max(minDelay.toNanos(), observed);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.talentflow.cvparser.shared.resilience;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.talentflow.cvparser.shared.messaging.FairJobDispatcher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Saturation model for readiness and autoscaling.
+ *
+ * Each component is normalized so 1.0 means "full":
+ *   - fair_queue: expected wait of a CV entering the {@link FairJobDispatcher} (buffer depth x
+ *     smoothed processing time / workers) / max-queue-wait; this is where CV backlog builds up
+ *   - parsing_executor: (active + queued) / (max threads + queue capacity)
+ *   - llm_inflight: in-flight Gemini calls / current adaptive limit
+ *   - ocr_backlog: queued OCR tasks / OCR queue capacity
+ *   - heap: old-gen usage after the last GC / heap-threshold
+ *
+ * The load factor is the maximum component, published as service.load.factor for the
+ * horizontal autoscaler (e.g. target 0.7). At or above 1.0 the pod is saturated: the
+ * dispatcher stops accepting cv_parser.jobs and shard messages (listeners block, then requeue
+ * after the submit timeout) and the "saturation" readiness indicator reports OUT_OF_SERVICE.
+ * Listener containers are not stopped: that would close the channels of CVs still buffered
+ * in the dispatcher, which are acked later. The parking drain pauses itself while saturated
+ * ({@link com.talentflow.cvparser.shared.messaging.ParkingLot}). Intake resumes once the load
+ * factor drops below resume-threshold.
+ */
+@Component("saturation")
+public class SaturationMonitor implements HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(SaturationMonitor.class);
+
+    private final FairJobDispatcher dispatcher;
+    private final ThreadPoolTaskExecutor parsingExecutor;
+    private final ThreadPoolTaskExecutor ocrExecutor;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final double maxQueueWaitNanos;
+    private final double heapThreshold;
+    private final double resumeThreshold;
+    private final List<MemoryPoolMXBean> heapPools;
+
+    private volatile Map<String, Double> components = Map.of();
+    private volatile double loadFactor;
+    private volatile boolean saturated;
+
+    public SaturationMonitor(FairJobDispatcher dispatcher,
+                             @Qualifier("parsingExecutor") Executor parsingExecutor,
+                             @Qualifier("ocrExecutor") Executor ocrExecutor,
+                             AdaptiveConcurrencyLimiter concurrencyLimiter,
+                             @Value("${saturation.max-queue-wait:300s}") Duration maxQueueWait,
+                             @Value("${saturation.heap-threshold:0.85}") double heapThreshold,
+                             @Value("${saturation.resume-threshold:0.8}") double resumeThreshold,
+                             MeterRegistry meterRegistry) {
+        this.dispatcher = dispatcher;
+        this.parsingExecutor = (ThreadPoolTaskExecutor) parsingExecutor;
+        this.ocrExecutor = (ThreadPoolTaskExecutor) ocrExecutor;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.maxQueueWaitNanos = Math.max(1, maxQueueWait.toNanos());
+        this.heapThreshold = heapThreshold;
+        this.resumeThreshold = resumeThreshold;
+        this.heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported())
+                .toList();
+
+        Gauge.builder("service.load.factor", this, SaturationMonitor::getLoadFactor)
+                .description("Normalized load (max of saturation components); 1.0 = saturated")
+                .register(meterRegistry);
+        for (String component : List.of("fair_queue", "parsing_executor", "llm_inflight", "ocr_backlog", "heap")) {
+            Gauge.builder("service.load.component", this, monitor -> monitor.components.getOrDefault(component, 0.0))
+                    .description("Normalized load of one saturation component")
+                    .tag("component", component)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Recompute the load factor and pause or resume consumers on threshold crossings.
+     */
+    @Scheduled(fixedDelayString = "${saturation.check-interval-ms:1000}")
+    public void evaluate() {
+        Map<String, Double> current = new LinkedHashMap<>();
+        current.put("fair_queue", dispatcher.estimatedWaitNanos() / maxQueueWaitNanos);
+        current.put("parsing_executor", executorLoad(parsingExecutor));
+        current.put("llm_inflight", concurrencyLimiter.getInFlight() / Math.max(1.0, concurrencyLimiter.getLimit()));
+        current.put("ocr_backlog", (double) ocrExecutor.getQueueSize() / Math.max(1, ocrExecutor.getQueueCapacity()));
+        current.put("heap", heapUsageAfterGc() / heapThreshold);
+
+        components = current;
+        loadFactor = current.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+
+        if (!saturated && loadFactor >= 1.0) {
+            saturated = true;
+            log.warn("Saturated (load factor {}, {}), pausing intake", String.format("%.2f", loadFactor), current);
+            dispatcher.pause();
+        } else if (saturated && loadFactor < resumeThreshold) {
+            saturated = false;
+            log.info("Load factor {} below {}, resuming intake", String.format("%.2f", loadFactor), resumeThreshold);
+            dispatcher.resume();
+        }
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = saturated ? Health.outOfService() : Health.up();
+        return builder
+                .withDetail("loadFactor", loadFactor)
+                .withDetail("components", components)
+                .build();
+    }
+
+    public double getLoadFactor() {
+        return loadFactor;
+    }
+
+    public boolean isSaturated() {
+        return saturated;
+    }
+
+    private static double executorLoad(ThreadPoolTaskExecutor executor) {
+        int capacity = executor.getMaxPoolSize() + executor.getQueueCapacity();
+        return (double) (executor.getActiveCount() + executor.getQueueSize()) / Math.max(1, capacity);
+    }
+
+    private double heapUsageAfterGc() {
+        double max = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            MemoryUsage usage = pool.getCollectionUsage();
+            if (usage != null && usage.getMax() > 0) {
+                max = Math.max(max, (double) usage.getUsed() / usage.getMax());
+            }
+        }
+        return max;
+    }
+}
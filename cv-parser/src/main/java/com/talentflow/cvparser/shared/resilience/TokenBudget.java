@@ -0,0 +1,75 @@
+package com.talentflow.cvparser.shared.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Tokens-per-minute budget shared by all LLM callers (extraction and scoring).
+ *
+ * Continuously refilled token bucket. Reservations are made with an estimate
+ * before the call and reconciled with the actual usage reported by the API.
+ */
+public class TokenBudget {
+
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+
+    private double available;
+    private long lastRefillNanos;
+
+    public TokenBudget(long tokensPerMinute) {
+        this(tokensPerMinute, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock Monotonic time source in nanoseconds (System::nanoTime outside tests)
+     */
+    TokenBudget(long tokensPerMinute, LongSupplier nanoClock) {
+        this.capacity = tokensPerMinute;
+        this.tokensPerNano = (double) tokensPerMinute / NANOS_PER_MINUTE;
+        this.nanoClock = nanoClock;
+        this.available = tokensPerMinute;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Try to reserve tokens.
+     *
+     * @param tokens Estimated tokens (clamped to capacity so large prompts can still run)
+     * @return 0 if reserved, otherwise nanoseconds until enough tokens are available
+     */
+    public synchronized long tryReserve(long tokens) {
+        refill();
+        double needed = Math.min(tokens, capacity);
+        if (available >= needed) {
+            available -= needed;
+            return 0;
+        }
+        return (long) Math.ceil((needed - available) / tokensPerNano);
+    }
+
+    /**
+     * Correct a reservation once actual usage is known.
+     * A negative delta returns unused tokens; a positive delta may drive the budget negative.
+     */
+    public synchronized void adjust(long delta) {
+        refill();
+        available = Math.min(capacity, available - delta);
+    }
+
+    /**
+     * Currently available tokens (for metrics).
+     */
+    public synchronized double available() {
+        refill();
+        return available;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        available = Math.min(capacity, available + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+}
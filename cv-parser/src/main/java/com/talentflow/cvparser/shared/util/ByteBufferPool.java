@@ -0,0 +1,274 @@
+package com.talentflow.cvparser.shared.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of size-classed heap buffers for downloaded CV files.
+ *
+ * Without pooling, every message allocates a new array of up to 10 MB for the object body.
+ * Arrays that large go straight to the old generation, so dozens of concurrent messages
+ * churn it and trigger long GC pauses.
+ *
+ * Size classes are powers of two from buffer-pool.min-class-size up to max-class-size.
+ * Larger requests are allocated unpooled. Released buffers are retained until the pool
+ * holds max-retained bytes, and anything beyond that is left to the GC.
+ *
+ * Heap (not direct) buffers are used because Tika, PDFBox and the DOCX reader consume the
+ * backing array in place.
+ *
+ * Leak detection: a lease that becomes unreachable without being closed is reported when
+ * it is collected (buffer.pool.leaks, error log). With buffer-pool.leak-detection=true
+ * (test profile), the stack of the lease call is recorded and logged as well.
+ */
+@Slf4j
+@Component
+public class ByteBufferPool {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final int minClassBytes;
+    private final int maxClassBytes;
+    private final long maxRetainedBytes;
+    private final boolean leakDetection;
+    private final ConcurrentLinkedDeque<ByteBuffer>[] classes;
+
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter unpooled;
+    private final Counter leaks;
+
+    @SuppressWarnings("unchecked")
+    public ByteBufferPool(@Value("${buffer-pool.min-class-size:64KB}") DataSize minClassSize,
+                          @Value("${buffer-pool.max-class-size:16MB}") DataSize maxClassSize,
+                          @Value("${buffer-pool.max-retained:64MB}") DataSize maxRetained,
+                          @Value("${buffer-pool.leak-detection:false}") boolean leakDetection,
+                          MeterRegistry meterRegistry) {
+        this.minClassBytes = roundUpToPowerOfTwo((int) minClassSize.toBytes());
+        this.maxClassBytes = Math.max(minClassBytes, roundUpToPowerOfTwo((int) maxClassSize.toBytes()));
+        this.maxRetainedBytes = maxRetained.toBytes();
+        this.leakDetection = leakDetection;
+
+        int classCount = Integer.numberOfTrailingZeros(maxClassBytes) - Integer.numberOfTrailingZeros(minClassBytes) + 1;
+        this.classes = new ConcurrentLinkedDeque[classCount];
+        for (int i = 0; i < classCount; i++) {
+            classes[i] = new ConcurrentLinkedDeque<>();
+        }
+
+        this.hits = leaseCounter(meterRegistry, "hit");
+        this.misses = leaseCounter(meterRegistry, "miss");
+        this.unpooled = leaseCounter(meterRegistry, "unpooled");
+        this.leaks = Counter.builder("buffer.pool.leaks")
+                .description("Buffer leases collected without being released")
+                .register(meterRegistry);
+        Gauge.builder("buffer.pool.retained.bytes", retainedBytes, AtomicLong::get)
+                .description("Bytes held by idle pooled buffers")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("buffer.pool.outstanding", outstanding, AtomicInteger::get)
+                .description("Buffer leases not yet released")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Lease a buffer with room for at least size bytes.
+     * The returned buffer has position 0 and limit size; close the lease to return it.
+     */
+    public PooledBuffer lease(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Buffer size must not be negative: " + size);
+        }
+        ByteBuffer buffer;
+        int sizeClass = sizeClass(size);
+        if (sizeClass < 0) {
+            unpooled.increment();
+            buffer = ByteBuffer.allocate(size);
+        } else {
+            buffer = classes[sizeClass].pollFirst();
+            if (buffer != null) {
+                retainedBytes.addAndGet(-buffer.capacity());
+                hits.increment();
+            } else {
+                misses.increment();
+                buffer = ByteBuffer.allocate(minClassBytes << sizeClass);
+            }
+        }
+        buffer.clear().limit(size);
+        outstanding.incrementAndGet();
+
+        Throwable origin = leakDetection ? new Throwable("Buffer leased here") : null;
+        LeakCheck check = new LeakCheck(this, size, origin);
+        PooledBuffer lease = new PooledBuffer(this, buffer, check);
+        check.cleanable = CLEANER.register(lease, check);
+        return lease;
+    }
+
+    /**
+     * Read a stream completely into a leased buffer.
+     *
+     * @param in           Source (not closed)
+     * @param expectedSize Declared length, or -1 if unknown
+     * @param maxSize      Upper bound; more data fails the read
+     * @return Lease with limit set to the bytes read
+     * @throws SizeLimitExceededException if the declared size or the stream exceeds maxSize
+     * @throws IOException on read errors or if the stream does not match the expected size;
+     *                     the lease is released before throwing
+     */
+    public PooledBuffer read(InputStream in, long expectedSize, int maxSize) throws IOException {
+        if (expectedSize > maxSize) {
+            throw new SizeLimitExceededException("Declared size " + expectedSize + " exceeds " + maxSize + " bytes");
+        }
+        int capacity = expectedSize >= 0 ? (int) expectedSize : maxSize;
+        PooledBuffer lease = lease(capacity);
+        try {
+            ByteBuffer buffer = lease.buffer();
+            byte[] array = buffer.array();
+            int offset = buffer.arrayOffset();
+            int filled = 0;
+            int n;
+            while (filled < capacity && (n = in.read(array, offset + filled, capacity - filled)) > 0) {
+                filled += n;
+            }
+            if (filled == capacity && in.read() >= 0) {
+                if (capacity == maxSize) {
+                    throw new SizeLimitExceededException("Stream is larger than " + maxSize + " bytes");
+                }
+                throw new IOException("Stream is larger than " + capacity + " bytes");
+            }
+            if (expectedSize >= 0 && filled < expectedSize) {
+                throw new IOException("Stream ended after " + filled + " of " + expectedSize + " bytes");
+            }
+            lease.limit(filled);
+            return lease;
+        } catch (IOException | RuntimeException e) {
+            lease.close();
+            throw e;
+        }
+    }
+
+    /**
+     * The data is larger than the caller allows: a property of the input, so retrying cannot help.
+     */
+    public static class SizeLimitExceededException extends IOException {
+
+        public SizeLimitExceededException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Leases not yet released (for tests and diagnostics).
+     */
+    public int outstanding() {
+        return outstanding.get();
+    }
+
+    public double leakCount() {
+        return leaks.count();
+    }
+
+    void release(ByteBuffer buffer) {
+        outstanding.decrementAndGet();
+        int capacity = buffer.capacity();
+        int sizeClass = sizeClass(capacity);
+        if (sizeClass < 0 || (minClassBytes << sizeClass) != capacity) {
+            return;
+        }
+        if (retainedBytes.addAndGet(capacity) > maxRetainedBytes) {
+            retainedBytes.addAndGet(-capacity);
+            return;
+        }
+        classes[sizeClass].offerFirst(buffer);
+    }
+
+    private void reportLeak(int size, Throwable origin) {
+        outstanding.decrementAndGet();
+        leaks.increment();
+        if (origin != null) {
+            log.error("Pooled buffer of {} bytes was garbage collected without release", size, origin);
+        } else {
+            log.error("Pooled buffer of {} bytes was garbage collected without release "
+                    + "(set buffer-pool.leak-detection=true to record where it was leased)", size);
+        }
+    }
+
+    /**
+     * Index of the smallest class holding size bytes, or -1 if larger than the largest class.
+     */
+    private int sizeClass(int size) {
+        if (size > maxClassBytes) {
+            return -1;
+        }
+        int rounded = roundUpToPowerOfTwo(Math.max(size, minClassBytes));
+        return Integer.numberOfTrailingZeros(rounded) - Integer.numberOfTrailingZeros(minClassBytes);
+    }
+
+    private static int roundUpToPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    private static Counter leaseCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("buffer.pool.leases")
+                .description("Buffer leases by pool outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cleaner action; must not reference the lease, or the lease would never become unreachable.
+     */
+    static final class LeakCheck implements Runnable {
+
+        private final ByteBufferPool pool;
+        private final int size;
+        private final Throwable origin;
+        private boolean released;
+        private Cleaner.Cleanable cleanable;
+
+        private LeakCheck(ByteBufferPool pool, int size, Throwable origin) {
+            this.pool = pool;
+            this.size = size;
+            this.origin = origin;
+        }
+
+        /**
+         * @return false if already released
+         */
+        boolean markReleased() {
+            synchronized (this) {
+                if (released) {
+                    return false;
+                }
+                released = true;
+            }
+            cleanable.clean();
+            return true;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            pool.reportLeak(size, origin);
+        }
+    }
+}
@@ -1,18 +1,21 @@
 package com.talentflow.cvparser.shared.util;
 
+import com.talentflow.cvparser.shared.validation.EventFieldScanner;
 import org.apache.tika.Tika;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * File validation utility.
  * Validates files by magic bytes (not extension) for security.
+ * Key and bucket checks are single-pass character scanners ({@link EventFieldScanner}), not regexes.
  *
  * <p><b>Important:</b> Callers are responsible for closing the InputStream.
  * This class does not take ownership of the stream.</p>
@@ -21,18 +24,12 @@ import java.util.regex.Pattern;
 @ConfigurationProperties(prefix = "file")
 public class FileValidator {
 
-    private final Tika tika = new Tika();
-
-    // Pattern to detect path traversal attempts
-    private static final Pattern PATH_TRAVERSAL_PATTERN = Pattern.compile(
-            "(\\.\\./|\\.\\.\\\\|%2e%2e%2f|%2e%2e/|\\.\\.%2f|%2e%2e%5c)",
-            Pattern.CASE_INSENSITIVE
-    );
+    private static final String DOCX = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+    private static final String OOXML_CONTAINER = "application/x-tika-ooxml";
+    private static final String ZIP = "application/zip";
+    private static final String DOCX_MAIN_PART = "word/document.xml";
 
-    // Pattern for valid S3 object keys (alphanumeric, hyphens, underscores, slashes, dots)
-    private static final Pattern VALID_FILE_KEY_PATTERN = Pattern.compile(
-            "^[a-zA-Z0-9/_.-]+$"
-    );
+    private final Tika tika = new Tika();
 
     private int maxSizeMb = 10;
     private int maxPages = 20;
@@ -47,28 +44,71 @@ public class FileValidator {
      * <p><b>Note:</b> Caller must close the InputStream after this method returns.</p>
      *
      * @param inputStream File input stream (caller must close)
-     * @param fileName    Original filename (for logging only, not used for security decisions)
+     * @param fileName    Original filename; not used for detection
      * @param fileSize    File size in bytes
      * @return Detected MIME type
      * @throws IllegalArgumentException if validation fails
      */
     public String validate(InputStream inputStream, String fileName, long fileSize) {
-        // Check file size
-        long maxSizeBytes = (long) maxSizeMb * 1024 * 1024;
-        if (fileSize > maxSizeBytes) {
-            throw new IllegalArgumentException(
-                    String.format("File size %d bytes exceeds maximum %d MB", fileSize, maxSizeMb)
-            );
+        checkSize(fileSize);
+
+        // The OOXML check needs the zip's central directory at the end of the file
+        byte[] content;
+        try {
+            content = inputStream.readNBytes((int) Math.min(fileSize, (long) maxSizeMb * 1024 * 1024));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to detect file type", e);
         }
+        return validate(ByteBuffer.wrap(content), fileName);
+    }
 
-        // Detect MIME type by magic bytes
-        String detectedType;
+    /**
+     * Validate a file held in memory (e.g. a {@link PooledBuffer}) by checking magic bytes.
+     * Detection reads the backing array in place; the buffer's position is not modified.
+     *
+     * @param content  File bytes from position to limit
+     * @param fileName Original filename; not used for detection
+     * @return Detected MIME type
+     * @throws IllegalArgumentException if validation fails
+     */
+    public String validate(ByteBuffer content, String fileName) {
+        checkSize(content.remaining());
+
+        ByteBuffer bytes = content.hasArray() ? content : ByteBuffer.wrap(copyOf(content));
+        InputStream inputStream = new ByteArrayInputStream(
+                bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
         try {
-            detectedType = tika.detect(inputStream);
+            return checkType(detect(inputStream, bytes));
         } catch (IOException e) {
             throw new IllegalArgumentException("Unable to detect file type", e);
         }
+    }
+
+    /**
+     * Magic-byte detection only; the filename never takes part (Tika would otherwise fall back
+     * to the extension for bytes it cannot identify). tika-core recognizes a DOCX only as a zip
+     * or the generic OOXML container, so those are reported as DOCX when the zip's central
+     * directory lists word/document.xml ({@link OoxmlInspector}).
+     */
+    private String detect(InputStream inputStream, ByteBuffer content) throws IOException {
+        String detected = tika.detect(inputStream);
+        if ((OOXML_CONTAINER.equals(detected) || ZIP.equals(detected))
+                && OoxmlInspector.containsEntry(content, DOCX_MAIN_PART)) {
+            return DOCX;
+        }
+        return detected;
+    }
+
+    private void checkSize(long fileSize) {
+        long maxSizeBytes = (long) maxSizeMb * 1024 * 1024;
+        if (fileSize > maxSizeBytes) {
+            throw new IllegalArgumentException(
+                    String.format("File size %d bytes exceeds maximum %d MB", fileSize, maxSizeMb)
+            );
+        }
+    }
 
+    private String checkType(String detectedType) {
         // Check if type is allowed
         if (!allowedTypes.contains(detectedType)) {
             throw new IllegalArgumentException(
@@ -80,6 +120,12 @@ public class FileValidator {
         return detectedType;
     }
 
+    private static byte[] copyOf(ByteBuffer content) {
+        byte[] bytes = new byte[content.remaining()];
+        content.duplicate().get(bytes);
+        return bytes;
+    }
+
     /**
      * Validate S3 file key for path traversal and invalid characters.
      *
@@ -92,12 +138,12 @@ public class FileValidator {
         }
 
         // Check for path traversal attempts
-        if (PATH_TRAVERSAL_PATTERN.matcher(fileKey).find()) {
+        if (EventFieldScanner.containsPathTraversal(fileKey)) {
             throw new IllegalArgumentException("File key contains path traversal sequence");
         }
 
         // Check for valid characters only
-        if (!VALID_FILE_KEY_PATTERN.matcher(fileKey).matches()) {
+        if (!EventFieldScanner.isFileKey(fileKey)) {
             throw new IllegalArgumentException("File key contains invalid characters");
         }
 
@@ -128,7 +174,7 @@ public class FileValidator {
             throw new IllegalArgumentException("Bucket name must be 3-63 characters");
         }
 
-        if (!bucket.matches("^[a-z0-9][a-z0-9.-]*[a-z0-9]$")) {
+        if (!EventFieldScanner.isBucketName(bucket)) {
             throw new IllegalArgumentException("Bucket name contains invalid characters");
         }
     }
@@ -144,7 +190,7 @@ public class FileValidator {
      * Check if MIME type is DOCX.
      */
     public boolean isDocx(String mimeType) {
-        return "application/vnd.openxmlformats-officedocument.wordprocessingml.document".equals(mimeType);
+        return DOCX.equals(mimeType);
     }
 
     /**
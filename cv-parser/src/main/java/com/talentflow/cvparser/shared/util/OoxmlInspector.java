@@ -0,0 +1,73 @@
+package com.talentflow.cvparser.shared.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads entry names from a zip's central directory without inflating anything, to tell OOXML
+ * document types apart by content.
+ */
+final class OoxmlInspector {
+
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int CENTRAL_DIRECTORY_ENTRY = 0x02014b50;
+    private static final int END_RECORD_SIZE = 22;
+    private static final int MAX_COMMENT = 0xFFFF;
+    private static final int MAX_ENTRIES = 10_000;
+
+    private OoxmlInspector() {
+    }
+
+    /**
+     * @return true if the central directory lists an entry with exactly this name; false for
+     *         anything that is not a well-formed zip
+     */
+    static boolean containsEntry(ByteBuffer content, String name) {
+        ByteBuffer zip = content.slice().order(ByteOrder.LITTLE_ENDIAN);
+        int end = findEndRecord(zip);
+        if (end < 0) {
+            return false;
+        }
+        int entries = Math.min(zip.getShort(end + 10) & 0xFFFF, MAX_ENTRIES);
+        long offset = zip.getInt(end + 16) & 0xFFFFFFFFL;
+        byte[] wanted = name.getBytes(StandardCharsets.UTF_8);
+        int position = (int) Math.min(offset, Integer.MAX_VALUE);
+        for (int i = 0; i < entries; i++) {
+            if (position < 0 || position + 46 > zip.limit() || zip.getInt(position) != CENTRAL_DIRECTORY_ENTRY) {
+                return false;
+            }
+            int nameLength = zip.getShort(position + 28) & 0xFFFF;
+            int extraLength = zip.getShort(position + 30) & 0xFFFF;
+            int commentLength = zip.getShort(position + 32) & 0xFFFF;
+            if (position + 46 + nameLength > zip.limit()) {
+                return false;
+            }
+            if (nameLength == wanted.length && matches(zip, position + 46, wanted)) {
+                return true;
+            }
+            position += 46 + nameLength + extraLength + commentLength;
+        }
+        return false;
+    }
+
+    private static int findEndRecord(ByteBuffer zip) {
+        int last = zip.limit() - END_RECORD_SIZE;
+        int first = Math.max(0, last - MAX_COMMENT);
+        for (int position = last; position >= first; position--) {
+            if (zip.getInt(position) == END_OF_CENTRAL_DIRECTORY) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matches(ByteBuffer zip, int position, byte[] wanted) {
+        for (int i = 0; i < wanted.length; i++) {
+            if (zip.get(position + i) != wanted[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,55 @@
+package com.talentflow.cvparser.shared.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Lease of a {@link ByteBufferPool} buffer, scoped to one message.
+ *
+ * Use with try-with-resources so the buffer is returned on every exit path. Views handed
+ * out by {@link #buffer()} share the pooled memory and must not be used after close.
+ */
+public final class PooledBuffer implements AutoCloseable {
+
+    private final ByteBufferPool pool;
+    private final ByteBuffer buffer;
+    private final ByteBufferPool.LeakCheck leakCheck;
+    private volatile boolean closed;
+
+    PooledBuffer(ByteBufferPool pool, ByteBuffer buffer, ByteBufferPool.LeakCheck leakCheck) {
+        this.pool = pool;
+        this.buffer = buffer;
+        this.leakCheck = leakCheck;
+    }
+
+    /**
+     * View of the leased bytes: position 0, limit = content length, array-backed.
+     */
+    public ByteBuffer buffer() {
+        if (closed) {
+            throw new IllegalStateException("Pooled buffer already released");
+        }
+        return buffer.duplicate();
+    }
+
+    /**
+     * Content length in bytes.
+     */
+    public int size() {
+        return buffer.limit();
+    }
+
+    void limit(int size) {
+        buffer.limit(size);
+    }
+
+    /**
+     * Return the buffer to the pool. Idempotent.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (leakCheck.markReleased()) {
+            pool.release(buffer);
+        }
+    }
+}
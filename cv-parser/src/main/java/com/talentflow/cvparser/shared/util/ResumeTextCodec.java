@@ -0,0 +1,173 @@
+package com.talentflow.cvparser.shared.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Size-threshold compression for extracted resume text.
+ *
+ * Uses zlib DEFLATE with a preset dictionary of common CV vocabulary (EN/VI section
+ * headings, job titles, technologies). The dictionary primes the compressor so even
+ * mid-sized CVs compress well, without native libraries. Text below the threshold is
+ * stored as-is; the encoding marker tells readers which path to take.
+ *
+ * <p>Changing the dictionary requires a new {@link #ENCODING} version so stored values
+ * stay readable.</p>
+ */
+@Component
+public class ResumeTextCodec {
+
+    /**
+     * Encoding marker stored next to compressed values.
+     */
+    public static final String ENCODING = "deflate-cvdict-v1";
+
+    private static final String DICTIONARY_RESOURCE = "compression/cv-dictionary.txt";
+
+    private final int thresholdBytes;
+    private final int maxDecompressedBytes;
+    private final byte[] dictionary;
+    private final long dictionaryChecksum;
+
+    private final DistributionSummary ratio;
+    private final Timer compressTimer;
+    private final Timer decompressTimer;
+
+    public ResumeTextCodec(@Value("${compression.resume-text.threshold-bytes:16384}") int thresholdBytes,
+                           @Value("${compression.resume-text.max-decompressed-bytes:8388608}") int maxDecompressedBytes,
+                           MeterRegistry meterRegistry) {
+        this.thresholdBytes = thresholdBytes;
+        this.maxDecompressedBytes = maxDecompressedBytes;
+        this.dictionary = loadDictionary();
+        Adler32 adler = new Adler32();
+        adler.update(dictionary);
+        this.dictionaryChecksum = adler.getValue();
+
+        this.ratio = DistributionSummary.builder("compression.ratio")
+                .description("Original size / compressed size for resume text")
+                .tag("target", "resume_text")
+                .register(meterRegistry);
+        this.compressTimer = Timer.builder("compression.time")
+                .description("Wall-clock time spent compressing/decompressing resume text")
+                .tag("operation", "compress")
+                .tag("target", "resume_text")
+                .register(meterRegistry);
+        this.decompressTimer = Timer.builder("compression.time")
+                .description("Wall-clock time spent compressing/decompressing resume text")
+                .tag("operation", "decompress")
+                .tag("target", "resume_text")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether the text is large enough to be worth compressing.
+     */
+    public boolean shouldCompress(String text) {
+        // UTF-8 is at least one byte per char, so length() is a cheap lower bound
+        return text != null && text.length() >= thresholdBytes;
+    }
+
+    /**
+     * Compress text with the shared dictionary.
+     *
+     * @param text Text to compress
+     * @return zlib stream encoded as {@link #ENCODING}
+     */
+    public byte[] compress(String text) {
+        long start = System.nanoTime();
+        byte[] input = text.getBytes(StandardCharsets.UTF_8);
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setDictionary(dictionary);
+            deflater.setInput(input);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            byte[] compressed = out.toByteArray();
+
+            ratio.record((double) input.length / Math.max(1, compressed.length));
+            compressTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return compressed;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decompress a value written by {@link #compress(String)}.
+     *
+     * @param data     Compressed bytes
+     * @param encoding Encoding marker stored with the value
+     * @return Original text
+     * @throws IllegalArgumentException if the encoding is unknown, data is corrupt or exceeds the size limit
+     */
+    public String decompress(byte[] data, String encoding) {
+        if (!ENCODING.equals(encoding)) {
+            throw new IllegalArgumentException("Unsupported resume text encoding: " + encoding);
+        }
+        long start = System.nanoTime();
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(maxDecompressedBytes, data.length * 4));
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0) {
+                    if (inflater.needsDictionary()) {
+                        if ((inflater.getAdler() & 0xFFFFFFFFL) != dictionaryChecksum) {
+                            throw new IllegalArgumentException("Resume text was compressed with a different dictionary");
+                        }
+                        inflater.setDictionary(dictionary);
+                        continue;
+                    }
+                    // The last call can finish the stream without output (e.g. after an exactly full buffer)
+                    if (inflater.needsInput() && !inflater.finished()) {
+                        throw new IllegalArgumentException("Truncated compressed resume text");
+                    }
+                }
+                if (out.size() + n > maxDecompressedBytes) {
+                    throw new IllegalArgumentException("Decompressed resume text exceeds " + maxDecompressedBytes + " bytes");
+                }
+                out.write(buffer, 0, n);
+            }
+
+            decompressTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt compressed resume text", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] loadDictionary() {
+        try (InputStream in = new ClassPathResource(DICTIONARY_RESOURCE).getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load compression dictionary " + DICTIONARY_RESOURCE, e);
+        }
+    }
+}
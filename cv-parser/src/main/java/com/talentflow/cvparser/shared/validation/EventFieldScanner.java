@@ -0,0 +1,131 @@
+package com.talentflow.cvparser.shared.validation;
+
+/**
+ * Hand-written character-class scanners for inbound event fields.
+ *
+ * Each method accepts exactly the strings the corresponding regex accepts (with full-match
+ * semantics), but runs in a single pass with no Matcher or Pattern allocation:
+ *   - {@link #isUuid}: ^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$
+ *   - {@link #isBucketName}: ^[a-z0-9][a-z0-9.-]{1,61}[a-z0-9]$
+ *   - {@link #isFileKey}: ^[a-zA-Z0-9/_.-]+$
+ *   - {@link #containsPathTraversal}: find of (\.\./|\.\.\\|%2e%2e%2f|%2e%2e/|\.\.%2f|%2e%2e%5c), case-insensitive
+ *   - {@link #isBlank}: the jakarta @NotBlank rule (null, or empty after String.trim)
+ */
+public final class EventFieldScanner {
+
+    private static final String[] TRAVERSAL_SEQUENCES = {
+            "../", "..\\", "%2e%2e%2f", "%2e%2e/", "..%2f", "%2e%2e%5c"
+    };
+
+    private EventFieldScanner() {
+    }
+
+    public static boolean isUuid(String value) {
+        if (value == null || value.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!isHex(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isBucketName(String value) {
+        if (value == null) {
+            return false;
+        }
+        int length = value.length();
+        if (length < 3 || length > 63) {
+            return false;
+        }
+        if (!isLowerAlphanumeric(value.charAt(0)) || !isLowerAlphanumeric(value.charAt(length - 1))) {
+            return false;
+        }
+        for (int i = 1; i < length - 1; i++) {
+            char c = value.charAt(i);
+            if (!isLowerAlphanumeric(c) && c != '.' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isFileKey(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!isAsciiAlphanumeric(c) && c != '/' && c != '_' && c != '.' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean containsPathTraversal(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            // Every sequence starts with '.' or '%'
+            if (c != '.' && c != '%') {
+                continue;
+            }
+            for (String sequence : TRAVERSAL_SEQUENCES) {
+                if (regionMatchesAsciiIgnoreCase(value, i, sequence)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            // String.trim() strips every char <= U+0020
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionMatchesAsciiIgnoreCase(String value, int offset, String lowerCaseSequence) {
+        if (offset + lowerCaseSequence.length() > value.length()) {
+            return false;
+        }
+        for (int j = 0; j < lowerCaseSequence.length(); j++) {
+            char c = value.charAt(offset + j);
+            // Pattern.CASE_INSENSITIVE folds ASCII letters only
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if (c != lowerCaseSequence.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isHex(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isLowerAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
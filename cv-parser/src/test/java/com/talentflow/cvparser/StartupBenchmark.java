@@ -0,0 +1,76 @@
+package com.talentflow.cvparser;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Cold-start benchmark for the fast-startup profile (run by failsafe with mvn -Pfast-startup verify).
+ *
+ * Starts the extracted jar in a fresh JVM until the context is refreshed
+ * (spring.context.exit=onRefresh), once as a plain JVM and once with AOT + the AppCDS archive,
+ * and compares the median wall-clock time.
+ */
+class StartupBenchmark {
+
+    private static final int RUNS = Integer.getInteger("benchmark.startup.runs", 3);
+    private static final double MAX_RATIO = Double.parseDouble(System.getProperty("benchmark.startup.max-ratio", "1.0"));
+
+    private static final List<String> APP_ARGS = List.of(
+            "--startup.warmup.mode=LAZY",
+            "--spring.jpa.hibernate.ddl-auto=none",
+            "--spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false");
+
+    @Test
+    void aotAndCdsStartFasterThanPlainJvm() throws Exception {
+        String jar = System.getProperty("benchmark.startup.jar");
+        String archive = System.getProperty("benchmark.startup.archive");
+        assumeTrue(jar != null && Files.exists(Path.of(jar)), "Run with -Pfast-startup");
+        assumeTrue(archive != null && Files.exists(Path.of(archive)), "CDS archive not built");
+
+        long baseline = median(List.of(), jar);
+        long fast = median(List.of("-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true"), jar);
+
+        System.out.printf("Startup to context refresh (median of %d): plain %d ms, AOT+CDS %d ms (%.0f%%)%n",
+                RUNS, baseline, fast, 100.0 * fast / baseline);
+        assertThat(fast).isLessThanOrEqualTo((long) (baseline * MAX_RATIO));
+    }
+
+    private static long median(List<String> jvmArgs, String jar) throws Exception {
+        long[] times = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            times[i] = startOnce(jvmArgs, jar);
+        }
+        Arrays.sort(times);
+        return times[RUNS / 2];
+    }
+
+    private static long startOnce(List<String> jvmArgs, String jar) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-Dspring.context.exit=onRefresh");
+        command.add("-jar");
+        command.add(jar);
+        command.addAll(APP_ARGS);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.to(new File(System.getProperty("java.io.tmpdir"), "startup-benchmark.log")))
+                .start();
+        assertThat(process.waitFor(2, TimeUnit.MINUTES)).as("startup finished").isTrue();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertThat(process.exitValue()).as("exit code, see startup-benchmark.log").isZero();
+        return elapsed;
+    }
+}
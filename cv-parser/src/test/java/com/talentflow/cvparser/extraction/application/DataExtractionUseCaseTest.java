@@ -0,0 +1,108 @@
+package com.talentflow.cvparser.extraction.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentflow.cvparser.extraction.infrastructure.ExtractionPromptTemplate;
+import com.talentflow.cvparser.extraction.infrastructure.GeminiLlmClient;
+import com.talentflow.cvparser.extraction.infrastructure.IncrementalCvJsonParser;
+import com.talentflow.cvparser.scoring.adapter.out.DatabaseAdapter;
+import com.talentflow.cvparser.shared.config.GeminiConfig;
+import com.talentflow.cvparser.shared.dto.ParsedCvData;
+import com.talentflow.cvparser.shared.exception.ExtractionException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataExtractionUseCaseTest {
+
+    private static final String CANDIDATE = "11111111-1111-1111-1111-111111111111";
+    private static final String RESPONSE = "{\"fullName\":\"Jane Doe\",\"email\":\"jane@example.com\",\"phone\":null,"
+            + "\"linkedIn\":\"linkedin.com/in/janedoe\",\"skills\":[\"Java\"],\"summary\":\"Engineer\"}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GeminiLlmClient llmClient = mock(GeminiLlmClient.class);
+    private final GeminiConfig geminiConfig = mock(GeminiConfig.class);
+    private final DatabaseAdapter databaseAdapter = mock(DatabaseAdapter.class);
+    private final DataExtractionUseCase useCase = new DataExtractionUseCase(llmClient, new ExtractionPromptTemplate(),
+            geminiConfig, databaseAdapter, objectMapper);
+
+    @Test
+    void streamingStoresContactFieldsOnceAndReturnsFullData() {
+        streamed(Flux.just(RESPONSE.substring(0, 60), RESPONSE.substring(60)));
+
+        ParsedCvData data = useCase.extract(CANDIDATE, "cv text", null).block();
+
+        assertThat(data.getSkills()).containsExactly("Java");
+        Map<String, String> contacts = new HashMap<>();
+        contacts.put("fullName", "Jane Doe");
+        contacts.put("email", "jane@example.com");
+        contacts.put("phone", null);
+        contacts.put("linkedIn", "linkedin.com/in/janedoe");
+        verify(databaseAdapter).saveContactFields(CANDIDATE, contacts);
+        verify(llmClient, never()).generate(anyString(), anyString(), any());
+    }
+
+    @Test
+    void abortedStreamStillStoresContactsReceivedSoFar() {
+        streamed(Flux.just("{\"fullName\":\"Jane Doe\",\"email\":\"jane@example.com\",\"skills\":[\"Ja")
+                .concatWith(Flux.error(new TimeoutException("idle"))));
+
+        assertThatThrownBy(() -> useCase.extract(CANDIDATE, "cv text", null).block())
+                .hasCauseInstanceOf(TimeoutException.class);
+
+        verify(databaseAdapter).saveContactFields(CANDIDATE, Map.of("fullName", "Jane Doe", "email", "jane@example.com"));
+    }
+
+    @Test
+    void streamRejectedBeforeAnyContactFieldStoresNothing() {
+        streamed(Flux.just("{\"fullName\":", "42}"));
+
+        assertThatThrownBy(() -> useCase.extract(CANDIDATE, "cv text", null).block())
+                .isInstanceOf(ExtractionException.class)
+                .extracting("errorCode").isEqualTo("LLM_SCHEMA_VIOLATION");
+
+        verify(databaseAdapter, never()).saveContactFields(anyString(), anyMap());
+    }
+
+    @Test
+    void nonStreamingCallIsParsedWithTheSameChecks() {
+        when(geminiConfig.isStreamingEnabled()).thenReturn(false);
+        when(llmClient.generate(anyString(), anyString(), any())).thenReturn(Mono.just(RESPONSE));
+
+        assertThat(useCase.extract(CANDIDATE, "cv text", null).block().getFullName()).isEqualTo("Jane Doe");
+
+        when(llmClient.generate(anyString(), anyString(), any())).thenReturn(Mono.just(RESPONSE.substring(0, 40)));
+        assertThatThrownBy(() -> useCase.extract(CANDIDATE, "cv text", null).block())
+                .isInstanceOf(ExtractionException.class)
+                .extracting("errorCode").isEqualTo("LLM_INCOMPLETE_RESPONSE");
+
+        verify(llmClient, never()).streamExtract(anyString(), anyString(), any(), any());
+        verify(databaseAdapter, never()).saveContactFields(anyString(), anyMap());
+    }
+
+    /**
+     * Stubs streamExtract with the client's parsing chain over the given chunks.
+     */
+    private void streamed(Flux<String> chunks) {
+        when(geminiConfig.isStreamingEnabled()).thenReturn(true);
+        when(llmClient.streamExtract(anyString(), anyString(), any(), any())).thenAnswer(invocation -> Mono.defer(() -> {
+            IncrementalCvJsonParser parser = new IncrementalCvJsonParser(objectMapper, invocation.getArgument(2));
+            return chunks.doOnNext(parser::feed)
+                    .takeUntil(chunk -> parser.isCompleted())
+                    .then(Mono.fromCallable(parser::finish));
+        }));
+    }
+}
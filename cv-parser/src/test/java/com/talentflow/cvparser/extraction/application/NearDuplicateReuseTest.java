@@ -0,0 +1,172 @@
+package com.talentflow.cvparser.extraction.application;
+
+import com.talentflow.cvparser.extraction.infrastructure.NearDuplicateIndex;
+import com.talentflow.cvparser.scoring.adapter.out.DatabaseAdapter;
+import com.talentflow.cvparser.scoring.infrastructure.repository.CandidateEntity;
+import com.talentflow.cvparser.scoring.infrastructure.repository.CandidateRepository;
+import com.talentflow.cvparser.shared.config.DedupProperties;
+import com.talentflow.cvparser.shared.dto.ParsedCvData;
+import com.talentflow.cvparser.shared.util.ResumeTextCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contact refresh rules, and reuse against parsed data stored in H2.
+ */
+@DataJpaTest
+@Import({DatabaseAdapter.class, ResumeTextCodec.class, SimpleMeterRegistry.class})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NearDuplicateReuseTest {
+
+    private static final String CV = """
+            Jane Doe
+            jane.doe@example.com | +44 20 7946 0958 | linkedin.com/in/janedoe
+
+            Summary
+            Backend engineer with eight years of experience building payment platforms,
+            event-driven services and the teams that run them.
+
+            Experience
+            Senior Engineer, Acme Payments (2019 - present)
+            Led the migration of the settlement engine to Kafka streams, cutting end of day
+            processing from four hours to twenty minutes. Mentored five engineers.
+
+            Engineer, Globex (2015 - 2019)
+            Built the merchant onboarding API in Java and Spring Boot; introduced contract
+            testing and on-call runbooks across three teams.
+
+            Education
+            BSc Computer Science, University of Leeds, 2015
+
+            Skills
+            Java, Kotlin, Spring, PostgreSQL, Kafka, Kubernetes, Terraform
+            """;
+
+    private static final ParsedCvData EXTRACTED = extracted().build();
+
+    @Autowired
+    private DatabaseAdapter databaseAdapter;
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Test
+    void keepsContactsTheNewTextStillContainsInAnyFormat() {
+        String text = CV.replace("jane.doe@example.com | +44 20 7946 0958 | linkedin.com/in/janedoe",
+                "Jane.Doe@Example.COM | +44 (20) 7946-0958 | https://uk.linkedin.com/in/JaneDoe/");
+
+        assertThat(NearDuplicateReuse.refreshContacts(EXTRACTED, text)).isEqualTo(EXTRACTED);
+    }
+
+    @Test
+    void replacesChangedEmailAndPhoneKeepingTheRest() {
+        String text = CV.replace("jane.doe@example.com | +44 20 7946 0958 | linkedin.com/in/janedoe",
+                        "linkedin.com/in/janedoe")
+                // After the date ranges, which are not phone numbers
+                + "\nContact: jane@doe.dev, +44 7700 900123\n";
+
+        ParsedCvData refreshed = NearDuplicateReuse.refreshContacts(EXTRACTED, text);
+
+        assertThat(refreshed.getEmail()).isEqualTo("jane@doe.dev");
+        assertThat(refreshed.getPhone()).isEqualTo("+44 7700 900123");
+        assertThat(refreshed.getLinkedIn()).isEqualTo(EXTRACTED.getLinkedIn());
+        assertThat(refreshed.getFullName()).isEqualTo(EXTRACTED.getFullName());
+        assertThat(refreshed.getSkills()).isEqualTo(EXTRACTED.getSkills());
+        assertThat(refreshed.getExperience()).isEqualTo(EXTRACTED.getExperience());
+        assertThat(refreshed.getSummary()).isEqualTo(EXTRACTED.getSummary());
+    }
+
+    @Test
+    void dropsContactsRemovedFromTheNewText() {
+        String text = CV.replace(" | linkedin.com/in/janedoe", "")
+                .replace(" | +44 20 7946 0958", "");
+
+        ParsedCvData refreshed = NearDuplicateReuse.refreshContacts(EXTRACTED, text);
+
+        assertThat(refreshed.getLinkedIn()).isNull();
+        assertThat(refreshed.getPhone()).isNull();
+        assertThat(refreshed.getEmail()).isEqualTo(EXTRACTED.getEmail());
+    }
+
+    @Test
+    void fingerprintSurvivesStorageRoundTrip() {
+        List<ParsedCvData> shapes = List.of(
+                new ParsedCvData(),
+                ParsedCvData.builder().fullName("Jane Doe").skills(List.of()).experience(List.of())
+                        .education(List.of()).build(),
+                ParsedCvData.builder().fullName("Jane Doe").skills(new ArrayList<>(List.of("Java"))).build(),
+                extracted().education(List.of(ParsedCvData.Education.builder()
+                        .degree("BSc Computer Science")
+                        .institution("Université de Genève")
+                        .build())).build());
+
+        for (ParsedCvData data : shapes) {
+            String candidateId = candidate();
+            databaseAdapter.saveParsedData(candidateId, data);
+
+            assertThat(databaseAdapter.loadParsedData(candidateId)).hasValueSatisfying(stored -> {
+                assertThat(stored).isEqualTo(data);
+                assertThat(stored.hashCode()).isEqualTo(data.hashCode());
+            });
+        }
+    }
+
+    @Test
+    void reusesStoredDataForReuploadUntilItIsEdited() {
+        NearDuplicateReuse reuse = reuse();
+        String candidateId = candidate();
+        NearDuplicateReuse.Lookup first = reuse.lookup(candidateId, CV);
+        assertThat(first.reused()).isNull();
+        databaseAdapter.saveParsedData(candidateId, EXTRACTED);
+        reuse.remember(candidateId, first, EXTRACTED, 2_000_000_000L);
+
+        String reupload = CV.replace("jane.doe@example.com", "jane@doe.dev");
+        NearDuplicateReuse.Lookup second = reuse.lookup(candidateId, reupload);
+        assertThat(second.reused()).isEqualTo(extracted().email("jane@doe.dev").build());
+
+        // A recruiter correction: the stored data is no longer what the indexed CV produced
+        databaseAdapter.saveContactFields(candidateId, Map.of("fullName", "Jane A. Doe"));
+        assertThat(reuse.lookup(candidateId, reupload).reused()).isNull();
+    }
+
+    private static ParsedCvData.ParsedCvDataBuilder extracted() {
+        return ParsedCvData.builder()
+                .fullName("Jane Doe")
+                .email("jane.doe@example.com")
+                .phone("+44 20 7946 0958")
+                .linkedIn("https://www.linkedin.com/in/janedoe/")
+                .skills(List.of("Java", "Kotlin", "Spring"))
+                .experience(List.of(ParsedCvData.Experience.builder()
+                        .title("Senior Engineer")
+                        .company("Acme Payments")
+                        .startDate("2019-01")
+                        .build()))
+                .summary("Backend engineer");
+    }
+
+    private NearDuplicateReuse reuse() {
+        DedupProperties properties = new DedupProperties();
+        return new NearDuplicateReuse(new NearDuplicateIndex(properties), databaseAdapter, properties,
+                new SimpleMeterRegistry());
+    }
+
+    private String candidate() {
+        CandidateEntity candidate = new CandidateEntity();
+        candidate.setId(UUID.randomUUID().toString());
+        candidateRepository.save(candidate);
+        return candidate.getId();
+    }
+}
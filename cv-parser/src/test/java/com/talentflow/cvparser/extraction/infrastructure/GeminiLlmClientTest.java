@@ -0,0 +1,105 @@
+package com.talentflow.cvparser.extraction.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentflow.cvparser.shared.config.GeminiConfig;
+import com.talentflow.cvparser.shared.config.ModelRoutingProperties;
+import com.talentflow.cvparser.shared.resilience.AdaptiveConcurrencyLimiter;
+import com.talentflow.cvparser.shared.resilience.HedgingPolicy;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Streaming calls against a stubbed exchange; each request takes the next queued SSE body.
+ */
+class GeminiLlmClientTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Queue<Flux<DataBuffer>> bodies = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final GeminiLlmClient client = client();
+
+    @Test
+    void retriesAStreamThatTimesOutBeforeItsFirstChunk() {
+        bodies.add(Flux.never());
+        bodies.add(Flux.just(chunk("Hello"), chunk(" world")));
+
+        StepVerifier.create(client.streamGenerate("system", "user"))
+                .expectNext("Hello", " world")
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void doesNotRetryAStreamThatTimesOutAfterEmittingText() {
+        bodies.add(Flux.concat(Flux.just(chunk("Hello")), Flux.never()));
+        bodies.add(Flux.just(chunk("Hello"), chunk(" world")));
+
+        // A retry would repeat "Hello" to a consumer that has already parsed it
+        StepVerifier.create(client.streamGenerate("system", "user"))
+                .expectNext("Hello")
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+        assertThat(requests).hasValue(1);
+    }
+
+    private GeminiLlmClient client() {
+        GeminiConfig geminiConfig = new GeminiConfig();
+        ReflectionTestUtils.setField(geminiConfig, "model", "gemini-test");
+        // Idle timeout between chunks
+        ReflectionTestUtils.setField(geminiConfig, "timeoutSeconds", 1);
+        ReflectionTestUtils.setField(geminiConfig, "maxTokens", 100);
+
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                            .body(bodies.remove())
+                            .build());
+                })
+                .build();
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(10))
+                .retryExceptions(IOException.class, TimeoutException.class)
+                .build());
+        ModelRouter router = new ModelRouter(new ModelRoutingProperties(), geminiConfig,
+                CircuitBreakerRegistry.ofDefaults(), RateLimiterRegistry.ofDefaults(), meterRegistry);
+
+        return new GeminiLlmClient(webClient, geminiConfig, new ObjectMapper(),
+                new AdaptiveConcurrencyLimiter(8, 1, 16, 2.0, 0.5, Duration.ofSeconds(5), 1_000_000, meterRegistry),
+                new HedgingPolicy(false, 0.95, 0.05, Duration.ofSeconds(1), 20, meterRegistry),
+                router, CircuitBreakerRegistry.ofDefaults(), retryRegistry);
+    }
+
+    private static DataBuffer chunk(String text) {
+        String event = "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + text + "\"}]}}]}\n\n";
+        return DefaultDataBufferFactory.sharedInstance.wrap(event.getBytes(StandardCharsets.UTF_8));
+    }
+}
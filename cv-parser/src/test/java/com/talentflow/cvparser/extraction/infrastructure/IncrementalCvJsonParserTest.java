@@ -0,0 +1,59 @@
+package com.talentflow.cvparser.extraction.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentflow.cvparser.shared.dto.ParsedCvData;
+import com.talentflow.cvparser.shared.exception.ExtractionException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IncrementalCvJsonParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void parsesChunkedResponseAndReportsFieldsAsTheyComplete() {
+        List<String> completed = new ArrayList<>();
+        IncrementalCvJsonParser parser = new IncrementalCvJsonParser(objectMapper,
+                (field, value) -> completed.add(field));
+
+        parser.feed("{\"fullName\":\"Nguyen Van A\",\"em");
+        assertThat(completed).containsExactly("fullName");
+
+        parser.feed("ail\":\"a@example.com\",\"skills\":[\"Java\",");
+        assertThat(completed).containsExactly("fullName", "email");
+
+        parser.feed("\"Spring\"],\"experience\":[{\"title\":\"Dev\",\"company\":\"X\"}],\"education\":null}");
+        ParsedCvData data = parser.finish();
+
+        assertThat(completed).containsExactly("fullName", "email", "skills", "experience", "education");
+        assertThat(data.getFullName()).isEqualTo("Nguyen Van A");
+        assertThat(data.getSkills()).containsExactly("Java", "Spring");
+        assertThat(data.getExperience()).singleElement()
+                .extracting(ParsedCvData.Experience::getCompany).isEqualTo("X");
+    }
+
+    @Test
+    void failsOnFirstTokenThatViolatesSchema() {
+        IncrementalCvJsonParser parser = new IncrementalCvJsonParser(objectMapper, null);
+
+        parser.feed("{\"fullName\":\"A\",");
+        assertThatThrownBy(() -> parser.feed("\"skills\":[{\"name\":"))
+                .isInstanceOf(ExtractionException.class)
+                .extracting("errorCode").isEqualTo("LLM_SCHEMA_VIOLATION");
+    }
+
+    @Test
+    void rejectsIncompleteResponse() {
+        IncrementalCvJsonParser parser = new IncrementalCvJsonParser(objectMapper, null);
+
+        parser.feed("{\"fullName\":\"A\"");
+        assertThatThrownBy(parser::finish)
+                .isInstanceOf(ExtractionException.class)
+                .extracting("errorCode").isEqualTo("LLM_INCOMPLETE_RESPONSE");
+    }
+}
@@ -0,0 +1,118 @@
+package com.talentflow.cvparser.extraction.infrastructure;
+
+import com.talentflow.cvparser.extraction.domain.model.RoutingContext;
+import com.talentflow.cvparser.shared.config.GeminiConfig;
+import com.talentflow.cvparser.shared.config.ModelRoutingProperties;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ModelRouterTest {
+
+    private static final String CLEAN_CV = """
+            Jane Doe
+            jane.doe@example.com | +44 20 7946 0958
+
+            Summary
+            Backend engineer with eight years of experience.
+
+            Experience
+            Senior Engineer, Acme (2019 - present)
+
+            Education
+            BSc Computer Science, 2015
+
+            Skills
+            Java, Spring, PostgreSQL
+            """;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ModelRouter router = new ModelRouter(properties(2), new GeminiConfig(),
+            CircuitBreakerRegistry.ofDefaults(), RateLimiterRegistry.ofDefaults(), meterRegistry);
+
+    @Test
+    void routesByComplexity() {
+        assertThat(StructureConfidence.score(CLEAN_CV)).isGreaterThan(0.9);
+        assertThat(router.route(context(CLEAN_CV.length(), 0.0, StructureConfidence.score(CLEAN_CV), null)).getName())
+                .isEqualTo("lite");
+        assertThat(router.route(context(20_000, 0.0, 0.3, null)).getName()).isEqualTo("standard");
+        assertThat(router.route(context(40_000, 1.0, 0.2, null)).getName()).isEqualTo("pro");
+
+        assertThat(meterRegistry.get("llm.routing.decisions").tag("model", "pro").tag("reason", "complexity")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void slowModelIsSkippedWhenOverLatencyBudget() {
+        ModelRoute pro = router.getRoutes().get(2);
+        pro.recordSuccess(TimeUnit.SECONDS.toNanos(15), 1000, 500);
+
+        ModelRoute route = router.route(context(40_000, 1.0, 0.2, Duration.ofSeconds(5)));
+
+        assertThat(route.getName()).isEqualTo("standard");
+        assertThat(meterRegistry.get("llm.routing.decisions").tag("reason", "latency_budget").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("llm.model.cost").tag("model", "pro").counter().count())
+                .isCloseTo(0.00625, within(1e-9));
+    }
+
+    @Test
+    void openBreakerFallsBackToCheaperModel() {
+        router.getRoutes().get(2).getCircuitBreaker().transitionToOpenState();
+
+        assertThat(router.route(context(40_000, 1.0, 0.2, null)).getName()).isEqualTo("standard");
+        assertThat(meterRegistry.get("llm.routing.decisions").tag("reason", "fallback").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void rejectsWhenEveryModelIsOutOfPermits() {
+        RoutingContext context = context(CLEAN_CV.length(), 0.0, 1.0, null);
+        // Two permits per model per minute, three models
+        for (int i = 0; i < 6; i++) {
+            router.route(context);
+        }
+
+        assertThatThrownBy(() -> router.route(context)).isInstanceOf(CallNotPermittedException.class);
+    }
+
+    private static RoutingContext context(int textLength, double ocrShare, double ruleConfidence, Duration budget) {
+        return RoutingContext.builder()
+                .stage("extraction")
+                .textLength(textLength)
+                .ocrShare(ocrShare)
+                .ruleConfidence(ruleConfidence)
+                .latencyBudget(budget)
+                .build();
+    }
+
+    private static ModelRoutingProperties properties(int requestsPerMinute) {
+        ModelRoutingProperties properties = new ModelRoutingProperties();
+        properties.setModels(List.of(
+                model("lite", 0.35, requestsPerMinute, 0.10, 0.40),
+                model("standard", 0.75, requestsPerMinute, 0.30, 2.50),
+                model("pro", 1.0, requestsPerMinute, 1.25, 10.00)));
+        return properties;
+    }
+
+    private static ModelRoutingProperties.Model model(String name, double maxComplexity, int requestsPerMinute,
+                                                      double inputCost, double outputCost) {
+        ModelRoutingProperties.Model model = new ModelRoutingProperties.Model();
+        model.setName(name);
+        model.setMaxComplexity(maxComplexity);
+        model.setRequestsPerMinute(requestsPerMinute);
+        model.setInputCostPerMillion(inputCost);
+        model.setOutputCostPerMillion(outputCost);
+        return model;
+    }
+}
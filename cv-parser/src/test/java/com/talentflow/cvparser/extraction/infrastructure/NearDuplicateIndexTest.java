@@ -0,0 +1,154 @@
+package com.talentflow.cvparser.extraction.infrastructure;
+
+import com.talentflow.cvparser.shared.config.DedupProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearDuplicateIndexTest {
+
+    private static final String CV = """
+            Jane Doe
+            jane.doe@example.com | +44 20 7946 0958 | linkedin.com/in/janedoe
+
+            Summary
+            Backend engineer with eight years of experience building payment platforms,
+            event-driven services and the teams that run them.
+
+            Experience
+            Senior Engineer, Acme Payments (2019 - present)
+            Led the migration of the settlement engine to Kafka streams, cutting end of day
+            processing from four hours to twenty minutes. Mentored five engineers.
+
+            Engineer, Globex (2015 - 2019)
+            Built the merchant onboarding API in Java and Spring Boot; introduced contract
+            testing and on-call runbooks across three teams.
+
+            Education
+            BSc Computer Science, University of Leeds, 2015
+
+            Skills
+            Java, Kotlin, Spring, PostgreSQL, Kafka, Kubernetes, Terraform
+            """;
+
+    private static final String OTHER_CV = """
+            John Smith
+            john.smith@example.org | +1 415 555 0134
+
+            Profile
+            Product designer focused on mobile banking and accessibility research, with a
+            background in illustration and front-end prototyping.
+
+            Experience
+            Lead Designer, Initech (2020 - present)
+            Owns the design system used by four product squads; ran usability studies with
+            screen reader users and halved onboarding drop-off.
+
+            Designer, Hooli (2016 - 2020)
+            Designed the card management flows and the first version of the savings goals.
+
+            Education
+            BA Graphic Design, Central Saint Martins, 2016
+
+            Skills
+            Figma, user research, prototyping, HTML, CSS, accessibility audits
+            """;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void editedCvStaysSimilarAndDifferentCvDoesNot() {
+        NearDuplicateIndex index = new NearDuplicateIndex(properties(""));
+        int[] original = index.signature(CV);
+        int[] edited = index.signature(CV
+                .replace("+44 20 7946 0958", "+44 7700 900123")
+                .replace("Mentored five engineers.", "Mentored six engineers."));
+        int[] reformatted = index.signature(CV.toUpperCase().replace("\n", "  "));
+        int[] other = index.signature(OTHER_CV);
+
+        assertThat(MinHasher.similarity(original, edited)).isGreaterThan(0.8);
+        assertThat(MinHasher.similarity(original, reformatted)).isEqualTo(1.0);
+        assertThat(MinHasher.similarity(original, other)).isLessThan(0.1);
+        assertThat(index.signature("Jane Doe, engineer")).isNull();
+    }
+
+    @Test
+    void findsIndexedCandidateAboveThreshold() {
+        NearDuplicateIndex index = new NearDuplicateIndex(properties(""));
+        index.put("jane", index.signature(CV), 1);
+        index.put("john", index.signature(OTHER_CV), 2);
+
+        List<NearDuplicateIndex.Match> matches = index.findSimilar(index.signature(CV + "\nGerman (B2)"), 0.8);
+
+        assertThat(matches).extracting(match -> match.entry().candidateId()).containsExactly("jane");
+        assertThat(index.findSimilar(index.signature(OTHER_CV.replace("Hooli", "Umbrella")), 0.8))
+                .extracting(match -> match.entry().candidateId()).containsExactly("john");
+    }
+
+    @Test
+    void replacedEntryIsNoLongerFound() {
+        NearDuplicateIndex index = new NearDuplicateIndex(properties(""));
+        index.put("jane", index.signature(CV), 1);
+        index.put("jane", index.signature(OTHER_CV), 2);
+
+        assertThat(index.findSimilar(index.signature(CV), 0.5)).isEmpty();
+        assertThat(index.findSimilar(index.signature(OTHER_CV), 0.5)).singleElement()
+                .satisfies(match -> assertThat(match.entry().fingerprint()).isEqualTo(2));
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void reloadsFromFileAndDropsTruncatedRecord() throws IOException {
+        Path file = dir.resolve("index/near-duplicates.idx");
+        NearDuplicateIndex index = new NearDuplicateIndex(properties(file.toString()));
+        index.load();
+        index.put("jane", index.signature(CV), 1);
+        index.put("john", index.signature(OTHER_CV), 2);
+        index.put("jane", index.signature(CV + "\nGerman (B2)"), 3);
+        index.close();
+
+        // Crash in the middle of appending a record
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 100));
+
+        NearDuplicateIndex reloaded = new NearDuplicateIndex(properties(file.toString()));
+        reloaded.load();
+        assertThat(reloaded.size()).isEqualTo(2);
+        assertThat(reloaded.findSimilar(reloaded.signature(CV), 0.8)).singleElement()
+                .satisfies(match -> assertThat(match.entry().fingerprint()).isEqualTo(1));
+
+        // The truncated tail was rewritten away: new records append cleanly
+        reloaded.put("jane", reloaded.signature(CV), 4);
+        reloaded.close();
+        NearDuplicateIndex again = new NearDuplicateIndex(properties(file.toString()));
+        again.load();
+        assertThat(again.findSimilar(again.signature(CV), 0.8)).singleElement()
+                .satisfies(match -> assertThat(match.entry().fingerprint()).isEqualTo(4));
+    }
+
+    @Test
+    void evictsOldestCandidatesBeyondMaxEntries() {
+        DedupProperties properties = properties("");
+        properties.setMaxEntries(1);
+        NearDuplicateIndex index = new NearDuplicateIndex(properties);
+        index.put("jane", index.signature(CV), 1);
+        index.put("john", index.signature(OTHER_CV), 2);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.findSimilar(index.signature(CV), 0.5)).isEmpty();
+    }
+
+    private static DedupProperties properties(String indexFile) {
+        DedupProperties properties = new DedupProperties();
+        properties.setIndexFile(indexFile);
+        return properties;
+    }
+}
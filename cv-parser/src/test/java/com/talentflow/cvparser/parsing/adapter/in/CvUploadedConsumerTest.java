@@ -0,0 +1,100 @@
+package com.talentflow.cvparser.parsing.adapter.in;
+
+import com.rabbitmq.client.AlreadyClosedException;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ShutdownSignalException;
+import com.talentflow.cvparser.parsing.application.CvParsingOrchestrator;
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import com.talentflow.cvparser.shared.exception.ParsingException;
+import com.talentflow.cvparser.shared.messaging.ConfirmedPublisher;
+import com.talentflow.cvparser.shared.messaging.FairJobDispatcher;
+import com.talentflow.cvparser.shared.messaging.RetryRoutingErrorHandler;
+import com.talentflow.cvparser.shared.messaging.ShardMembership;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CvUploadedConsumerTest {
+
+    private final CvParsingOrchestrator orchestrator = mock(CvParsingOrchestrator.class);
+    private final RetryRoutingErrorHandler errorHandler = mock(RetryRoutingErrorHandler.class);
+    private final Channel channel = mock(Channel.class);
+    private final ShardMembership shardMembership = mock(ShardMembership.class);
+    private final CvUploadedConsumer consumer = new CvUploadedConsumer(orchestrator, mock(FairJobDispatcher.class),
+            errorHandler, shardMembership);
+
+    private final CvUploadedEvent event = CvUploadedEvent.builder()
+            .candidateId("11111111-1111-1111-1111-111111111111")
+            .applicationId("22222222-2222-2222-2222-222222222222")
+            .jobId("33333333-3333-3333-3333-333333333333")
+            .bucket("cvs")
+            .fileKey("cv.pdf")
+            .mimeType("application/pdf")
+            .uploadedAt(Instant.parse("2026-10-19T08:00:00Z"))
+            .build();
+    private final Message message = new Message(new byte[0], new MessageProperties());
+
+    @Test
+    void acksProcessedCv() throws Exception {
+        consumer.process(event, message, channel, 7);
+
+        verify(channel).basicAck(7, false);
+        verify(errorHandler, never()).handleError(any(Message.class), any(Channel.class), any(), any());
+    }
+
+    @Test
+    void failedAckAfterProcessingIsNotAProcessingFailure() throws Exception {
+        doThrow(new AlreadyClosedException(new ShutdownSignalException(false, true, null, channel)))
+                .when(channel).basicAck(anyLong(), anyBoolean());
+
+        consumer.process(event, message, channel, 7);
+
+        verify(errorHandler, never()).handleError(any(Message.class), any(Channel.class), any(), any());
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void routesProcessingFailureWithoutAck() throws Exception {
+        doThrow(new ParsingException("broken", "PARSE_FAILED", false)).when(orchestrator).process(event, null);
+
+        consumer.process(event, message, channel, 7);
+
+        verify(errorHandler).handleError(any(Message.class), any(Channel.class), any(), any());
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void requeuesCvWhoseParkedCopyWasNotConfirmed() throws Exception {
+        doThrow(new ConfirmedPublisher.NotConfirmedException("nack", null)).when(orchestrator).process(event, null);
+
+        consumer.process(event, message, channel, 7);
+
+        verify(channel).basicNack(7, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        verify(errorHandler, never()).handleError(any(Message.class), any(Channel.class), any(), any());
+    }
+
+    @Test
+    void acksForwardedCvOnlyOnceConfirmed() throws Exception {
+        when(shardMembership.isActive()).thenReturn(true);
+        when(shardMembership.forward(event, message)).thenReturn(true, false);
+
+        consumer.onCvUploaded(event, message, channel, 7);
+        verify(channel).basicAck(7, false);
+
+        consumer.onCvUploaded(event, message, channel, 8);
+        verify(channel).basicNack(8, false, true);
+        verify(orchestrator, never()).process(any(), any());
+    }
+}
@@ -0,0 +1,86 @@
+package com.talentflow.cvparser.parsing.adapter.in;
+
+import com.rabbitmq.client.Channel;
+import com.talentflow.cvparser.parsing.application.CvParsingOrchestrator;
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import com.talentflow.cvparser.shared.dto.ParkedCvEvent;
+import com.talentflow.cvparser.shared.messaging.ConfirmedPublisher;
+import com.talentflow.cvparser.shared.messaging.EventMessageConverter;
+import com.talentflow.cvparser.shared.messaging.ParkingLot;
+import com.talentflow.cvparser.shared.messaging.RetryRoutingErrorHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParkedCvConsumerTest {
+
+    private final CvParsingOrchestrator orchestrator = mock(CvParsingOrchestrator.class);
+    private final ParkingLot parkingLot = mock(ParkingLot.class);
+    private final RetryRoutingErrorHandler errorHandler = mock(RetryRoutingErrorHandler.class);
+    private final Channel channel = mock(Channel.class);
+    private final ParkedCvConsumer consumer = new ParkedCvConsumer(orchestrator, parkingLot, errorHandler,
+            new EventMessageConverter(EventMessageConverter.Mode.COMPATIBILITY, Set.of(), new SimpleMeterRegistry()));
+
+    private final ParkedCvEvent parked = ParkedCvEvent.builder()
+            .upload(CvUploadedEvent.builder()
+                    .candidateId("11111111-1111-1111-1111-111111111111")
+                    .applicationId("22222222-2222-2222-2222-222222222222")
+                    .jobId("33333333-3333-3333-3333-333333333333")
+                    .bucket("cvs")
+                    .fileKey("cv.pdf")
+                    .mimeType("application/pdf")
+                    .uploadedAt(Instant.parse("2026-10-19T08:00:00Z"))
+                    .build())
+            .resumeText("Jane Doe")
+            .uploadMessageId("m-1")
+            .reason("LLM_UNAVAILABLE")
+            .build();
+    private final Message message = new Message(new byte[0], new MessageProperties());
+
+    @Test
+    void acksOnlyOnceReparkedCopyIsConfirmed() throws Exception {
+        when(orchestrator.resume(parked)).thenReturn(false);
+
+        consumer.onParked(parked, message, channel, 7);
+        verify(parkingLot).park(parked);
+        verify(channel).basicAck(7, false);
+
+        doThrow(new ConfirmedPublisher.NotConfirmedException("nack", null)).when(parkingLot).park(parked);
+        consumer.onParked(parked, message, channel, 8);
+        verify(channel).basicNack(8, false, true);
+        verify(channel, never()).basicAck(8, false);
+        verify(errorHandler, never()).handleError(any(Message.class), any(Channel.class), any(), any());
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), eq(false));
+    }
+
+    @Test
+    void failedParkedCvIsRoutedAsItsOriginalUpload() throws Exception {
+        IllegalStateException failure = new IllegalStateException("boom");
+        when(orchestrator.resume(parked)).thenThrow(failure);
+        message.getMessageProperties().setDeliveryTag(9);
+
+        consumer.onParked(parked, message, channel, 9);
+
+        ArgumentCaptor<Message> upload = ArgumentCaptor.forClass(Message.class);
+        verify(errorHandler).handleError(upload.capture(), eq(channel), any(), any());
+        assertThat(upload.getValue().getMessageProperties().getMessageId()).isEqualTo("m-1");
+        assertThat(upload.getValue().getMessageProperties().getDeliveryTag()).isEqualTo(9);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+}
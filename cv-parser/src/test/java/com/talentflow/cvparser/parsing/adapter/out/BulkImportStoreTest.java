@@ -0,0 +1,90 @@
+package com.talentflow.cvparser.parsing.adapter.out;
+
+import com.talentflow.cvparser.parsing.infrastructure.repository.BulkImportEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(BulkImportStore.class)
+@ActiveProfiles("test")
+// Each store call commits on its own, as in production
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BulkImportStoreTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Autowired
+    private BulkImportStore store;
+
+    @Test
+    void ownerCheckpointsAndFinishes() {
+        String id = store.create("cvs", prefix(), "replica-a").getId();
+
+        assertThat(store.checkpoint(id, "replica-a", "clients/x/0100.pdf", 100, 90, 2, 8, "0042.pdf: broken"))
+                .isTrue();
+        BulkImportEntity checkpointed = store.find(id).orElseThrow();
+        assertThat(checkpointed.getCheckpointKey()).isEqualTo("clients/x/0100.pdf");
+        assertThat(checkpointed.getProcessed()).isEqualTo(90);
+        assertThat(checkpointed.getSkipped()).isEqualTo(8);
+
+        assertThat(store.finish(id, "replica-a", BulkImportStore.COMPLETED, null)).isTrue();
+        BulkImportEntity finished = store.find(id).orElseThrow();
+        assertThat(finished.getState()).isEqualTo(BulkImportStore.COMPLETED);
+        assertThat(finished.getLastError()).isEqualTo("0042.pdf: broken");
+        assertThat(finished.getHeartbeatAt()).isNull();
+        assertThat(finished.getFinishedAt()).isNotNull();
+
+        // A finished run takes no further writes, not even from its owner
+        assertThat(store.checkpoint(id, "replica-a", "clients/x/0200.pdf", 200, 180, 2, 18, null)).isFalse();
+        assertThat(store.finish(id, "replica-a", BulkImportStore.FAILED, "late")).isFalse();
+        assertThat(store.find(id).orElseThrow().getState()).isEqualTo(BulkImportStore.COMPLETED);
+    }
+
+    @Test
+    void replicaThatLostItsLeaseCannotWrite() {
+        String id = store.create("cvs", prefix(), "replica-a").getId();
+        store.checkpoint(id, "replica-a", "k1", 10, 10, 0, 0, null);
+        store.release(id, "replica-a");
+
+        assertThat(store.findStalled(LEASE)).contains(id);
+        assertThat(store.claim(id, "replica-b", LEASE)).hasValueSatisfying(entity -> {
+            assertThat(entity.getOwner()).isEqualTo("replica-b");
+            assertThat(entity.getCheckpointKey()).isEqualTo("k1");
+        });
+
+        assertThat(store.checkpoint(id, "replica-a", "k2", 20, 20, 0, 0, null)).isFalse();
+        assertThat(store.finish(id, "replica-a", BulkImportStore.FAILED, "stale owner")).isFalse();
+        BulkImportEntity entity = store.find(id).orElseThrow();
+        assertThat(entity.getCheckpointKey()).isEqualTo("k1");
+        assertThat(entity.getState()).isEqualTo(BulkImportStore.RUNNING);
+        assertThat(store.checkpoint(id, "replica-b", "k2", 20, 20, 0, 0, null)).isTrue();
+    }
+
+    @Test
+    void onlyStalledImportsCanBeClaimed() {
+        String id = store.create("cvs", prefix(), "replica-a").getId();
+
+        assertThat(store.findStalled(LEASE)).doesNotContain(id);
+        assertThat(store.claim(id, "replica-b", LEASE)).isEmpty();
+
+        store.renew(List.of(id), "replica-a");
+        assertThat(store.findStalled(Duration.ZERO)).contains(id);
+        assertThat(store.claim(id, "replica-b", Duration.ZERO)).isPresent();
+        assertThat(store.claim(id, "replica-c", LEASE)).isEmpty();
+    }
+
+    private static String prefix() {
+        return "clients/" + UUID.randomUUID() + "/";
+    }
+}
@@ -0,0 +1,94 @@
+package com.talentflow.cvparser.parsing.adapter.out;
+
+import com.talentflow.cvparser.shared.exception.ParsingException;
+import com.talentflow.cvparser.shared.util.ByteBufferPool;
+import com.talentflow.cvparser.shared.util.FileValidator;
+import com.talentflow.cvparser.shared.util.PooledBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StorageAdapterTest {
+
+    private static final int MAX_BYTES = 1024 * 1024;
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private final ByteBufferPool bufferPool = new ByteBufferPool(DataSize.ofKilobytes(64), DataSize.ofMegabytes(16),
+            DataSize.ofMegabytes(64), true, new SimpleMeterRegistry());
+    private final FileValidator fileValidator = new FileValidator();
+    private final StorageAdapter adapter = new StorageAdapter(s3Client, bufferPool, fileValidator);
+
+    StorageAdapterTest() {
+        fileValidator.setMaxSizeMb(1);
+    }
+
+    @AfterEach
+    void noLeases() {
+        assertThat(bufferPool.outstanding()).as("outstanding leases").isZero();
+    }
+
+    @Test
+    void downloadsBodyWithoutDeclaredLength() {
+        respond(new ByteArrayInputStream(new byte[1000]), null);
+
+        try (PooledBuffer lease = adapter.download("cvs", "cv.pdf")) {
+            assertThat(lease.buffer().remaining()).isEqualTo(1000);
+        }
+    }
+
+    @Test
+    void oversizedFileIsNotRetryable() {
+        respond(new ByteArrayInputStream(new byte[0]), MAX_BYTES + 1L);
+        assertNotRetryableTooLarge();
+
+        // No Content-Length: the limit is hit while reading
+        respond(new ByteArrayInputStream(new byte[MAX_BYTES + 1]), null);
+        assertNotRetryableTooLarge();
+    }
+
+    @Test
+    void readErrorIsRetryable() {
+        respond(new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        }, null);
+
+        assertThatThrownBy(() -> adapter.download("cvs", "cv.pdf"))
+                .isInstanceOfSatisfying(ParsingException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo("STORAGE_UNAVAILABLE");
+                    assertThat(e.isRetryable()).isTrue();
+                });
+    }
+
+    private void assertNotRetryableTooLarge() {
+        assertThatThrownBy(() -> adapter.download("cvs", "cv.pdf"))
+                .isInstanceOfSatisfying(ParsingException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo("FILE_TOO_LARGE");
+                    assertThat(e.isRetryable()).isFalse();
+                });
+    }
+
+    private void respond(InputStream body, Long contentLength) {
+        GetObjectResponse response = GetObjectResponse.builder().contentLength(contentLength).build();
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenReturn(new ResponseInputStream<>(response, AbortableInputStream.create(body)));
+    }
+}
@@ -0,0 +1,80 @@
+package com.talentflow.cvparser.parsing.application;
+
+import com.talentflow.cvparser.parsing.adapter.out.BulkImportStore;
+import com.talentflow.cvparser.parsing.infrastructure.repository.BulkImportEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkImportProgressTest {
+
+    @Test
+    void resumedRunKeepsTotalsButMeasuresThroughputFromResume() throws InterruptedException {
+        BulkImportProgress progress = BulkImportProgress.resume(checkpointed());
+
+        progress.addListed(2);
+        progress.addProcessed(2);
+        progress.addSkipped(0);
+        progress.addFailed(1, "cv-9.pdf: broken");
+        progress.checkpointed("clients/acme/cv-9.pdf");
+        Thread.sleep(20);
+
+        assertThat(progress.isLive()).isTrue();
+        assertThat(progress.getListed()).isEqualTo(102);
+        assertThat(progress.getProcessed()).isEqualTo(92);
+        assertThat(progress.getFailed()).isEqualTo(2);
+        assertThat(progress.getLastError()).isEqualTo("cv-9.pdf: broken");
+        assertThat(progress.getCheckpointKey()).isEqualTo("clients/acme/cv-9.pdf");
+        // 2 CVs in this run, not 92 since the import started an hour ago
+        assertThat(progress.getThroughputPerSecond()).isBetween(0.1, 2 / 0.02);
+    }
+
+    @Test
+    void snapshotIsNeverLive() {
+        BulkImportProgress snapshot = BulkImportProgress.snapshot(checkpointed());
+
+        assertThat(snapshot.isRunning()).isTrue();
+        assertThat(snapshot.isLive()).isFalse();
+        assertThat(snapshot.getThroughputPerSecond()).isBetween(90 / 3600.0 * 0.99, 90 / 3600.0 * 1.01);
+    }
+
+    @Test
+    void stoppedOrFinishedRunIsNoLongerLive() {
+        BulkImportProgress stopped = BulkImportProgress.resume(checkpointed());
+        stopped.stop();
+        assertThat(stopped.isStopped()).isTrue();
+        assertThat(stopped.isLive()).isFalse();
+        assertThat(stopped.isRunning()).isTrue();
+
+        BulkImportProgress finished = BulkImportProgress.resume(checkpointed());
+        finished.finish(BulkImportStore.COMPLETED, null);
+        assertThat(finished.isLive()).isFalse();
+        assertThat(finished.getState()).isEqualTo(BulkImportStore.COMPLETED);
+        assertThat(finished.getLastError()).isEqualTo("cv-1.pdf: broken");
+        assertThat(finished.getFinishedAt()).isNotNull();
+    }
+
+    /**
+     * An import started an hour ago, last checkpointed now.
+     */
+    private static BulkImportEntity checkpointed() {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        BulkImportEntity entity = new BulkImportEntity();
+        entity.setId("import-1");
+        entity.setBucket("cvs");
+        entity.setPrefix("clients/acme/");
+        entity.setState(BulkImportStore.RUNNING);
+        entity.setCheckpointKey("clients/acme/cv-8.pdf");
+        entity.setListed(100);
+        entity.setProcessed(90);
+        entity.setFailed(1);
+        entity.setSkipped(9);
+        entity.setLastError("cv-1.pdf: broken");
+        entity.setStartedAt(now.minusHours(1));
+        entity.setUpdatedAt(now);
+        return entity;
+    }
+}
@@ -0,0 +1,203 @@
+package com.talentflow.cvparser.parsing.application;
+
+import com.talentflow.cvparser.parsing.adapter.out.BulkImportStore;
+import com.talentflow.cvparser.parsing.adapter.out.StorageAdapter;
+import com.talentflow.cvparser.parsing.adapter.out.StorageAdapter.ObjectPage;
+import com.talentflow.cvparser.parsing.adapter.out.StorageAdapter.StoredObject;
+import com.talentflow.cvparser.parsing.infrastructure.repository.BulkImportEntity;
+import com.talentflow.cvparser.scoring.adapter.out.DatabaseAdapter;
+import com.talentflow.cvparser.scoring.domain.model.ApplicationRef;
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import com.talentflow.cvparser.shared.resilience.SaturationMonitor;
+import com.talentflow.cvparser.shared.util.FileValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Two replicas sharing one bulk_imports table (H2) and one bucket listing.
+ */
+@DataJpaTest
+@Import(BulkImportStore.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BulkImportUseCaseTest {
+
+    private static final String BUCKET = "cvs";
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private BulkImportStore store;
+
+    private final StorageAdapter storageAdapter = mock(StorageAdapter.class);
+    private final DatabaseAdapter databaseAdapter = mock(DatabaseAdapter.class);
+    private final FileValidator fileValidator = mock(FileValidator.class);
+    private final SaturationMonitor saturationMonitor = mock(SaturationMonitor.class);
+    private final List<BulkImportUseCase> replicas = new ArrayList<>();
+    private final Queue<String> listedAfter = new ConcurrentLinkedQueue<>();
+
+    private String prefix;
+    private List<String> keys;
+
+    @BeforeEach
+    void setUp() {
+        prefix = "clients/" + UUID.randomUUID() + "/";
+        keys = IntStream.rangeClosed(1, 6).mapToObj(i -> prefix + "cv-" + i + ".pdf").toList();
+        when(fileValidator.getMaxSizeMb()).thenReturn(10);
+        when(saturationMonitor.getLoadFactor()).thenReturn(0.0);
+        when(storageAdapter.list(anyString(), anyString(), any(), anyInt())).thenAnswer(invocation -> {
+            String listPrefix = invocation.getArgument(1);
+            String after = invocation.getArgument(2);
+            if (!listPrefix.equals(prefix)) {
+                // Runs left RUNNING by other tests: nothing to import
+                return new ObjectPage(List.of(), false);
+            }
+            listedAfter.add(String.valueOf(after));
+            List<StoredObject> remaining = keys.stream()
+                    .filter(key -> after == null || key.compareTo(after) > 0)
+                    .map(key -> new StoredObject(key, 1024, Instant.parse("2026-10-01T00:00:00Z")))
+                    .toList();
+            int size = Math.min(PAGE_SIZE, remaining.size());
+            return new ObjectPage(remaining.subList(0, size), remaining.size() > size);
+        });
+        when(databaseAdapter.findApplicationsByFileKeys(any())).thenAnswer(invocation -> {
+            Collection<String> fileKeys = invocation.getArgument(0);
+            return fileKeys.stream()
+                    .map(key -> ApplicationRef.builder()
+                            .applicationId("app-" + key)
+                            .candidateId("candidate-" + key)
+                            .jobId("job")
+                            .fileKey(key)
+                            .build())
+                    .toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicas.forEach(BulkImportUseCase::shutdown);
+    }
+
+    @Test
+    void crashMidPageIsResumedAfterLastCheckpointByAnotherReplica() throws Exception {
+        CountDownLatch crashed = new CountDownLatch(1);
+        CountDownLatch never = new CountDownLatch(1);
+        Queue<String> importedByA = new ConcurrentLinkedQueue<>();
+        BulkImportUseCase replicaA = replica("a", Duration.ofMinutes(5), event -> {
+            if (event.getFileKey().equals(keys.get(2))) {
+                // The replica dies while importing the first CV of the second page
+                crashed.countDown();
+                never.await();
+            }
+            importedByA.add(event.getFileKey());
+        });
+        Queue<String> importedByB = new ConcurrentLinkedQueue<>();
+        BulkImportUseCase replicaB = replica("b", Duration.ZERO, event -> importedByB.add(event.getFileKey()));
+
+        String importId = replicaA.start(BUCKET, prefix).getImportId();
+        assertThat(crashed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(store.find(importId).orElseThrow().getCheckpointKey()).isEqualTo(keys.get(1));
+
+        replicaB.resumeStalled();
+        awaitUntil(() -> BulkImportStore.COMPLETED.equals(store.find(importId).orElseThrow().getState()));
+
+        BulkImportEntity entity = store.find(importId).orElseThrow();
+        assertThat(entity.getOwner()).startsWith("b-");
+        assertThat(entity.getCheckpointKey()).isEqualTo(keys.get(5));
+        assertThat(entity.getListed()).isEqualTo(6);
+        assertThat(entity.getProcessed()).isEqualTo(6);
+        assertThat(importedByA).containsExactlyInAnyOrderElementsOf(keys.subList(0, 2));
+        assertThat(importedByB).containsExactlyInAnyOrderElementsOf(keys.subList(2, 6));
+        assertThat(listedAfter).contains(keys.get(1));
+        assertThat(replicaB.progress(importId)).hasValueSatisfying(progress -> {
+            assertThat(progress.isLive()).isFalse();
+            assertThat(progress.getState()).isEqualTo(BulkImportStore.COMPLETED);
+        });
+    }
+
+    @Test
+    void replicaThatLostItsLeaseStopsWithoutTouchingTheRun() throws Exception {
+        CountDownLatch importing = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        Queue<String> imported = new ConcurrentLinkedQueue<>();
+        BulkImportUseCase replicaA = replica("a", Duration.ofMinutes(5), event -> {
+            importing.countDown();
+            resume.await();
+            imported.add(event.getFileKey());
+        });
+
+        BulkImportProgress progress = replicaA.start(BUCKET, prefix);
+        String importId = progress.getImportId();
+        assertThat(importing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // e.g. a long GC pause: the lease expired and another replica took the run over
+        assertThat(store.claim(importId, "replica-b", Duration.ZERO)).isPresent();
+        resume.countDown();
+        awaitUntil(() -> !progress.isLive());
+
+        assertThat(progress.isRunning()).isTrue();
+        assertThat(imported).containsExactlyInAnyOrderElementsOf(keys.subList(0, 2));
+        BulkImportEntity entity = store.find(importId).orElseThrow();
+        assertThat(entity.getOwner()).isEqualTo("replica-b");
+        assertThat(entity.getState()).isEqualTo(BulkImportStore.RUNNING);
+        assertThat(entity.getCheckpointKey()).isNull();
+        assertThat(entity.getProcessed()).isZero();
+        // The page listed ahead is never imported
+        Thread.sleep(100);
+        assertThat(imported).hasSize(2);
+    }
+
+    @FunctionalInterface
+    private interface Pipeline {
+        void process(CvUploadedEvent event) throws Exception;
+    }
+
+    private BulkImportUseCase replica(String replicaId, Duration lease, Pipeline pipeline) throws Exception {
+        CvParsingOrchestrator orchestrator = mock(CvParsingOrchestrator.class);
+        doAnswer(invocation -> {
+            pipeline.process(invocation.getArgument(0));
+            return null;
+        }).when(orchestrator).process(any());
+        BulkImportUseCase useCase = new BulkImportUseCase(storageAdapter, databaseAdapter, store, orchestrator,
+                fileValidator, saturationMonitor, PAGE_SIZE, 1, 4, 0.6, Duration.ofMillis(10), lease, 1,
+                replicaId, new SimpleMeterRegistry());
+        replicas.add(useCase);
+        return useCase;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
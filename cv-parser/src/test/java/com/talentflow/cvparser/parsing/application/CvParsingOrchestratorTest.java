@@ -0,0 +1,196 @@
+package com.talentflow.cvparser.parsing.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentflow.cvparser.extraction.application.DataExtractionUseCase;
+import com.talentflow.cvparser.extraction.application.NearDuplicateReuse;
+import com.talentflow.cvparser.parsing.domain.model.ParsedDocument;
+import com.talentflow.cvparser.scoring.adapter.out.DatabaseAdapter;
+import com.talentflow.cvparser.scoring.adapter.out.EventPublisherAdapter;
+import com.talentflow.cvparser.scoring.domain.model.JobRequirements;
+import com.talentflow.cvparser.scoring.domain.model.ScoringResult;
+import com.talentflow.cvparser.scoring.domain.port.ScoringPort;
+import com.talentflow.cvparser.shared.config.ModelRoutingProperties;
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import com.talentflow.cvparser.shared.dto.ParkedCvEvent;
+import com.talentflow.cvparser.shared.dto.ParsedCvData;
+import com.talentflow.cvparser.shared.exception.ExtractionException;
+import com.talentflow.cvparser.shared.messaging.ParkingLot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CvParsingOrchestratorTest {
+
+    private static final Instant EXTRACTED_AT = Instant.parse("2026-10-19T08:00:05Z");
+    private static final String TEXT = "Jane Doe\njane@example.com\nExperience\nEngineer at Acme";
+
+    private final CvParsingUseCase parsingUseCase = mock(CvParsingUseCase.class);
+    private final DataExtractionUseCase extractionUseCase = mock(DataExtractionUseCase.class);
+    private final NearDuplicateReuse nearDuplicates = mock(NearDuplicateReuse.class);
+    private final ScoringPort scoringPort = mock(ScoringPort.class);
+    private final DatabaseAdapter databaseAdapter = mock(DatabaseAdapter.class);
+    private final EventPublisherAdapter eventPublisher = mock(EventPublisherAdapter.class);
+    private final ParkingLot parkingLot = mock(ParkingLot.class);
+    private final CvParsingOrchestrator orchestrator = new CvParsingOrchestrator(parsingUseCase, extractionUseCase,
+            nearDuplicates, scoringPort, databaseAdapter, eventPublisher, parkingLot, new ModelRoutingProperties());
+
+    private final CvUploadedEvent event = CvUploadedEvent.builder()
+            .candidateId("11111111-1111-1111-1111-111111111111")
+            .applicationId("22222222-2222-2222-2222-222222222222")
+            .jobId("33333333-3333-3333-3333-333333333333")
+            .bucket("cvs")
+            .fileKey("cv.pdf")
+            .mimeType("application/pdf")
+            .uploadedAt(Instant.parse("2026-10-19T08:00:00Z"))
+            .build();
+    private final ParsedCvData parsedData = ParsedCvData.builder().fullName("Jane Doe").email("jane@example.com").build();
+
+    @BeforeEach
+    void setUp() {
+        when(parsingUseCase.downloadAndParse(event))
+                .thenReturn(ParsedDocument.builder().text(TEXT).mimeType("application/pdf").build());
+        when(nearDuplicates.lookup(anyString(), anyString())).thenReturn(new NearDuplicateReuse.Lookup(null, null));
+        when(databaseAdapter.findJobRequirements(event.getJobId()))
+                .thenReturn(Optional.of(JobRequirements.builder().jobId(event.getJobId()).title("Engineer").build()));
+        when(scoringPort.score(any(), anyString(), any(), any()))
+                .thenReturn(Mono.just(ScoringResult.builder().score(80).reasoning("fit").build()));
+        when(eventPublisher.publishExtracted(any(), any(), any())).thenReturn(EXTRACTED_AT);
+    }
+
+    @Test
+    void parksParsedTextWhileGeminiIsUnavailable() {
+        when(parkingLot.isLlmAvailable()).thenReturn(false);
+
+        orchestrator.process(event);
+
+        ArgumentCaptor<ParkedCvEvent> parked = ArgumentCaptor.forClass(ParkedCvEvent.class);
+        verify(parkingLot).park(parked.capture());
+        assertThat(parked.getValue().getResumeText()).isEqualTo(TEXT);
+        assertThat(parked.getValue().getParsedData()).isNull();
+        verify(databaseAdapter).saveResumeText(event.getCandidateId(), TEXT);
+        verify(extractionUseCase, never()).extract(anyString(), anyString(), any());
+    }
+
+    @Test
+    void parksAfterExtractionKeepingParsedDataAndExtractedEvent() {
+        when(parkingLot.isLlmAvailable()).thenReturn(true);
+        when(extractionUseCase.extract(anyString(), anyString(), any())).thenReturn(Mono.just(parsedData));
+        ExtractionException outage = new ExtractionException("breaker open", "LLM_UNAVAILABLE", true);
+        when(scoringPort.score(any(), anyString(), any(), any())).thenReturn(Mono.error(outage));
+        when(parkingLot.shouldPark(outage)).thenReturn(true);
+
+        orchestrator.process(event);
+
+        ArgumentCaptor<ParkedCvEvent> parked = ArgumentCaptor.forClass(ParkedCvEvent.class);
+        verify(parkingLot).park(parked.capture());
+        assertThat(parked.getValue().getParsedData()).isEqualTo(parsedData);
+        assertThat(parked.getValue().getExtractedAt()).isEqualTo(EXTRACTED_AT);
+        verify(eventPublisher, never()).publishParsed(any(), any(), any(), any());
+    }
+
+    @Test
+    void resumeSkipsExtractionDoneBeforeParking() {
+        when(parkingLot.isLlmAvailable()).thenReturn(true);
+        ParkedCvEvent parked = ParkedCvEvent.builder()
+                .upload(event)
+                .resumeText(TEXT)
+                .parsedData(parsedData)
+                .uploadMessageId("m-1")
+                .extractedAt(EXTRACTED_AT)
+                .reason("LLM_UNAVAILABLE")
+                .parkedAt(Instant.now())
+                .build();
+
+        assertThat(orchestrator.resume(parked)).isTrue();
+
+        verify(extractionUseCase, never()).extract(anyString(), anyString(), any());
+        verify(eventPublisher, never()).publishExtracted(any(), any(), any());
+        verify(eventPublisher).publishParsed(any(), eq(event), eq("m-1"), eq(EXTRACTED_AT));
+    }
+
+    @Test
+    void resumeReportsRenewedOutageAndRethrowsOtherFailures() {
+        ParkedCvEvent parked = ParkedCvEvent.builder().upload(event).resumeText(TEXT).build();
+        when(parkingLot.isLlmAvailable()).thenReturn(false);
+        assertThat(orchestrator.resume(parked)).isFalse();
+
+        when(parkingLot.isLlmAvailable()).thenReturn(true);
+        ExtractionException invalid = new ExtractionException("bad json", "EXTRACTION_FAILED", false);
+        when(extractionUseCase.extract(anyString(), anyString(), any())).thenReturn(Mono.error(invalid));
+        assertThatThrownBy(() -> orchestrator.resume(parked)).isSameAs(invalid);
+    }
+
+    @Test
+    void parkedThenResumedCvPublishesTheSameEventsAsAnUninterruptedRun() throws Exception {
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        CvParsingOrchestrator withPublisher = new CvParsingOrchestrator(parsingUseCase, extractionUseCase,
+                nearDuplicates, scoringPort, databaseAdapter,
+                new EventPublisherAdapter(rabbitTemplate, true, new SimpleMeterRegistry()), parkingLot,
+                new ModelRoutingProperties());
+        when(parkingLot.isLlmAvailable()).thenReturn(true);
+        when(extractionUseCase.extract(anyString(), anyString(), any())).thenReturn(Mono.just(parsedData));
+
+        withPublisher.process(event, "m-1");
+        List<MessageProperties> uninterrupted = published(rabbitTemplate);
+
+        // Scoring outage after cv.extracted went out; the parked CV goes through the queue as JSON
+        reset(rabbitTemplate);
+        ExtractionException outage = new ExtractionException("breaker open", "LLM_UNAVAILABLE", true);
+        when(scoringPort.score(any(), anyString(), any(), any())).thenReturn(Mono.error(outage));
+        when(parkingLot.shouldPark(outage)).thenReturn(true);
+        withPublisher.process(event, "m-1");
+        ArgumentCaptor<ParkedCvEvent> parked = ArgumentCaptor.forClass(ParkedCvEvent.class);
+        verify(parkingLot).park(parked.capture());
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        ParkedCvEvent queued = objectMapper.readValue(objectMapper.writeValueAsBytes(parked.getValue()),
+                ParkedCvEvent.class);
+
+        when(scoringPort.score(any(), anyString(), any(), any()))
+                .thenReturn(Mono.just(ScoringResult.builder().score(80).reasoning("fit").build()));
+        assertThat(withPublisher.resume(queued)).isTrue();
+        List<MessageProperties> interrupted = published(rabbitTemplate);
+
+        assertThat(interrupted).extracting(MessageProperties::getMessageId)
+                .containsExactlyElementsOf(uninterrupted.stream().map(MessageProperties::getMessageId).toList());
+        assertThat(interrupted).extracting(properties -> properties.getHeader("x-event-version"))
+                .containsExactly(uninterrupted.get(0).getHeader("x-event-version"),
+                        uninterrupted.get(1).getHeader("x-event-version"));
+        assertThat((Long) uninterrupted.get(1).getHeader("x-event-version"))
+                .isGreaterThan((Long) uninterrupted.get(0).getHeader("x-event-version"));
+    }
+
+    /**
+     * Properties of the events sent so far: cv.extracted, then cv.parsed.
+     */
+    private static List<MessageProperties> published(RabbitTemplate rabbitTemplate) {
+        ArgumentCaptor<MessagePostProcessor> postProcessors = ArgumentCaptor.forClass(MessagePostProcessor.class);
+        verify(rabbitTemplate, times(2)).convertAndSend(anyString(), anyString(), any(Object.class),
+                postProcessors.capture());
+        return postProcessors.getAllValues().stream()
+                .map(postProcessor -> postProcessor.postProcessMessage(new Message(new byte[0], new MessageProperties()))
+                        .getMessageProperties())
+                .toList();
+    }
+}
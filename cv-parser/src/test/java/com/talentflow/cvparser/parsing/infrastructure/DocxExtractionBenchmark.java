@@ -0,0 +1,110 @@
+package com.talentflow.cvparser.parsing.infrastructure;
+
+import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
+import org.apache.poi.xwpf.usermodel.Document;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * POI DOM (XWPFDocument + XWPFWordExtractor) vs the StAX extractor on a long CV with an
+ * embedded photo: median time and bytes allocated per parse
+ * (run by failsafe with mvn -Pbenchmark verify).
+ */
+class DocxExtractionBenchmark {
+
+    private static final int PARAGRAPHS = 2_000;
+    private static final int WARMUP = 20;
+    private static final int RUNS = Integer.getInteger("benchmark.docx.runs", 30);
+    private static final double MIN_SPEEDUP = Double.parseDouble(System.getProperty("benchmark.docx.min-speedup", "2.0"));
+    private static final double MIN_ALLOCATION_RATIO =
+            Double.parseDouble(System.getProperty("benchmark.docx.min-allocation-ratio", "3.0"));
+
+    @Test
+    void streamingExtractionIsFasterAndAllocatesLess() throws Exception {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported(), "Needs per-thread allocation counters");
+
+        byte[] docx = generateDocx();
+        StreamingDocxParserImpl streaming = new StreamingDocxParserImpl(1000, DataSize.ofMegabytes(50), 200, 500_000);
+        Consumer<byte[]> dom = bytes -> {
+            try (XWPFDocument document = new XWPFDocument(new ByteArrayInputStream(bytes));
+                 XWPFWordExtractor extractor = new XWPFWordExtractor(document)) {
+                extractor.getText();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        Consumer<byte[]> stax = bytes -> streaming.parse(ByteBuffer.wrap(bytes));
+
+        assertThat(streaming.parse(ByteBuffer.wrap(docx)).getText()).contains("Paragraph " + (PARAGRAPHS - 1));
+
+        Result domResult = measure(dom, docx);
+        Result staxResult = measure(stax, docx);
+        double speedup = (double) domResult.nanos() / staxResult.nanos();
+        double allocationRatio = (double) domResult.bytes() / staxResult.bytes();
+
+        System.out.printf("DOCX extraction, %d paragraphs, %d KB (median of %d): DOM %.1f ms / %.1f MB,"
+                        + " StAX %.1f ms / %.1f MB (%.2fx faster, %.2fx less allocation)%n",
+                PARAGRAPHS, docx.length / 1024, RUNS,
+                domResult.nanos() / 1e6, domResult.bytes() / 1e6,
+                staxResult.nanos() / 1e6, staxResult.bytes() / 1e6, speedup, allocationRatio);
+        assertThat(speedup).isGreaterThanOrEqualTo(MIN_SPEEDUP);
+        assertThat(allocationRatio).isGreaterThanOrEqualTo(MIN_ALLOCATION_RATIO);
+    }
+
+    private record Result(long nanos, long bytes) {
+    }
+
+    private static Result measure(Consumer<byte[]> parser, byte[] docx) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP; i++) {
+            parser.accept(docx);
+        }
+        long[] times = new long[RUNS];
+        long[] allocations = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long allocated = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            parser.accept(docx);
+            times[i] = System.nanoTime() - start;
+            allocations[i] = threads.getThreadAllocatedBytes(thread) - allocated;
+        }
+        Arrays.sort(times);
+        Arrays.sort(allocations);
+        return new Result(times[RUNS / 2], allocations[RUNS / 2]);
+    }
+
+    private static byte[] generateDocx() throws Exception {
+        byte[] photo = new byte[512 * 1024];
+        new Random(7).nextBytes(photo);
+        try (XWPFDocument document = new XWPFDocument()) {
+            XWPFRun header = document.createParagraph().createRun();
+            header.setText("Jane Doe, jane@example.com");
+            header.addPicture(new ByteArrayInputStream(photo), Document.PICTURE_TYPE_PNG, "photo.png", 914400, 914400);
+            for (int i = 0; i < PARAGRAPHS; i++) {
+                XWPFRun run = document.createParagraph().createRun();
+                run.setBold(i % 10 == 0);
+                run.setText("Paragraph " + i + ": Senior Java engineer, Spring Boot, PostgreSQL, RabbitMQ, Kubernetes");
+                run.addTab();
+                run.setText("2019-2024");
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.write(out);
+            return out.toByteArray();
+        }
+    }
+}
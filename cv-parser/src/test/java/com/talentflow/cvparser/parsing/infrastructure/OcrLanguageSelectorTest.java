@@ -0,0 +1,40 @@
+package com.talentflow.cvparser.parsing.infrastructure;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OcrLanguageSelectorTest {
+
+    private final OcrLanguageSelector selector = new OcrLanguageSelector(0.02, 0.3);
+
+    @Test
+    void englishCvUsesEnglishOnly() {
+        String text = "Senior Java engineer with experience in Spring Boot, PostgreSQL and Kubernetes. ".repeat(10);
+
+        assertThat(OcrLanguageSelector.vietnameseWordShare(text)).isZero();
+        assertThat(selector.choose(OcrLanguageSelector.vietnameseWordShare(text))).isEqualTo("eng");
+    }
+
+    @Test
+    void vietnameseNameInEnglishCvKeepsBothModels() {
+        String text = "Nguyễn Văn An\n" + "Backend engineer, Spring Boot, PostgreSQL, Kafka and AWS. ".repeat(5);
+
+        double share = OcrLanguageSelector.vietnameseWordShare(text);
+        assertThat(share).isBetween(0.02, 0.3);
+        assertThat(selector.choose(share)).isEqualTo("eng+vie");
+    }
+
+    @Test
+    void vietnameseCvUsesVietnameseOnly() {
+        String text = "Kinh nghiệm làm việc: Kỹ sư phần mềm tại công ty công nghệ, phát triển hệ thống thanh toán.";
+
+        assertThat(selector.choose(OcrLanguageSelector.vietnameseWordShare(text))).isEqualTo("vie");
+    }
+
+    @Test
+    void countsLetters() {
+        assertThat(OcrLanguageSelector.letterCount("Java 17, Đà Nẵng")).isEqualTo(10);
+        assertThat(OcrLanguageSelector.vietnameseWordShare("  12 - 34 ")).isZero();
+    }
+}
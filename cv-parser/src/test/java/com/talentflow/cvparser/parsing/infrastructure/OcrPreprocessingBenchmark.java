@@ -0,0 +1,137 @@
+package com.talentflow.cvparser.parsing.infrastructure;
+
+import com.talentflow.cvparser.parsing.domain.model.PageImage;
+import com.talentflow.cvparser.shared.config.TesseractConfig;
+import com.talentflow.cvparser.shared.config.ThreadPoolConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * OCR time and accuracy on skewed, unevenly lit 300 dpi scans with and without preprocessing,
+ * and the cost of preprocessing itself (run by failsafe with mvn -Pbenchmark verify).
+ * The OCR comparison needs Tesseract with eng traineddata and is skipped without it.
+ */
+class OcrPreprocessingBenchmark {
+
+    private static final int DPI = 300;
+    private static final int PAGES = 4;
+    private static final int RUNS = Integer.getInteger("benchmark.ocr.runs", 3);
+    private static final double MAX_PREPROCESS_MS =
+            Double.parseDouble(System.getProperty("benchmark.ocr.max-preprocess-ms", "400"));
+
+    @Test
+    void preprocessingCostPerPage() {
+        OcrPreprocessor preprocessor = new OcrPreprocessor(true, 15, 5, 0.2, 0.3, 0.1);
+        PageImage page = OcrPreprocessorTest.scannedPage(DPI, 2.0, 0.001);
+        for (int i = 0; i < 10; i++) {
+            preprocessor.process(page);
+        }
+        long[] times = new long[20];
+        for (int i = 0; i < times.length; i++) {
+            long start = System.nanoTime();
+            preprocessor.process(page);
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        double millis = times[times.length / 2] / 1e6;
+
+        System.out.printf("OCR preprocessing, %dx%d page at %d dpi (median): %.1f ms%n",
+                page.width(), page.height(), DPI, millis);
+        assertThat(millis).isLessThan(MAX_PREPROCESS_MS);
+    }
+
+    @Test
+    void preprocessingImprovesOcr() {
+        TesseractConfig config = new TesseractConfig();
+        ReflectionTestUtils.setField(config, "language", "eng");
+        ReflectionTestUtils.setField(config, "dataPath", System.getenv("TESSERACT_DATA_PATH"));
+        TesseractEngineCache engines = new TesseractEngineCache(config, 4);
+        assumeTrue(tesseractAvailable(engines), "Needs Tesseract with eng traineddata");
+
+        Executor executor = new ThreadPoolConfig().ocrExecutor();
+        TesseractOcrImpl raw = ocr(engines, executor, config, false);
+        TesseractOcrImpl preprocessed = ocr(engines, executor, config, true);
+
+        List<PageImage> pages = new ArrayList<>();
+        for (int i = 0; i < PAGES; i++) {
+            pages.add(OcrPreprocessorTest.scannedPage(DPI, i % 2 == 0 ? 2.5 : -1.5, 0.001));
+        }
+        String expected = String.join(" ", OcrPreprocessorTest.LINES);
+
+        Result before = run(raw, pages, expected);
+        Result after = run(preprocessed, pages, expected);
+
+        System.out.printf(Locale.ROOT, "OCR, %d pages at %d dpi (median of %d): raw %.0f ms, accuracy %.3f;"
+                        + " preprocessed %.0f ms, accuracy %.3f%n",
+                PAGES, DPI, RUNS, before.millis(), before.accuracy(), after.millis(), after.accuracy());
+        engines.close();
+        assertThat(after.accuracy()).isGreaterThanOrEqualTo(before.accuracy());
+    }
+
+    private record Result(double millis, double accuracy) {
+    }
+
+    private static Result run(TesseractOcrImpl ocr, List<PageImage> pages, String expected) {
+        List<String> texts = ocr.recognize(pages, "");
+        long[] times = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            texts = ocr.recognize(pages, "");
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        double accuracy = 0;
+        for (String text : texts) {
+            accuracy += characterAccuracy(expected, text);
+        }
+        return new Result(times[RUNS / 2] / 1e6, accuracy / texts.size());
+    }
+
+    private static TesseractOcrImpl ocr(TesseractEngineCache engines, Executor executor,
+                                        TesseractConfig config, boolean preprocessing) {
+        return new TesseractOcrImpl(engines, new OcrPreprocessor(preprocessing, 15, 5, 0.2, 0.3, 0.1),
+                executor, config, false, "vie", 0.5, 200, 0.02, 0.3, 2.0, new SimpleMeterRegistry());
+    }
+
+    private static boolean tesseractAvailable(TesseractEngineCache engines) {
+        try {
+            return engines.withEngine("eng", handle -> true);
+        } catch (RuntimeException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * 1 - edit distance / expected length, on whitespace-collapsed text.
+     */
+    static double characterAccuracy(String expected, String actual) {
+        String a = expected.replaceAll("\\s+", " ").strip();
+        String b = actual.replaceAll("\\s+", " ").strip();
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.max(0.0, 1.0 - (double) previous[b.length()] / a.length());
+    }
+}
@@ -0,0 +1,126 @@
+package com.talentflow.cvparser.parsing.infrastructure;
+
+import com.talentflow.cvparser.parsing.domain.model.PageImage;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class OcrPreprocessorTest {
+
+    static final List<String> LINES = List.of(
+            "Nguyen Van An - Senior Backend Engineer",
+            "Experience: Java, Spring Boot, PostgreSQL, RabbitMQ",
+            "2019 - 2024 Payments platform, 12 services in production",
+            "Built event-driven order processing with Kafka and Redis",
+            "Education: Bachelor of Computer Science, 2018",
+            "Skills: Kubernetes, Docker, AWS, Terraform, CI/CD",
+            "Languages: English (IELTS 7.5), Vietnamese (native)",
+            "Led a team of five engineers and mentored two interns");
+
+    private final OcrPreprocessor preprocessor = new OcrPreprocessor(true, 15, 5, 0.2, 0.3, 0.1);
+
+    @Test
+    void binarizationRemovesUnevenLighting() {
+        PageImage page = scannedPage(150, 0.0, 0);
+
+        PageImage binary = OcrPreprocessor.binarize(page, 15);
+
+        // Top left corner is background under the darkest part of the gradient
+        assertThat(page.pixel(page.width() - 5, 5)).isLessThan(180);
+        assertThat(binary.pixel(page.width() - 5, 5)).isEqualTo(255);
+        assertThat(blackShare(binary)).isBetween(0.005, 0.1);
+    }
+
+    @Test
+    void skewIsEstimatedAndCorrected() {
+        PageImage binary = OcrPreprocessor.binarize(scannedPage(150, 2.0, 0), 15);
+
+        double skew = OcrPreprocessor.estimateSkew(binary, 5, 0.2);
+        assertThat(skew).isCloseTo(2.0, within(0.3));
+
+        PageImage straight = OcrPreprocessor.rotate(binary, -skew);
+        assertThat(OcrPreprocessor.estimateSkew(straight, 5, 0.2)).isCloseTo(0.0, within(0.3));
+    }
+
+    @Test
+    void processCropsMarginsAroundText() {
+        PageImage page = scannedPage(150, -1.5, 0.002);
+
+        PageImage processed = preprocessor.process(page);
+
+        assertThat(processed.width()).isLessThan(page.width() * 9 / 10);
+        assertThat(processed.height()).isLessThan(page.height() / 2);
+        assertThat(OcrPreprocessor.estimateSkew(processed, 5, 0.2)).isCloseTo(0.0, within(0.3));
+        // Padding keeps a border with nothing but noise specks
+        int black = 0;
+        for (int x = 0; x < processed.width(); x++) {
+            black += processed.pixel(x, 0) == 0 ? 1 : 0;
+        }
+        assertThat(black).isLessThan(processed.width() / 50);
+    }
+
+    @Test
+    void blankPageIsLeftWhole() {
+        PageImage blank = new PageImage(new byte[200 * 300], 200, 300, 150);
+        Arrays.fill(blank.pixels(), (byte) 240);
+
+        PageImage processed = preprocessor.process(blank);
+
+        assertThat(processed.width()).isEqualTo(200);
+        assertThat(processed.height()).isEqualTo(300);
+    }
+
+    /**
+     * A letter-size page photographed under uneven light: gray gradient background, dark gray
+     * text rotated by skewDegrees (positive rises to the right), speckled with noise pixels.
+     */
+    static PageImage scannedPage(int dpi, double skewDegrees, double noise) {
+        int width = (int) (8.5 * dpi);
+        int height = 11 * dpi;
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setPaint(new GradientPaint(0, height, new Color(235, 235, 235), width, 0, new Color(150, 150, 150)));
+            g.fillRect(0, 0, width, height);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.rotate(Math.toRadians(-skewDegrees), width / 2.0, height / 2.0);
+            g.setColor(new Color(60, 60, 60));
+            g.setFont(new Font(Font.SERIF, Font.PLAIN, dpi / 6));
+            int lineHeight = dpi / 4;
+            int y = height / 4;
+            for (String line : LINES) {
+                g.drawString(line, dpi, y);
+                y += lineHeight;
+            }
+        } finally {
+            g.dispose();
+        }
+        PageImage page = PdfBoxParserImpl.pageImage(image, dpi);
+        Random random = new Random(42);
+        for (int i = 0, n = (int) (page.pixelCount() * noise); i < n; i++) {
+            page.pixels()[random.nextInt(page.pixels().length)] = 0;
+        }
+        return page;
+    }
+
+    private static double blackShare(PageImage binary) {
+        long black = 0;
+        for (byte pixel : binary.pixels()) {
+            if (pixel == 0) {
+                black++;
+            }
+        }
+        return (double) black / binary.pixelCount();
+    }
+}
@@ -0,0 +1,94 @@
+package com.talentflow.cvparser.parsing.infrastructure;
+
+import com.talentflow.cvparser.parsing.domain.service.OcrService;
+import com.talentflow.cvparser.shared.config.ThreadPoolConfig;
+import com.talentflow.cvparser.shared.util.FileValidator;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Page-parallel vs single-threaded PDF extraction on a 20-page CV
+ * (run by failsafe with mvn -Pbenchmark verify).
+ */
+class PdfExtractionBenchmark {
+
+    private static final int PAGES = 20;
+    private static final int WARMUP = 20;
+    private static final int RUNS = Integer.getInteger("benchmark.pdf.runs", 30);
+    private static final double MIN_SPEEDUP = Double.parseDouble(System.getProperty("benchmark.pdf.min-speedup", "1.5"));
+
+    @Test
+    void parallelExtractionIsFasterAboveThreshold() throws Exception {
+        assumeTrue(Runtime.getRuntime().availableProcessors() >= 4, "Needs at least 4 cores");
+
+        byte[] pdf = generatePdf();
+        Executor executor = new ThreadPoolConfig().parsingExecutor();
+        FileValidator fileValidator = new FileValidator();
+        // Digital PDF: never reaches OCR
+        OcrService noOcr = (pages, textHint) -> {
+            throw new AssertionError("OCR not expected");
+        };
+        PdfBoxParserImpl sequential = new PdfBoxParserImpl(executor, fileValidator, Integer.MAX_VALUE, 4, 2, noOcr, 20, 300);
+        PdfBoxParserImpl parallel = new PdfBoxParserImpl(executor, fileValidator, 8, 4, 2, noOcr, 20, 300);
+
+        assertThat(parallel.parse(pdf).getText()).isEqualTo(sequential.parse(pdf).getText());
+
+        long sequentialNanos = median(sequential, pdf);
+        long parallelNanos = median(parallel, pdf);
+        double speedup = (double) sequentialNanos / parallelNanos;
+
+        System.out.printf("PDF extraction, %d pages (median of %d): single %.1f ms, parallel %.1f ms (%.2fx)%n",
+                PAGES, RUNS, sequentialNanos / 1e6, parallelNanos / 1e6, speedup);
+        assertThat(speedup).isGreaterThanOrEqualTo(MIN_SPEEDUP);
+    }
+
+    private static long median(PdfBoxParserImpl parser, byte[] pdf) {
+        for (int i = 0; i < WARMUP; i++) {
+            parser.parse(pdf);
+        }
+        long[] times = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            parser.parse(pdf);
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return times[RUNS / 2];
+    }
+
+    private static byte[] generatePdf() throws Exception {
+        PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+        try (PDDocument document = new PDDocument()) {
+            for (int page = 0; page < PAGES; page++) {
+                PDPage pdPage = new PDPage();
+                document.addPage(pdPage);
+                try (PDPageContentStream content = new PDPageContentStream(document, pdPage)) {
+                    content.beginText();
+                    content.setFont(font, 9);
+                    content.setLeading(11);
+                    content.newLineAtOffset(40, 750);
+                    for (int line = 0; line < 64; line++) {
+                        content.showText("Page " + page + " line " + line
+                                + ": Senior Java engineer, Spring Boot, PostgreSQL, RabbitMQ, Kubernetes, 2019-2024");
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
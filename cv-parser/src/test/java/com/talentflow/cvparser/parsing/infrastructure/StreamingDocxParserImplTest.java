@@ -0,0 +1,159 @@
+package com.talentflow.cvparser.parsing.infrastructure;
+
+import com.talentflow.cvparser.shared.exception.ParsingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingDocxParserImplTest {
+
+    private static final String W = "xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\"";
+    private static final String MC = "xmlns:mc=\"http://schemas.openxmlformats.org/markup-compatibility/2006\"";
+
+    private final StreamingDocxParserImpl parser = parser(1000, DataSize.ofMegabytes(1), 200);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void extractsRunsTabsBreaksAndSkipsFallbackContent() throws IOException {
+        String xml = "<w:document " + W + " " + MC + "><w:body>"
+                + "<w:p><w:r><w:t>Jane</w:t></w:r><w:r><w:t xml:space=\"preserve\"> Doe</w:t></w:r></w:p>"
+                + "<w:p><w:r><w:t>Java</w:t><w:tab/><w:t>Kotlin</w:t><w:br/><w:t>Spring</w:t></w:r></w:p>"
+                + "<mc:AlternateContent><mc:Choice><w:p><w:r><w:t>Text box</w:t></w:r></w:p></mc:Choice>"
+                + "<mc:Fallback><w:p><w:r><w:t>Text box</w:t></w:r></w:p></mc:Fallback></mc:AlternateContent>"
+                + "</w:body></w:document>";
+
+        String text = parser.parse(docx(Map.of("word/document.xml", xml))).getText();
+
+        assertThat(text).isEqualTo("Jane Doe\nJava\tKotlin\nSpring\nText box\n");
+    }
+
+    @Test
+    void rejectsHighlyCompressedDocumentPart() throws IOException {
+        // 900 KB of repeated runs deflates to a few KB: far above 200:1
+        String xml = "<w:document " + W + "><w:body><w:p>"
+                + "<w:r><w:t>aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa</w:t></w:r>".repeat(18_000)
+                + "</w:p></w:body></w:document>";
+
+        assertLimitExceeded(() -> parser(1000, DataSize.ofMegabytes(2), 200)
+                .parse(docx(Map.of("word/document.xml", xml))), "compression ratio");
+    }
+
+    @Test
+    void rejectsTooManyEntries() throws IOException {
+        Map<String, String> parts = new LinkedHashMap<>();
+        parts.put("word/document.xml", document("Jane Doe"));
+        for (int i = 0; i < 10; i++) {
+            parts.put("word/media/image" + i + ".png", "x");
+        }
+
+        // Ten media parts, the document part and [Content_Types].xml
+        assertLimitExceeded(() -> parser(11, DataSize.ofMegabytes(1), 200).parse(docx(parts)), "entries");
+        assertThat(parser(12, DataSize.ofMegabytes(1), 200).parse(docx(parts)).getText()).isEqualTo("Jane Doe\n");
+    }
+
+    @Test
+    void rejectsDocumentPartDeclaredLargerThanLimit() throws IOException {
+        ByteBuffer content = docx(Map.of("word/document.xml", document("x".repeat(4096))));
+
+        assertLimitExceeded(() -> parser(1000, DataSize.ofKilobytes(2), 1000).parse(content), "declares");
+    }
+
+    @Test
+    void rejectsDocumentPartThatInflatesBeyondItsDeclaredSize() throws IOException {
+        // The central directory claims 100 bytes; the inflated stream is ~8 KB
+        byte[] zip = docxBytes(Map.of("word/document.xml", document("x".repeat(8192))));
+        declareUncompressedSize(zip, "word/document.xml", 100);
+
+        assertLimitExceeded(() -> parser(1000, DataSize.ofKilobytes(4), 1000).parse(ByteBuffer.wrap(zip)),
+                "uncompressed bytes");
+    }
+
+    @Test
+    void externalEntitiesAreNeverResolved() throws IOException {
+        Path secret = Files.writeString(dir.resolve("secret.txt"), "TOP-SECRET");
+        String xxe = "<?xml version=\"1.0\"?><!DOCTYPE w:document [<!ENTITY xxe SYSTEM \""
+                + secret.toUri() + "\">]>";
+
+        ByteBuffer inDocument = docx(Map.of("word/document.xml", xxe
+                + "<w:document " + W + "><w:body><w:p><w:r><w:t>&xxe;</w:t></w:r></w:p></w:body></w:document>"));
+        assertThatThrownBy(() -> parser.parse(inDocument))
+                .isInstanceOf(ParsingException.class)
+                .hasMessageNotContaining("TOP-SECRET")
+                .extracting("errorCode").isEqualTo("INVALID_DOCX");
+
+        Map<String, String> parts = new LinkedHashMap<>();
+        parts.put("_rels/.rels", xxe + "<Relationships><Relationship Type=\"&xxe;/officeDocument\""
+                + " Target=\"word/document.xml\"/></Relationships>");
+        parts.put("word/document.xml", document("Jane Doe"));
+        assertThatThrownBy(() -> parser.parse(docx(parts)))
+                .isInstanceOf(ParsingException.class)
+                .hasMessageNotContaining("TOP-SECRET")
+                .extracting("errorCode").isEqualTo("INVALID_DOCX");
+    }
+
+    private static StreamingDocxParserImpl parser(int maxEntries, DataSize maxDocumentSize, int maxRatio) {
+        return new StreamingDocxParserImpl(maxEntries, maxDocumentSize, maxRatio, 500_000);
+    }
+
+    private static void assertLimitExceeded(org.assertj.core.api.ThrowableAssert.ThrowingCallable parse,
+                                            String message) {
+        assertThatThrownBy(parse)
+                .isInstanceOf(ParsingException.class)
+                .hasMessageContaining(message)
+                .extracting("errorCode").isEqualTo("DOCX_LIMIT_EXCEEDED");
+    }
+
+    private static String document(String text) {
+        return "<w:document " + W + "><w:body><w:p><w:r><w:t>" + text + "</w:t></w:r></w:p></w:body></w:document>";
+    }
+
+    private static ByteBuffer docx(Map<String, String> parts) throws IOException {
+        return ByteBuffer.wrap(docxBytes(parts));
+    }
+
+    private static byte[] docxBytes(Map<String, String> parts) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+            zip.write("<Types/>".getBytes(StandardCharsets.UTF_8));
+            for (Map.Entry<String, String> part : parts.entrySet()) {
+                zip.putNextEntry(new ZipEntry(part.getKey()));
+                zip.write(part.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Overwrite an entry's uncompressed size in the central directory, as a crafted archive would.
+     */
+    private static void declareUncompressedSize(byte[] zip, String name, int size) {
+        ByteBuffer buffer = ByteBuffer.wrap(zip).order(ByteOrder.LITTLE_ENDIAN);
+        byte[] wanted = name.getBytes(StandardCharsets.UTF_8);
+        for (int position = 0; position + 46 < zip.length; position++) {
+            if (buffer.getInt(position) == 0x02014b50 && buffer.getShort(position + 28) == wanted.length
+                    && new String(zip, position + 46, wanted.length, StandardCharsets.UTF_8).equals(name)) {
+                buffer.putInt(position + 24, size);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("No central directory entry " + name);
+    }
+}
@@ -0,0 +1,70 @@
+package com.talentflow.cvparser.scoring.adapter.out;
+
+import com.talentflow.cvparser.scoring.infrastructure.repository.CandidateEntity;
+import com.talentflow.cvparser.scoring.infrastructure.repository.CandidateRepository;
+import com.talentflow.cvparser.shared.util.ResumeTextCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Resume text storage against the schema H2 generates from the entity mappings.
+ */
+@DataJpaTest
+@Import({DatabaseAdapter.class, ResumeTextCodec.class, SimpleMeterRegistry.class})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DatabaseAdapterTest {
+
+    @Autowired
+    private DatabaseAdapter databaseAdapter;
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Test
+    void storesCompressedResumeTextOfAnySize() {
+        // Random ids barely compress, so the stored bytes stay well above 255
+        String resumeText = Stream.generate(() -> UUID.randomUUID().toString())
+                .limit(1_000)
+                .collect(Collectors.joining("\n"));
+        String candidateId = candidate();
+
+        databaseAdapter.saveResumeText(candidateId, resumeText);
+
+        CandidateEntity stored = candidateRepository.findById(candidateId).orElseThrow();
+        assertThat(stored.getResumeText()).isNull();
+        assertThat(stored.getResumeTextEncoding()).isEqualTo(ResumeTextCodec.ENCODING);
+        assertThat(stored.getResumeTextCompressed().length).isGreaterThan(10_000);
+        assertThat(databaseAdapter.loadResumeText(candidateId)).contains(resumeText);
+    }
+
+    @Test
+    void storesShortResumeTextAsIs() {
+        String candidateId = candidate();
+
+        databaseAdapter.saveResumeText(candidateId, "Jane Doe, backend engineer");
+
+        CandidateEntity stored = candidateRepository.findById(candidateId).orElseThrow();
+        assertThat(stored.getResumeText()).isEqualTo("Jane Doe, backend engineer");
+        assertThat(stored.getResumeTextCompressed()).isNull();
+        assertThat(databaseAdapter.loadResumeText(candidateId)).contains("Jane Doe, backend engineer");
+    }
+
+    private String candidate() {
+        CandidateEntity candidate = new CandidateEntity();
+        candidate.setId(UUID.randomUUID().toString());
+        candidateRepository.save(candidate);
+        return candidate.getId();
+    }
+}
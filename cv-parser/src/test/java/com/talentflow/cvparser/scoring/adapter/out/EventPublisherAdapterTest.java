@@ -0,0 +1,151 @@
+package com.talentflow.cvparser.scoring.adapter.out;
+
+import com.talentflow.cvparser.shared.config.RabbitMqConfig;
+import com.talentflow.cvparser.shared.dto.CvExtractedEvent;
+import com.talentflow.cvparser.shared.dto.CvParsedEvent;
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+
+class EventPublisherAdapterTest {
+
+    private static final Instant UPLOADED_AT = Instant.parse("2026-01-15T08:00:00.123Z");
+
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final EventPublisherAdapter publisher = publisher(rabbitTemplate);
+
+    @Test
+    void parsedOutranksExtractedOfTheSameUploadAndNewerUploadsOutrankOlder() {
+        CvUploadedEvent upload = upload(UPLOADED_AT);
+        CvUploadedEvent reupload = upload(UPLOADED_AT.plusMillis(1));
+
+        long extracted = published(() -> publisher.publishExtracted(extracted(), upload, "m-1"),
+                RabbitMqConfig.ROUTING_KEY_CV_EXTRACTED).version();
+        long parsed = published(() -> publisher.publishParsed(parsed(), upload, "m-1", null),
+                RabbitMqConfig.ROUTING_KEY_CV_PARSED).version();
+        long newerExtracted = published(() -> publisher.publishExtracted(extracted(), reupload, "m-2"),
+                RabbitMqConfig.ROUTING_KEY_CV_EXTRACTED).version();
+        long rescored = published(() -> publisher.publishParsed(parsed()), RabbitMqConfig.ROUTING_KEY_CV_PARSED)
+                .version();
+
+        assertThat(extracted).isEqualTo(UPLOADED_AT.toEpochMilli() * 10 + 1);
+        assertThat(parsed).isEqualTo(extracted + 1);
+        assertThat(newerExtracted).isGreaterThan(parsed);
+        assertThat(rescored).isGreaterThan(newerExtracted);
+    }
+
+    @Test
+    void sameUploadPublishesIdenticalEventsAnywhereAndAnytime() {
+        CvUploadedEvent upload = upload(UPLOADED_AT);
+        Published first = published(() -> publisher.publishParsed(parsed(), upload, "m-1", null),
+                RabbitMqConfig.ROUTING_KEY_CV_PARSED);
+
+        // Redelivery of the same cv.uploaded message, handled later by another replica
+        RabbitTemplate otherTemplate = mock(RabbitTemplate.class);
+        EventPublisherAdapter otherReplica = publisher(otherTemplate);
+        otherReplica.publishParsed(parsed(), upload(UPLOADED_AT), "m-1", Instant.now());
+        Published again = capture(otherTemplate, RabbitMqConfig.ROUTING_KEY_CV_PARSED);
+
+        assertThat(again).isEqualTo(first);
+        assertThat(again.timestamp()).isEqualTo(UPLOADED_AT.toEpochMilli());
+
+        // A different delivery (or phase) of the same application is a different event
+        Published otherDelivery = published(() -> publisher.publishParsed(parsed(), upload, "m-2", null),
+                RabbitMqConfig.ROUTING_KEY_CV_PARSED);
+        Published extracted = published(() -> publisher.publishExtracted(extracted(), upload, "m-1"),
+                RabbitMqConfig.ROUTING_KEY_CV_EXTRACTED);
+        assertThat(otherDelivery.messageId()).isNotEqualTo(first.messageId());
+        assertThat(otherDelivery.version()).isEqualTo(first.version());
+        assertThat(extracted.messageId()).isNotEqualTo(first.messageId());
+    }
+
+    @Test
+    void uploadWithoutDeliveryIdIsStillIdentifiedByItsUploadTime() {
+        Published first = published(() -> publisher.publishParsed(parsed(), upload(UPLOADED_AT), null, null),
+                RabbitMqConfig.ROUTING_KEY_CV_PARSED);
+        Published again = published(() -> publisher.publishParsed(parsed(), upload(UPLOADED_AT), null, null),
+                RabbitMqConfig.ROUTING_KEY_CV_PARSED);
+        Published later = published(() -> publisher.publishParsed(parsed(), upload(UPLOADED_AT.plusSeconds(60)),
+                null, null), RabbitMqConfig.ROUTING_KEY_CV_PARSED);
+
+        assertThat(again).isEqualTo(first);
+        assertThat(later.messageId()).isNotEqualTo(first.messageId());
+    }
+
+    @Test
+    void extractedEventIsBestEffortOrDisabled() {
+        doThrow(new AmqpConnectException(new RuntimeException("down"))).when(rabbitTemplate)
+                .convertAndSend(anyString(), eq(RabbitMqConfig.ROUTING_KEY_CV_EXTRACTED), any(Object.class),
+                        any(MessagePostProcessor.class));
+        assertThat(publisher.publishExtracted(extracted(), upload(UPLOADED_AT), "m-1")).isNull();
+
+        EventPublisherAdapter disabled = new EventPublisherAdapter(rabbitTemplate, false, new SimpleMeterRegistry());
+        reset(rabbitTemplate);
+        assertThat(disabled.publishExtracted(extracted(), upload(UPLOADED_AT), "m-1")).isNull();
+        verify(rabbitTemplate, never())
+                .convertAndSend(anyString(), anyString(), any(Object.class), any(MessagePostProcessor.class));
+    }
+
+    private record Published(String messageId, long version, long timestamp) {
+    }
+
+    private Published published(Runnable publish, String routingKey) {
+        reset(rabbitTemplate);
+        publish.run();
+        return capture(rabbitTemplate, routingKey);
+    }
+
+    private static Published capture(RabbitTemplate template, String routingKey) {
+        ArgumentCaptor<MessagePostProcessor> postProcessor = ArgumentCaptor.forClass(MessagePostProcessor.class);
+        verify(template).convertAndSend(eq(RabbitMqConfig.EXCHANGE_NAME), eq(routingKey), any(Object.class),
+                postProcessor.capture());
+        MessageProperties properties = postProcessor.getValue()
+                .postProcessMessage(new Message(new byte[0], new MessageProperties()))
+                .getMessageProperties();
+        return new Published(properties.getMessageId(),
+                (Long) properties.getHeader(EventPublisherAdapter.VERSION_HEADER),
+                properties.getTimestamp().getTime());
+    }
+
+    private static EventPublisherAdapter publisher(RabbitTemplate template) {
+        return new EventPublisherAdapter(template, true, new SimpleMeterRegistry());
+    }
+
+    private static CvUploadedEvent upload(Instant uploadedAt) {
+        return CvUploadedEvent.builder()
+                .candidateId("11111111-1111-1111-1111-111111111111")
+                .applicationId("22222222-2222-2222-2222-222222222222")
+                .jobId("33333333-3333-3333-3333-333333333333")
+                .bucket("cvs")
+                .fileKey("cv.pdf")
+                .mimeType("application/pdf")
+                .uploadedAt(uploadedAt)
+                .build();
+    }
+
+    private static CvExtractedEvent extracted() {
+        return CvExtractedEvent.builder().applicationId("22222222-2222-2222-2222-222222222222").build();
+    }
+
+    private static CvParsedEvent parsed() {
+        return CvParsedEvent.builder().applicationId("22222222-2222-2222-2222-222222222222").build();
+    }
+}
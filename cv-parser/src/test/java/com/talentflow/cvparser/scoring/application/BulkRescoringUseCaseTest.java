@@ -0,0 +1,223 @@
+package com.talentflow.cvparser.scoring.application;
+
+import com.talentflow.cvparser.scoring.adapter.out.DatabaseAdapter;
+import com.talentflow.cvparser.scoring.adapter.out.EventPublisherAdapter;
+import com.talentflow.cvparser.scoring.domain.model.JobRequirements;
+import com.talentflow.cvparser.scoring.domain.model.ScoringResult;
+import com.talentflow.cvparser.scoring.domain.port.ScoringPort;
+import com.talentflow.cvparser.scoring.infrastructure.repository.ApplicationEntity;
+import com.talentflow.cvparser.scoring.infrastructure.repository.ApplicationRepository;
+import com.talentflow.cvparser.scoring.infrastructure.repository.CandidateEntity;
+import com.talentflow.cvparser.scoring.infrastructure.repository.CandidateRepository;
+import com.talentflow.cvparser.shared.dto.CvParsedEvent;
+import com.talentflow.cvparser.shared.dto.ParsedCvData;
+import com.talentflow.cvparser.shared.exception.ScoringException;
+import com.talentflow.cvparser.shared.util.ResumeTextCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Rescoring a job stored in H2, with scoring and event publishing mocked.
+ */
+@DataJpaTest
+@Import({DatabaseAdapter.class, ResumeTextCodec.class, SimpleMeterRegistry.class})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BulkRescoringUseCaseTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private DatabaseAdapter databaseAdapter;
+    @Autowired
+    private CandidateRepository candidateRepository;
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ScoringPort scoringPort = mock(ScoringPort.class);
+    private final EventPublisherAdapter eventPublisher = mock(EventPublisherAdapter.class);
+    private final Sinks.One<ScoringResult> firstScore = Sinks.one();
+    private final Queue<String> scoredNames = new ConcurrentLinkedQueue<>();
+
+    private BulkRescoringUseCase useCase;
+    private String jobId;
+    private String prefix;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new BulkRescoringUseCase(databaseAdapter, scoringPort, eventPublisher, PAGE_SIZE, 1,
+                Duration.ofHours(1), new SimpleMeterRegistry());
+        jobId = UUID.randomUUID().toString();
+        // Application ids sort by their suffix within one test
+        prefix = UUID.randomUUID() + "-";
+        jdbcTemplate.update("insert into jobs (id, title, description) values (?, ?, ?)",
+                jobId, "Engineer", "Java");
+
+        when(scoringPort.score(any(), any(), any())).thenAnswer(invocation -> {
+            String name = invocation.<ParsedCvData>getArgument(0).getFullName();
+            scoredNames.add(name);
+            return switch (name) {
+                case "1" -> firstScore.asMono();
+                case "4" -> Mono.error(new ScoringException("bad response", "SCORING_FAILED", false));
+                default -> Mono.just(ScoringResult.builder().score(70).reasoning("fit " + name).build());
+            };
+        });
+    }
+
+    @Test
+    void pagesByKeysetSoApplicationsAddedBehindTheCursorDoNotShiftPages() throws Exception {
+        application("1", jobId, true, null);
+        application("2", jobId, true, null);
+        application("2a", jobId, true, LocalDateTime.now());
+        application("3", jobId, false, null);
+        application("4", jobId, true, null);
+        application("4a", UUID.randomUUID().toString(), true, null);
+        application("5", jobId, true, null);
+
+        RescoringProgress progress = useCase.start(jobId);
+        awaitUntil(() -> scoredNames.contains("1"));
+        // Sorts before every page read so far; offset paging would now read "4" twice and miss "5"
+        application("0", jobId, true, null);
+        firstScore.tryEmitValue(ScoringResult.builder().score(90).reasoning("fit 1").build());
+        awaitUntil(() -> !progress.isRunning());
+
+        assertThat(scoredNames).containsExactly("1", "2", "4", "5");
+        assertThat(progress.getState()).isEqualTo(RescoringProgress.State.COMPLETED);
+        assertThat(progress.getTotal()).isEqualTo(5);
+        assertThat(progress.getScored()).isEqualTo(3);
+        assertThat(progress.getFailed()).isEqualTo(1);
+        assertThat(progress.getSkipped()).isEqualTo(1);
+
+        assertThat(score("1")).isEqualTo(90);
+        assertThat(score("2")).isEqualTo(70);
+        assertThat(score("5")).isEqualTo(70);
+        assertThat(score("0")).isNull();
+        assertThat(score("2a")).isNull();
+        assertThat(score("3")).isNull();
+        assertThat(score("4")).isNull();
+        assertThat(score("4a")).isNull();
+
+        ArgumentCaptor<CvParsedEvent> events = ArgumentCaptor.forClass(CvParsedEvent.class);
+        verify(eventPublisher, times(3)).publishParsed(events.capture());
+        assertThat(events.getAllValues()).extracting(CvParsedEvent::getApplicationId)
+                .containsExactly(prefix + "1", prefix + "2", prefix + "5");
+        assertThat(events.getAllValues()).allSatisfy(event -> assertThat(event.getJobId()).isEqualTo(jobId));
+    }
+
+    @Test
+    void reportsProgressWhileRunning() throws Exception {
+        application("1", jobId, true, null);
+        application("2", jobId, true, null);
+        application("3", jobId, true, null);
+
+        RescoringProgress progress = useCase.start(jobId);
+        awaitUntil(() -> scoredNames.contains("1"));
+
+        assertThat(progress.isRunning()).isTrue();
+        assertThat(progress.getScored()).isZero();
+        assertThat(useCase.progress(jobId)).containsSame(progress);
+
+        firstScore.tryEmitValue(ScoringResult.builder().score(90).reasoning("fit 1").build());
+        awaitUntil(() -> !progress.isRunning());
+
+        assertThat(progress.getState()).isEqualTo(RescoringProgress.State.COMPLETED);
+        assertThat(progress.getScored()).isEqualTo(3);
+        assertThat(progress.getFinishedAt()).isNotNull();
+        assertThat(useCase.start(jobId)).isNotSameAs(progress);
+    }
+
+    @Test
+    void triggerDuringARunRerunsWithTheNewRequirementsAfterIt() throws Exception {
+        application("1", jobId, true, null);
+        application("2", jobId, true, null);
+
+        RescoringProgress first = useCase.start(jobId);
+        awaitUntil(() -> scoredNames.contains("1"));
+        jdbcTemplate.update("update jobs set description = ? where id = ?", "Kotlin", jobId);
+
+        // One run per job: the trigger joins the running one and asks for another pass
+        assertThat(useCase.start(jobId)).isSameAs(first);
+        assertThat(useCase.start(jobId)).isSameAs(first);
+        assertThat(first.isRerunRequested()).isTrue();
+
+        firstScore.tryEmitValue(ScoringResult.builder().score(90).reasoning("fit 1").build());
+        awaitUntil(() -> useCase.progress(jobId).filter(run -> run != first && !run.isRunning()).isPresent());
+
+        RescoringProgress rerun = useCase.progress(jobId).orElseThrow();
+        assertThat(first.getState()).isEqualTo(RescoringProgress.State.COMPLETED);
+        assertThat(rerun.getState()).isEqualTo(RescoringProgress.State.COMPLETED);
+        assertThat(rerun.getScored()).isEqualTo(2);
+        assertThat(rerun.isRerunRequested()).isFalse();
+
+        ArgumentCaptor<JobRequirements> jobs = ArgumentCaptor.forClass(JobRequirements.class);
+        verify(scoringPort, times(4)).score(any(), any(), jobs.capture());
+        assertThat(jobs.getAllValues()).extracting(JobRequirements::getDescription)
+                .containsExactly("Java", "Java", "Kotlin", "Kotlin");
+    }
+
+    @Test
+    void unknownJobIsRejected() {
+        assertThatThrownBy(() -> useCase.start(UUID.randomUUID().toString()))
+                .isInstanceOf(ScoringException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "JOB_NOT_FOUND");
+    }
+
+    /**
+     * Application and its candidate; the candidate's parsed data carries the suffix as its name.
+     */
+    private void application(String suffix, String applicationJobId, boolean parsed, LocalDateTime deletedAt) {
+        CandidateEntity candidate = new CandidateEntity();
+        candidate.setId(prefix + "candidate-" + suffix);
+        candidate.setResumeText("Resume " + suffix);
+        candidate.setParsedData(parsed ? ParsedCvData.builder().fullName(suffix).build() : null);
+        candidateRepository.save(candidate);
+
+        ApplicationEntity application = new ApplicationEntity();
+        application.setId(prefix + suffix);
+        application.setJobId(applicationJobId);
+        application.setCandidateId(candidate.getId());
+        application.setDeletedAt(deletedAt);
+        applicationRepository.save(application);
+    }
+
+    private Integer score(String suffix) {
+        return applicationRepository.findById(prefix + suffix).orElseThrow().getAiScore();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.talentflow.cvparser.shared.http;
+
+import com.talentflow.cvparser.shared.config.LlmTransportProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the LLM transport against a local Reactor Netty stub server.
+ */
+class LlmHttpTransportTest {
+
+    private static final String LARGE_BODY = "x".repeat(64 * 1024);
+
+    private final Set<String> clientAddresses = ConcurrentHashMap.newKeySet();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DisposableServer server = HttpServer.create()
+            .port(0)
+            .compress(1024)
+            .route(routes -> routes
+                    .post("/echo", (request, response) -> {
+                        clientAddresses.add(String.valueOf(request.remoteAddress()));
+                        String encoding = String.valueOf(request.requestHeaders().get("Content-Encoding"));
+                        return response.sendString(request.receive().aggregate().asByteArray()
+                                .map(body -> encoding + ":" + (encoding.equals("gzip") ? gunzip(body) : new String(body, StandardCharsets.UTF_8))));
+                    })
+                    .get("/large", (request, response) -> response.sendString(Mono.just(LARGE_BODY)))
+                    .get("/slow", (request, response) -> response.sendString(
+                            Mono.just("late").delayElement(Duration.ofMillis(500)))))
+            .bindNow();
+
+    private ConnectionProvider connectionProvider;
+
+    @AfterEach
+    void tearDown() {
+        if (connectionProvider != null) {
+            connectionProvider.disposeLater().block();
+        }
+        server.disposeNow();
+    }
+
+    @Test
+    void reusesPooledConnectionsAndDecompressesResponses() {
+        // A single-connection pool: block() can return before the connection is released,
+        // so a larger pool may open a second one; here the next request waits for it instead
+        LlmTransportProperties properties = new LlmTransportProperties();
+        properties.setMaxConnections(1);
+        WebClient client = client(properties);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(post(client, "hello")).isEqualTo("null:hello");
+        }
+        assertThat(clientAddresses).hasSize(1);
+
+        // Gzipped by the stub (above its 1 KB threshold) and inflated by the client
+        assertThat(client.get().uri("/large").retrieve().bodyToMono(String.class).block()).isEqualTo(LARGE_BODY);
+    }
+
+    @Test
+    void gzipsRequestBodiesAboveThreshold() {
+        LlmTransportProperties properties = new LlmTransportProperties();
+        properties.setCompressRequestsAbove(DataSize.ofBytes(100));
+        WebClient client = client(properties);
+
+        assertThat(post(client, "short")).isEqualTo("null:short");
+        String prompt = "resume text ".repeat(50);
+        assertThat(post(client, prompt)).isEqualTo("gzip:" + prompt);
+    }
+
+    @Test
+    void enforcesResponseSizeLimit() {
+        LlmTransportProperties properties = new LlmTransportProperties();
+        properties.setMaxResponseSize(DataSize.ofKilobytes(16));
+        WebClient client = client(properties);
+
+        assertThatThrownBy(() -> client.get().uri("/large").retrieve().bodyToMono(String.class).block())
+                .hasRootCauseInstanceOf(DataBufferLimitException.class);
+    }
+
+    @Test
+    void appliesResponseTimeout() {
+        LlmTransportProperties properties = new LlmTransportProperties();
+        properties.setResponseTimeout(Duration.ofMillis(100));
+        WebClient client = client(properties);
+
+        assertThatThrownBy(() -> client.get().uri("/slow").retrieve().bodyToMono(String.class).block())
+                .hasRootCauseInstanceOf(ReadTimeoutException.class);
+    }
+
+    @Test
+    void countsPoolExhaustion() {
+        LlmTransportProperties properties = new LlmTransportProperties();
+        properties.setMaxConnections(1);
+        properties.setPendingAcquireMaxCount(1);
+        WebClient client = client(properties);
+
+        List<String> results = Flux.range(0, 4)
+                .flatMap(i -> client.get().uri("/slow").retrieve().bodyToMono(String.class)
+                        .onErrorResume(e -> Mono.just("rejected")))
+                .collectList()
+                .block();
+
+        assertThat(results).contains("late", "rejected");
+        assertThat(meterRegistry.get("llm.transport.pool.exhausted").tag("reason", "pending_limit")
+                .counter().count()).isGreaterThanOrEqualTo(1.0);
+    }
+
+    @Test
+    void uriTagHidesModelAndQuery() {
+        assertThat(LlmHttpTransport.uriTag("/v1beta/models/gemini-2.5-pro:streamGenerateContent?alt=sse"))
+                .isEqualTo("/v1beta/models/{model}:streamGenerateContent");
+        assertThat(LlmHttpTransport.uriTag("/health")).isEqualTo("/health");
+    }
+
+    private WebClient client(LlmTransportProperties properties) {
+        properties.setMetrics(false);
+        connectionProvider = LlmHttpTransport.connectionProvider(properties);
+        return LlmHttpTransport.webClientBuilder("http://localhost:" + server.port(), connectionProvider,
+                properties, meterRegistry).build();
+    }
+
+    private static String post(WebClient client, String body) {
+        return client.post().uri("/echo").bodyValue(body).retrieve().bodyToMono(String.class).block();
+    }
+
+    private static String gunzip(byte[] body) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CborMessageConverterTest {
+
+    private final CborMessageConverter converter = new CborMessageConverter();
+
+    private final CvUploadedEvent event = CvUploadedEvent.builder()
+            .candidateId("11111111-1111-1111-1111-111111111111")
+            .applicationId("22222222-2222-2222-2222-222222222222")
+            .jobId("33333333-3333-3333-3333-333333333333")
+            .bucket("cvs")
+            .fileKey("cv.pdf")
+            .mimeType("application/pdf")
+            .uploadedAt(Instant.parse("2026-02-01T10:00:00Z"))
+            .build();
+
+    @Test
+    void roundTripsWithoutContentEncoding() {
+        Message message = converter.toMessage(event, new MessageProperties());
+
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(CborMessageConverter.CONTENT_TYPE_CBOR);
+        assertThat(message.getMessageProperties().getContentEncoding()).isNull();
+        assertThat(converter.fromMessage(message)).isEqualTo(event);
+    }
+
+    @Test
+    void decodesMessagesThatDeclareACharset() {
+        Message message = converter.toMessage(event, new MessageProperties());
+        message.getMessageProperties().setContentEncoding(StandardCharsets.UTF_8.name());
+
+        assertThat(converter.fromMessage(message)).isEqualTo(event);
+        assertThat(message.getMessageProperties().getContentEncoding()).isEqualTo("UTF-8");
+    }
+}
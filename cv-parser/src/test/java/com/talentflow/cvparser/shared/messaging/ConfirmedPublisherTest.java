@@ -0,0 +1,107 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ReturnListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.RabbitExceptionTranslator;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConfirmedPublisherTest {
+
+    private static final String QUEUE = "cv_parser.jobs.parked";
+
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final Channel channel = mock(Channel.class);
+    private final ConfirmedPublisher publisher = new ConfirmedPublisher(rabbitTemplate,
+            new ThresholdCompressingPostProcessor(64, new SimpleMeterRegistry()), Duration.ofSeconds(3));
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(rabbitTemplate.getMessageConverter()).thenReturn(new SimpleMessageConverter());
+        // As RabbitTemplate.execute: run the callback on a channel, translating checked exceptions
+        when(rabbitTemplate.execute(any(ChannelCallback.class))).thenAnswer(invocation -> {
+            try {
+                return invocation.<ChannelCallback<Object>>getArgument(0).doInRabbit(channel);
+            } catch (Exception e) {
+                throw RabbitExceptionTranslator.convertRabbitAccessException(e);
+            }
+        });
+    }
+
+    @Test
+    void publishesMandatoryAndWaitsForTheConfirm() throws Exception {
+        publisher.convertAndSend("", QUEUE, "parked");
+
+        InOrder inOrder = inOrder(channel);
+        ArgumentCaptor<AMQP.BasicProperties> properties = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        inOrder.verify(channel).basicPublish(eq(""), eq(QUEUE), eq(true), properties.capture(),
+                eq("parked".getBytes(StandardCharsets.UTF_8)));
+        inOrder.verify(channel).waitForConfirmsOrDie(3_000);
+        assertThat(properties.getValue().getDeliveryMode()).isEqualTo(2);
+        assertThat(properties.getValue().getContentEncoding()).isNotEqualTo("gzip");
+    }
+
+    @Test
+    void compressesBodiesAboveTheThreshold() throws Exception {
+        publisher.send("", QUEUE, new Message("x".repeat(1_000).getBytes(StandardCharsets.UTF_8),
+                new MessageProperties()));
+
+        ArgumentCaptor<AMQP.BasicProperties> properties = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+        verify(channel).basicPublish(eq(""), eq(QUEUE), eq(true), properties.capture(), body.capture());
+        assertThat(properties.getValue().getContentEncoding()).startsWith("gzip");
+        assertThat(body.getValue().length).isLessThan(1_000);
+    }
+
+    @Test
+    void throwsWhenReturnedNackedOrNotConfirmedInTime() throws Exception {
+        ArgumentCaptor<ReturnListener> listener = ArgumentCaptor.forClass(ReturnListener.class);
+        doAnswer(invocation -> {
+            verify(channel).addReturnListener(listener.capture());
+            listener.getValue().handleReturn(312, "NO_ROUTE", "", QUEUE, new AMQP.BasicProperties(),
+                    invocation.getArgument(4));
+            return null;
+        }).when(channel).basicPublish(anyString(), anyString(), eq(true), any(), any());
+        assertThatThrownBy(() -> publisher.convertAndSend("", QUEUE, "parked"))
+                .isInstanceOf(ConfirmedPublisher.NotConfirmedException.class)
+                .hasMessageContaining("unroutable");
+        verify(channel).removeReturnListener(listener.getValue());
+
+        doAnswer(invocation -> null).when(channel).basicPublish(anyString(), anyString(), eq(true), any(), any());
+        doThrow(new IOException("nack")).when(channel).waitForConfirmsOrDie(anyLong());
+        assertThatThrownBy(() -> publisher.convertAndSend("", QUEUE, "parked"))
+                .isInstanceOf(ConfirmedPublisher.NotConfirmedException.class);
+
+        doThrow(new TimeoutException("no confirm")).when(channel).waitForConfirmsOrDie(anyLong());
+        assertThatThrownBy(() -> publisher.convertAndSend("", QUEUE, "parked"))
+                .isInstanceOf(ConfirmedPublisher.NotConfirmedException.class);
+    }
+}
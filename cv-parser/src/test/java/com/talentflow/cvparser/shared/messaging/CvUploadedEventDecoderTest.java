@@ -0,0 +1,93 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The specialized decoder must accept and produce exactly what the generic path does
+ * (Jackson2JsonMessageConverter followed by bean validation).
+ */
+class CvUploadedEventDecoderTest {
+
+    private static final String UUID = "123e4567-e89b-12d3-a456-426614174000";
+    private static final String VALID = "{\"candidateId\":\"" + UUID + "\",\"applicationId\":\"" + UUID
+            + "\",\"jobId\":\"" + UUID + "\",\"bucket\":\"talentflow-cvs\",\"fileKey\":\"cvs/2026/02/a.pdf\","
+            + "\"mimeType\":\"application/pdf\",\"uploadedAt\":\"2026-02-01T10:00:00Z\"";
+
+    private final CvUploadedEventDecoder decoder = new CvUploadedEventDecoder();
+    private final Jackson2JsonMessageConverter jsonConverter = new Jackson2JsonMessageConverter();
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            VALID + "}",
+            VALID + ",\"extra\":{\"nested\":[1,2,{\"a\":null}]}}",
+            VALID + ",\"bucket\":\"other-bucket\"}",
+            VALID + ",\"uploadedAt\":1767225600}",
+            VALID + ",\"uploadedAt\":1767225600.5}",
+            VALID + ",\"uploadedAt\":\"2026-02-01T10:00:00+07:00\"}",
+            VALID + ",\"uploadedAt\":null}",
+            VALID + ",\"uploadedAt\":\"yesterday\"}",
+            VALID + ",\"mimeType\":42}",
+            VALID + ",\"mimeType\":true}",
+            VALID + ",\"mimeType\":\"  \"}",
+            VALID + ",\"mimeType\":[\"application/pdf\"]}",
+            VALID + ",\"mimeType\":{}}",
+            VALID + ",\"jobId\":\"" + "123E4567-E89B-12D3-A456-426614174000" + "\"}",
+            VALID + ",\"jobId\":\"123e4567-e89b-12d3-a456-42661417400\"}",
+            VALID + ",\"jobId\":null}",
+            VALID + ",\"bucket\":\"ab\"}",
+            VALID + ",\"bucket\":\"Talentflow\"}",
+            VALID + ",\"fileKey\":\"cvs/a b.pdf\"}",
+            VALID + ",\"fileKey\":\"\"}",
+            VALID + "} trailing",
+            "{\"candidateId\":\"" + UUID + "\"}",
+            "{}",
+            "[]",
+            "\"text\"",
+            VALID,
+            "{\"candidateId\":}"
+    })
+    void matchesGenericDecodingAndValidation(String json) {
+        Object expected = generic(json);
+        Object actual;
+        try {
+            actual = decoder.decode(json.getBytes(StandardCharsets.UTF_8));
+        } catch (MessageConversionException e) {
+            actual = "rejected";
+        }
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {VALID + ",\"jobId\":\"x\",\"bucket\":\"B\"}"})
+    void reportsEveryViolation(String json) {
+        assertThatThrownBy(() -> decoder.decode(json.getBytes(StandardCharsets.UTF_8)))
+                .hasMessageContaining("jobId must be a valid UUID")
+                .hasMessageContaining("bucket must be a valid S3 bucket name");
+    }
+
+    private Object generic(String json) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setInferredArgumentType(CvUploadedEvent.class);
+        try {
+            Object event = jsonConverter.fromMessage(new Message(json.getBytes(StandardCharsets.UTF_8), properties));
+            return event instanceof CvUploadedEvent valid && validator.validate(valid).isEmpty() ? valid : "rejected";
+        } catch (MessageConversionException e) {
+            return "rejected";
+        }
+    }
+}
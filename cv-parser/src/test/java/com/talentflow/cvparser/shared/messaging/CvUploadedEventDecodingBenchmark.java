@@ -0,0 +1,83 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-message cost of decoding and validating a CvUploadedEvent: generic converter plus bean
+ * validation vs CvUploadedEventDecoder (run by failsafe with mvn -Pbenchmark verify).
+ */
+class CvUploadedEventDecodingBenchmark {
+
+    private static final int WARMUP = 50_000;
+    private static final int RUNS = Integer.getInteger("benchmark.decoding.runs", 200_000);
+
+    private static final byte[] BODY = ("{\"candidateId\":\"123e4567-e89b-12d3-a456-426614174000\","
+            + "\"applicationId\":\"223e4567-e89b-12d3-a456-426614174000\","
+            + "\"jobId\":\"323e4567-e89b-12d3-a456-426614174000\",\"bucket\":\"talentflow-cvs\","
+            + "\"fileKey\":\"cvs/2026/02/423e4567-e89b-12d3-a456-426614174000.pdf\","
+            + "\"mimeType\":\"application/pdf\",\"uploadedAt\":\"2026-02-01T10:00:00Z\"}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void specializedDecodingIsCheaperThanGenericPath() {
+        Jackson2JsonMessageConverter jsonConverter = new Jackson2JsonMessageConverter();
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        CvUploadedEventDecoder decoder = new CvUploadedEventDecoder();
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setInferredArgumentType(CvUploadedEvent.class);
+        Message message = new Message(BODY, properties);
+
+        Supplier<Object> generic = () -> {
+            CvUploadedEvent event = (CvUploadedEvent) jsonConverter.fromMessage(message);
+            if (!validator.validate(event).isEmpty()) {
+                throw new IllegalStateException("invalid");
+            }
+            return event;
+        };
+        Supplier<Object> specialized = () -> decoder.decode(BODY);
+        assertThat(specialized.get()).isEqualTo(generic.get());
+
+        Cost genericCost = measure(generic);
+        Cost specializedCost = measure(specialized);
+
+        System.out.printf("CvUploadedEvent decode+validate per message: generic %.0f ns / %d B, "
+                        + "specialized %.0f ns / %d B (%.1fx faster)%n",
+                genericCost.nanos, genericCost.bytes, specializedCost.nanos, specializedCost.bytes,
+                genericCost.nanos / specializedCost.nanos);
+        assertThat(specializedCost.nanos).isLessThan(genericCost.nanos);
+        assertThat(specializedCost.bytes).isLessThan(genericCost.bytes);
+    }
+
+    private static Cost measure(Supplier<Object> decode) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = decode.get();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            sink = decode.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        assertThat(sink).isNotNull();
+        return new Cost((double) elapsed / RUNS, allocated / RUNS);
+    }
+
+    private record Cost(double nanos, long bytes) {
+    }
+}
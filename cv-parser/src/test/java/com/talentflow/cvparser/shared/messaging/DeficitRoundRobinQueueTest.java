@@ -0,0 +1,92 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeficitRoundRobinQueueTest {
+
+    @Test
+    void servesKeysInProportionToTheirWeight() throws InterruptedException {
+        DeficitRoundRobinQueue<String> queue = queue(100, Map.of("heavy", 2.0));
+        offer(queue, "heavy", 6);
+        offer(queue, "light", 6);
+
+        assertThat(drain(queue, 9)).containsExactly(
+                "heavy", "heavy", "light", "heavy", "heavy", "light", "heavy", "heavy", "light");
+        assertThat(drain(queue, 3)).containsExactly("light", "light", "light");
+    }
+
+    @Test
+    void burstUnderOneKeyDelaysOthersByAtMostOneRound() throws InterruptedException {
+        DeficitRoundRobinQueue<String> queue = queue(100, Map.of());
+        offer(queue, "burst", 50);
+        offer(queue, "other", 1);
+
+        assertThat(drain(queue, 2)).containsExactly("burst", "other");
+    }
+
+    @Test
+    void fractionalWeightCarriesCreditAcrossRounds() throws InterruptedException {
+        DeficitRoundRobinQueue<String> queue = queue(100, Map.of("half", 0.5));
+        offer(queue, "half", 4);
+        offer(queue, "full", 8);
+
+        List<String> order = drain(queue, 9);
+
+        assertThat(order).containsExactly("full", "half", "full", "full", "half", "full", "full", "half", "full");
+    }
+
+    @Test
+    void keyThatEmptiesKeepsNoCredit() throws InterruptedException {
+        DeficitRoundRobinQueue<String> queue = queue(100, Map.of("a", 1.5));
+        offer(queue, "a", 1);
+        assertThat(drain(queue, 1)).containsExactly("a");
+        assertThat(queue.activeKeys()).isZero();
+
+        // With the leftover 0.5 saved, "a" would get two turns before "b"
+        offer(queue, "a", 3);
+        offer(queue, "b", 3);
+        assertThat(drain(queue, 3)).containsExactly("a", "b", "a");
+    }
+
+    @Test
+    void offerTimesOutWhileFull() throws InterruptedException {
+        DeficitRoundRobinQueue<String> queue = queue(2, Map.of());
+        offer(queue, "a", 2);
+
+        assertThat(queue.offer("b", "b", 10, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(queue.poll(10, TimeUnit.MILLISECONDS).item()).isEqualTo("a");
+        assertThat(queue.offer("b", "b", 10, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.activeKeys()).isEqualTo(2);
+    }
+
+    @Test
+    void pollTimesOutWhenEmpty() throws InterruptedException {
+        assertThat(queue(1, Map.of()).poll(10, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    private static DeficitRoundRobinQueue<String> queue(int capacity, Map<String, Double> weights) {
+        return new DeficitRoundRobinQueue<>(capacity, key -> weights.getOrDefault(key, 1.0));
+    }
+
+    private static void offer(DeficitRoundRobinQueue<String> queue, String key, int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            assertThat(queue.offer(key, key, 0, TimeUnit.MILLISECONDS)).isTrue();
+        }
+    }
+
+    private static List<String> drain(DeficitRoundRobinQueue<String> queue, int count) throws InterruptedException {
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(queue.poll(0, TimeUnit.MILLISECONDS).item());
+        }
+        return items;
+    }
+}
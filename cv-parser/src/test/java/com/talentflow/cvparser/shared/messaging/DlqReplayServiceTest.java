@@ -0,0 +1,124 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import com.talentflow.cvparser.shared.config.RabbitMqConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.RabbitExceptionTranslator;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DlqReplayServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final Channel channel = mock(Channel.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DlqReplayService service = new DlqReplayService(rabbitTemplate, 1000, meterRegistry);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(rabbitTemplate.execute(any(ChannelCallback.class))).thenAnswer(invocation -> {
+            try {
+                return invocation.<ChannelCallback<Object>>getArgument(0).doInRabbit(channel);
+            } catch (Exception e) {
+                throw RabbitExceptionTranslator.convertRabbitAccessException(e);
+            }
+        });
+    }
+
+    @Test
+    void replaysUpToTheLimitWithFreshRetryHeadersConfirmingEachBeforeTheAck() throws Exception {
+        AMQP.BasicProperties deadLettered = new AMQP.BasicProperties.Builder()
+                .messageId("m-1")
+                .headers(Map.of(
+                        RetryRoutingErrorHandler.HEADER_RETRY_COUNT, 3,
+                        RetryRoutingErrorHandler.HEADER_ERROR_CODE, "TRANSIENT_ERROR",
+                        RetryRoutingErrorHandler.HEADER_ERROR_MESSAGE, "reset",
+                        RetryRoutingErrorHandler.HEADER_FAILED_AT, "2026-02-01T10:00:00Z",
+                        "x-death", List.of(),
+                        "x-tenant", "acme"))
+                .build();
+        when(channel.basicGet(RabbitMqConfig.CV_PARSER_DLQ, false)).thenReturn(
+                dead(1, deadLettered), dead(2, deadLettered), dead(3, deadLettered));
+
+        assertThat(service.start(2, 1000)).isTrue();
+        awaitFinished();
+
+        ArgumentCaptor<AMQP.BasicProperties> replayed = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        InOrder order = inOrder(channel);
+        for (long tag = 1; tag <= 2; tag++) {
+            order.verify(channel).basicPublish(eq(""), eq(RabbitMqConfig.CV_PARSER_QUEUE), replayed.capture(), any());
+            order.verify(channel).waitForConfirmsOrDie(anyLong());
+            order.verify(channel).basicAck(tag, false);
+        }
+        verify(channel, times(2)).basicGet(RabbitMqConfig.CV_PARSER_DLQ, false);
+        assertThat(replayed.getValue().getMessageId()).isEqualTo("m-1");
+        assertThat(replayed.getValue().getHeaders()).containsOnlyKeys("x-tenant");
+        assertThat(service.status()).containsEntry("replayed", 2).containsEntry("lastError", null);
+        assertThat(meterRegistry.get("messaging.dlq.replayed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void stopsWhenTheDlqIsEmpty() throws Exception {
+        when(channel.basicGet(RabbitMqConfig.CV_PARSER_DLQ, false)).thenReturn(dead(1, new AMQP.BasicProperties()), (GetResponse) null);
+
+        service.start(100, 1000);
+        awaitFinished();
+
+        assertThat(service.status()).containsEntry("replayed", 1);
+        verify(channel, times(2)).basicGet(RabbitMqConfig.CV_PARSER_DLQ, false);
+    }
+
+    @Test
+    void unconfirmedPublishLeavesTheMessageInTheDlq() throws Exception {
+        when(channel.basicGet(RabbitMqConfig.CV_PARSER_DLQ, false)).thenReturn(dead(1, new AMQP.BasicProperties()));
+        doThrow(new TimeoutException("no confirm")).when(channel).waitForConfirmsOrDie(anyLong());
+
+        service.start(10, 1000);
+        awaitFinished();
+
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        assertThat(service.status()).containsEntry("replayed", 0);
+        assertThat((String) service.status().get("lastError")).contains("no confirm");
+    }
+
+    private void awaitFinished() throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (service.isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(service.isRunning()).isFalse();
+    }
+
+    private static GetResponse dead(long deliveryTag, AMQP.BasicProperties properties) {
+        return new GetResponse(new Envelope(deliveryTag, false, "", RabbitMqConfig.CV_PARSER_DLQ), properties,
+                "{}".getBytes(), 0);
+    }
+}
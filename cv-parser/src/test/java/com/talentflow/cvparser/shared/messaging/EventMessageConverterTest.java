@@ -0,0 +1,77 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Every inbound decode path applies the CvUploadedEvent constraints, not only the UTF-8 JSON one.
+ */
+class EventMessageConverterTest {
+
+    private static final String UUID = "123e4567-e89b-12d3-a456-426614174000";
+
+    private final EventMessageConverter converter = new EventMessageConverter(
+            EventMessageConverter.Mode.BINARY, Set.of("CvUploadedEvent"), new SimpleMeterRegistry());
+
+    @Test
+    void validatesCborEvents() {
+        assertThat(converter.fromMessage(inbound(converter.toMessage(event(UUID), new MessageProperties()))))
+                .isEqualTo(event(UUID));
+
+        Message invalid = inbound(converter.toMessage(event("not-a-uuid"), new MessageProperties()));
+        assertThat(invalid.getMessageProperties().getContentType()).isEqualTo(CborMessageConverter.CONTENT_TYPE_CBOR);
+        assertThatThrownBy(() -> converter.fromMessage(invalid))
+                .isInstanceOf(MessageConversionException.class)
+                .hasMessageContaining("jobId must be a valid UUID");
+    }
+
+    @Test
+    void validatesJsonInOtherCharsets() {
+        assertThat(converter.fromMessage(latin1Json(UUID))).isEqualTo(event(UUID));
+
+        assertThatThrownBy(() -> converter.fromMessage(latin1Json("not-a-uuid")))
+                .isInstanceOf(MessageConversionException.class)
+                .hasMessageContaining("jobId must be a valid UUID");
+    }
+
+    private static CvUploadedEvent event(String jobId) {
+        return CvUploadedEvent.builder()
+                .candidateId(UUID)
+                .applicationId(UUID)
+                .jobId(jobId)
+                .bucket("talentflow-cvs")
+                .fileKey("cvs/2026/02/a.pdf")
+                .mimeType("application/pdf")
+                .uploadedAt(Instant.parse("2026-02-01T10:00:00Z"))
+                .build();
+    }
+
+    private static Message latin1Json(String jobId) {
+        String json = "{\"candidateId\":\"" + UUID + "\",\"applicationId\":\"" + UUID + "\",\"jobId\":\"" + jobId
+                + "\",\"bucket\":\"talentflow-cvs\",\"fileKey\":\"cvs/2026/02/a.pdf\","
+                + "\"mimeType\":\"application/pdf\",\"uploadedAt\":\"2026-02-01T10:00:00Z\"}";
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.ISO_8859_1.name());
+        return inbound(new Message(json.getBytes(StandardCharsets.ISO_8859_1), properties));
+    }
+
+    /**
+     * As delivered to a listener with a CvUploadedEvent parameter.
+     */
+    private static Message inbound(Message message) {
+        message.getMessageProperties().setInferredArgumentType(CvUploadedEvent.class);
+        return message;
+    }
+}
@@ -0,0 +1,82 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FairJobDispatcherTest {
+
+    private final FairJobDispatcher dispatcher = new FairJobDispatcher(1, 10, Duration.ofMillis(200), List.of(),
+            new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    void pausedDispatcherRefusesNewWorkButFinishesBufferedWork() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        assertThat(dispatcher.submit("job-a", () -> await(release, done))).isTrue();
+        assertThat(dispatcher.submit("job-a", done::countDown)).isTrue();
+        dispatcher.start();
+
+        dispatcher.pause();
+        long start = System.nanoTime();
+        assertThat(dispatcher.submit("job-b", () -> { })).isFalse();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(150));
+
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+
+        dispatcher.resume();
+        assertThat(dispatcher.submit("job-b", () -> { })).isTrue();
+    }
+
+    @Test
+    void estimatesWaitFromBufferedWorkAndProcessingTime() throws Exception {
+        assertThat(dispatcher.estimatedWaitNanos()).isZero();
+        CountDownLatch done = new CountDownLatch(1);
+        dispatcher.submit("job-a", () -> sleep(50));
+        dispatcher.submit("job-a", done::countDown);
+        dispatcher.start();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CountDownLatch blocked = new CountDownLatch(1);
+        dispatcher.submit("job-a", () -> await(blocked, new CountDownLatch(1)));
+        for (int i = 0; i < 4; i++) {
+            dispatcher.submit("job-b", () -> { });
+        }
+        Thread.sleep(100);
+
+        assertThat(dispatcher.getBusyWorkers()).isEqualTo(1);
+        assertThat(dispatcher.getBuffered()).isEqualTo(4);
+        assertThat(dispatcher.estimatedWaitNanos()).isGreaterThan(0);
+        blocked.countDown();
+    }
+
+    private static void await(CountDownLatch latch, CountDownLatch done) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        done.countDown();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
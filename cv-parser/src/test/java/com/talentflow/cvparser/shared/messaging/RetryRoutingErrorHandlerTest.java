@@ -0,0 +1,182 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import com.rabbitmq.client.Channel;
+import com.talentflow.cvparser.shared.config.RabbitMqConfig;
+import com.talentflow.cvparser.shared.dto.CvFailedEvent;
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import com.talentflow.cvparser.shared.exception.ExtractionException;
+import com.talentflow.cvparser.shared.exception.ParsingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class RetryRoutingErrorHandlerTest {
+
+    private static final List<Duration> DELAYS = List.of(Duration.ofMillis(500), Duration.ofMillis(1500), Duration.ofSeconds(30));
+
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final ConfirmedPublisher publisher = mock(ConfirmedPublisher.class);
+    private final Channel channel = mock(Channel.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RetryRoutingErrorHandler handler = new RetryRoutingErrorHandler(rabbitTemplate, publisher, DELAYS,
+            meterRegistry);
+
+    private final CvUploadedEvent event = CvUploadedEvent.builder()
+            .candidateId("11111111-1111-1111-1111-111111111111")
+            .applicationId("22222222-2222-2222-2222-222222222222")
+            .jobId("33333333-3333-3333-3333-333333333333")
+            .bucket("cvs")
+            .fileKey("cv.pdf")
+            .mimeType("application/pdf")
+            .uploadedAt(Instant.parse("2026-02-01T10:00:00Z"))
+            .build();
+
+    @Test
+    void domainExceptionsDecideTheirOwnRetry() {
+        assertThat(RetryRoutingErrorHandler.classify(failed(new ParsingException("S3 down", "STORAGE_UNAVAILABLE", true))))
+                .extracting(RetryRoutingErrorHandler.Failure::errorCode, RetryRoutingErrorHandler.Failure::retryable)
+                .containsExactly("STORAGE_UNAVAILABLE", true);
+        assertThat(RetryRoutingErrorHandler.classify(failed(new ParsingException("too big", "FILE_TOO_LARGE"))))
+                .extracting(RetryRoutingErrorHandler.Failure::errorCode, RetryRoutingErrorHandler.Failure::retryable)
+                .containsExactly("FILE_TOO_LARGE", false);
+        // Found anywhere in the cause chain
+        assertThat(RetryRoutingErrorHandler.classify(failed(new IllegalStateException("wrapped",
+                new ExtractionException("quota", "LLM_RATE_LIMITED", true)))).errorCode())
+                .isEqualTo("LLM_RATE_LIMITED");
+    }
+
+    @Test
+    void transientInfrastructureErrorsAreRetriedAndEverythingElseIsTerminal() {
+        for (Throwable transientError : List.of(new IOException("reset"), new TimeoutException("slow"),
+                new QueryTimeoutException("lock wait"), new AmqpConnectException(new ConnectException("refused")))) {
+            assertThat(RetryRoutingErrorHandler.classify(failed(transientError)))
+                    .extracting(RetryRoutingErrorHandler.Failure::errorCode, RetryRoutingErrorHandler.Failure::retryable)
+                    .containsExactly("TRANSIENT_ERROR", true);
+        }
+
+        RetryRoutingErrorHandler.Failure bug = RetryRoutingErrorHandler.classify(
+                failed(new NullPointerException("jane@example.com")));
+        assertThat(bug.errorCode()).isEqualTo("PROCESSING_FAILED");
+        assertThat(bug.retryable()).isFalse();
+        assertThat(bug.message()).doesNotContain("jane@example.com");
+    }
+
+    @Test
+    void retryQueuesAreNamedInMillis() {
+        assertThat(DELAYS.stream().map(RabbitMqConfig::retryQueueName)).containsExactly(
+                "cv_parser.jobs.retry.500ms", "cv_parser.jobs.retry.1500ms", "cv_parser.jobs.retry.30000ms");
+    }
+
+    @Test
+    void retryableFailureGoesToTheNextDelayQueueBeforeTheAck() throws Exception {
+        Message message = message(1);
+
+        handler.handleError(message, channel, MessageBuilder.withPayload(event).build(),
+                failed(new IOException("reset")));
+
+        ArgumentCaptor<Message> retried = ArgumentCaptor.forClass(Message.class);
+        InOrder order = inOrder(publisher, channel);
+        order.verify(publisher).send(eq(""), eq("cv_parser.jobs.retry.1500ms"), retried.capture());
+        order.verify(channel).basicAck(42, false);
+        assertThat(retried.getValue().getMessageProperties().<Integer>getHeader(RetryRoutingErrorHandler.HEADER_RETRY_COUNT))
+                .isEqualTo(2);
+        assertThat(retried.getValue().getMessageProperties().<String>getHeader(RetryRoutingErrorHandler.HEADER_ERROR_CODE))
+                .isEqualTo("TRANSIENT_ERROR");
+        assertThat(meterRegistry.get("messaging.retry.scheduled").tag("delay", "1500ms").counter().count()).isEqualTo(1);
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
+    }
+
+    @Test
+    void exhaustedRetriesAreDeadLetteredWithCvFailed() throws Exception {
+        handler.handleError(message(DELAYS.size()), channel, MessageBuilder.withPayload(event).build(),
+                failed(new IOException("reset")));
+
+        assertDeadLettered("TRANSIENT_ERROR", true);
+        assertThat(meterRegistry.get("messaging.retry.dead_lettered").tag("reason", "exhausted").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void nonRetryableFailureIsDeadLetteredAtOnce() throws Exception {
+        handler.handleError(message(0), channel, MessageBuilder.withPayload(event).build(),
+                failed(new ParsingException("Password-protected PDF", "PDF_ENCRYPTED")));
+
+        assertDeadLettered("PDF_ENCRYPTED", false);
+        assertThat(meterRegistry.get("messaging.retry.dead_lettered").tag("reason", "non_retryable").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void unconfirmedCopyRequeuesTheOriginalInsteadOfAcking() throws Exception {
+        doThrow(new ConfirmedPublisher.NotConfirmedException("nacked", new AmqpException("nack")))
+                .when(publisher).send(anyString(), anyString(), any(Message.class));
+
+        handler.handleError(message(0), channel, MessageBuilder.withPayload(event).build(),
+                failed(new ParsingException("Password-protected PDF", "PDF_ENCRYPTED")));
+
+        verify(channel).basicNack(42, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
+        assertThat(meterRegistry.find("messaging.retry.dead_lettered").counter()).isNull();
+    }
+
+    private void assertDeadLettered(String errorCode, boolean retryable) throws IOException {
+        ArgumentCaptor<Message> dead = ArgumentCaptor.forClass(Message.class);
+        ArgumentCaptor<Object> failedEvent = ArgumentCaptor.forClass(Object.class);
+        InOrder order = inOrder(publisher, rabbitTemplate, channel);
+        order.verify(publisher).send(eq(""), eq(RabbitMqConfig.CV_PARSER_DLQ), dead.capture());
+        order.verify(rabbitTemplate).convertAndSend(eq(RabbitMqConfig.EXCHANGE_NAME),
+                eq(RabbitMqConfig.ROUTING_KEY_CV_FAILED), failedEvent.capture());
+        order.verify(channel).basicAck(42, false);
+
+        MessageProperties properties = dead.getValue().getMessageProperties();
+        assertThat(properties.<String>getHeader(RetryRoutingErrorHandler.HEADER_ERROR_CODE)).isEqualTo(errorCode);
+        assertThat(properties.<String>getHeader(RetryRoutingErrorHandler.HEADER_FAILED_AT)).isNotNull();
+        assertThat(failedEvent.getValue()).isInstanceOfSatisfying(CvFailedEvent.class, failed -> {
+            assertThat(failed.getApplicationId()).isEqualTo(event.getApplicationId());
+            assertThat(failed.getErrorCode()).isEqualTo(errorCode);
+            assertThat(failed.getRetryable()).isEqualTo(retryable);
+        });
+    }
+
+    private static Message message(int retryCount) {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(42);
+        if (retryCount > 0) {
+            properties.setHeader(RetryRoutingErrorHandler.HEADER_RETRY_COUNT, retryCount);
+        }
+        return new Message("{}".getBytes(), properties);
+    }
+
+    private static ListenerExecutionFailedException failed(Throwable cause) {
+        return new ListenerExecutionFailedException("Listener failed", cause);
+    }
+}
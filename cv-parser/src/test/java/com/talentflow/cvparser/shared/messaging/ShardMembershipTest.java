@@ -0,0 +1,190 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import com.rabbitmq.client.ReturnListener;
+import com.talentflow.cvparser.shared.config.RabbitMqConfig;
+import com.talentflow.cvparser.shared.dto.CvUploadedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Exchange;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.support.RabbitExceptionTranslator;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShardMembershipTest {
+
+    private static final String QUEUE = RabbitMqConfig.CV_PARSER_SHARD_QUEUE_PREFIX + "cv-parser-1";
+
+    private final AmqpAdmin amqpAdmin = mock(AmqpAdmin.class);
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final RabbitListenerEndpointRegistry listenerRegistry = mock(RabbitListenerEndpointRegistry.class);
+    private final MessageListenerContainer container = mock(MessageListenerContainer.class);
+    private final Channel channel = mock(Channel.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ShardMembership membership = new ShardMembership(amqpAdmin, rabbitTemplate, listenerRegistry,
+            true, ShardMembership.Key.CANDIDATE_ID, "cv-parser-1", 20, Duration.ofSeconds(5), meterRegistry);
+
+    private final CvUploadedEvent event = CvUploadedEvent.builder()
+            .candidateId("11111111-1111-1111-1111-111111111111")
+            .applicationId("22222222-2222-2222-2222-222222222222")
+            .jobId("33333333-3333-3333-3333-333333333333")
+            .bucket("cvs")
+            .fileKey("cv.pdf")
+            .mimeType("application/pdf")
+            .uploadedAt(Instant.parse("2026-02-01T10:00:00Z"))
+            .build();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(listenerRegistry.getListenerContainer(ShardMembership.LISTENER_ID)).thenReturn(container);
+        // As RabbitTemplate.execute: run the callback on a channel, translating checked exceptions
+        when(rabbitTemplate.execute(any(ChannelCallback.class))).thenAnswer(invocation -> {
+            try {
+                return invocation.<ChannelCallback<Object>>getArgument(0).doInRabbit(channel);
+            } catch (Exception e) {
+                throw RabbitExceptionTranslator.convertRabbitAccessException(e);
+            }
+        });
+    }
+
+    @Test
+    void joinsTheRingWithItsWeightThenStartsTheShardListener() {
+        membership.start();
+
+        ArgumentCaptor<Binding> ringBinding = ArgumentCaptor.forClass(Binding.class);
+        InOrder order = inOrder(amqpAdmin, container);
+        order.verify(amqpAdmin).declareQueue(any(Queue.class));
+        order.verify(amqpAdmin).declareBinding(ringBinding.capture());
+        order.verify(container).start();
+
+        Binding ring = ringBinding.getValue();
+        assertThat(ring.getDestination()).isEqualTo(QUEUE);
+        assertThat(ring.getExchange()).isEqualTo(RabbitMqConfig.CV_PARSER_SHARD_EXCHANGE);
+        assertThat(ring.getRoutingKey()).isEqualTo("20");
+        assertThat(membership.isActive()).isTrue();
+    }
+
+    @Test
+    void staysUnshardedWhenTheRingCannotBeDeclared() {
+        doThrow(new AmqpIOException(new IOException("unknown exchange type 'x-consistent-hash'")))
+                .when(amqpAdmin).declareExchange(any(Exchange.class));
+
+        membership.start();
+
+        assertThat(membership.isRunning()).isTrue();
+        assertThat(membership.isActive()).isFalse();
+        verify(container, never()).start();
+    }
+
+    @Test
+    void forwardSucceedsOnlyOnceTheBrokerConfirmed() throws Exception {
+        Message message = new Message("{}".getBytes(), new MessageProperties());
+
+        assertThat(membership.forward(event, message)).isTrue();
+
+        ArgumentCaptor<AMQP.BasicProperties> properties = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        InOrder order = inOrder(channel);
+        order.verify(channel).basicPublish(eq(RabbitMqConfig.CV_PARSER_SHARD_EXCHANGE), eq(""), eq(true),
+                properties.capture(), eq(message.getBody()));
+        order.verify(channel).waitForConfirmsOrDie(5000);
+        assertThat(properties.getValue().getHeaders())
+                .containsEntry(RabbitMqConfig.SHARD_KEY_HEADER, event.getCandidateId());
+        assertThat(meterRegistry.get("messaging.sharding.forwarded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void forwardFailsWhenReturnedNackedOrNotConfirmedInTime() throws Exception {
+        Message message = new Message("{}".getBytes(), new MessageProperties());
+
+        ArgumentCaptor<ReturnListener> listener = ArgumentCaptor.forClass(ReturnListener.class);
+        doAnswer(invocation -> {
+            verify(channel).addReturnListener(listener.capture());
+            listener.getValue().handleReturn(312, "NO_ROUTE", RabbitMqConfig.CV_PARSER_SHARD_EXCHANGE, "",
+                    new AMQP.BasicProperties(), message.getBody());
+            return null;
+        }).when(channel).basicPublish(anyString(), anyString(), eq(true), any(), any());
+        assertThat(membership.forward(event, message)).isFalse();
+        verify(channel).removeReturnListener(listener.getValue());
+
+        doAnswer(invocation -> null).when(channel).basicPublish(anyString(), anyString(), eq(true), any(), any());
+        doThrow(new IOException("nack")).when(channel).waitForConfirmsOrDie(anyLong());
+        assertThat(membership.forward(event, message)).isFalse();
+
+        doThrow(new TimeoutException("no confirm")).when(channel).waitForConfirmsOrDie(anyLong());
+        assertThat(membership.forward(event, message)).isFalse();
+
+        assertThat(meterRegistry.get("messaging.sharding.forwarded").counter().count()).isZero();
+        assertThat(meterRegistry.get("messaging.sharding.forward_failed").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void leavingHandsQueuedMessagesBackBeforeDeletingTheQueue() throws Exception {
+        membership.start();
+        AMQP.BasicProperties properties = new AMQP.BasicProperties();
+        when(channel.basicGet(QUEUE, false)).thenReturn(
+                new GetResponse(new Envelope(1, false, "", QUEUE), properties, "a".getBytes(), 1),
+                new GetResponse(new Envelope(2, false, "", QUEUE), properties, "b".getBytes(), 0),
+                null);
+
+        membership.stop();
+
+        InOrder order = inOrder(container, amqpAdmin, channel);
+        order.verify(container).stop();
+        order.verify(amqpAdmin).removeBinding(any(Binding.class));
+        for (long tag = 1; tag <= 2; tag++) {
+            order.verify(channel).basicPublish(eq(""), eq(RabbitMqConfig.CV_PARSER_QUEUE), eq(properties), any());
+            order.verify(channel).waitForConfirmsOrDie(5000);
+            order.verify(channel).basicAck(tag, false);
+        }
+        order.verify(amqpAdmin).deleteQueue(QUEUE, false, true);
+        assertThat(membership.isActive()).isFalse();
+        assertThat(meterRegistry.get("messaging.sharding.handed_off").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void unconfirmedHandOffKeepsTheMessageAndTheQueue() throws Exception {
+        membership.start();
+        when(channel.basicGet(QUEUE, false)).thenReturn(
+                new GetResponse(new Envelope(1, false, "", QUEUE), new AMQP.BasicProperties(), "a".getBytes(), 0));
+        doThrow(new TimeoutException("no confirm")).when(channel).waitForConfirmsOrDie(anyLong());
+
+        membership.stop();
+
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        verify(amqpAdmin, never()).deleteQueue(anyString(), anyBoolean(), anyBoolean());
+    }
+}
@@ -0,0 +1,69 @@
+package com.talentflow.cvparser.shared.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.postprocessor.DelegatingDecompressingPostProcessor;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThresholdCompressingPostProcessorTest {
+
+    private static final int THRESHOLD = 1024;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThresholdCompressingPostProcessor compressor =
+            new ThresholdCompressingPostProcessor(THRESHOLD, meterRegistry);
+    private final DelegatingDecompressingPostProcessor decompressor = new DelegatingDecompressingPostProcessor();
+
+    @Test
+    void compressesFromTheThreshold() {
+        Message below = compressor.postProcessMessage(message(THRESHOLD - 1, null));
+        assertThat(below.getMessageProperties().getContentEncoding()).isNull();
+        assertThat(below.getBody()).hasSize(THRESHOLD - 1);
+
+        Message atThreshold = compressor.postProcessMessage(message(THRESHOLD, null));
+        assertThat(atThreshold.getMessageProperties().getContentEncoding()).isEqualTo("gzip");
+        assertThat(atThreshold.getBody().length).isLessThan(THRESHOLD);
+        assertThat(meterRegistry.get("compression.ratio").tag("target", "event").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    void compressesJsonAndRoundTripsThroughTheConsumerSide() {
+        Map<String, String> payload = Map.of("summary", "Senior Java engineer. ".repeat(100));
+        Message json = new Jackson2JsonMessageConverter().toMessage(payload, new MessageProperties());
+        assertThat(json.getMessageProperties().getContentEncoding()).isEqualTo("UTF-8");
+        byte[] original = json.getBody().clone();
+
+        Message sent = compressor.postProcessMessage(json);
+        assertThat(sent.getMessageProperties().getContentEncoding()).isEqualTo("gzip, UTF-8");
+
+        Message received = decompressor.postProcessMessage(sent);
+        assertThat(received.getBody()).isEqualTo(original);
+        assertThat(received.getMessageProperties().getContentEncoding()).isEqualTo("UTF-8");
+    }
+
+    @Test
+    void leavesCompressedMessagesAlone() {
+        Message compressed = compressor.postProcessMessage(message(4 * THRESHOLD, null));
+        byte[] body = compressed.getBody();
+
+        // e.g. republished to a retry queue
+        Message republished = compressor.postProcessMessage(compressed);
+
+        assertThat(republished.getBody()).isSameAs(body);
+        assertThat(republished.getMessageProperties().getContentEncoding()).isEqualTo("gzip");
+        assertThat(compressor.postProcessMessage(message(4 * THRESHOLD, "deflate:UTF-8")).getBody())
+                .hasSize(4 * THRESHOLD);
+    }
+
+    private static Message message(int size, String contentEncoding) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentEncoding(contentEncoding);
+        return new Message("x".repeat(size).getBytes(), properties);
+    }
+}
@@ -0,0 +1,80 @@
+package com.talentflow.cvparser.shared.profiling;
+
+import com.talentflow.cvparser.shared.config.ProfilingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContinuousProfilerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ContinuousProfiler profiler = new ContinuousProfiler(properties(), meterRegistry);
+
+    @AfterEach
+    void stop() {
+        profiler.stop();
+    }
+
+    @Test
+    void flagsSlowStagesAndDumpsThem() throws Exception {
+        profiler.start();
+        assertThat(profiler.isRunning()).isTrue();
+
+        try (StageRecording stage = StageRecording.start("parse", "app-1")) {
+            stage.mimeType("application/pdf").pageCount(3).bytes(1024);
+            Thread.sleep(30);
+            stage.succeeded();
+        }
+        try (StageRecording stage = StageRecording.start("download", "22222222-2222-2222-2222-222222222222")) {
+            stage.succeeded();
+        }
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (slowParseCount() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(slowParseCount()).isEqualTo(1.0);
+        assertThat(meterRegistry.find("profiling.slow_stages").tag("stage", "download").counter()).isNull();
+
+        Path dump = profiler.dump();
+        try {
+            List<RecordedEvent> stages = RecordingFile.readAllEvents(dump).stream()
+                    .filter(event -> event.getEventType().getName().equals(CvStageEvent.NAME))
+                    .toList();
+            assertThat(stages).extracting(event -> event.getString("applicationId"))
+                    .containsExactlyInAnyOrder("app-1", "22222222-2222-2222-2222-222222222222");
+            assertThat(stages).filteredOn(event -> event.getString("stage").equals("parse"))
+                    .singleElement()
+                    .satisfies(event -> {
+                        assertThat(event.getInt("pageCount")).isEqualTo(3);
+                        assertThat(event.getBoolean("failed")).isFalse();
+                    });
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    private double slowParseCount() {
+        Counter counter = meterRegistry.find("profiling.slow_stages").tag("stage", "parse").counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+
+    private static ProfilingProperties properties() {
+        ProfilingProperties properties = new ProfilingProperties();
+        properties.getSlowStage().setThresholds(Map.of(
+                "parse", Duration.ofMillis(10),
+                "download", Duration.ofSeconds(5)));
+        return properties;
+    }
+}
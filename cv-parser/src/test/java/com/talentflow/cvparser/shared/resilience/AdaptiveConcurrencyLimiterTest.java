@@ -0,0 +1,280 @@
+package com.talentflow.cvparser.shared.resilience;
+
+import com.talentflow.cvparser.shared.exception.LlmCapacityException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Runs on virtual time: the limiter's clock, call latencies, Retry-After pauses and
+ * max-wait timeouts all advance only with {@link #advance(Duration)}.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Duration MAX_WAIT = Duration.ofSeconds(5);
+    private static final Duration RTT = Duration.ofMillis(100);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private VirtualTimeScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = VirtualTimeScheduler.getOrSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        VirtualTimeScheduler.reset();
+    }
+
+    @Test
+    void growsAdditivelyOnlyWhileTheLimitIsInUse() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 1_000_000);
+
+        run(limiter, RTT);
+        assertThat(limiter.getLimit()).isEqualTo(4.0);
+
+        List<AtomicReference<Object>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(subscribe(limiter.limit(call(RTT), 100)));
+        }
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+        advance(RTT);
+
+        assertThat(results).allSatisfy(result -> assertThat(result.get()).isEqualTo("ok"));
+        // Grows while at least half the permits are held: with 4 and then 3 in flight
+        assertThat(limiter.getLimit()).isCloseTo(4 + 1 / 4.0 + 1 / 4.25, within(1e-9));
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void decreasesWhenLatencyInflatesBeyondTolerance() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 1_000_000);
+
+        run(limiter, RTT);
+        run(limiter, Duration.ofMillis(250));
+        assertThat(limiter.getLimit()).isCloseTo(7.2, within(1e-9));
+
+        run(limiter, Duration.ofMillis(150));
+        assertThat(limiter.getLimit()).isCloseTo(7.2, within(1e-9));
+    }
+
+    @Test
+    void backsOffOnOverloadButNotOnOtherErrors() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 1_000_000);
+
+        fail(limiter, status(500, null));
+        assertThat(limiter.getLimit()).isEqualTo(8.0);
+
+        fail(limiter, status(429, null));
+        assertThat(limiter.getLimit()).isEqualTo(4.0);
+        fail(limiter, status(503, null));
+        assertThat(limiter.getLimit()).isEqualTo(2.0);
+        fail(limiter, new TimeoutException());
+        fail(limiter, new TimeoutException());
+        assertThat(limiter.getLimit()).isEqualTo(1.0);
+
+        assertThat(meterRegistry.get("llm.concurrency.throttled").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    void retryAfterPausesNewCallsUntilItHasPassed() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 1_000_000);
+        fail(limiter, status(429, "2"));
+
+        AtomicInteger calls = new AtomicInteger();
+        AtomicReference<Object> result = subscribe(limiter.limit(counted(calls), 100));
+
+        advance(Duration.ofMillis(1999));
+        assertThat(calls).hasValue(0);
+        advance(Duration.ofMillis(1));
+        assertThat(calls).hasValue(1);
+        assertThat(result.get()).isEqualTo("ok");
+    }
+
+    @Test
+    void retryAfterLongerThanMaxWaitRejects() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 1_000_000);
+        fail(limiter, status(503, "30"));
+
+        AtomicInteger calls = new AtomicInteger();
+        AtomicReference<Object> result = subscribe(limiter.limit(counted(calls), 100));
+        advance(MAX_WAIT);
+
+        assertThat(result.get()).isInstanceOf(LlmCapacityException.class);
+        assertThat(calls).hasValue(0);
+        assertThat(meterRegistry.get("llm.concurrency.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void waiterGetsReleasedPermitOrTimesOut() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1_000_000);
+        AtomicReference<Object> first = subscribe(limiter.limit(call(Duration.ofSeconds(6)), 100));
+
+        AtomicInteger calls = new AtomicInteger();
+        AtomicReference<Object> timedOut = subscribe(limiter.limit(counted(calls), 100));
+        advance(MAX_WAIT);
+        assertThat(timedOut.get()).isInstanceOf(LlmCapacityException.class);
+
+        AtomicReference<Object> granted = subscribe(limiter.limit(counted(calls), 100));
+        advance(Duration.ofSeconds(1));
+
+        assertThat(first.get()).isEqualTo("ok");
+        assertThat(granted.get()).isEqualTo("ok");
+        assertThat(calls).hasValue(1);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void waitsForTokenBudgetToRefill() {
+        // 10 tokens per second
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 600);
+        assertThat(subscribe(limiter.limit(Mono.just("ok"), 600)).get()).isEqualTo("ok");
+
+        AtomicInteger calls = new AtomicInteger();
+        AtomicReference<Object> result = subscribe(limiter.limit(counted(calls), 40));
+        advance(Duration.ofMillis(3990));
+        assertThat(calls).hasValue(0);
+        advance(Duration.ofMillis(20));
+        assertThat(result.get()).isEqualTo("ok");
+    }
+
+    @Test
+    void reconcilesReservationsWithActualUsage() {
+        // 10 tokens per second
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 600);
+        assertThat(subscribe(limiter.limit(Mono.just("ok"), 600)).get()).isEqualTo("ok");
+
+        limiter.recordTokenUsage(600, 100);
+        assertThat(tokensAvailable()).isEqualTo(500);
+        // No usage reported: the estimate stands
+        limiter.recordTokenUsage(600, 0);
+        assertThat(tokensAvailable()).isEqualTo(500);
+        limiter.recordTokenUsage(100, 900);
+        assertThat(tokensAvailable()).isEqualTo(-300);
+
+        // 34s until 40 tokens are back, longer than max-wait
+        AtomicInteger calls = new AtomicInteger();
+        AtomicReference<Object> result = subscribe(limiter.limit(counted(calls), 40));
+        advance(MAX_WAIT);
+        assertThat(result.get()).isInstanceOf(LlmCapacityException.class);
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void returnsTheReservationOfCallsThatEndWithoutAResponse() {
+        // 10 tokens per second
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 600);
+
+        // A 429 carries no usageMetadata to reconcile with
+        WebClientResponseException throttled = status(429, null);
+        assertThat(subscribe(limiter.limit(Mono.<String>error(throttled), 500)).get()).isSameAs(throttled);
+        assertThat(tokensAvailable()).isEqualTo(600);
+
+        // Cancelled in flight, as hedging and retries do with a losing attempt
+        Disposable cancelled = limiter.limit(call(RTT), 500).subscribe();
+        assertThat(tokensAvailable()).isEqualTo(100);
+        cancelled.dispose();
+        assertThat(tokensAvailable()).isEqualTo(600);
+        assertThat(limiter.getInFlight()).isZero();
+
+        // Rejected while waiting for a permit
+        AtomicReference<Object> holder = subscribe(limiter.limit(call(Duration.ofSeconds(6)), 100));
+        AtomicReference<Object> rejected = subscribe(limiter.limit(Mono.just("ok"), 400));
+        advance(MAX_WAIT);
+        assertThat(rejected.get()).isInstanceOf(LlmCapacityException.class);
+        // Only the holder's 100 remain reserved, plus 5s of refill
+        assertThat(tokensAvailable()).isCloseTo(550, within(1e-6));
+
+        advance(Duration.ofSeconds(1));
+        assertThat(holder.get()).isEqualTo("ok");
+    }
+
+    @Test
+    void streamThatHasStartedKeepsItsReservationForTheCallerToReconcile() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 600);
+
+        // Cancelled after the first chunk: the normal end of a streamed extraction
+        assertThat(limiter.limit(Flux.just("a", "b"), 500).take(1).collectList().block()).containsExactly("a");
+        assertThat(tokensAvailable()).isEqualTo(100);
+
+        limiter.limit(Flux.<String>never(), 400).subscribe().dispose();
+        assertThat(tokensAvailable()).isEqualTo(100);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, long tokensPerMinute) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 1, 16, 2.0, 0.5, MAX_WAIT, tokensPerMinute,
+                meterRegistry, () -> scheduler.now(TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Run one successful call taking rtt.
+     */
+    private void run(AdaptiveConcurrencyLimiter limiter, Duration rtt) {
+        AtomicReference<Object> result = subscribe(limiter.limit(call(rtt), 100));
+        advance(rtt);
+        assertThat(result.get()).isEqualTo("ok");
+    }
+
+    /**
+     * Run one call failing immediately with error.
+     */
+    private void fail(AdaptiveConcurrencyLimiter limiter, Throwable error) {
+        assertThat(subscribe(limiter.limit(Mono.<String>error(error), 100)).get()).isSameAs(error);
+    }
+
+    /**
+     * Subscribe and capture the value or error.
+     */
+    private static AtomicReference<Object> subscribe(Mono<String> mono) {
+        AtomicReference<Object> result = new AtomicReference<>();
+        mono.subscribe(result::set, result::set);
+        return result;
+    }
+
+    private void advance(Duration duration) {
+        scheduler.advanceTimeBy(duration);
+    }
+
+    private double tokensAvailable() {
+        return meterRegistry.get("llm.tokens.available").gauge().value();
+    }
+
+    private static Mono<String> call(Duration rtt) {
+        return Mono.delay(rtt).thenReturn("ok");
+    }
+
+    private static Mono<String> counted(AtomicInteger calls) {
+        return Mono.fromSupplier(() -> {
+            calls.incrementAndGet();
+            return "ok";
+        });
+    }
+
+    private static WebClientResponseException status(int status, String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return WebClientResponseException.create(status, "status " + status, headers, new byte[0], null);
+    }
+}
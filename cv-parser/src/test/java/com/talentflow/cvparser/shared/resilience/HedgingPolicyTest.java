@@ -0,0 +1,162 @@
+package com.talentflow.cvparser.shared.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HedgingPolicyTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void hedgeWinsAndLosingPrimaryIsCancelled() {
+        HedgingPolicy policy = warmedUp(1.0, 0.95, Duration.ofMillis(20));
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicBoolean primaryCancelled = new AtomicBoolean();
+        Mono<String> attempt = Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.<String>never().doOnCancel(() -> primaryCancelled.set(true))
+                : Mono.just("hedge"));
+
+        assertThat(policy.hedge(attempt, () -> true).block(TIMEOUT)).isEqualTo("hedge");
+
+        assertThat(attempts).hasValue(2);
+        assertThat(primaryCancelled).isTrue();
+        assertThat(count("llm.hedge.issued")).isEqualTo(1);
+        assertThat(count("llm.hedge.won")).isEqualTo(1);
+    }
+
+    @Test
+    void hedgesNeverExceedTheBudget() {
+        // 16 warm-up calls earn 1.6 credits; one hedge spends 1, the next call finds 0.7
+        HedgingPolicy policy = warmedUp(0.1, 0.95, Duration.ofMillis(10));
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> slow = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(100)).thenReturn("slow");
+        });
+
+        policy.hedge(slow, () -> true).block(TIMEOUT);
+        policy.hedge(slow, () -> true).block(TIMEOUT);
+
+        assertThat(attempts).hasValue(3);
+        assertThat(count("llm.hedge.issued")).isEqualTo(1);
+        assertThat(count("llm.hedge.denied")).isEqualTo(1);
+    }
+
+    @Test
+    void guardVetoesHedgeWithoutSpendingCredit() {
+        HedgingPolicy policy = warmedUp(1.0, 0.95, Duration.ofMillis(10));
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> slow = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(60)).thenReturn("slow");
+        });
+
+        assertThat(policy.hedge(slow, () -> false).block(TIMEOUT)).isEqualTo("slow");
+
+        assertThat(attempts).hasValue(1);
+        assertThat(count("llm.hedge.denied")).isEqualTo(1);
+    }
+
+    @Test
+    void primaryErrorIsNotMaskedByHedge() {
+        HedgingPolicy policy = warmedUp(1.0, 0.95, Duration.ofMillis(10));
+
+        assertThatThrownBy(() -> policy.hedge(Mono.error(new IllegalStateException("boom")), () -> true)
+                .block(TIMEOUT)).hasMessage("boom");
+        assertThat(count("llm.hedge.issued")).isZero();
+    }
+
+    @Test
+    void streamIsHedgedUntilFirstElementOnly() {
+        HedgingPolicy policy = warmedUp(1.0, 0.95, Duration.ofMillis(20));
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicBoolean primaryCancelled = new AtomicBoolean();
+        Flux<String> attempt = Flux.defer(() -> attempts.incrementAndGet() == 1
+                ? Flux.<String>never().doOnCancel(() -> primaryCancelled.set(true))
+                : Flux.just("{", "\"a\":1", "}"));
+
+        assertThat(policy.hedgeFirst(attempt, () -> true).collectList().block(TIMEOUT))
+                .containsExactly("{", "\"a\":1", "}");
+        assertThat(primaryCancelled).isTrue();
+
+        // A stream that starts before the hedge delay is never duplicated, however long it runs
+        attempts.set(10);
+        Flux<String> steady = Flux.defer(() -> {
+            attempts.incrementAndGet();
+            return Flux.interval(Duration.ofMillis(15)).take(5).map(String::valueOf);
+        });
+        assertThat(policy.hedgeFirst(steady, () -> true).collectList().block(TIMEOUT)).hasSize(5);
+        assertThat(attempts).hasValue(11);
+    }
+
+    @Test
+    void hedgeStreamErrorAfterItWonPropagates() {
+        HedgingPolicy policy = warmedUp(1.0, 0.95, Duration.ofMillis(20));
+        AtomicInteger attempts = new AtomicInteger();
+        Flux<String> attempt = Flux.defer(() -> attempts.incrementAndGet() == 1
+                ? Flux.never()
+                : Flux.just("{").concatWith(Flux.error(new IllegalStateException("reset"))));
+
+        assertThatThrownBy(() -> policy.hedgeFirst(attempt, () -> true).blockLast(TIMEOUT)).hasMessage("reset");
+    }
+
+    @Test
+    void onlyPrimaryLatencyFeedsTheHedgeDelay() {
+        // Percentile 0 makes the delay the fastest sample: hedge latencies would pull it to ~0
+        HedgingPolicy policy = new HedgingPolicy(true, 0.0, 1.0, Duration.ZERO, 1, meterRegistry);
+        for (int i = 0; i < 16; i++) {
+            policy.hedge(Mono.delay(Duration.ofMillis(40)).thenReturn("slow"), () -> true).block(TIMEOUT);
+        }
+        assertThat(delayMillis()).isGreaterThanOrEqualTo(40);
+
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> primaryStalls = Mono.defer(() -> attempts.incrementAndGet() % 2 == 1
+                ? Mono.never()
+                : Mono.just("hedge"));
+        for (int i = 0; i < 16; i++) {
+            assertThat(policy.hedge(primaryStalls, () -> true).block(TIMEOUT)).isEqualTo("hedge");
+        }
+
+        assertThat(count("llm.hedge.won")).isEqualTo(16);
+        assertThat(delayMillis()).isGreaterThanOrEqualTo(40);
+    }
+
+    /**
+     * Policy whose hedge delay has settled near minDelay after 16 fast primary calls.
+     */
+    private HedgingPolicy warmedUp(double budgetRatio, double percentile, Duration minDelay) {
+        // With 16 samples p95 is the slowest one: load the code path first so a cold call is not sampled
+        HedgingPolicy untimed = new HedgingPolicy(true, percentile, budgetRatio, minDelay, 1, new SimpleMeterRegistry());
+        for (int i = 0; i < 16; i++) {
+            untimed.hedge(Mono.just("fast"), () -> true).block(TIMEOUT);
+        }
+
+        HedgingPolicy policy = new HedgingPolicy(true, percentile, budgetRatio, minDelay, 1, meterRegistry);
+        for (int i = 0; i < 16; i++) {
+            policy.hedge(Mono.just("fast"), () -> true).block(TIMEOUT);
+        }
+        // Well below the 60 ms slow primaries the tests hedge against
+        assertThat(delayMillis()).isBetween((double) minDelay.toMillis(), 40.0);
+        return policy;
+    }
+
+    private double delayMillis() {
+        return meterRegistry.get("llm.hedge.delay").gauge().value();
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
@@ -0,0 +1,78 @@
+package com.talentflow.cvparser.shared.resilience;
+
+import com.talentflow.cvparser.shared.messaging.FairJobDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SaturationMonitorTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final FairJobDispatcher dispatcher = mock(FairJobDispatcher.class);
+    private final AdaptiveConcurrencyLimiter limiter = mock(AdaptiveConcurrencyLimiter.class);
+    // Queue counts as full at 100 s of expected wait; heap threshold high enough to never count
+    private final SaturationMonitor monitor = new SaturationMonitor(dispatcher, new ThreadPoolTaskExecutor(),
+            new ThreadPoolTaskExecutor(), limiter, Duration.ofSeconds(100), 1_000, 0.8, new SimpleMeterRegistry());
+
+    @Test
+    void loadFactorIsTheFullestComponent() {
+        when(dispatcher.estimatedWaitNanos()).thenReturn(30.0 * SECOND);
+        when(limiter.getInFlight()).thenReturn(6);
+        when(limiter.getLimit()).thenReturn(10.0);
+
+        monitor.evaluate();
+
+        assertThat(monitor.getLoadFactor()).isCloseTo(0.6, within(1e-9));
+        assertThat(monitor.health().getDetails().get("components").toString()).contains("fair_queue=0.3");
+        assertThat(monitor.isSaturated()).isFalse();
+    }
+
+    @Test
+    void pausesAtOneAndResumesOnlyBelowResumeThreshold() {
+        when(limiter.getLimit()).thenReturn(10.0);
+
+        when(dispatcher.estimatedWaitNanos()).thenReturn(100.0 * SECOND);
+        monitor.evaluate();
+        assertThat(monitor.isSaturated()).isTrue();
+        assertThat(monitor.health().getStatus().getCode()).isEqualTo("OUT_OF_SERVICE");
+
+        // Between resume-threshold and 1.0: stay paused
+        when(dispatcher.estimatedWaitNanos()).thenReturn(90.0 * SECOND);
+        monitor.evaluate();
+        assertThat(monitor.isSaturated()).isTrue();
+        verify(dispatcher, never()).resume();
+
+        when(dispatcher.estimatedWaitNanos()).thenReturn(70.0 * SECOND);
+        monitor.evaluate();
+        assertThat(monitor.isSaturated()).isFalse();
+        assertThat(monitor.health().getStatus().getCode()).isEqualTo("UP");
+
+        // Rising again below 1.0 does not pause
+        when(dispatcher.estimatedWaitNanos()).thenReturn(95.0 * SECOND);
+        monitor.evaluate();
+        verify(dispatcher, times(1)).pause();
+        verify(dispatcher, times(1)).resume();
+    }
+
+    @Test
+    void llmInflightAtTheLimitSaturates() {
+        when(limiter.getInFlight()).thenReturn(8);
+        when(limiter.getLimit()).thenReturn(8.0);
+
+        monitor.evaluate();
+
+        assertThat(monitor.isSaturated()).isTrue();
+        verify(dispatcher).pause();
+    }
+}
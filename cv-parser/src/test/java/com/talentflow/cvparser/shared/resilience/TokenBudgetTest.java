@@ -0,0 +1,65 @@
+package com.talentflow.cvparser.shared.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TokenBudgetTest {
+
+    // 10 tokens per second
+    private static final long TOKENS_PER_MINUTE = 600;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final TokenBudget budget = new TokenBudget(TOKENS_PER_MINUTE, clock::get);
+
+    @Test
+    void startsFullAndRefillsContinuously() {
+        assertThat(budget.tryReserve(600)).isZero();
+        assertThat(budget.available()).isCloseTo(0, within(1e-6));
+
+        assertThat(budget.tryReserve(60)).isCloseTo(Duration.ofSeconds(6).toNanos(), within(1L));
+        advance(Duration.ofSeconds(3));
+        assertThat(budget.available()).isCloseTo(30, within(1e-6));
+        assertThat(budget.tryReserve(60)).isCloseTo(Duration.ofSeconds(3).toNanos(), within(1L));
+
+        advance(Duration.ofMillis(3001));
+        assertThat(budget.tryReserve(60)).isZero();
+    }
+
+    @Test
+    void refillStopsAtCapacity() {
+        budget.tryReserve(600);
+        advance(Duration.ofMinutes(10));
+
+        assertThat(budget.available()).isCloseTo(TOKENS_PER_MINUTE, within(1e-6));
+    }
+
+    @Test
+    void clampsRequestsLargerThanCapacity() {
+        assertThat(budget.tryReserve(5_000)).isZero();
+        assertThat(budget.tryReserve(5_000)).isCloseTo(Duration.ofMinutes(1).toNanos(), within(1L));
+    }
+
+    @Test
+    void adjustReturnsUnusedTokensAndCanOverdraw() {
+        budget.tryReserve(500);
+
+        budget.adjust(-300);
+        assertThat(budget.available()).isCloseTo(400, within(1e-6));
+
+        budget.adjust(600);
+        assertThat(budget.available()).isCloseTo(-200, within(1e-6));
+        assertThat(budget.tryReserve(10)).isCloseTo(Duration.ofSeconds(21).toNanos(), within(1L));
+
+        budget.adjust(-10_000);
+        assertThat(budget.available()).isCloseTo(TOKENS_PER_MINUTE, within(1e-6));
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,98 @@
+package com.talentflow.cvparser.shared.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ByteBufferPoolTest {
+
+    private final ByteBufferPool pool = new ByteBufferPool(DataSize.ofKilobytes(64), DataSize.ofMegabytes(16),
+            DataSize.ofMegabytes(64), true, new SimpleMeterRegistry());
+
+    @AfterEach
+    void noLeases() {
+        assertThat(pool.outstanding()).as("outstanding leases").isZero();
+        assertThat(pool.leakCount()).as("leaked leases").isZero();
+    }
+
+    @Test
+    void reusesReleasedBufferOfSameSizeClass() {
+        byte[] array;
+        try (PooledBuffer lease = pool.lease(100_000)) {
+            assertThat(lease.buffer().capacity()).isEqualTo(128 * 1024);
+            assertThat(lease.buffer().limit()).isEqualTo(100_000);
+            array = lease.buffer().array();
+        }
+        try (PooledBuffer lease = pool.lease(120_000)) {
+            assertThat(lease.buffer().array()).isSameAs(array);
+        }
+    }
+
+    @Test
+    void readsStreamWithoutTrailingBytesOfPreviousLease() throws IOException {
+        try (PooledBuffer lease = pool.read(new ByteArrayInputStream(new byte[70_000]), 70_000, 1 << 20)) {
+            assertThat(lease.size()).isEqualTo(70_000);
+        }
+        try (PooledBuffer lease = pool.read(new ByteArrayInputStream("%PDF-1.7".getBytes()), -1, 1 << 20)) {
+            ByteBuffer content = lease.buffer();
+            assertThat(content.remaining()).isEqualTo(8);
+            assertThat(content.get(0)).isEqualTo((byte) '%');
+        }
+    }
+
+    @Test
+    void releasesLeaseWhenReadFails() {
+        InputStream failing = new InputStream() {
+            private int served;
+
+            @Override
+            public int read() throws IOException {
+                if (served++ > 1000) {
+                    throw new IOException("connection reset");
+                }
+                return 0;
+            }
+        };
+        assertThatThrownBy(() -> pool.read(failing, 5000, 1 << 20)).hasMessage("connection reset");
+        assertThatThrownBy(() -> pool.read(new ByteArrayInputStream(new byte[200]), 100, 1 << 20))
+                .hasMessageContaining("larger than 100 bytes")
+                .isNotInstanceOf(ByteBufferPool.SizeLimitExceededException.class);
+        assertThatThrownBy(() -> pool.read(new ByteArrayInputStream(new byte[200]), -1, 100))
+                .isInstanceOf(ByteBufferPool.SizeLimitExceededException.class);
+        assertThatThrownBy(() -> pool.read(new ByteArrayInputStream(new byte[0]), 200, 100))
+                .isInstanceOf(ByteBufferPool.SizeLimitExceededException.class);
+        assertThatThrownBy(() -> pool.read(new ByteArrayInputStream(new byte[50]), 100, 1 << 20))
+                .hasMessageContaining("ended after 50 of 100 bytes");
+    }
+
+    @Test
+    void closeIsIdempotentAndBlocksFurtherUse() {
+        PooledBuffer lease = pool.lease(10);
+        lease.close();
+        lease.close();
+        assertThatThrownBy(lease::buffer).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void reportsLeaseCollectedWithoutRelease() throws InterruptedException {
+        ByteBufferPool leaky = new ByteBufferPool(DataSize.ofKilobytes(64), DataSize.ofMegabytes(16),
+                DataSize.ofMegabytes(64), true, new SimpleMeterRegistry());
+        leaky.lease(1000);
+
+        for (int i = 0; i < 50 && leaky.leakCount() == 0; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertThat(leaky.leakCount()).isEqualTo(1);
+        assertThat(leaky.outstanding()).isZero();
+    }
+}
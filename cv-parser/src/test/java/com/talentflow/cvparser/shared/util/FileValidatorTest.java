@@ -0,0 +1,69 @@
+package com.talentflow.cvparser.shared.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileValidatorTest {
+
+    private static final String DOCX = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+
+    private final FileValidator validator = new FileValidator();
+
+    @Test
+    void detectsPdfAndDocxByContent() throws IOException {
+        byte[] pdf = "%PDF-1.7\n1 0 obj\n<<>>\nendobj\n%%EOF\n".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(validator.validate(ByteBuffer.wrap(pdf), "cv.bin")).isEqualTo("application/pdf");
+        assertThat(validator.validate(ByteBuffer.wrap(docx()), "cv")).isEqualTo(DOCX);
+        assertThat(validator.validate(new ByteArrayInputStream(docx()), "upload.tmp", docx().length)).isEqualTo(DOCX);
+    }
+
+    @Test
+    void extensionDoesNotDecideTheType() {
+        byte[] noise = new byte[4096];
+        new Random(7).nextBytes(noise);
+
+        assertThatThrownBy(() -> validator.validate(ByteBuffer.wrap(noise), "cv.pdf"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("is not allowed");
+        assertThatThrownBy(() -> validator.validate(new ByteArrayInputStream(noise), "cv.docx", noise.length))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("is not allowed");
+    }
+
+    @Test
+    void rejectsZipWithoutWordDocument() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+            zip.write("<Types/>".getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("xl/workbook.xml"));
+            zip.write("<workbook/>".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertThatThrownBy(() -> validator.validate(ByteBuffer.wrap(bytes.toByteArray()), "cv.docx"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] docx() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+            zip.write("<Types/>".getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            zip.write("<w:document/>".getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,91 @@
+package com.talentflow.cvparser.shared.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResumeTextCodecTest {
+
+    private static final String CV = """
+            Nguyễn Văn An
+            Kinh nghiệm làm việc
+            Senior Java Developer, FPT Software, Hồ Chí Minh (2019 - 2024)
+            - Spring Boot, PostgreSQL, RabbitMQ, Kubernetes
+            Học vấn: Đại học Bách Khoa
+            """;
+
+    private final ResumeTextCodec codec = new ResumeTextCodec(1024, 1 << 20, new SimpleMeterRegistry());
+
+    @Test
+    void roundTripsMultilingualText() {
+        String text = CV.repeat(40);
+
+        byte[] compressed = codec.compress(text);
+
+        assertThat(compressed.length).isLessThan(text.getBytes(StandardCharsets.UTF_8).length / 10);
+        assertThat(codec.decompress(compressed, ResumeTextCodec.ENCODING)).isEqualTo(text);
+        // Streams that end right after a full output buffer, or without any output
+        String twoBuffers = "a".repeat(16384);
+        assertThat(codec.decompress(codec.compress(twoBuffers), ResumeTextCodec.ENCODING)).isEqualTo(twoBuffers);
+        assertThat(codec.decompress(codec.compress(""), ResumeTextCodec.ENCODING)).isEmpty();
+    }
+
+    @Test
+    void compressesFromTheThreshold() {
+        assertThat(codec.shouldCompress("a".repeat(1023))).isFalse();
+        assertThat(codec.shouldCompress("a".repeat(1024))).isTrue();
+        assertThat(codec.shouldCompress(null)).isFalse();
+    }
+
+    @Test
+    void boundsDecompressedSize() {
+        ResumeTextCodec bounded = new ResumeTextCodec(1024, 4096, new SimpleMeterRegistry());
+        byte[] exactlyAtLimit = bounded.compress("a".repeat(4096));
+        byte[] aboveLimit = bounded.compress("a".repeat(4097));
+
+        assertThat(bounded.decompress(exactlyAtLimit, ResumeTextCodec.ENCODING)).hasSize(4096);
+        assertThatThrownBy(() -> bounded.decompress(aboveLimit, ResumeTextCodec.ENCODING))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("exceeds 4096 bytes");
+    }
+
+    @Test
+    void rejectsOtherDictionaryEncodingAndCorruptData() {
+        byte[] otherDictionary = deflate(CV.getBytes(StandardCharsets.UTF_8), "Java Spring".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> codec.decompress(otherDictionary, ResumeTextCodec.ENCODING))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("different dictionary");
+
+        byte[] compressed = codec.compress(CV.repeat(40));
+        assertThatThrownBy(() -> codec.decompress(compressed, "deflate-cvdict-v0"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported");
+        assertThatThrownBy(() -> codec.decompress(Arrays.copyOf(compressed, compressed.length / 2), ResumeTextCodec.ENCODING))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Truncated");
+    }
+
+    private static byte[] deflate(byte[] input, byte[] dictionary) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setDictionary(dictionary);
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.talentflow.cvparser.shared.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The scanners must accept exactly what the original regexes accept.
+ */
+class EventFieldScannerTest {
+
+    private static final Pattern UUID = Pattern.compile(
+            "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+    private static final Pattern BUCKET = Pattern.compile("^[a-z0-9][a-z0-9.-]{1,61}[a-z0-9]$");
+    private static final Pattern FILE_KEY = Pattern.compile("^[a-zA-Z0-9/_.-]+$");
+    private static final Pattern PATH_TRAVERSAL = Pattern.compile(
+            "(\\.\\./|\\.\\.\\\\|%2e%2e%2f|%2e%2e/|\\.\\.%2f|%2e%2e%5c)", Pattern.CASE_INSENSITIVE);
+
+    private static final String ALPHABET = "09afAFgzGZ-._/\\%2e5cE ~\nİıKé";
+
+    @Test
+    void uuidScannerMatchesRegex() {
+        List<String> samples = samples(36, "123e4567-e89b-12d3-a456-426614174000",
+                "123E4567-E89B-12D3-A456-426614174000", "123e4567-e89b-12d3-a456-42661417400",
+                "123e4567-e89b-12d3-a456-4266141740000", "123e4567e89b-12d3-a456-426614174000-",
+                "123e4567-e89b-12d3-a456-42661417400g", "123e4567-e89b-12d3-a456-426614174000\n");
+        assertSameAcceptance(samples, s -> UUID.matcher(s).matches(), EventFieldScanner::isUuid);
+    }
+
+    @Test
+    void bucketScannerMatchesRegex() {
+        List<String> samples = samples(70, "abc", "ab", "a.b", "a-", "-ab", "my-bucket.eu", "My-bucket",
+                "a".repeat(63), "a".repeat(64), "a..b", "a_b");
+        assertSameAcceptance(samples, s -> BUCKET.matcher(s).matches(), EventFieldScanner::isBucketName);
+    }
+
+    @Test
+    void fileKeyScannerMatchesRegex() {
+        List<String> samples = samples(40, "cvs/2026/02/uuid.pdf", "a", "a b", "cvs/é.pdf", "x\n");
+        assertSameAcceptance(samples, s -> FILE_KEY.matcher(s).matches(), EventFieldScanner::isFileKey);
+    }
+
+    @Test
+    void pathTraversalScannerMatchesRegex() {
+        List<String> samples = samples(24, "../etc", "a/..\\b", "%2E%2e%2F", "%2e%2E/", "..%2F", "%2e%2e%5C",
+                "..", ".%2e/", "İ%2e%2e/", "cvs/a..b/c");
+        assertSameAcceptance(samples, s -> PATH_TRAVERSAL.matcher(s).find(), EventFieldScanner::containsPathTraversal);
+    }
+
+    @Test
+    void blankMatchesStringTrim() {
+        List<String> samples = samples(4, "", " ", "\t\n", " ", " ", " a ");
+        assertSameAcceptance(samples, s -> s.trim().isEmpty(), EventFieldScanner::isBlank);
+    }
+
+    private static void assertSameAcceptance(List<String> samples, Predicate<String> regex, Predicate<String> scanner) {
+        for (String sample : samples) {
+            assertThat(scanner.test(sample)).as("'%s'", sample).isEqualTo(regex.test(sample));
+        }
+    }
+
+    /**
+     * Fixed edge cases plus random strings over an alphabet of boundary characters.
+     */
+    private static List<String> samples(int maxLength, String... fixed) {
+        List<String> samples = new ArrayList<>(List.of(fixed));
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            int length = random.nextInt(maxLength + 2);
+            StringBuilder sample = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                // Mostly valid characters so that near-misses are common
+                sample.append(random.nextInt(4) == 0
+                        ? ALPHABET.charAt(random.nextInt(ALPHABET.length()))
+                        : "0123456789abcdef-".charAt(random.nextInt(17)));
+            }
+            if (maxLength == 36 && length == 36 && random.nextBoolean()) {
+                for (int dash : new int[]{8, 13, 18, 23}) {
+                    sample.setCharAt(dash, '-');
+                }
+            }
+            samples.add(sample.toString());
+        }
+        return samples;
+    }
+}